@@ -0,0 +1,135 @@
+package io.stargate.sgv2.jsonapi.service.resolver.model.impl.matcher;
+
+import io.stargate.sgv2.jsonapi.api.model.command.clause.filter.ArrayComparisonOperator;
+import io.stargate.sgv2.jsonapi.api.model.command.clause.filter.ComparisonExpression;
+import io.stargate.sgv2.jsonapi.api.model.command.clause.filter.ElementComparisonOperator;
+import io.stargate.sgv2.jsonapi.api.model.command.clause.filter.FilterClause;
+import io.stargate.sgv2.jsonapi.api.model.command.clause.filter.JsonType;
+import io.stargate.sgv2.jsonapi.api.model.command.clause.filter.LogicalExpression;
+import io.stargate.sgv2.jsonapi.api.model.command.clause.filter.ValueComparisonOperator;
+import io.stargate.sgv2.jsonapi.api.model.command.impl.FindOneCommand;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares resolving wide <code>$and</code> / <code>$or</code> filters through the compiled
+ * dispatch table of {@link FilterMatcher} against trying every capture on every expression.
+ *
+ * <p>Run with <code>./mvnw -Pjmh test-compile exec:exec -Djmh.args=FilterMatcherBenchmark</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterMatcherBenchmark {
+
+  @Param({"8", "32", "64"})
+  public int width;
+
+  @Param({"AND", "OR"})
+  public LogicalExpression.LogicalOperator relation;
+
+  private FilterMatcher<FindOneCommand> matcher;
+
+  private FindOneCommand command;
+
+  @Setup
+  public void setup() {
+    // same captures, in the same order, as the dynamic rule of FilterableResolver
+    matcher =
+        new FilterMatcher<>(FilterMatcher.MatchStrategy.GREEDY, FilterableResolver::findDynamic);
+    matcher
+        .capture("ID")
+        .compareValues(
+            "_id",
+            EnumSet.of(ValueComparisonOperator.EQ, ValueComparisonOperator.NE),
+            JsonType.DOCUMENT_ID)
+        .capture("IN")
+        .compareValues(
+            "*",
+            EnumSet.of(ValueComparisonOperator.IN, ValueComparisonOperator.NIN),
+            JsonType.ARRAY)
+        .capture("NUMBER")
+        .compareValues(
+            "*",
+            EnumSet.of(
+                ValueComparisonOperator.EQ,
+                ValueComparisonOperator.NE,
+                ValueComparisonOperator.GT,
+                ValueComparisonOperator.GTE,
+                ValueComparisonOperator.LT,
+                ValueComparisonOperator.LTE),
+            JsonType.NUMBER)
+        .capture("TEXT")
+        .compareValues(
+            "*",
+            EnumSet.of(ValueComparisonOperator.EQ, ValueComparisonOperator.NE),
+            JsonType.STRING)
+        .capture("BOOL")
+        .compareValues(
+            "*",
+            EnumSet.of(ValueComparisonOperator.EQ, ValueComparisonOperator.NE),
+            JsonType.BOOLEAN)
+        .capture("NULL")
+        .compareValues(
+            "*", EnumSet.of(ValueComparisonOperator.EQ, ValueComparisonOperator.NE), JsonType.NULL)
+        .capture("EXISTS")
+        .compareValues("*", EnumSet.of(ElementComparisonOperator.EXISTS), JsonType.BOOLEAN)
+        .capture("ALL")
+        .compareValues("*", EnumSet.of(ArrayComparisonOperator.ALL), JsonType.ARRAY)
+        .capture("SIZE")
+        .compareValues("*", EnumSet.of(ArrayComparisonOperator.SIZE), JsonType.NUMBER);
+
+    LogicalExpression wide =
+        relation == LogicalExpression.LogicalOperator.AND
+            ? LogicalExpression.and()
+            : LogicalExpression.or();
+    for (int i = 0; i < width; i++) {
+      // mix of types so that expressions land on captures at different positions
+      String path = "field" + i;
+      ComparisonExpression expression =
+          switch (i % 4) {
+            case 0 -> ComparisonExpression.eq(path, "value" + i);
+            case 1 -> ComparisonExpression.eq(path, new BigDecimal(i));
+            case 2 -> ComparisonExpression.eq(path, Boolean.TRUE);
+            default -> sizeOf(path, 2);
+          };
+      wide.addComparisonExpression(expression);
+    }
+    LogicalExpression implicitAnd = LogicalExpression.and();
+    implicitAnd.addLogicalExpression(wide);
+    command = new FindOneCommand(new FilterClause(implicitAnd), null, null, null);
+  }
+
+  private static ComparisonExpression sizeOf(String path, int size) {
+    ComparisonExpression expression = new ComparisonExpression(path, new ArrayList<>(), null);
+    expression.add(ArrayComparisonOperator.SIZE, new BigDecimal(size));
+    return expression;
+  }
+
+  @Benchmark
+  public Optional<LogicalExpression> dispatchTable() {
+    return matcher.apply(command);
+  }
+
+  @Benchmark
+  public Optional<LogicalExpression> scanCaptures() {
+    return matcher.applyByScanning(command);
+  }
+}
@@ -0,0 +1,147 @@
+package io.stargate.sgv2.jsonapi.service.shredding;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
+import io.stargate.sgv2.jsonapi.config.DocumentLimitsConfig;
+import io.stargate.sgv2.jsonapi.config.constants.DocumentConstants;
+import io.stargate.sgv2.jsonapi.service.shredding.model.ShreddedReplacement;
+import io.stargate.sgv2.jsonapi.service.updater.DocumentUpdater;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the work a findOneAndReplace repeats on every attempt to replace a document, attempts
+ * being retried when they conflict: the replaced document being shredded as a whole, against only
+ * its <code>_id</code>, the replacement document having been shredded once by the resolver.
+ * Database round-trips are not included.
+ *
+ * <p>Run with <code>./mvnw -Pjmh test-compile exec:exec -Djmh.args=ReplaceShredBenchmark</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class ReplaceShredBenchmark {
+
+  /** Number of top-level properties of the replacement document. */
+  @Param({"10", "100", "1000"})
+  public int properties;
+
+  private Shredder shredder;
+
+  private DocumentUpdater documentUpdater;
+
+  private ShreddedReplacement shreddedReplacement;
+
+  private ObjectNode storedDocument;
+
+  private final UUID txId = UUID.randomUUID();
+
+  @Setup
+  public void setup() {
+    // same number handling as the configured ObjectMapper
+    ObjectMapper objectMapper =
+        JsonMapper.builder().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS).build();
+    shredder = new Shredder(objectMapper, new DefaultLimits(), null);
+
+    ObjectNode replacement = objectMapper.createObjectNode();
+    for (int i = 0; i < properties; i++) {
+      // mix of values, so that the document is shredded into every index column
+      switch (i % 4) {
+        case 0 -> replacement.put("text" + i, "value " + i);
+        case 1 -> replacement.put("number" + i, i * 1.5);
+        case 2 -> replacement.putArray("array" + i).add(i).add("element").add(true);
+        default -> replacement.putObject("object" + i).put("nested", i).put("flag", false);
+      }
+    }
+    documentUpdater = DocumentUpdater.construct(replacement);
+    shreddedReplacement =
+        shredder.shredReplacement(CommandContext.empty(), documentUpdater.replaceDocument());
+
+    storedDocument = objectMapper.createObjectNode();
+    storedDocument.put(DocumentConstants.Fields.DOC_ID, "replaced");
+    storedDocument.put("version", 1);
+  }
+
+  @Benchmark
+  public String wholeDocument() {
+    DocumentUpdater.DocumentUpdaterResponse replaced =
+        documentUpdater.applyToCopy(storedDocument, false);
+    return shredder.shred(CommandContext.empty(), replaced.document(), txId).docJson();
+  }
+
+  @Benchmark
+  public String idOnly() {
+    DocumentUpdater.DocumentUpdaterResponse replaced =
+        documentUpdater.applyToCopy(storedDocument, false);
+    return shredder
+        .shredReplaced(CommandContext.empty(), shreddedReplacement, replaced.document(), txId)
+        .docJson();
+  }
+
+  /** Default document limits, without the configuration. */
+  private static class DefaultLimits implements DocumentLimitsConfig {
+    @Override
+    public int maxSize() {
+      return DEFAULT_MAX_DOCUMENT_SIZE;
+    }
+
+    @Override
+    public int maxDepth() {
+      return DEFAULT_MAX_DOCUMENT_DEPTH;
+    }
+
+    @Override
+    public int maxPropertyPathLength() {
+      return DEFAULT_MAX_PROPERTY_PATH_LENGTH;
+    }
+
+    @Override
+    public int maxObjectProperties() {
+      return DEFAULT_MAX_OBJECT_PROPERTIES;
+    }
+
+    @Override
+    public int maxDocumentProperties() {
+      return DEFAULT_MAX_DOC_PROPERTIES;
+    }
+
+    @Override
+    public int maxNumberLength() {
+      return DEFAULT_MAX_NUMBER_LENGTH;
+    }
+
+    @Override
+    public int maxStringLengthInBytes() {
+      return DEFAULT_MAX_STRING_LENGTH_IN_BYTES;
+    }
+
+    @Override
+    public int maxArrayLength() {
+      return DEFAULT_MAX_ARRAY_LENGTH;
+    }
+
+    @Override
+    public int maxVectorEmbeddingLength() {
+      return DEFAULT_MAX_VECTOR_EMBEDDING_LENGTH;
+    }
+  }
+}
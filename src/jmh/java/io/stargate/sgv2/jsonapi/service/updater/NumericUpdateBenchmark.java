@@ -0,0 +1,163 @@
+package io.stargate.sgv2.jsonapi.service.updater;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
+import io.stargate.sgv2.jsonapi.api.model.command.clause.update.UpdateClause;
+import io.stargate.sgv2.jsonapi.api.model.command.clause.update.UpdateOperator;
+import io.stargate.sgv2.jsonapi.config.DocumentLimitsConfig;
+import io.stargate.sgv2.jsonapi.config.constants.DocumentConstants;
+import io.stargate.sgv2.jsonapi.service.shredding.Shredder;
+import io.stargate.sgv2.jsonapi.service.shredding.UpdatedPaths;
+import io.stargate.sgv2.jsonapi.service.shredding.model.ShreddedDocumentChanges;
+import java.util.EnumMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the work an <code>$inc</code> of a counter repeats on every attempt, between reading
+ * the document and writing it conditionally, for clients contending on the same document: the
+ * whole document being parsed and shredded by <code>ReadAndUpdateOperation</code>, against only
+ * the counter by <code>NumericUpdateOperation</code>. Database round-trips are not included.
+ *
+ * <p>Run with <code>./mvnw -Pjmh test-compile exec:exec -Djmh.args=NumericUpdateBenchmark</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class NumericUpdateBenchmark {
+
+  private static final Set<String> COUNTER = Set.of("count");
+
+  /** Number of top-level properties of the document besides the counter. */
+  @Param({"10", "100", "1000"})
+  public int properties;
+
+  private ObjectMapper objectMapper;
+
+  private Shredder shredder;
+
+  private DocumentUpdater documentUpdater;
+
+  private String docJson;
+
+  private final UUID txId = UUID.randomUUID();
+
+  @Setup
+  public void setup() throws Exception {
+    // same number handling as the configured ObjectMapper
+    objectMapper =
+        JsonMapper.builder().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS).build();
+    shredder = new Shredder(objectMapper, new DefaultLimits(), null);
+
+    EnumMap<UpdateOperator, ObjectNode> update = new EnumMap<>(UpdateOperator.class);
+    update.put(UpdateOperator.INC, objectMapper.createObjectNode().put("count", 1));
+    documentUpdater = DocumentUpdater.construct(new UpdateClause(update));
+
+    ObjectNode doc = objectMapper.createObjectNode();
+    doc.put(DocumentConstants.Fields.DOC_ID, "counter");
+    doc.put("count", 41);
+    for (int i = 0; i < properties; i++) {
+      // mix of values, so that the document is shredded into every index column
+      switch (i % 4) {
+        case 0 -> doc.put("text" + i, "value " + i);
+        case 1 -> doc.put("number" + i, i * 1.5);
+        case 2 -> doc.putArray("array" + i).add(i).add("element").add(true);
+        default -> doc.putObject("object" + i).put("nested", i).put("flag", false);
+      }
+    }
+    docJson = objectMapper.writeValueAsString(doc);
+  }
+
+  @Benchmark
+  public String wholeDocument() throws Exception {
+    ObjectNode before = (ObjectNode) objectMapper.readTree(docJson);
+    ObjectNode after = before.deepCopy();
+    documentUpdater.apply(after, false);
+    ShreddedDocumentChanges changes =
+        shredder.shredChanges(
+            CommandContext.empty(), before, after, txId, documentUpdater.updatedPaths(false));
+    return changes.document().docJson();
+  }
+
+  @Benchmark
+  public String counterOnly() throws Exception {
+    ObjectNode before = DocumentJsonPatcher.extractProperties(objectMapper, docJson, COUNTER);
+    ObjectNode after = before.deepCopy();
+    documentUpdater.apply(after, false);
+    ObjectNode updatedValues = after.deepCopy();
+    updatedValues.remove(DocumentConstants.Fields.DOC_ID);
+    String afterJson = DocumentJsonPatcher.replaceProperties(objectMapper, docJson, updatedValues);
+    ShreddedDocumentChanges changes =
+        shredder.shredChanges(
+            CommandContext.empty(), before, after, afterJson, txId, UpdatedPaths.of(COUNTER));
+    return changes.document().docJson();
+  }
+
+  /** Default document limits, without the configuration. */
+  private static class DefaultLimits implements DocumentLimitsConfig {
+    @Override
+    public int maxSize() {
+      return DEFAULT_MAX_DOCUMENT_SIZE;
+    }
+
+    @Override
+    public int maxDepth() {
+      return DEFAULT_MAX_DOCUMENT_DEPTH;
+    }
+
+    @Override
+    public int maxPropertyPathLength() {
+      return DEFAULT_MAX_PROPERTY_PATH_LENGTH;
+    }
+
+    @Override
+    public int maxObjectProperties() {
+      return DEFAULT_MAX_OBJECT_PROPERTIES;
+    }
+
+    @Override
+    public int maxDocumentProperties() {
+      return DEFAULT_MAX_DOC_PROPERTIES;
+    }
+
+    @Override
+    public int maxNumberLength() {
+      return DEFAULT_MAX_NUMBER_LENGTH;
+    }
+
+    @Override
+    public int maxStringLengthInBytes() {
+      return DEFAULT_MAX_STRING_LENGTH_IN_BYTES;
+    }
+
+    @Override
+    public int maxArrayLength() {
+      return DEFAULT_MAX_ARRAY_LENGTH;
+    }
+
+    @Override
+    public int maxVectorEmbeddingLength() {
+      return DEFAULT_MAX_VECTOR_EMBEDDING_LENGTH;
+    }
+  }
+}
@@ -81,6 +81,17 @@ public class RenameOperation extends UpdateOperation<RenameOperation.Action> {
     return modified;
   }
 
+  /** Renaming modifies both the source and the destination paths. */
+  @Override
+  public List<String> updatedPaths() {
+    List<String> paths = new ArrayList<>(actions.size() * 2);
+    for (Action action : actions) {
+      paths.add(action.sourceLocator().path());
+      paths.add(action.targetLocator().path());
+    }
+    return paths;
+  }
+
   // Unlike most operations, we have 2 locators (src, dest), use explicit names
   record Action(PathMatchLocator sourceLocator, PathMatchLocator targetLocator)
       implements ActionWithLocator {
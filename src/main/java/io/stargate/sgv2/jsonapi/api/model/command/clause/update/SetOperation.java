@@ -96,6 +96,12 @@ public class SetOperation extends UpdateOperation<SetOperation.Action> {
     return modified;
   }
 
+  /** Setting {@code $vector} also removes {@code $vectorize} if not set too. */
+  @Override
+  public List<String> updatedPaths() {
+    return withVectorizePath(super.updatedPaths());
+  }
+
   // Needed because some unit tests check for equality
   @Override
   public boolean equals(Object o) {
@@ -43,5 +43,11 @@ public class UnsetOperation extends UpdateOperation<UnsetOperation.Action> {
     return modified;
   }
 
+  /** Unsetting {@code $vector} also removes {@code $vectorize}. */
+  @Override
+  public List<String> updatedPaths() {
+    return withVectorizePath(super.updatedPaths());
+  }
+
   record Action(PathMatchLocator locator) implements ActionWithLocator {}
 }
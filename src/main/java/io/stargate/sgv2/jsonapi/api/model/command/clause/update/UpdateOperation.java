@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.stargate.sgv2.jsonapi.config.constants.DocumentConstants;
 import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.exception.JsonApiException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -45,6 +46,17 @@ public abstract class UpdateOperation<A extends ActionWithLocator> {
     return true;
   }
 
+  /**
+   * Method called to find out which parts of a document the operation can modify, so that only
+   * these are shredded again after the update. Default implementation returns the paths of the
+   * actions; operations modifying other paths must add them.
+   *
+   * @return Paths (dotted notation) at or below which the operation may modify documents
+   */
+  public List<String> updatedPaths() {
+    return actions.stream().map(ActionWithLocator::path).toList();
+  }
+
   /**
    * Shared validation method used by mutating operations (like {@code $set}, {@code $unset}, {@code
    * inc}, {@code pop}) to ensure they are not used to modify paths that are not allowed:
@@ -98,6 +110,21 @@ public abstract class UpdateOperation<A extends ActionWithLocator> {
     return path;
   }
 
+  /**
+   * Helper for operations that remove {@code $vectorize} when modifying {@code $vector}.
+   *
+   * @return Paths with {@code $vectorize} added if they contain {@code $vector}
+   */
+  protected static List<String> withVectorizePath(List<String> paths) {
+    if (paths.contains(DocumentConstants.Fields.VECTOR_EMBEDDING_FIELD)
+        && !paths.contains(DocumentConstants.Fields.VECTOR_EMBEDDING_TEXT_FIELD)) {
+      List<String> withVectorize = new ArrayList<>(paths);
+      withVectorize.add(DocumentConstants.Fields.VECTOR_EMBEDDING_TEXT_FIELD);
+      return withVectorize;
+    }
+    return paths;
+  }
+
   protected static boolean looksLikeModifier(String path) {
     return path.startsWith("$");
   }
@@ -96,6 +96,22 @@ public record CreateCollectionCommand(
             @JsonProperty("metric")
             @JsonAlias("function") // old name
             String metric,
+        @Nullable
+            @Pattern(
+                regexp =
+                    "(ada002|bert|cohere_v3|gecko|nv_qa_4|openai_v3_large|openai_v3_small|other)",
+                message =
+                    "source model can only be 'ada002', 'bert', 'cohere_v3', 'gecko', 'nv_qa_4',"
+                        + " 'openai_v3_large', 'openai_v3_small' or 'other'")
+            @Schema(
+                description =
+                    "Model the vectors come from, lets the vector index store them quantized for"
+                        + " candidate search and re-rank candidates with the full vectors",
+                type = SchemaType.STRING,
+                implementation = String.class)
+            @JsonProperty("sourceModel")
+            @JsonInclude(JsonInclude.Include.NON_NULL)
+            String sourceModel,
         @Valid
             @Nullable
             @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -106,12 +122,18 @@ public record CreateCollectionCommand(
             @JsonProperty("service")
             VectorizeConfig vectorizeConfig) {
 
-      public VectorSearchConfig(Integer dimension, String metric, VectorizeConfig vectorizeConfig) {
+      public VectorSearchConfig(
+          Integer dimension, String metric, String sourceModel, VectorizeConfig vectorizeConfig) {
         this.dimension = dimension;
         this.metric = metric == null ? "cosine" : metric;
+        this.sourceModel = sourceModel;
         this.vectorizeConfig = vectorizeConfig;
       }
 
+      public VectorSearchConfig(Integer dimension, String metric, VectorizeConfig vectorizeConfig) {
+        this(dimension, metric, null, vectorizeConfig);
+      }
+
       public record VectorizeConfig(
           @NotNull
               @Schema(
@@ -34,5 +34,13 @@ public record FindOneCommand(
       @Schema(
               description = "Return vector embedding used for ANN sorting.",
               type = SchemaType.BOOLEAN)
-          boolean includeSortVector) {}
+          boolean includeSortVector,
+      // minimum similarity of the returned documents
+      @Nullable
+          @Schema(
+              description =
+                  "Only return documents with a similarity function score at least this value, can only be used with vector sort.",
+              type = SchemaType.NUMBER,
+              implementation = Float.class)
+          Float minSimilarity) {}
 }
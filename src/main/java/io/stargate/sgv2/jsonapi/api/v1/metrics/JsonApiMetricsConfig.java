@@ -66,6 +66,26 @@ public interface JsonApiMetricsConfig {
   @WithDefault("json.docs.read")
   String jsonDocsRead();
 
+  /**
+   * Metric name for the count of light-weight transaction conflicts, indicating how often the
+   * documents modified by a command were concurrently modified.
+   *
+   * @return metric name for lwt conflicts count.
+   */
+  @NotBlank
+  @WithDefault("lwt.conflicts")
+  String lwtConflicts();
+
+  /**
+   * Metric name for the count of retries of light-weight transactions after a conflict performed by
+   * a command.
+   *
+   * @return metric name for lwt retries count.
+   */
+  @NotBlank
+  @WithDefault("lwt.retries")
+  String lwtRetries();
+
   @NotBlank
   @WithDefault("command.processor.process")
   String metricsName();
@@ -1,5 +1,6 @@
 package io.stargate.sgv2.jsonapi.api.v1.metrics;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
@@ -12,8 +13,9 @@ import jakarta.inject.Inject;
 /**
  * Reports metrics related to JSON byte sizes and operation counts for various commands. Utilizes
  * Micrometer's {@link MeterRegistry} for metric registration and reporting, allowing integration
- * with various monitoring systems. Metrics include JSON bytes written/read and counts of JSON
- * write/read operations, tagged with command and tenant information.
+ * with various monitoring systems. Metrics include JSON bytes written/read, counts of JSON
+ * write/read operations and counts of light-weight transaction conflicts/retries, tagged with
+ * command and tenant information.
  */
 @ApplicationScoped
 public class JsonProcessingMetricsReporter {
@@ -68,6 +70,20 @@ public class JsonProcessingMetricsReporter {
     ds.record(docCount);
   }
 
+  public void reportLwtConflictMetrics(String commandName) {
+    Counter.builder(jsonApiMetricsConfig.lwtConflicts())
+        .tags(getCustomTags(commandName))
+        .register(meterRegistry)
+        .increment();
+  }
+
+  public void reportLwtRetryMetrics(String commandName) {
+    Counter.builder(jsonApiMetricsConfig.lwtRetries())
+        .tags(getCustomTags(commandName))
+        .register(meterRegistry)
+        .increment();
+  }
+
   private Tags getCustomTags(String commandName) {
     Tag tenantTag =
         Tag.of(tenantConfig.tenantTag(), dataApiRequestInfo.getTenantId().orElse(UNKNOWN_VALUE));
@@ -24,9 +24,12 @@ import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithConverter;
 import io.smallrye.config.WithDefault;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import java.util.List;
 import java.util.Optional;
 import javax.annotation.Nullable;
@@ -71,22 +74,51 @@ public interface OperationsConfig {
 
   /**
    * @return Defines the maximum limit of document that can be deleted for a request, defaults to
-   *     <code>20</code>.
+   *     <code>20</code>. Documents are deleted concurrently, see {@link
+   *     #maxDocumentModifyConcurrency()}, so this can be raised up to <code>1000</code>.
    */
-  @Max(100)
+  @Max(1000)
   @Positive
   @WithDefault("20")
   int maxDocumentDeleteCount();
 
   /**
    * @return Defines the maximum limit of document that can be updated for a request, defaults to
-   *     <code>20</code>.
+   *     <code>20</code>. Documents are updated concurrently, see {@link
+   *     #maxDocumentModifyConcurrency()}, so this can be raised up to <code>1000</code>.
    */
-  @Max(100)
+  @Max(1000)
   @Positive
   @WithDefault("20")
   int maxDocumentUpdateCount();
 
+  /**
+   * @return Maximum number of documents updated or deleted concurrently by a single
+   *     <code>updateMany</code> or <code>deleteMany</code>; <code>1</code> processes them one at a
+   *     time. Commands modifying a single document keep their order. Defaults to <code>8</code>.
+   */
+  @Max(100)
+  @Positive
+  @WithDefault("8")
+  int maxDocumentModifyConcurrency();
+
+  /**
+   * @return Flag to write only the index entries changed by an update, as element updates of the
+   *     index columns, instead of rewriting all of them; defaults to <code>true</code>. Does not
+   *     apply to replacements and upserts.
+   */
+  @WithDefault("true")
+  boolean incrementalUpdatesEnabled();
+
+  /**
+   * @return Flag for updateOne and findOneAndUpdate with <code>upsert</code> and a filter on a
+   *     single <code>_id</code> to insert the document with <code>IF NOT EXISTS</code> first, only
+   *     reading and updating it if it already exists; defaults to <code>false</code>. Saves a round
+   *     trip when the document does not exist, but adds one when it does.
+   */
+  @WithDefault("false")
+  boolean upsertInsertFirstEnabled();
+
   /**
    * @return Maximum amount of documents that can be inserted using <code>insertMany</code> command.
    */
@@ -111,6 +143,23 @@ public interface OperationsConfig {
   @WithDefault("100")
   int maxInOperatorValueSize();
 
+  /**
+   * @return Maximum number of queries run concurrently when a read is split into multiple queries,
+   *     like the per-id queries of an {@code _id} {@code $in} filter; defaults to <code>8</code>.
+   */
+  @Max(100)
+  @Positive
+  @WithDefault("8")
+  int maxMultiQueryConcurrency();
+
+  /**
+   * @return Flag to set the routing key on queries looking up documents by <code>_id</code>, so
+   *     that they are sent to a replica of the document instead of a random coordinator; defaults
+   *     to <code>true</code>.
+   */
+  @WithDefault("true")
+  boolean tokenAwareKeyLookups();
+
   /**
    * @return Maximum size of documents returned with vector search, max value supported in cassandra
    *     is 1000 <code>1000</code> command.
@@ -120,6 +169,16 @@ public interface OperationsConfig {
   @WithDefault("1000")
   int maxVectorSearchLimit();
 
+  /**
+   * @return Factor by which vector searches oversample: <code>limit * factor</code> candidates are
+   *     read with their vector only, re-ranked by exact similarity, and only the documents of the
+   *     best <code>limit</code> are read. Defaults to <code>1</code>, no oversampling.
+   */
+  @Max(10)
+  @Positive
+  @WithDefault("1")
+  int vectorOversamplingFactor();
+
   /**
    * @return Maximum size of keys read from database to return count, Setting it to -1 will use
    *     Cassandra's count function. Default is <code>1000</code>.
@@ -127,6 +186,33 @@ public interface OperationsConfig {
   @WithDefault("1000")
   int maxCountLimit();
 
+  /**
+   * @return Maximum number of token range queries run concurrently when counting documents by key,
+   *     the ring being split in at least one range per node; <code>1</code> counts with a single
+   *     query. Defaults to <code>8</code>.
+   */
+  @Max(100)
+  @Positive
+  @WithDefault("8")
+  int countConcurrency();
+
+  /**
+   * @return Interval in seconds after which the cached estimated document count of a collection is
+   *     refreshed in the background; <code>0</code> reads the estimate on every request. Defaults
+   *     to <code>30</code>.
+   */
+  @PositiveOrZero
+  @WithDefault("30")
+  long estimatedCountRefreshSeconds();
+
+  /**
+   * @return Maximum number of collections of which the estimated document count is cached.
+   *     Defaults to <code>10000</code>.
+   */
+  @Positive
+  @WithDefault("10000")
+  int estimatedCountCacheMaxSize();
+
   /**
    * @return Boolean flag to enable astra index guardrail too many indexes rollback
    */
@@ -147,6 +233,14 @@ public interface OperationsConfig {
   @Valid
   LwtConfig lwt();
 
+  @NotNull
+  @Valid
+  BulkDeleteConfig bulkDelete();
+
+  @NotNull
+  @Valid
+  AdmissionConfig admission();
+
   /** Configuration setup for the Light-weight transactions. */
   interface LwtConfig {
 
@@ -157,6 +251,95 @@ public interface OperationsConfig {
     @Positive
     @WithDefault("3")
     int retries();
+
+    /**
+     * @return Delay in milliseconds before the first retry of a lwt failure, doubled for each
+     *     following retry; <code>0</code> retries immediately. Defaults to <code>5</code>.
+     */
+    @PositiveOrZero
+    @WithDefault("5")
+    int backoffInitialMillis();
+
+    /**
+     * @return Maximum delay in milliseconds before a retry of a lwt failure, defaults to {@code
+     *     100}.
+     */
+    @Positive
+    @WithDefault("100")
+    int backoffMaxMillis();
+
+    /**
+     * @return Jitter factor applied to the delay before a retry of a lwt failure, so that the
+     *     requests that conflicted on the same document do not all retry at the same time.
+     *     Defaults to <code>0.5</code>.
+     */
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    @WithDefault("0.5")
+    double backoffJitter();
+  }
+
+  /** Configuration setup for the deletes of deleteMany without light-weight transactions. */
+  interface BulkDeleteConfig {
+
+    /**
+     * @return If deleteMany with a filter only on <code>_id</code> deletes the matching documents
+     *     by their key, without light-weight transactions, defaults to <code>false</code>. Such a
+     *     filter keeps matching a document until it is deleted, so it does not need to be deleted
+     *     conditionally on its <code>tx_id</code>.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * @return Defines the maximum limit of documents that can be deleted in bulk for a request,
+     *     defaults to <code>10000</code>. In case there are more documents that could be deleted,
+     *     the operation will set the <code>moreData</code> response status to <code>true</code>.
+     */
+    @Max(100000)
+    @Positive
+    @WithDefault("10000")
+    int maxDocumentCount();
+
+    /**
+     * @return Defines the page size of the keys of the documents read to be deleted in bulk,
+     *     defaults to <code>500</code>.
+     */
+    @Max(5000)
+    @Positive
+    @WithDefault("500")
+    int pageSize();
+  }
+
+  /** Configuration setup for the admission of the commands of the tenants. */
+  interface AdmissionConfig {
+
+    /**
+     * @return If the commands are admitted to processing by a per-tenant fair queue, defaults to
+     *     <code>false</code>. When the processing capacity is used up, commands wait in the queue
+     *     of their tenant and the tenants are served in turn, weighted by the cost of their
+     *     commands, so that a tenant sending many expensive commands does not starve the others.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * @return Defines the maximum total cost of the commands processed concurrently, defaults to
+     *     <code>64</code>. A simple command costs <code>1</code>, commands sorting in memory,
+     *     searching by vector or inserting many documents cost more.
+     */
+    @Positive
+    @WithDefault("64")
+    int maxConcurrentCost();
+
+    /**
+     * @return Defines the maximum number of commands of a tenant waiting to be processed, defaults
+     *     to <code>100</code>. Further commands of the tenant are rejected right away with the
+     *     <code>TENANT_COMMAND_QUEUE_FULL</code> error, instead of waiting until they time out.
+     */
+    @Positive
+    @WithDefault("100")
+    int maxQueuedPerTenant();
   }
 
   /** Cassandra/AstraDB related configurations. */
@@ -206,13 +389,77 @@ public interface OperationsConfig {
     @WithDefault("50")
     int sessionCacheMaxSize();
 
+    /**
+     * Maximum time in seconds a CQLSession removed from the cache is kept open for the requests
+     * still using it, before it is closed anyway.
+     */
+    @WithDefault("30")
+    long sessionDrainTimeoutSeconds();
+
+    /**
+     * Share the driver event loop groups and timer between the CQLSessions of all tenants instead
+     * of starting a set of threads for every session.
+     */
+    @WithDefault("false")
+    boolean shareDriverResources();
+
+    /**
+     * Threads of the I/O event loop group shared by the CQLSessions, when {@link
+     * #shareDriverResources()}; <code>0</code> for twice the number of cores.
+     */
+    @WithDefault("0")
+    int sharedIoThreads();
+
+    /**
+     * Threads of the admin event executor group shared by the CQLSessions, when {@link
+     * #shareDriverResources()}.
+     */
+    @WithDefault("2")
+    int sharedAdminThreads();
+
+    /**
+     * Tick duration in milliseconds of the timer shared by the CQLSessions, when {@link
+     * #shareDriverResources()}.
+     */
+    @WithDefault("100")
+    long sharedTimerTickMillis();
+
+    /**
+     * Time to live for collection settings in the schema cache in seconds. Entries are refreshed
+     * from schema change events, so this only bounds how long a missed event can go unnoticed.
+     */
+    @WithDefault("300")
+    long schemaCacheTtlSeconds();
+
+    /** Maximum number of collection settings in the schema cache, per namespace. */
+    @WithDefault("1000")
+    int schemaCacheMaxSize();
+
     /** DDL query retry wait in illis. */
     @WithDefault("1000")
     int ddlRetryDelayMillis();
 
-    /** Create table cool off period before create index . */
+    /**
+     * Kept for compatibility: DDL now waits for schema agreement instead of sleeping. A value of
+     * <code>0</code> still creates all indexes of a collection at once, which is only safe on
+     * single node test clusters.
+     */
     @WithDefault("2000")
     int ddlDelayMillis();
+
+    /**
+     * Maximum time in millis to wait for all nodes to agree on the schema after a create schema
+     * change, on top of the wait done by the driver itself. DDL proceeds after it, as if agreed.
+     */
+    @Positive
+    @WithDefault("10000")
+    int schemaAgreementTimeoutMillis();
+
+    /** Maximum number of indexes of a collection created concurrently. */
+    @Max(10)
+    @Positive
+    @WithDefault("2")
+    int ddlIndexConcurrency();
   }
 
   /** Query consistency related configs. */
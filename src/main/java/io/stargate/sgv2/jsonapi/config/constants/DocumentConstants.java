@@ -30,6 +30,9 @@ public interface DocumentConstants {
     /** Key for vector function name definition in cql index. */
     String VECTOR_INDEX_FUNCTION_NAME = "similarity_function";
 
+    /** Key for the model of the vectors in cql index, selecting how the index quantizes them. */
+    String VECTOR_INDEX_SOURCE_MODEL_NAME = "source_model";
+
     /** Field name used in projection clause to get similarity score in response. */
     String VECTOR_FUNCTION_SIMILARITY_FIELD = "$similarity";
 
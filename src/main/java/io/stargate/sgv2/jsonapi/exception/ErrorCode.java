@@ -135,6 +135,9 @@ public enum ErrorCode {
 
   VECTOR_SEARCH_USAGE_ERROR("Vector search can't be used with other sort clause"),
 
+  VECTOR_SEARCH_MIN_SIMILARITY_USAGE_ERROR(
+      "'minSimilarity' option can only be used with vector sort"),
+
   VECTOR_SEARCH_NOT_SUPPORTED("Vector search is not enabled for the collection "),
 
   VECTOR_SEARCH_INVALID_FUNCTION_NAME("Invalid vector search function name: "),
@@ -159,6 +162,7 @@ public enum ErrorCode {
       "Collection has invalid schema version. Recommend re-creating the collection"),
   INVALID_ID_TYPE("Invalid Id type"),
   INVALID_QUERY("Invalid query"),
+  INVALID_PAGE_STATE("Invalid page state"),
   NO_INDEX_ERROR("Faulty collection (missing indexes). Recommend re-creating the collection"),
   UNSUPPORTED_CQL_QUERY_TYPE("Unsupported cql query type"),
   MISSING_VECTOR_VALUE("Missing the vector value when building cql"),
@@ -180,6 +184,7 @@ public enum ErrorCode {
   INVALID_PARAMETER_VALIDATION_TYPE("Invalid Parameter Validation Type"),
   SERVER_EMBEDDING_GATEWAY_NOT_AVAILABLE("Embedding Gateway is not available"),
   EMBEDDING_GATEWAY_ERROR_RATE_LIMIT("Embedding Gateway error rate limit reached for the tenant"),
+  TENANT_COMMAND_QUEUE_FULL("Too many commands of the tenant are waiting to be processed"),
   EMBEDDING_GATEWAY_PROCESSING_ERROR("Embedding Gateway failed to process request");
 
   private final String message;
@@ -59,6 +59,7 @@ public final class BuiltCondition {
    *   <li>a column name ("c = ...")
    *   <li>a specific element in a map column ("c[v] = ...")
    *   <li>a tuple of column name ("(c, d, e) = ...") (not supported)
+   *   <li>the token of a column ("TOKEN(c) > ...")
    *   <li>the token of a tuple of column name ("TOKEN(c, d, e) = ...") (not supported)
    * </ul>
    */
@@ -71,6 +72,10 @@ public final class BuiltCondition {
       return new MapElement(columnName, key);
     }
 
+    public static LHS token(String columnName) {
+      return new Token(columnName);
+    }
+
     abstract void appendToBuilder(StringBuilder builder);
 
     static final class ColumnName extends LHS {
@@ -102,6 +107,35 @@ public final class BuiltCondition {
       }
     }
 
+    static final class Token extends LHS {
+      private final String columnName;
+
+      private Token(String columnName) {
+        this.columnName = columnName;
+      }
+
+      void appendToBuilder(StringBuilder builder) {
+        builder.append("TOKEN(").append(ColumnUtils.maybeQuote(columnName)).append(")");
+      }
+
+      @Override
+      public boolean equals(Object other) {
+        if (other == this) {
+          return true;
+        } else if (other instanceof Token) {
+          Token that = (Token) other;
+          return Objects.equals(this.columnName, that.columnName);
+        } else {
+          return false;
+        }
+      }
+
+      @Override
+      public int hashCode() {
+        return Objects.hash("token", columnName);
+      }
+    }
+
     static final class MapElement extends LHS {
       private final String columnName;
       private final String key;
@@ -2,12 +2,12 @@ package io.stargate.sgv2.jsonapi.service.cql.builder;
 
 import com.bpodgursky.jbool_expressions.Expression;
 import com.bpodgursky.jbool_expressions.Variable;
-import com.datastax.oss.driver.api.core.data.CqlVector;
 import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.exception.JsonApiException;
 import io.stargate.sgv2.jsonapi.service.cql.ColumnUtils;
 import io.stargate.sgv2.jsonapi.service.cqldriver.executor.CollectionSettings;
 import io.stargate.sgv2.jsonapi.service.cqldriver.serializer.CQLBindValues;
+import io.stargate.sgv2.jsonapi.service.cqldriver.serializer.FloatVector;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -25,7 +25,7 @@ public class QueryBuilder {
   private final List<QueryBuilder.FunctionCall> functionCalls = new ArrayList<>();
 
   /** The vectorValue used to compute similarityScore or process an ANN search */
-  private CqlVector<Float> vectorValue;
+  private FloatVector vectorValue;
 
   /** Column names for a SELECT or DELETE. */
   private final List<String> selection = new ArrayList<>();
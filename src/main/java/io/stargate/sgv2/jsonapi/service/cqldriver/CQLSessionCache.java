@@ -4,24 +4,37 @@ import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.CqlSessionBuilder;
 import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
 import com.datastax.oss.driver.api.core.config.DriverConfigLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.RemovalListener;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import io.quarkus.security.UnauthorizedException;
+import io.smallrye.mutiny.Uni;
 import io.stargate.sgv2.jsonapi.JsonApiStartUp;
 import io.stargate.sgv2.jsonapi.api.request.DataApiRequestInfo;
 import io.stargate.sgv2.jsonapi.config.OperationsConfig;
 import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.service.cqldriver.executor.SchemaCache;
+import io.stargate.sgv2.jsonapi.service.cqldriver.serializer.FloatVectorCodec;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import java.net.InetSocketAddress;
 import java.time.Duration;
 import java.util.Base64;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.slf4j.Logger;
@@ -31,6 +44,11 @@ import org.slf4j.LoggerFactory;
  * CQL session cache to reuse the session for the same tenant and token. The cache is configured to
  * expire after <code>CACHE_TTL_SECONDS</code> of inactivity and to have a maximum size of <code>
  * CACHE_TTL_SECONDS</code> sessions.
+ *
+ * <p>When the cache is full, the session to evict is chosen by the frequency of its lookups, and
+ * every statement executed through {@link #withSession(DataApiRequestInfo, Function)} is a lookup:
+ * the tenants with the lowest request rate are evicted first. A removed session is only closed
+ * once the requests using it are done, or after <code>SESSION_DRAIN_TIMEOUT_SECONDS</code>.
  */
 @ApplicationScoped
 public class CQLSessionCache {
@@ -48,8 +66,25 @@ public class CQLSessionCache {
   /** CQL username to be used when the backend is AstraDB */
   private static final String TOKEN = "token";
 
-  /** CQLSession cache. */
-  private final LoadingCache<SessionCacheKey, CqlSession> sessionCache;
+  /** Lookups of a session for a request, when the session found was closed in the meantime. */
+  private static final int MAX_SESSION_LOOKUPS = 3;
+
+  /**
+   * CQLSession cache. Sessions are built asynchronously, and concurrent requests of a tenant share
+   * the session being built.
+   */
+  private final AsyncLoadingCache<SessionCacheKey, CqlSession> sessionCache;
+
+  /** Netty resources shared by the sessions of all tenants, <code>null</code> if not shared. */
+  private final SharedNettyOptions sharedNettyOptions;
+
+  /** Requests in flight for every session, cached or removed but not closed yet. */
+  private final Map<CqlSession, InFlightRequests> inFlightRequests = new ConcurrentHashMap<>();
+
+  private final MeterRegistry meterRegistry;
+
+  /** Sessions closed before their requests were done, when the drain timed out. */
+  private final Counter drainTimeouts;
 
   /** SchemaCache, used for evict collectionSetting cache and namespace cache. */
   @Inject private SchemaCache schemaCache;
@@ -70,19 +105,33 @@ public class CQLSessionCache {
   public CQLSessionCache(OperationsConfig operationsConfig, MeterRegistry meterRegistry) {
     LOGGER.info("Initializing CQLSessionCache");
     this.operationsConfig = operationsConfig;
-    LoadingCache<SessionCacheKey, CqlSession> loadingCache =
+    this.meterRegistry = meterRegistry;
+    this.drainTimeouts = meterRegistry.counter("cql_sessions_cache.drain.timeouts");
+    this.sharedNettyOptions =
+        operationsConfig.databaseConfig().shareDriverResources()
+            ? new SharedNettyOptions(
+                operationsConfig.databaseConfig().sharedIoThreads(),
+                operationsConfig.databaseConfig().sharedAdminThreads(),
+                operationsConfig.databaseConfig().sharedTimerTickMillis())
+            : null;
+    AsyncLoadingCache<SessionCacheKey, CqlSession> loadingCache =
         Caffeine.newBuilder()
             .expireAfterAccess(
                 Duration.ofSeconds(operationsConfig.databaseConfig().sessionCacheTtlSeconds()))
             .maximumSize(operationsConfig.databaseConfig().sessionCacheMaxSize())
             // removal listener is invoked after the entry has been removed from the cache. So the
             // idea is that we no longer return this session for any lookup as a first step, then
-            // close the session in the background asynchronously which is a graceful closing of
-            // channels i.e. any in-flight query will be completed before the session is getting
-            // closed.
+            // wait for the requests still using it and close it in the background, which is a
+            // graceful closing of channels i.e. any in-flight query will be completed before the
+            // session is getting closed.
             .removalListener(
                 (RemovalListener<SessionCacheKey, CqlSession>)
                     (sessionCacheKey, session, cause) -> {
+                      countRemoval(cause);
+                      if (cause == RemovalCause.REPLACED && isCached(sessionCacheKey, session)) {
+                        // put again in the cache, still in use
+                        return;
+                      }
                       if (sessionCacheKey != null) {
                         if (LOGGER.isTraceEnabled()) {
                           LOGGER.trace(
@@ -97,11 +146,16 @@ public class CQLSessionCache {
                         }
                       }
                       if (session != null) {
-                        session.close();
+                        drainAndClose(session);
                       }
                     })
             .recordStats()
-            .build(this::getNewSession);
+            .buildAsync(
+                (sessionCacheKey, executor) ->
+                    getNewSessionBuilder(sessionCacheKey)
+                        .buildAsync()
+                        .toCompletableFuture()
+                        .thenApply(this::track));
     this.sessionCache =
         CaffeineCacheMetrics.monitor(meterRegistry, loadingCache, "cql_sessions_cache");
     LOGGER.info(
@@ -111,12 +165,12 @@ public class CQLSessionCache {
   }
 
   /**
-   * Loader for new CQLSession.
+   * Builder for new CQLSession, built asynchronously by the cache loader.
    *
-   * @return CQLSession
+   * @return CQLSession builder
    * @throws RuntimeException if database type is not supported
    */
-  private CqlSession getNewSession(SessionCacheKey cacheKey) {
+  private CqlSessionBuilder getNewSessionBuilder(SessionCacheKey cacheKey) {
     DriverConfigLoader loader =
         DriverConfigLoader.programmaticBuilder()
             .withString(DefaultDriverOption.SESSION_NAME, cacheKey.tenantId)
@@ -137,12 +191,13 @@ public class CQLSessionCache {
                           host, operationsConfig.databaseConfig().cassandraPort()))
               .collect(Collectors.toList());
       CqlSessionBuilder builder =
-          new TenantAwareCqlSessionBuilder(cacheKey.tenantId())
+          new TenantAwareCqlSessionBuilder(cacheKey.tenantId(), sharedNettyOptions)
               .withLocalDatacenter(operationsConfig.databaseConfig().localDatacenter())
               .addContactPoints(seeds)
               .withClassLoader(Thread.currentThread().getContextClassLoader())
               .withConfigLoader(loader)
               .addSchemaChangeListener(new SchemaChangeListener(schemaCache, cacheKey.tenantId))
+              .addTypeCodecs(FloatVectorCodec.INSTANCE)
               .withApplicationName(APPLICATION_NAME);
       // To use username and password, a Base64Encoded text of the credential is passed as token.
       // The text needs to be in format Cassandra:Base64(username):Base64(password)
@@ -161,7 +216,7 @@ public class CQLSessionCache {
             Objects.requireNonNull(databaseConfig.userName()),
             Objects.requireNonNull(databaseConfig.password()));
       }
-      return builder.build();
+      return builder;
     } else if (ASTRA.equals(databaseConfig.type())) {
       String token = ((TokenCredentials) cacheKey.credentials()).token();
       // If we pass empty token (password), would throw IllegalArgumentException so instead:
@@ -169,20 +224,20 @@ public class CQLSessionCache {
         throw new UnauthorizedException(
             "Missing AstraDB token for tenant '" + cacheKey.tenantId + "'");
       }
-      CqlSession cqlSession =
-          new TenantAwareCqlSessionBuilder(cacheKey.tenantId())
+      CqlSessionBuilder builder =
+          new TenantAwareCqlSessionBuilder(cacheKey.tenantId(), sharedNettyOptions)
               .withAuthCredentials(TOKEN, token)
               .withLocalDatacenter(operationsConfig.databaseConfig().localDatacenter())
               .withClassLoader(Thread.currentThread().getContextClassLoader())
               .withApplicationName(APPLICATION_NAME)
               .withConfigLoader(loader)
               .addSchemaChangeListener(new SchemaChangeListener(schemaCache, cacheKey.tenantId))
-              .build();
+              .addTypeCodecs(FloatVectorCodec.INSTANCE);
       //      if (!isAstraSessionValid(cqlSession, cacheKey.tenantId())) {
       //        throw new UnauthorizedException("Provided username token and/or password are
       // incorrect");
       //      }
-      return cqlSession;
+      return builder;
     }
     throw new RuntimeException("Unsupported database type: " + databaseConfig.type());
   }
@@ -224,21 +279,145 @@ public class CQLSessionCache {
   //  }
 
   /**
-   * Get CQLSession from cache.
+   * Get CQLSession from cache, blocking while it is being built. Request processing should use
+   * {@link #getSessionAsync(DataApiRequestInfo)} instead.
    *
    * @return CQLSession
    */
   public CqlSession getSession(DataApiRequestInfo dataApiRequestInfo) {
+    checkFixedToken(dataApiRequestInfo);
+    if (!OFFLINE_WRITER.equals(operationsConfig.databaseConfig().type())) {
+      return sessionCache.synchronous().get(getSessionCacheKey(dataApiRequestInfo));
+    } else {
+      return sessionCache.synchronous().getIfPresent(getSessionCacheKey(dataApiRequestInfo));
+    }
+  }
+
+  /**
+   * Get CQLSession from cache without blocking: the first request of a tenant gets the session
+   * once the driver has connected, and concurrent requests wait for the same session.
+   *
+   * @return CQLSession, <code>null</code> in offline mode if not set
+   */
+  public Uni<CqlSession> getSessionAsync(DataApiRequestInfo dataApiRequestInfo) {
+    return Uni.createFrom()
+        .completionStage(
+            () -> {
+              checkFixedToken(dataApiRequestInfo);
+              SessionCacheKey cacheKey = getSessionCacheKey(dataApiRequestInfo);
+              if (!OFFLINE_WRITER.equals(operationsConfig.databaseConfig().type())) {
+                return sessionCache.get(cacheKey);
+              }
+              CompletableFuture<CqlSession> session = sessionCache.getIfPresent(cacheKey);
+              return session != null ? session : CompletableFuture.completedFuture(null);
+            });
+  }
+
+  /**
+   * Runs a request with the CQLSession of the tenant. The session is not closed while the request
+   * is running, even if it is removed from the cache in the meantime.
+   *
+   * @param request Request to run, given the session.
+   * @return Result of the request.
+   */
+  public <T> Uni<T> withSession(
+      DataApiRequestInfo dataApiRequestInfo, Function<CqlSession, CompletionStage<T>> request) {
+    return withSession(dataApiRequestInfo, request, MAX_SESSION_LOOKUPS);
+  }
+
+  private <T> Uni<T> withSession(
+      DataApiRequestInfo dataApiRequestInfo,
+      Function<CqlSession, CompletionStage<T>> request,
+      int lookups) {
+    return getSessionAsync(dataApiRequestInfo)
+        .onItem()
+        .transformToUni(
+            session -> {
+              InFlightRequests requests = session == null ? null : inFlightRequests.get(session);
+              if (requests == null || !requests.acquire()) {
+                if (session != null) {
+                  if (lookups <= 1) {
+                    return Uni.createFrom()
+                        .failure(
+                            ErrorCode.SERVER_CLOSED_CONNECTION.toApiException(
+                                "CQL session of the tenant is closed"));
+                  }
+                  // closed since the lookup: removed from the cache if still there, so that the
+                  // next lookup gets a new session
+                  sessionCache
+                      .synchronous()
+                      .asMap()
+                      .remove(getSessionCacheKey(dataApiRequestInfo), session);
+                  return withSession(dataApiRequestInfo, request, lookups - 1);
+                }
+                return Uni.createFrom().completionStage(() -> request.apply(null));
+              }
+              return Uni.createFrom()
+                  .completionStage(() -> request.apply(session))
+                  .onTermination()
+                  .invoke(requests::release);
+            });
+  }
+
+  private CqlSession track(CqlSession session) {
+    // a session put again in the cache keeps counting its requests
+    inFlightRequests.putIfAbsent(session, new InFlightRequests());
+    return session;
+  }
+
+  /**
+   * @return If the cache maps the key to the session, when it replaced a previous value.
+   */
+  private boolean isCached(SessionCacheKey sessionCacheKey, CqlSession session) {
+    if (sessionCacheKey == null || session == null) {
+      return false;
+    }
+    CompletableFuture<CqlSession> cached = sessionCache.asMap().get(sessionCacheKey);
+    return cached != null
+        && cached.isDone()
+        && !cached.isCompletedExceptionally()
+        && cached.join() == session;
+  }
+
+  /**
+   * Closes a session removed from the cache once the requests using it are done, or when the drain
+   * timeout expires.
+   */
+  private void drainAndClose(CqlSession session) {
+    InFlightRequests requests = inFlightRequests.get(session);
+    if (requests == null) {
+      session.closeAsync();
+      return;
+    }
+    requests
+        .drain()
+        .completeOnTimeout(
+            false,
+            operationsConfig.databaseConfig().sessionDrainTimeoutSeconds(),
+            TimeUnit.SECONDS)
+        .thenAccept(
+            drained -> {
+              if (!drained) {
+                drainTimeouts.increment();
+                LOGGER.warn("Closing CQL session with requests still in flight");
+              }
+              inFlightRequests.remove(session);
+              session.closeAsync();
+            });
+  }
+
+  private void countRemoval(RemovalCause cause) {
+    meterRegistry
+        .counter("cql_sessions_cache.removals", "cause", cause.name().toLowerCase(Locale.ROOT))
+        .increment();
+  }
+
+  private void checkFixedToken(DataApiRequestInfo dataApiRequestInfo) {
     String fixedToken;
     if ((fixedToken = getFixedToken()) != null
         && !dataApiRequestInfo.getCassandraToken().orElseThrow().equals(fixedToken)) {
       throw new UnauthorizedException(ErrorCode.UNAUTHENTICATED_REQUEST.getMessage());
     }
-    if (!OFFLINE_WRITER.equals(operationsConfig.databaseConfig().type())) {
-      return sessionCache.get(getSessionCacheKey(dataApiRequestInfo));
-    } else {
-      return sessionCache.getIfPresent(getSessionCacheKey(dataApiRequestInfo));
-    }
   }
 
   /**
@@ -282,14 +461,28 @@ public class CQLSessionCache {
         "Unsupported database type: " + operationsConfig.databaseConfig().type());
   }
 
+  /**
+   * Close the cached sessions and then the netty resources they share, when shared. Without
+   * sharing, each session releases its own resources once closed, as evicted sessions do.
+   */
+  @PreDestroy
+  void close() {
+    if (sharedNettyOptions != null) {
+      sessionCache.synchronous().asMap().values().forEach(CqlSession::close);
+      sessionCache.synchronous().invalidateAll();
+      inFlightRequests.keySet().forEach(CqlSession::close);
+      sharedNettyOptions.close();
+    }
+  }
+
   /**
    * Get cache size.
    *
    * @return cache size
    */
   public long cacheSize() {
-    sessionCache.cleanUp();
-    return sessionCache.estimatedSize();
+    sessionCache.synchronous().cleanUp();
+    return sessionCache.synchronous().estimatedSize();
   }
 
   /**
@@ -298,8 +491,8 @@ public class CQLSessionCache {
    * @param cacheKey key for CQLSession cache
    */
   public void removeSession(SessionCacheKey cacheKey) {
-    sessionCache.invalidate(cacheKey);
-    sessionCache.cleanUp();
+    sessionCache.synchronous().invalidate(cacheKey);
+    sessionCache.synchronous().cleanUp();
     LOGGER.trace("Session removed for tenant : {}", cacheKey.tenantId());
   }
 
@@ -310,7 +503,55 @@ public class CQLSessionCache {
    * @param cqlSession CQLSession instance
    */
   public void putSession(SessionCacheKey sessionCacheKey, CqlSession cqlSession) {
-    sessionCache.put(sessionCacheKey, cqlSession);
+    sessionCache.put(sessionCacheKey, CompletableFuture.completedFuture(track(cqlSession)));
+  }
+
+  /**
+   * Number of requests running with a session. Once the session is removed from the cache, the
+   * count drops to <code>-1</code> when it reaches zero, and no request can use the session
+   * anymore.
+   */
+  private static final class InFlightRequests {
+    private final AtomicInteger count = new AtomicInteger();
+
+    private final CompletableFuture<Boolean> drained = new CompletableFuture<>();
+
+    private volatile boolean draining;
+
+    /**
+     * @return <code>false</code> if the session is being closed.
+     */
+    boolean acquire() {
+      int current;
+      do {
+        current = count.get();
+        if (current < 0) {
+          return false;
+        }
+      } while (!count.compareAndSet(current, current + 1));
+      return true;
+    }
+
+    void release() {
+      if (count.decrementAndGet() == 0 && draining) {
+        tryClose();
+      }
+    }
+
+    /**
+     * @return Completed with <code>true</code> once no request uses the session anymore.
+     */
+    CompletableFuture<Boolean> drain() {
+      draining = true;
+      tryClose();
+      return drained;
+    }
+
+    private void tryClose() {
+      if (count.compareAndSet(0, -1)) {
+        drained.complete(true);
+      }
+    }
   }
 
   /** Key for CQLSession cache. */
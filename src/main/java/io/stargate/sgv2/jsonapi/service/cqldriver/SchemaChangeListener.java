@@ -39,12 +39,21 @@ public class SchemaChangeListener extends SchemaChangeListenerBase {
     schemaCache.evictNamespaceCacheEntriesForTenant(tenantId, keyspace.getName().asInternal());
   }
 
-  /** When table is created, drop the corresponding collectionSetting cache entry if existed */
+  /**
+   * When table is created, replace the corresponding collectionSetting cache entry with the
+   * settings of the new table, so the first requests on the collection do not have to load them
+   */
   @Override
   public void onTableCreated(@NonNull TableMetadata table) {
-    schemaCache.evictCollectionSettingCacheEntry(
-        Optional.ofNullable(tenantId),
-        table.getKeyspace().asInternal(),
-        table.getName().asInternal());
+    schemaCache.refreshCollectionSettingCacheEntry(Optional.ofNullable(tenantId), table);
+  }
+
+  /**
+   * When table is updated (e.g. its comment holding the collection options), refresh the
+   * corresponding collectionSetting cache entry
+   */
+  @Override
+  public void onTableUpdated(@NonNull TableMetadata current, @NonNull TableMetadata previous) {
+    schemaCache.refreshCollectionSettingCacheEntry(Optional.ofNullable(tenantId), current);
   }
 }
@@ -0,0 +1,109 @@
+package io.stargate.sgv2.jsonapi.service.cqldriver;
+
+import com.datastax.oss.driver.internal.core.context.NettyOptions;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timer;
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.EventExecutorGroup;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.GlobalEventExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link NettyOptions} shared by the CQLSessions of all tenants. By default every CQLSession
+ * creates its own I/O and admin event loop groups and its own timer, so each tenant costs a set of
+ * threads and their buffers, and a new session pays for starting them. Sharing them makes a tenant
+ * cost only its connections, control connection and metadata.
+ *
+ * <p>The resources are created once, sized by the operations configuration and not by the driver
+ * configuration of any session, and no session context is kept. Sessions use the driver default
+ * socket options. Closing a session leaves the resources running, they are only released by {@link
+ * #close()}.
+ */
+public class SharedNettyOptions implements NettyOptions {
+
+  /** Ticks per wheel of the timer, as for the driver default timer. */
+  private static final int TIMER_TICKS_PER_WHEEL = 2048;
+
+  private final EventLoopGroup ioEventLoopGroup;
+
+  private final EventExecutorGroup adminEventExecutorGroup;
+
+  private final HashedWheelTimer timer;
+
+  /**
+   * @param ioThreads Threads of the I/O event loop group, <code>0</code> for the Netty default of
+   *     twice the number of cores.
+   * @param adminThreads Threads of the admin event executor group.
+   * @param timerTickMillis Tick duration of the timer of request timeouts and speculative
+   *     executions.
+   */
+  public SharedNettyOptions(int ioThreads, int adminThreads, long timerTickMillis) {
+    this.ioEventLoopGroup =
+        new NioEventLoopGroup(ioThreads, new DefaultThreadFactory("cql-shared-io"));
+    this.adminEventExecutorGroup =
+        new DefaultEventExecutorGroup(adminThreads, new DefaultThreadFactory("cql-shared-admin"));
+    this.timer =
+        new HashedWheelTimer(
+            new DefaultThreadFactory("cql-shared-timer"),
+            timerTickMillis,
+            TimeUnit.MILLISECONDS,
+            TIMER_TICKS_PER_WHEEL);
+  }
+
+  @Override
+  public EventLoopGroup ioEventLoopGroup() {
+    return ioEventLoopGroup;
+  }
+
+  @Override
+  public Class<? extends Channel> channelClass() {
+    return NioSocketChannel.class;
+  }
+
+  @Override
+  public EventExecutorGroup adminEventExecutorGroup() {
+    return adminEventExecutorGroup;
+  }
+
+  @Override
+  public ByteBufAllocator allocator() {
+    return ByteBufAllocator.DEFAULT;
+  }
+
+  @Override
+  public void afterBootstrapInitialized(Bootstrap bootstrap) {
+    bootstrap.option(ChannelOption.ALLOCATOR, allocator()).option(ChannelOption.TCP_NODELAY, true);
+  }
+
+  @Override
+  public void afterChannelInitialized(Channel channel) {}
+
+  /** Called when a session is closed: the shared resources are kept for the other sessions. */
+  @Override
+  public Future<Void> onClose() {
+    return GlobalEventExecutor.INSTANCE.newSucceededFuture(null);
+  }
+
+  @Override
+  public Timer getTimer() {
+    return timer;
+  }
+
+  /** Releases the shared resources, once all sessions are closed. */
+  public void close() {
+    Future<?> ioShutdown = ioEventLoopGroup.shutdownGracefully();
+    Future<?> adminShutdown = adminEventExecutorGroup.shutdownGracefully();
+    timer.stop();
+    ioShutdown.syncUninterruptibly();
+    adminShutdown.syncUninterruptibly();
+  }
+}
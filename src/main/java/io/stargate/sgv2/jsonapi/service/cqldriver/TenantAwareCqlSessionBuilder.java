@@ -5,6 +5,7 @@ import com.datastax.oss.driver.api.core.config.DriverConfigLoader;
 import com.datastax.oss.driver.api.core.context.DriverContext;
 import com.datastax.oss.driver.api.core.session.ProgrammaticArguments;
 import com.datastax.oss.driver.internal.core.context.DefaultDriverContext;
+import com.datastax.oss.driver.internal.core.context.NettyOptions;
 import com.datastax.oss.protocol.internal.util.collection.NullAllowingImmutableMap;
 import java.util.Map;
 
@@ -23,16 +24,31 @@ public class TenantAwareCqlSessionBuilder extends CqlSessionBuilder {
   /** Tenant ID that will be passed to the CQLSession via TenantAwareDriverContext */
   private final String tenantId;
 
+  /** Netty resources shared with the sessions of other tenants, <code>null</code> if not shared */
+  private final SharedNettyOptions sharedNettyOptions;
+
   /**
    * Constructor that takes the tenant ID as a parameter
    *
    * @param tenantId tenant id or database id
    */
   public TenantAwareCqlSessionBuilder(String tenantId) {
+    this(tenantId, null);
+  }
+
+  /**
+   * Constructor that takes the tenant ID and the netty resources to share as parameters
+   *
+   * @param tenantId tenant id or database id
+   * @param sharedNettyOptions netty resources shared by the sessions of all tenants, or <code>null
+   *     </code> for the session to have its own
+   */
+  public TenantAwareCqlSessionBuilder(String tenantId, SharedNettyOptions sharedNettyOptions) {
     if (tenantId == null || tenantId.isEmpty()) {
       throw new RuntimeException("Tenant ID cannot be null or empty");
     }
     this.tenantId = tenantId;
+    this.sharedNettyOptions = sharedNettyOptions;
   }
 
   /**
@@ -45,7 +61,8 @@ public class TenantAwareCqlSessionBuilder extends CqlSessionBuilder {
   @Override
   protected DriverContext buildContext(
       DriverConfigLoader configLoader, ProgrammaticArguments programmaticArguments) {
-    return new TenantAwareDriverContext(tenantId, configLoader, programmaticArguments);
+    return new TenantAwareDriverContext(
+        tenantId, configLoader, programmaticArguments, sharedNettyOptions);
   }
 
   /**
@@ -56,6 +73,11 @@ public class TenantAwareCqlSessionBuilder extends CqlSessionBuilder {
     /** Tenant ID that will be added to the startup options */
     private final String tenantId;
 
+    /**
+     * Netty resources shared with the sessions of other tenants, <code>null</code> if not shared
+     */
+    private final SharedNettyOptions sharedNettyOptions;
+
     /**
      * Constructor that takes the tenant ID as a parameter
      *
@@ -67,8 +89,37 @@ public class TenantAwareCqlSessionBuilder extends CqlSessionBuilder {
         String tenantId,
         DriverConfigLoader configLoader,
         ProgrammaticArguments programmaticArguments) {
+      this(tenantId, configLoader, programmaticArguments, null);
+    }
+
+    /**
+     * Constructor that takes the tenant ID and the netty resources to share as parameters
+     *
+     * @param tenantId tenant id or database id
+     * @param configLoader configuration loader
+     * @param programmaticArguments programmatic arguments
+     * @param sharedNettyOptions netty resources shared by the sessions of all tenants, or <code>
+     *     null</code> for the session to have its own
+     */
+    public TenantAwareDriverContext(
+        String tenantId,
+        DriverConfigLoader configLoader,
+        ProgrammaticArguments programmaticArguments,
+        SharedNettyOptions sharedNettyOptions) {
       super(configLoader, programmaticArguments);
       this.tenantId = tenantId;
+      this.sharedNettyOptions = sharedNettyOptions;
+    }
+
+    /**
+     * Overridden method that uses the shared netty resources, if any, instead of creating event
+     * loop groups and a timer for this session only
+     *
+     * @return netty options
+     */
+    @Override
+    protected NettyOptions buildNettyOptions() {
+      return sharedNettyOptions == null ? super.buildNettyOptions() : sharedNettyOptions;
     }
 
     /**
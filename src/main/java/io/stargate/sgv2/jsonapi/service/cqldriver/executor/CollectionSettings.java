@@ -107,14 +107,25 @@ public record CollectionSettings(
    * @param vectorEnabled
    * @param vectorSize
    * @param similarityFunction
+   * @param sourceModel model of the vectors, told to the vector index to quantize them; null if not
+   *     specified
    * @param vectorizeConfig
    */
   public record VectorConfig(
       boolean vectorEnabled,
       int vectorSize,
       SimilarityFunction similarityFunction,
+      String sourceModel,
       VectorizeConfig vectorizeConfig) {
 
+    public VectorConfig(
+        boolean vectorEnabled,
+        int vectorSize,
+        SimilarityFunction similarityFunction,
+        VectorizeConfig vectorizeConfig) {
+      this(vectorEnabled, vectorSize, similarityFunction, null, vectorizeConfig);
+    }
+
     public static VectorConfig notEnabledVectorConfig() {
       return new VectorConfig(false, -1, null, null);
     }
@@ -125,6 +136,9 @@ public record CollectionSettings(
       int dimension = jsonNode.get("dimension").asInt();
       SimilarityFunction similarityFunction =
           SimilarityFunction.fromString(jsonNode.get("metric").asText());
+      // sourceModel, optional
+      JsonNode sourceModelNode = jsonNode.get("sourceModel");
+      String sourceModel = sourceModelNode == null ? null : sourceModelNode.asText();
 
       VectorizeConfig vectorizeConfig = null;
       // construct vectorizeConfig
@@ -150,7 +164,7 @@ public record CollectionSettings(
                 provider, modelName, vectorizeServiceAuthentication, vectorizeServiceParameter);
       }
 
-      return new VectorConfig(true, dimension, similarityFunction, vectorizeConfig);
+      return new VectorConfig(true, dimension, similarityFunction, sourceModel, vectorizeConfig);
     }
 
     public record VectorizeConfig(
@@ -366,6 +380,7 @@ public record CollectionSettings(
           new CreateCollectionCommand.Options.VectorSearchConfig(
               collectionSetting.vectorConfig.vectorSize,
               collectionSetting.vectorConfig.similarityFunction.name().toLowerCase(),
+              collectionSetting.vectorConfig.sourceModel,
               vectorizeConfig);
     }
     // populate the indexingConfig
@@ -0,0 +1,133 @@
+package io.stargate.sgv2.jsonapi.service.cqldriver.executor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.smallrye.mutiny.Uni;
+import io.stargate.sgv2.jsonapi.config.OperationsConfig;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the estimated document count of collections, so that polling it is a memory lookup
+ * instead of a read of <code>system.size_estimates</code>.
+ *
+ * <p>An estimate older than the refresh interval is still returned, and a single background
+ * refresh is started with the credentials of the request that found it stale. Refresh intervals
+ * are jittered by up to a fifth of the interval, so that collections polled together do not all
+ * refresh at once. Estimates not read for ten refresh intervals are dropped, and the estimate of a
+ * collection is dropped when it is truncated or deleted.
+ */
+@ApplicationScoped
+public class EstimatedCountCache {
+  private static final Logger LOGGER = LoggerFactory.getLogger(EstimatedCountCache.class);
+
+  private final long refreshIntervalNanos;
+
+  private final Cache<CacheKey, Estimate> estimates;
+
+  @Inject
+  public EstimatedCountCache(OperationsConfig operationsConfig) {
+    this(
+        Duration.ofSeconds(operationsConfig.estimatedCountRefreshSeconds()),
+        operationsConfig.estimatedCountCacheMaxSize());
+  }
+
+  EstimatedCountCache(Duration refreshInterval, int maxSize) {
+    this.refreshIntervalNanos = refreshInterval.toNanos();
+    this.estimates =
+        Caffeine.newBuilder()
+            .expireAfterAccess(refreshInterval.multipliedBy(10))
+            .maximumSize(maxSize)
+            .build();
+  }
+
+  /**
+   * @param tenant Tenant of the request.
+   * @param loader Reads the current estimate, used when there is no estimate for the collection or
+   *     it is stale.
+   * @return Cached estimate of the collection, read with the loader if there is none.
+   */
+  public Uni<Long> getEstimatedCount(
+      Optional<String> tenant, String namespace, String collection, Supplier<Uni<Long>> loader) {
+    if (refreshIntervalNanos <= 0) {
+      return loader.get();
+    }
+    CacheKey key = new CacheKey(tenant, namespace, collection);
+    CompletableFuture<Long> load = new CompletableFuture<>();
+    Estimate estimate = estimates.get(key, k -> new Estimate(load, nextRefresh()));
+    if (estimate.count == load) {
+      // first request of the collection: failed loads are not cached, the next request retries
+      loader
+          .get()
+          .subscribe()
+          .with(
+              load::complete,
+              failure -> {
+                estimates.asMap().remove(key, estimate);
+                load.completeExceptionally(failure);
+              });
+    }
+    if (estimate.isStale() && estimate.refreshing.compareAndSet(false, true)) {
+      loader
+          .get()
+          .subscribe()
+          .with(
+              count ->
+                  estimates.put(
+                      key, new Estimate(CompletableFuture.completedFuture(count), nextRefresh())),
+              failure -> {
+                LOGGER.warn(
+                    "Failed to refresh estimated count of collection {}.{}",
+                    namespace,
+                    collection,
+                    failure);
+                estimate.refreshing.set(false);
+              });
+    }
+    // copy, so that a cancelled request does not cancel the load shared with other requests
+    return Uni.createFrom().completionStage(estimate.count.copy());
+  }
+
+  /**
+   * Drops the estimate of a collection, so that the next request reads it again.
+   *
+   * @param tenant Tenant of the request.
+   */
+  public void invalidate(Optional<String> tenant, String namespace, String collection) {
+    estimates.invalidate(new CacheKey(tenant, namespace, collection));
+  }
+
+  /**
+   * @return Time of the next refresh of an estimate read now.
+   */
+  private long nextRefresh() {
+    long jitter = ThreadLocalRandom.current().nextLong(refreshIntervalNanos / 5 + 1);
+    return System.nanoTime() + refreshIntervalNanos - jitter;
+  }
+
+  /**
+   * @param count Estimate, or the pending read of the first one.
+   * @param refreshAt {@link System#nanoTime()} after which the estimate is refreshed.
+   */
+  private record Estimate(CompletableFuture<Long> count, long refreshAt, AtomicBoolean refreshing) {
+    Estimate(CompletableFuture<Long> count, long refreshAt) {
+      this(count, refreshAt, new AtomicBoolean());
+    }
+
+    boolean isStale() {
+      return count.isDone()
+          && !count.isCompletedExceptionally()
+          && System.nanoTime() - refreshAt >= 0;
+    }
+  }
+
+  record CacheKey(Optional<String> tenant, String namespace, String collection) {}
+}
@@ -1,7 +1,8 @@
 package io.stargate.sgv2.jsonapi.service.cqldriver.executor;
 
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import io.grpc.StatusRuntimeException;
 import io.smallrye.mutiny.Uni;
@@ -10,9 +11,13 @@ import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.exception.JsonApiException;
 import io.stargate.sgv2.jsonapi.service.schema.model.JsonapiTableMatcher;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /** Caches the vector enabled status for the namespace */
 public class NamespaceCache {
+  private static final Logger LOGGER = LoggerFactory.getLogger(NamespaceCache.class);
 
   public final String namespace;
 
@@ -20,76 +25,79 @@ public class NamespaceCache {
 
   private final ObjectMapper objectMapper;
 
-  private static final long CACHE_TTL_SECONDS = 300;
-  private static final long CACHE_MAX_SIZE = 1000;
-  private final Cache<String, CollectionSettings> vectorCache =
-      Caffeine.newBuilder()
-          .expireAfterWrite(Duration.ofSeconds(CACHE_TTL_SECONDS))
-          .maximumSize(CACHE_MAX_SIZE)
-          .build();
+  /**
+   * Collection settings by collection name. Loads are single-flight: concurrent requests for a
+   * missing collection share the same pending load, and failed loads are not cached.
+   */
+  private final AsyncCache<String, CollectionSettings> vectorCache;
 
-  public NamespaceCache(String namespace, QueryExecutor queryExecutor, ObjectMapper objectMapper) {
+  public NamespaceCache(
+      String namespace,
+      QueryExecutor queryExecutor,
+      ObjectMapper objectMapper,
+      long cacheTtlSeconds,
+      long cacheMaxSize) {
     this.namespace = namespace;
     this.queryExecutor = queryExecutor;
     this.objectMapper = objectMapper;
+    this.vectorCache =
+        Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+            .maximumSize(cacheMaxSize)
+            .buildAsync();
   }
 
   protected Uni<CollectionSettings> getCollectionProperties(
       DataApiRequestInfo dataApiRequestInfo, String collectionName) {
-    CollectionSettings collectionProperty = vectorCache.getIfPresent(collectionName);
-    if (null != collectionProperty) {
-      return Uni.createFrom().item(collectionProperty);
-    } else {
-      return getVectorProperties(dataApiRequestInfo, collectionName)
-          .onItemOrFailure()
-          .transformToUni(
-              (result, error) -> {
-                if (null != error) {
-                  // not a valid collection schema
-                  if (error instanceof JsonApiException
-                      && ((JsonApiException) error).getErrorCode()
-                          == ErrorCode.VECTORIZECONFIG_CHECK_FAIL) {
-                    return Uni.createFrom()
-                        .failure(
-                            new JsonApiException(
-                                ErrorCode.INVALID_JSONAPI_COLLECTION_SCHEMA,
-                                ErrorCode.INVALID_JSONAPI_COLLECTION_SCHEMA
-                                    .getMessage()
-                                    .concat(collectionName)));
-                  }
-                  // collection does not exist
-                  if (error instanceof RuntimeException rte
-                      && rte.getMessage().startsWith(ErrorCode.COLLECTION_NOT_EXIST.getMessage())) {
-                    return Uni.createFrom()
-                        .failure(
-                            new JsonApiException(
-                                ErrorCode.COLLECTION_NOT_EXIST,
-                                ErrorCode.COLLECTION_NOT_EXIST
-                                    .getMessage()
-                                    .concat(collectionName)));
-                  }
+    CompletableFuture<CollectionSettings> collectionProperty =
+        vectorCache.get(
+            collectionName,
+            (name, executor) ->
+                getVectorProperties(dataApiRequestInfo, name).subscribeAsCompletionStage());
+    // copy, so that a cancelled request does not cancel the load shared with other requests
+    return Uni.createFrom()
+        .completionStage(collectionProperty.copy())
+        .onFailure()
+        .recoverWithUni(
+            error -> {
+              // not a valid collection schema
+              if (error instanceof JsonApiException
+                  && ((JsonApiException) error).getErrorCode()
+                      == ErrorCode.VECTORIZECONFIG_CHECK_FAIL) {
+                return Uni.createFrom()
+                    .failure(
+                        new JsonApiException(
+                            ErrorCode.INVALID_JSONAPI_COLLECTION_SCHEMA,
+                            ErrorCode.INVALID_JSONAPI_COLLECTION_SCHEMA
+                                .getMessage()
+                                .concat(collectionName)));
+              }
+              // collection does not exist
+              if (error instanceof RuntimeException rte
+                  && rte.getMessage().startsWith(ErrorCode.COLLECTION_NOT_EXIST.getMessage())) {
+                return Uni.createFrom()
+                    .failure(
+                        new JsonApiException(
+                            ErrorCode.COLLECTION_NOT_EXIST,
+                            ErrorCode.COLLECTION_NOT_EXIST.getMessage().concat(collectionName)));
+              }
 
-                  // TODO This if block can be deleted? grpc code
-                  // ignoring the error and return false. This will be handled while trying to
-                  //  execute the query
-                  if ((error instanceof StatusRuntimeException sre
-                      && (sre.getStatus().getCode() == io.grpc.Status.Code.NOT_FOUND
-                          || sre.getStatus().getCode() == io.grpc.Status.Code.INVALID_ARGUMENT))) {
-                    return Uni.createFrom()
-                        .item(
-                            new CollectionSettings(
-                                collectionName,
-                                CollectionSettings.IdConfig.defaultIdConfig(),
-                                CollectionSettings.VectorConfig.notEnabledVectorConfig(),
-                                null));
-                  }
-                  return Uni.createFrom().failure(error);
-                } else {
-                  vectorCache.put(collectionName, result);
-                  return Uni.createFrom().item(result);
-                }
-              });
-    }
+              // TODO This if block can be deleted? grpc code
+              // ignoring the error and return false. This will be handled while trying to
+              //  execute the query
+              if ((error instanceof StatusRuntimeException sre
+                  && (sre.getStatus().getCode() == io.grpc.Status.Code.NOT_FOUND
+                      || sre.getStatus().getCode() == io.grpc.Status.Code.INVALID_ARGUMENT))) {
+                return Uni.createFrom()
+                    .item(
+                        new CollectionSettings(
+                            collectionName,
+                            CollectionSettings.IdConfig.defaultIdConfig(),
+                            CollectionSettings.VectorConfig.notEnabledVectorConfig(),
+                            null));
+              }
+              return Uni.createFrom().failure(error);
+            });
   }
 
   private Uni<CollectionSettings> getVectorProperties(
@@ -114,7 +122,30 @@ public class NamespaceCache {
             });
   }
 
+  /**
+   * Replaces the cached settings of a collection with the ones of the given table metadata, as
+   * received with a schema change event, so that requests never have to wait for a reload after
+   * the collection is created or altered. Tables that are not valid collections are evicted.
+   */
+  public void refreshCollectionSettingCacheEntry(TableMetadata table) {
+    String collectionName = table.getName().asInternal();
+    if (!new JsonapiTableMatcher().test(table)) {
+      vectorCache.synchronous().invalidate(collectionName);
+      return;
+    }
+    try {
+      vectorCache.put(
+          collectionName,
+          CompletableFuture.completedFuture(
+              CollectionSettings.getCollectionSettings(table, objectMapper)));
+    } catch (RuntimeException e) {
+      // reported to the client by the next read of the settings
+      LOGGER.warn("Failed to refresh settings of collection {}.{}", namespace, collectionName, e);
+      vectorCache.synchronous().invalidate(collectionName);
+    }
+  }
+
   public void evictCollectionSettingCacheEntry(String collectionName) {
-    vectorCache.invalidate(collectionName);
+    vectorCache.synchronous().invalidate(collectionName);
   }
 }
@@ -1,11 +1,14 @@
 package io.stargate.sgv2.jsonapi.service.cqldriver.executor;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.DriverTimeoutException;
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
 import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
 import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
 import com.datastax.oss.driver.api.core.servererrors.InvalidQueryException;
 import com.datastax.oss.driver.api.core.servererrors.TruncateException;
 import io.smallrye.mutiny.Uni;
@@ -18,15 +21,28 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @ApplicationScoped
 public class QueryExecutor {
   private static final Logger logger = LoggerFactory.getLogger(QueryExecutor.class);
+
+  /** First interval between schema agreement checks, doubled on every check. */
+  private static final Duration MIN_SCHEMA_AGREEMENT_POLL = Duration.ofMillis(50);
+
+  /** Maximum interval between schema agreement checks. */
+  private static final Duration MAX_SCHEMA_AGREEMENT_POLL = Duration.ofSeconds(1);
+
+  /** Partitioner of the token ranges that counts can be split across. */
+  private static final String MURMUR3_PARTITIONER = "org.apache.cassandra.dht.Murmur3Partitioner";
+
   private final OperationsConfig operationsConfig;
 
   /** CQLSession cache. */
@@ -61,9 +77,7 @@ public class QueryExecutor {
       simpleStatement =
           simpleStatement.setPagingState(ByteBuffer.wrap(decodeBase64(pagingState.get())));
     }
-    return Uni.createFrom()
-        .completionStage(
-            cqlSessionCache.getSession(dataApiRequestInfo).executeAsync(simpleStatement));
+    return execute(dataApiRequestInfo, simpleStatement);
   }
 
   /**
@@ -79,7 +93,7 @@ public class QueryExecutor {
         simpleStatement
             .setExecutionProfileName("count")
             .setConsistencyLevel(operationsConfig.queriesConfig().consistency().reads());
-    return cqlSessionCache.getSession(dataApiRequestInfo).executeAsync(simpleStatement);
+    return execute(dataApiRequestInfo, simpleStatement).subscribeAsCompletionStage();
   }
 
   /**
@@ -94,7 +108,7 @@ public class QueryExecutor {
     simpleStatement =
         simpleStatement.setConsistencyLevel(operationsConfig.queriesConfig().consistency().reads());
 
-    return cqlSessionCache.getSession(dataApiRequestInfo).executeAsync(simpleStatement);
+    return execute(dataApiRequestInfo, simpleStatement).subscribeAsCompletionStage();
   }
 
   /**
@@ -120,9 +134,7 @@ public class QueryExecutor {
       simpleStatement =
           simpleStatement.setPagingState(ByteBuffer.wrap(decodeBase64(pagingState.get())));
     }
-    return Uni.createFrom()
-        .completionStage(
-            cqlSessionCache.getSession(dataApiRequestInfo).executeAsync(simpleStatement));
+    return execute(dataApiRequestInfo, simpleStatement);
   }
 
   /**
@@ -134,17 +146,12 @@ public class QueryExecutor {
    */
   public Uni<AsyncResultSet> executeWrite(
       DataApiRequestInfo dataApiRequestInfo, SimpleStatement statement) {
-    return Uni.createFrom()
-        .completionStage(
-            cqlSessionCache
-                .getSession(dataApiRequestInfo)
-                .executeAsync(
-                    statement
-                        .setIdempotent(true)
-                        .setConsistencyLevel(
-                            operationsConfig.queriesConfig().consistency().writes())
-                        .setSerialConsistencyLevel(
-                            operationsConfig.queriesConfig().serialConsistency())));
+    return execute(
+        dataApiRequestInfo,
+        statement
+            .setIdempotent(true)
+            .setConsistencyLevel(operationsConfig.queriesConfig().consistency().writes())
+            .setSerialConsistencyLevel(operationsConfig.queriesConfig().serialConsistency()));
   }
 
   /**
@@ -156,7 +163,63 @@ public class QueryExecutor {
    */
   public Uni<AsyncResultSet> executeCreateSchemaChange(
       DataApiRequestInfo dataApiRequestInfo, SimpleStatement boundStatement) {
-    return executeSchemaChange(dataApiRequestInfo, boundStatement, "create");
+    return executeSchemaChange(dataApiRequestInfo, boundStatement, "create")
+        .onItem()
+        .transformToUni(result -> awaitSchemaAgreement(dataApiRequestInfo, result));
+  }
+
+  /**
+   * Waits for all nodes to agree on the schema after a schema change, so that dependent DDL (like
+   * the indexes of a new table) is not rejected by nodes that have not seen the change yet. The
+   * driver already waits for agreement before completing the schema change, so usually the result
+   * reports agreement; otherwise agreement is polled with a growing interval for at most {@link
+   * OperationsConfig.DatabaseConfig#schemaAgreementTimeoutMillis()}.
+   *
+   * @return The result of the schema change, once agreed or timed out.
+   */
+  private Uni<AsyncResultSet> awaitSchemaAgreement(
+      DataApiRequestInfo dataApiRequestInfo, AsyncResultSet result) {
+    if (result.getExecutionInfo().isSchemaInAgreement()) {
+      return Uni.createFrom().item(result);
+    }
+    long deadline =
+        System.nanoTime()
+            + TimeUnit.MILLISECONDS.toNanos(
+                operationsConfig.databaseConfig().schemaAgreementTimeoutMillis());
+    return pollSchemaAgreement(dataApiRequestInfo, MIN_SCHEMA_AGREEMENT_POLL, deadline)
+        .replaceWith(result);
+  }
+
+  private Uni<Void> pollSchemaAgreement(
+      DataApiRequestInfo dataApiRequestInfo, Duration interval, long deadline) {
+    return cqlSessionCache
+        .withSession(dataApiRequestInfo, CqlSession::checkSchemaAgreementAsync)
+        .onItem()
+        .transformToUni(
+            agreed -> {
+              if (agreed) {
+                return Uni.createFrom().voidItem();
+              }
+              if (System.nanoTime() - deadline >= 0) {
+                logger.warn("Schema agreement not reached in time, proceeding with next DDL");
+                return Uni.createFrom().voidItem();
+              }
+              Duration next = interval.multipliedBy(2);
+              return Uni.createFrom()
+                  .voidItem()
+                  .onItem()
+                  .delayIt()
+                  .by(interval)
+                  .onItem()
+                  .transformToUni(
+                      v ->
+                          pollSchemaAgreement(
+                              dataApiRequestInfo,
+                              next.compareTo(MAX_SCHEMA_AGREEMENT_POLL) > 0
+                                  ? MAX_SCHEMA_AGREEMENT_POLL
+                                  : next,
+                              deadline));
+            });
   }
 
   /**
@@ -185,16 +248,13 @@ public class QueryExecutor {
 
   private Uni<AsyncResultSet> executeSchemaChange(
       DataApiRequestInfo dataApiRequestInfo, SimpleStatement boundStatement, String profile) {
-    return Uni.createFrom()
-        .completionStage(
-            cqlSessionCache
-                .getSession(dataApiRequestInfo)
-                .executeAsync(
-                    boundStatement
-                        .setExecutionProfileName(profile)
-                        .setIdempotent(true)
-                        .setSerialConsistencyLevel(
-                            operationsConfig.queriesConfig().consistency().schemaChanges())))
+    return execute(
+            dataApiRequestInfo,
+            boundStatement
+                .setExecutionProfileName(profile)
+                .setIdempotent(true)
+                .setSerialConsistencyLevel(
+                    operationsConfig.queriesConfig().consistency().schemaChanges()))
         .onFailure(
             error ->
                 error instanceof DriverTimeoutException
@@ -215,19 +275,16 @@ public class QueryExecutor {
                   .onItem()
                   .transformToUni(
                       v ->
-                          Uni.createFrom()
-                              .completionStage(
-                                  cqlSessionCache
-                                      .getSession(dataApiRequestInfo)
-                                      .executeAsync(
-                                          duplicate
-                                              .setExecutionProfileName(profile)
-                                              .setIdempotent(true)
-                                              .setSerialConsistencyLevel(
-                                                  operationsConfig
-                                                      .queriesConfig()
-                                                      .consistency()
-                                                      .schemaChanges()))));
+                          execute(
+                              dataApiRequestInfo,
+                              duplicate
+                                  .setExecutionProfileName(profile)
+                                  .setIdempotent(true)
+                                  .setSerialConsistencyLevel(
+                                      operationsConfig
+                                          .queriesConfig()
+                                          .consistency()
+                                          .schemaChanges())));
             })
         .onFailure(
             error ->
@@ -248,27 +305,22 @@ public class QueryExecutor {
    */
   protected Uni<Optional<TableMetadata>> getSchema(
       DataApiRequestInfo dataApiRequestInfo, String namespace, String collectionName) {
-    KeyspaceMetadata keyspaceMetadata;
-    try {
-      keyspaceMetadata =
-          cqlSessionCache
-              .getSession(dataApiRequestInfo)
-              .getMetadata()
-              .getKeyspaces()
-              .get(CqlIdentifier.fromInternal(namespace));
-    } catch (Exception e) {
-      return Uni.createFrom().failure(e);
-    }
-    // if namespace does not exist, throw error
-    if (keyspaceMetadata == null) {
-      return Uni.createFrom()
-          .failure(
-              new JsonApiException(
-                  ErrorCode.NAMESPACE_DOES_NOT_EXIST,
-                  "The provided namespace does not exist: " + namespace));
-    }
-    // else get the table
-    return Uni.createFrom().item(keyspaceMetadata.getTable("\"" + collectionName + "\""));
+    return cqlSessionCache
+        .getSessionAsync(dataApiRequestInfo)
+        .onItem()
+        .transform(
+            session -> {
+              KeyspaceMetadata keyspaceMetadata =
+                  session.getMetadata().getKeyspaces().get(CqlIdentifier.fromInternal(namespace));
+              // if namespace does not exist, throw error
+              if (keyspaceMetadata == null) {
+                throw new JsonApiException(
+                    ErrorCode.NAMESPACE_DOES_NOT_EXIST,
+                    "The provided namespace does not exist: " + namespace);
+              }
+              // else get the table
+              return keyspaceMetadata.getTable("\"" + collectionName + "\"");
+            });
   }
 
   /**
@@ -280,16 +332,78 @@ public class QueryExecutor {
    */
   protected Uni<TableMetadata> getCollectionSchema(
       DataApiRequestInfo dataApiRequestInfo, String namespace, String collectionName) {
-    Optional<KeyspaceMetadata> keyspaceMetadata;
-    if ((keyspaceMetadata =
-            cqlSessionCache.getSession(dataApiRequestInfo).getMetadata().getKeyspace(namespace))
-        .isPresent()) {
-      Optional<TableMetadata> tableMetadata = keyspaceMetadata.get().getTable(collectionName);
-      if (tableMetadata.isPresent()) {
-        return Uni.createFrom().item(tableMetadata.get());
-      }
-    }
-    return Uni.createFrom().nullItem();
+    return cqlSessionCache
+        .getSessionAsync(dataApiRequestInfo)
+        .onItem()
+        .transform(
+            session ->
+                session
+                    .getMetadata()
+                    .getKeyspace(namespace)
+                    .flatMap(keyspaceMetadata -> keyspaceMetadata.getTable(collectionName))
+                    .orElse(null));
+  }
+
+  /**
+   * Splits the token ring of the tenant's cluster for a count run across token ranges. The ranges
+   * of the token map are grouped, in ring order, into one split per node, or {@link
+   * #getCountConcurrency()} splits when there are fewer nodes; splits wrapping around the ring are
+   * unwrapped.
+   *
+   * @return Non-wrapping ranges of token values covering the ring, empty if the token map is not
+   *     available, has a single range or is not for the Murmur3 partitioner.
+   */
+  public Uni<List<TokenValueRange>> getCountTokenRanges(DataApiRequestInfo dataApiRequestInfo) {
+    return cqlSessionCache
+        .getSessionAsync(dataApiRequestInfo)
+        .onItem()
+        .transform(
+            session -> {
+              Optional<TokenMap> tokenMap = session.getMetadata().getTokenMap();
+              if (tokenMap.isEmpty()
+                  || !MURMUR3_PARTITIONER.equals(tokenMap.get().getPartitionerName())) {
+                return List.of();
+              }
+              // sorted in ring order
+              List<TokenRange> ranges = new ArrayList<>(tokenMap.get().getTokenRanges());
+              int splitCount =
+                  Math.min(
+                      ranges.size(),
+                      Math.max(session.getMetadata().getNodes().size(), getCountConcurrency()));
+              if (splitCount <= 1) {
+                return List.of();
+              }
+              List<TokenValueRange> splits = new ArrayList<>();
+              for (int i = 0; i < splitCount; i++) {
+                TokenRange first = ranges.get(i * ranges.size() / splitCount);
+                TokenRange last = ranges.get((i + 1) * ranges.size() / splitCount - 1);
+                for (TokenRange split :
+                    tokenMap.get().newTokenRange(first.getStart(), last.getEnd()).unwrap()) {
+                  // Murmur3 tokens format as their long value
+                  splits.add(
+                      new TokenValueRange(
+                          Long.parseLong(tokenMap.get().format(split.getStart())),
+                          Long.parseLong(tokenMap.get().format(split.getEnd()))));
+                }
+              }
+              return splits;
+            });
+  }
+
+  /**
+   * Range of Murmur3 token values, from <code>start</code> exclusive to <code>end</code> inclusive,
+   * an <code>end</code> of {@link Long#MIN_VALUE} running to the end of the ring.
+   */
+  public record TokenValueRange(long start, long end) {}
+
+  /**
+   * Executes the statement once the session of the tenant is available; a request never blocks
+   * while the session is being created.
+   */
+  private Uni<AsyncResultSet> execute(
+      DataApiRequestInfo dataApiRequestInfo, SimpleStatement simpleStatement) {
+    return cqlSessionCache.withSession(
+        dataApiRequestInfo, session -> session.executeAsync(simpleStatement));
   }
 
   private static byte[] decodeBase64(String base64encoded) {
@@ -299,4 +413,81 @@ public class QueryExecutor {
   public CQLSessionCache getCqlSessionCache() {
     return this.cqlSessionCache;
   }
+
+  /**
+   * @return Maximum number of queries of a single multi-query read to run concurrently.
+   */
+  public int getMaxMultiQueryConcurrency() {
+    return operationsConfig.maxMultiQueryConcurrency();
+  }
+
+  /**
+   * @return Maximum number of documents to update or delete concurrently in a single operation.
+   */
+  public int getMaxDocumentModifyConcurrency() {
+    return operationsConfig.maxDocumentModifyConcurrency();
+  }
+
+  /**
+   * @return If updates should only write the index entries they change.
+   */
+  public boolean isIncrementalUpdatesEnabled() {
+    return operationsConfig.incrementalUpdatesEnabled();
+  }
+
+  /**
+   * @return Delay in milliseconds before the first retry of a lwt failure, <code>0</code> for none.
+   */
+  public int getLwtBackoffInitialMillis() {
+    return operationsConfig.lwt().backoffInitialMillis();
+  }
+
+  /**
+   * @return Maximum delay in milliseconds before a retry of a lwt failure.
+   */
+  public int getLwtBackoffMaxMillis() {
+    return operationsConfig.lwt().backoffMaxMillis();
+  }
+
+  /**
+   * @return Jitter factor of the delay before a retry of a lwt failure.
+   */
+  public double getLwtBackoffJitter() {
+    return operationsConfig.lwt().backoffJitter();
+  }
+
+  /**
+   * @return Maximum number of indexes of a collection to create concurrently.
+   */
+  public int getDdlIndexConcurrency() {
+    return operationsConfig.databaseConfig().ddlIndexConcurrency();
+  }
+
+  /**
+   * @return Factor by which vector searches oversample candidates, <code>1</code> if they do not.
+   */
+  public int getVectorOversamplingFactor() {
+    return operationsConfig.vectorOversamplingFactor();
+  }
+
+  /**
+   * @return Maximum number of rows a vector search can read.
+   */
+  public int getMaxVectorSearchLimit() {
+    return operationsConfig.maxVectorSearchLimit();
+  }
+
+  /**
+   * @return Maximum number of token range queries of a count to run concurrently.
+   */
+  public int getCountConcurrency() {
+    return operationsConfig.countConcurrency();
+  }
+
+  /**
+   * @return If queries looking up documents by <code>_id</code> should carry a routing key.
+   */
+  public boolean isTokenAwareKeyLookups() {
+    return operationsConfig.tokenAwareKeyLookups();
+  }
 }
@@ -4,6 +4,7 @@ import static io.stargate.sgv2.jsonapi.service.cqldriver.CQLSessionCache.CASSAND
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
@@ -46,6 +47,18 @@ public class SchemaCache {
     return namespaceCache.getCollectionProperties(dataApiRequestInfo, collectionName);
   }
 
+  /**
+   * Refresh collectionSetting Cache entry from the table metadata of a create or update table
+   * event. Only done for namespaces already in use by the tenant.
+   */
+  public void refreshCollectionSettingCacheEntry(Optional<String> tenant, TableMetadata table) {
+    final NamespaceCache namespaceCache =
+        schemaCache.getIfPresent(new CacheKey(tenant, table.getKeyspace().asInternal()));
+    if (namespaceCache != null) {
+      namespaceCache.refreshCollectionSettingCacheEntry(table);
+    }
+  }
+
   /** Evict collectionSetting Cache entry when there is a drop table event */
   public void evictCollectionSettingCacheEntry(
       Optional<String> tenant, String namespace, String collectionName) {
@@ -56,7 +69,12 @@ public class SchemaCache {
   }
 
   private NamespaceCache addNamespaceCache(CacheKey cacheKey) {
-    return new NamespaceCache(cacheKey.namespace(), queryExecutor, objectMapper);
+    return new NamespaceCache(
+        cacheKey.namespace(),
+        queryExecutor,
+        objectMapper,
+        operationsConfig.databaseConfig().schemaCacheTtlSeconds(),
+        operationsConfig.databaseConfig().schemaCacheMaxSize());
   }
 
   /**
@@ -1,6 +1,5 @@
 package io.stargate.sgv2.jsonapi.service.cqldriver.serializer;
 
-import com.datastax.oss.driver.api.core.data.CqlVector;
 import com.datastax.oss.driver.api.core.data.TupleValue;
 import com.datastax.oss.driver.api.core.type.DataTypes;
 import com.datastax.oss.driver.api.core.type.TupleType;
@@ -8,7 +7,6 @@ import io.stargate.sgv2.jsonapi.service.shredding.JsonPath;
 import io.stargate.sgv2.jsonapi.service.shredding.model.DocumentId;
 import java.math.BigDecimal;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
@@ -92,13 +90,14 @@ public class CQLBindValues {
     return tupleValue;
   }
 
-  public static CqlVector<Float> getVectorValue(float[] vectors) {
+  /**
+   * @return Vector to bind, written by {@link FloatVectorCodec} straight from the array; null if
+   *     there is no vector.
+   */
+  public static FloatVector getVectorValue(float[] vectors) {
     if (vectors == null || vectors.length == 0) {
       return null;
     }
-
-    List<Float> vectorValues = new ArrayList<>(vectors.length);
-    for (float vectorValue : vectors) vectorValues.add(vectorValue);
-    return CqlVector.newInstance(vectorValues);
+    return FloatVector.of(vectors);
   }
 }
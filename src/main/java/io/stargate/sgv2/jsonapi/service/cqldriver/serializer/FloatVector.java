@@ -0,0 +1,51 @@
+package io.stargate.sgv2.jsonapi.service.cqldriver.serializer;
+
+import java.util.Arrays;
+
+/**
+ * Value of a <code>vector&lt;float, N&gt;</code> column backed by a primitive array, written and
+ * read by {@link FloatVectorCodec} without boxing the components like {@link
+ * com.datastax.oss.driver.api.core.data.CqlVector} does. Compared by content, so statements bound
+ * with equal vectors are equal.
+ *
+ * <p>The array is not copied: it must not be modified once wrapped.
+ */
+public final class FloatVector {
+
+  private final float[] values;
+
+  private FloatVector(float[] values) {
+    this.values = values;
+  }
+
+  public static FloatVector of(float[] values) {
+    return new FloatVector(values);
+  }
+
+  /**
+   * @return Components of the vector, not to be modified.
+   */
+  public float[] values() {
+    return values;
+  }
+
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    return o instanceof FloatVector other && Arrays.equals(values, other.values);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(values);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(values);
+  }
+}
@@ -0,0 +1,100 @@
+package io.stargate.sgv2.jsonapi.service.cqldriver.serializer;
+
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.VectorType;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Codec of <code>vector&lt;float, N&gt;</code> columns to {@link FloatVector}, for any dimension.
+ * The components are copied in bulk between the primitive array and the buffer: a vector costs one
+ * buffer to write and one array to read, instead of a boxed {@link Float} per component with the
+ * driver's <code>CqlVector</code> codec.
+ *
+ * <p>Floats are fixed size, so the serialized vector is only its components, each as 4 big-endian
+ * bytes; the dimension is checked by the database against the column type.
+ */
+public class FloatVectorCodec implements TypeCodec<FloatVector> {
+
+  public static final FloatVectorCodec INSTANCE = new FloatVectorCodec();
+
+  private static final GenericType<FloatVector> JAVA_TYPE = GenericType.of(FloatVector.class);
+
+  @NonNull
+  @Override
+  public GenericType<FloatVector> getJavaType() {
+    return JAVA_TYPE;
+  }
+
+  /**
+   * @return A float vector type, the dimension of which is not relevant: see {@link
+   *     #accepts(DataType)}.
+   */
+  @NonNull
+  @Override
+  public DataType getCqlType() {
+    return DataTypes.vectorOf(DataTypes.FLOAT, 0);
+  }
+
+  @Override
+  public boolean accepts(@NonNull DataType cqlType) {
+    return cqlType instanceof VectorType vectorType
+        && DataTypes.FLOAT.equals(vectorType.getElementType());
+  }
+
+  @Nullable
+  @Override
+  public ByteBuffer encode(@Nullable FloatVector value, @NonNull ProtocolVersion protocolVersion) {
+    if (value == null) {
+      return null;
+    }
+    ByteBuffer bytes = ByteBuffer.allocate(value.size() * Float.BYTES);
+    bytes.asFloatBuffer().put(value.values());
+    return bytes;
+  }
+
+  @Nullable
+  @Override
+  public FloatVector decode(@Nullable ByteBuffer bytes, @NonNull ProtocolVersion protocolVersion) {
+    if (bytes == null || bytes.remaining() == 0) {
+      return null;
+    }
+    if (bytes.remaining() % Float.BYTES != 0) {
+      throw new IllegalArgumentException(
+          "Invalid float vector: " + bytes.remaining() + " bytes is not a whole number of floats");
+    }
+    float[] values = new float[bytes.remaining() / Float.BYTES];
+    bytes.duplicate().asFloatBuffer().get(values);
+    return FloatVector.of(values);
+  }
+
+  @NonNull
+  @Override
+  public String format(@Nullable FloatVector value) {
+    return value == null ? "NULL" : Arrays.toString(value.values());
+  }
+
+  @Nullable
+  @Override
+  public FloatVector parse(@Nullable String value) {
+    if (value == null || value.isBlank() || value.equalsIgnoreCase("NULL")) {
+      return null;
+    }
+    String trimmed = value.trim();
+    if (!trimmed.startsWith("[") || !trimmed.endsWith("]")) {
+      throw new IllegalArgumentException("Invalid float vector literal: " + value);
+    }
+    String[] components = trimmed.substring(1, trimmed.length() - 1).split(",");
+    float[] values = new float[components.length];
+    for (int i = 0; i < components.length; i++) {
+      values[i] = Float.parseFloat(components[i].trim());
+    }
+    return FloatVector.of(values);
+  }
+}
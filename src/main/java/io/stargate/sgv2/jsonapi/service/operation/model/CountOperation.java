@@ -1,37 +1,66 @@
 package io.stargate.sgv2.jsonapi.service.operation.model;
 
 import com.bpodgursky.jbool_expressions.Expression;
+import com.bpodgursky.jbool_expressions.Variable;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import io.smallrye.mutiny.Uni;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandResult;
 import io.stargate.sgv2.jsonapi.api.model.command.clause.filter.LogicalExpression;
 import io.stargate.sgv2.jsonapi.api.request.DataApiRequestInfo;
+import io.stargate.sgv2.jsonapi.service.cql.ExpressionUtils;
 import io.stargate.sgv2.jsonapi.service.cql.builder.BuiltCondition;
+import io.stargate.sgv2.jsonapi.service.cql.builder.Predicate;
 import io.stargate.sgv2.jsonapi.service.cql.builder.Query;
 import io.stargate.sgv2.jsonapi.service.cql.builder.QueryBuilder;
 import io.stargate.sgv2.jsonapi.service.cqldriver.executor.QueryExecutor;
 import io.stargate.sgv2.jsonapi.service.operation.model.impl.CountOperationPage;
 import io.stargate.sgv2.jsonapi.service.operation.model.impl.ExpressionBuilder;
+import io.stargate.sgv2.jsonapi.service.operation.model.impl.JsonTerm;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
 
 /**
  * Operation that returns count of documents based on the filter condition. Written with the
  * assumption that all variables to be indexed.
+ *
+ * <p>When counting by key, the token ring is split in ranges counted concurrently, see {@link
+ * QueryExecutor#getCountTokenRanges(DataApiRequestInfo)}, unless the filter is on <code>_id</code>.
  */
 public record CountOperation(
     CommandContext commandContext, LogicalExpression logicalExpression, int pageSize, int limit)
     implements ReadOperation {
 
+  private static final BuiltCondition.LHS KEY = BuiltCondition.LHS.column("key");
+
+  private static final BuiltCondition.LHS KEY_TOKEN = BuiltCondition.LHS.token("key");
+
   @Override
   public Uni<Supplier<CommandResult>> execute(
       DataApiRequestInfo dataApiRequestInfo, QueryExecutor queryExecutor) {
-    SimpleStatement simpleStatement = buildSelectQuery();
     Uni<CountResponse> countResponse = null;
     if (limit == -1)
-      countResponse = countDocuments(dataApiRequestInfo, queryExecutor, simpleStatement);
-    else countResponse = countDocumentsByKey(dataApiRequestInfo, queryExecutor, simpleStatement);
+      countResponse = countDocuments(dataApiRequestInfo, queryExecutor, buildSelectQuery(null));
+    else if (queryExecutor.getCountConcurrency() > 1 && !restrictsKey())
+      countResponse =
+          queryExecutor
+              .getCountTokenRanges(dataApiRequestInfo)
+              .onItem()
+              .transformToUni(
+                  ranges ->
+                      ranges.isEmpty()
+                          ? countDocumentsByKey(
+                              dataApiRequestInfo, queryExecutor, buildSelectQuery(null))
+                          : countDocumentsByKeyAcrossQueries(
+                              dataApiRequestInfo,
+                              queryExecutor,
+                              ranges.stream().map(this::buildSelectQuery).toList(),
+                              limit,
+                              queryExecutor.getCountConcurrency()));
+    else
+      countResponse =
+          countDocumentsByKey(dataApiRequestInfo, queryExecutor, buildSelectQuery(null));
 
     return countResponse
         .onItem()
@@ -47,7 +76,11 @@ public record CountOperation(
             });
   }
 
-  private SimpleStatement buildSelectQuery() {
+  /**
+   * @param tokenRange Range of tokens to restrict the query to, <code>null</code> to query the
+   *     whole table.
+   */
+  private SimpleStatement buildSelectQuery(QueryExecutor.TokenValueRange tokenRange) {
     final List<Expression<BuiltCondition>> expressions =
         ExpressionBuilder.buildExpressions(logicalExpression, null);
     Query query = null;
@@ -66,7 +99,10 @@ public record CountOperation(
               .select()
               .column("key")
               .from(commandContext.namespace(), commandContext.collection())
-              .where(expressions.get(0))
+              .where(
+                  tokenRange == null
+                      ? expressions.get(0)
+                      : withTokenRange(expressions.get(0), tokenRange))
               .limit(limit + 1)
               .build();
     }
@@ -74,4 +110,37 @@ public record CountOperation(
     simpleStatement.setPageSize(pageSize());
     return simpleStatement;
   }
+
+  /**
+   * @return If the filter restricts the partition key, with an <code>_id</code> <code>$eq</code> or
+   *     <code>$in</code>: such a query reads single partitions, and cannot be restricted to a token
+   *     range as well.
+   */
+  private boolean restrictsKey() {
+    List<Expression<BuiltCondition>> expressions =
+        ExpressionBuilder.buildExpressions(logicalExpression, null);
+    if (expressions == null) {
+      // _id $in with no ids
+      return true;
+    }
+    Expression<BuiltCondition> expression = expressions.get(0);
+    return expression != null
+        && expression.getAllK().stream().anyMatch(condition -> KEY.equals(condition.lhs));
+  }
+
+  private static Expression<BuiltCondition> withTokenRange(
+      Expression<BuiltCondition> expression, QueryExecutor.TokenValueRange tokenRange) {
+    List<Expression<BuiltCondition>> conditions = new ArrayList<>(3);
+    if (expression != null) {
+      conditions.add(expression);
+    }
+    long start = tokenRange.start();
+    long end = tokenRange.end();
+    conditions.add(Variable.of(BuiltCondition.of(KEY_TOKEN, Predicate.GT, new JsonTerm(start))));
+    // a range ending at the minimum token runs to the end of the ring
+    if (end != Long.MIN_VALUE) {
+      conditions.add(Variable.of(BuiltCondition.of(KEY_TOKEN, Predicate.LTE, new JsonTerm(end))));
+    }
+    return ExpressionUtils.andOf(conditions);
+  }
 }
@@ -7,26 +7,37 @@ import io.smallrye.mutiny.Uni;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandResult;
 import io.stargate.sgv2.jsonapi.api.request.DataApiRequestInfo;
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.EstimatedCountCache;
 import io.stargate.sgv2.jsonapi.service.cqldriver.executor.QueryExecutor;
 import io.stargate.sgv2.jsonapi.service.operation.model.impl.EstimatedCountResult;
 import java.util.function.Supplier;
 
-/** Operation that returns estimated count of documents. */
-public record EstimatedDocumentCountOperation(CommandContext commandContext)
+/**
+ * Operation that returns estimated count of documents. The estimate is cached and refreshed in the
+ * background by the {@link EstimatedCountCache}.
+ */
+public record EstimatedDocumentCountOperation(
+    CommandContext commandContext, EstimatedCountCache estimatedCountCache)
     implements ReadOperation {
 
   @Override
   public Uni<Supplier<CommandResult>> execute(
       DataApiRequestInfo dataApiRequestInfo, QueryExecutor queryExecutor) {
-    SimpleStatement simpleStatement = buildSelectQuery();
-    Uni<CountResponse> countResponse =
-        estimateDocumentCount(dataApiRequestInfo, queryExecutor, simpleStatement);
+    Uni<Long> count =
+        estimatedCountCache.getEstimatedCount(
+            dataApiRequestInfo.getTenantId(),
+            commandContext.namespace(),
+            commandContext.collection(),
+            () ->
+                estimateDocumentCount(dataApiRequestInfo, queryExecutor, buildSelectQuery())
+                    .onItem()
+                    .transform(CountResponse::count));
 
-    return countResponse
+    return count
         .onItem()
         .transform(
-            docs -> {
-              return new EstimatedCountResult(docs.count());
+            estimate -> {
+              return new EstimatedCountResult(estimate);
             });
   }
 
@@ -16,6 +16,7 @@ import io.stargate.sgv2.jsonapi.api.v1.metrics.JsonProcessingMetricsReporter;
 import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.exception.JsonApiException;
 import io.stargate.sgv2.jsonapi.service.cqldriver.executor.QueryExecutor;
+import io.stargate.sgv2.jsonapi.service.operation.model.impl.MultiQueryPageState;
 import io.stargate.sgv2.jsonapi.service.operation.model.impl.ReadDocument;
 import io.stargate.sgv2.jsonapi.service.projection.DocumentProjector;
 import io.stargate.sgv2.jsonapi.service.shredding.model.DocumentId;
@@ -58,12 +59,22 @@ public interface ReadOperation extends Operation {
   double MAX_TOKEN = Math.pow(2, 63) - 1;
   double MIN_TOKEN = Math.pow(-2, 63);
 
+  /**
+   * @return Minimum similarity of the documents read by a vector search, null for no minimum. Rows
+   *     of a vector search come in decreasing similarity, so reading a query stops at the first row
+   *     below it, before its document is parsed.
+   */
+  default Float minSimilarity() {
+    return null;
+  }
+
   /**
    * Default implementation to query and parse the result set
    *
    * @param queryExecutor
    * @param queries - Multiple queries only in case of `in` condition on `_id` field
-   * @param pageState
+   * @param pageState - Page state of the single query, or a {@link MultiQueryPageState} if there
+   *     are multiple queries
    * @param readDocument This flag is set to false if the read is done to just identify the document
    *     id and tx_id to perform another DML operation
    * @param objectMapper
@@ -88,84 +99,310 @@ public interface ReadOperation extends Operation {
       String commandName,
       JsonProcessingMetricsReporter jsonProcessingMetricsReporter) {
 
+    if (queries.size() > 1 && limit == 1) {
+      // findOne with `in` on `_id`: any matching document will do, stop at the first one
+      return findFirstDocumentAcrossQueries(
+          dataApiRequestInfo,
+          queryExecutor,
+          queries,
+          pageSize,
+          readDocument,
+          objectMapper,
+          projection,
+          vectorSearch,
+          commandName,
+          jsonProcessingMetricsReporter);
+    }
+    if (queries.size() > 1) {
+      // multiple queries only for `in` on `_id`: read them a few at a time and page across them
+      return findDocumentAcrossQueries(
+          dataApiRequestInfo,
+          queryExecutor,
+          queries,
+          MultiQueryPageState.from(pageState, queries.size(), limit),
+          pageSize,
+          readDocument,
+          objectMapper,
+          projection,
+          vectorSearch,
+          commandName,
+          jsonProcessingMetricsReporter);
+    }
+
     return Multi.createFrom()
         .items(queries.stream())
         .onItem()
         .transformToUniAndMerge(
-            simpleStatement -> {
-              if (vectorSearch) {
-                return queryExecutor.executeVectorSearch(
-                    dataApiRequestInfo, simpleStatement, Optional.ofNullable(pageState), pageSize);
-              } else {
-                return queryExecutor.executeRead(
-                    dataApiRequestInfo, simpleStatement, Optional.ofNullable(pageState), pageSize);
-              }
-            })
+            simpleStatement ->
+                executeFind(
+                    dataApiRequestInfo,
+                    queryExecutor,
+                    simpleStatement,
+                    pageState,
+                    pageSize,
+                    vectorSearch))
         .onItem()
         .transform(
-            rSet -> {
-              int remaining = rSet.remaining();
-              List<ReadDocument> documents = new ArrayList<>(remaining);
-              Iterator<Row> rowIterator = rSet.currentPage().iterator();
-              while (--remaining >= 0 && rowIterator.hasNext()) {
-                Row row = rowIterator.next();
-                ReadDocument document = null;
-                try {
-                  JsonNode root = readDocument ? objectMapper.readTree(row.getString(2)) : null;
-                  if (root != null) {
-                    // create metrics
-                    jsonProcessingMetricsReporter.reportJsonReadBytesMetrics(
-                        commandName, row.getString(2).length());
-
-                    if (projection.doIncludeSimilarityScore()) {
-                      float score = row.getFloat(3); // similarity_score
-                      projection.applyProjection(root, score);
-                    } else {
-                      projection.applyProjection(root);
-                    }
-                  }
-                  document =
-                      ReadDocument.from(
-                          getDocumentId(row.getTupleValue(0)), // key
-                          row.getUuid(1), // tx_id
-                          root);
-                } catch (JsonProcessingException e) {
-                  throw parsingExceptionToApiException(e);
-                }
-                documents.add(document);
-              }
-              return new FindResponse(documents, extractPageStateFromResultSet(rSet));
-            })
+            rSet ->
+                toFindResponse(
+                    rSet,
+                    readDocument,
+                    objectMapper,
+                    projection,
+                    commandName,
+                    jsonProcessingMetricsReporter))
         .collect()
         .asList()
         .onItem()
         .transform(
             list -> {
-              // Merge all find responses
+              // at most a single query here (multiple ones are handled by
+              // findFirstDocumentAcrossQueries and findDocumentAcrossQueries), so its page state
+              // is returned
               List<ReadDocument> documents = new ArrayList<>();
               String tempPageState = null;
-              if (limit == 1) {
-                // In case of findOne limit will be 1 return one document. Need to do it to support
-                // `in` operator
-                for (FindResponse response : list) {
-                  if (!response.docs().isEmpty()) {
-                    documents.add(response.docs().get(0));
-                    break;
-                  }
-                }
-              } else {
-                // pagination is handled only when single query is run(non `in` filter), so here
-                // page state of the last query is returned
-                for (FindResponse response : list) {
-                  documents.addAll(response.docs());
-                  // picking the last page state
-                  tempPageState = response.pageState();
-                }
+              for (FindResponse response : list) {
+                documents.addAll(response.docs());
+                tempPageState = response.pageState();
               }
               return new FindResponse(documents, tempPageState);
             });
   }
 
+  /**
+   * Reads the first document matched by any of multiple queries. At most {@link
+   * QueryExecutor#getMaxMultiQueryConcurrency()} queries are in flight at any time; as soon as one
+   * of them returns a document the ones still running are cancelled and no further queries are
+   * issued, so a {@code findOne} over an {@code _id} {@code $in} costs about one read when the
+   * first ids exist.
+   */
+  private Uni<FindResponse> findFirstDocumentAcrossQueries(
+      DataApiRequestInfo dataApiRequestInfo,
+      QueryExecutor queryExecutor,
+      List<SimpleStatement> queries,
+      int pageSize,
+      boolean readDocument,
+      ObjectMapper objectMapper,
+      DocumentProjector projection,
+      boolean vectorSearch,
+      String commandName,
+      JsonProcessingMetricsReporter jsonProcessingMetricsReporter) {
+    return Multi.createFrom()
+        .iterable(queries)
+        .onItem()
+        .transformToUni(
+            simpleStatement ->
+                executeFind(
+                    dataApiRequestInfo,
+                    queryExecutor,
+                    simpleStatement,
+                    null,
+                    pageSize,
+                    vectorSearch))
+        .merge(Math.max(1, queryExecutor.getMaxMultiQueryConcurrency()))
+        .onItem()
+        .transform(
+            rSet ->
+                toFindResponse(
+                    rSet,
+                    readDocument,
+                    objectMapper,
+                    projection,
+                    commandName,
+                    jsonProcessingMetricsReporter))
+        .select()
+        .where(response -> !response.docs().isEmpty())
+        .toUni()
+        .onItem()
+        .transform(
+            response ->
+                response == null
+                    ? new FindResponse(List.of(), null)
+                    : new FindResponse(List.of(response.docs().get(0)), null));
+  }
+
+  /**
+   * Reads a page of documents from multiple queries, consuming the queries in order. Queries are
+   * executed in waves of at most {@link QueryExecutor#getMaxMultiQueryConcurrency()} concurrent
+   * reads, and no further wave is issued once the page (or the command limit) is full. Progress of
+   * each query is recorded in the returned {@link MultiQueryPageState}.
+   */
+  private Uni<FindResponse> findDocumentAcrossQueries(
+      DataApiRequestInfo dataApiRequestInfo,
+      QueryExecutor queryExecutor,
+      List<SimpleStatement> queries,
+      MultiQueryPageState pageState,
+      int pageSize,
+      boolean readDocument,
+      ObjectMapper objectMapper,
+      DocumentProjector projection,
+      boolean vectorSearch,
+      String commandName,
+      JsonProcessingMetricsReporter jsonProcessingMetricsReporter) {
+    final int pageLimit = Math.min(pageSize, pageState.remaining());
+    final List<ReadDocument> documents = new ArrayList<>(pageLimit);
+    return readNextWave(
+            dataApiRequestInfo,
+            queryExecutor,
+            queries,
+            pageState,
+            documents,
+            pageLimit,
+            readDocument,
+            objectMapper,
+            projection,
+            vectorSearch,
+            commandName,
+            jsonProcessingMetricsReporter)
+        .onItem()
+        .transform(finalState -> new FindResponse(documents, finalState.encode()));
+  }
+
+  /**
+   * Runs the next wave of queries of {@link #findDocumentAcrossQueries}, adding the documents read
+   * to <code>documents</code>, and recurses until the page is full or all queries are exhausted.
+   *
+   * @return State after the last wave.
+   */
+  private Uni<MultiQueryPageState> readNextWave(
+      DataApiRequestInfo dataApiRequestInfo,
+      QueryExecutor queryExecutor,
+      List<SimpleStatement> queries,
+      MultiQueryPageState state,
+      List<ReadDocument> documents,
+      int pageLimit,
+      boolean readDocument,
+      ObjectMapper objectMapper,
+      DocumentProjector projection,
+      boolean vectorSearch,
+      String commandName,
+      JsonProcessingMetricsReporter jsonProcessingMetricsReporter) {
+    final int needed = pageLimit - documents.size();
+    final List<Integer> wave =
+        state.nextQueries(Math.max(1, queryExecutor.getMaxMultiQueryConcurrency()));
+    if (needed <= 0 || wave.isEmpty()) {
+      return Uni.createFrom().item(state);
+    }
+    List<Uni<FindResponse>> reads = new ArrayList<>(wave.size());
+    for (int queryIndex : wave) {
+      reads.add(
+          executeFind(
+                  dataApiRequestInfo,
+                  queryExecutor,
+                  queries.get(queryIndex),
+                  state.pagingState(queryIndex),
+                  needed,
+                  vectorSearch)
+              .onItem()
+              .transform(
+                  rSet ->
+                      toFindResponse(
+                          rSet,
+                          readDocument,
+                          objectMapper,
+                          projection,
+                          commandName,
+                          jsonProcessingMetricsReporter)));
+    }
+    return Uni.combine()
+        .all()
+        .unis(reads)
+        .combinedWith(
+            responses -> {
+              MultiQueryPageState next = state;
+              for (int i = 0; i < responses.size(); i++) {
+                FindResponse response = (FindResponse) responses.get(i);
+                // a page that does not fit is read again, with a smaller page size, by next wave
+                if (documents.size() + response.docs().size() > pageLimit) {
+                  break;
+                }
+                documents.addAll(response.docs());
+                next = next.consumed(wave.get(i), response.docs().size(), response.pageState());
+              }
+              return next;
+            })
+        .onItem()
+        .transformToUni(
+            next ->
+                readNextWave(
+                    dataApiRequestInfo,
+                    queryExecutor,
+                    queries,
+                    next,
+                    documents,
+                    pageLimit,
+                    readDocument,
+                    objectMapper,
+                    projection,
+                    vectorSearch,
+                    commandName,
+                    jsonProcessingMetricsReporter));
+  }
+
+  private Uni<AsyncResultSet> executeFind(
+      DataApiRequestInfo dataApiRequestInfo,
+      QueryExecutor queryExecutor,
+      SimpleStatement simpleStatement,
+      String pageState,
+      int pageSize,
+      boolean vectorSearch) {
+    if (vectorSearch) {
+      return queryExecutor.executeVectorSearch(
+          dataApiRequestInfo, simpleStatement, Optional.ofNullable(pageState), pageSize);
+    } else {
+      return queryExecutor.executeRead(
+          dataApiRequestInfo, simpleStatement, Optional.ofNullable(pageState), pageSize);
+    }
+  }
+
+  /** Parses the current page of the result set into {@link ReadDocument}s. */
+  private FindResponse toFindResponse(
+      AsyncResultSet rSet,
+      boolean readDocument,
+      ObjectMapper objectMapper,
+      DocumentProjector projection,
+      String commandName,
+      JsonProcessingMetricsReporter jsonProcessingMetricsReporter) {
+    int remaining = rSet.remaining();
+    List<ReadDocument> documents = new ArrayList<>(remaining);
+    Iterator<Row> rowIterator = rSet.currentPage().iterator();
+    final Float minSimilarity = minSimilarity();
+    // similarity_score follows the document columns
+    final int scoreIndex = readDocument ? documentColumns.length : documentKeyColumns.length;
+    while (--remaining >= 0 && rowIterator.hasNext()) {
+      Row row = rowIterator.next();
+      if (minSimilarity != null && row.getFloat(scoreIndex) < minSimilarity) {
+        // all the rows that follow are less similar: no further page either
+        return new FindResponse(documents, null);
+      }
+      ReadDocument document = null;
+      try {
+        JsonNode root = readDocument ? objectMapper.readTree(row.getString(2)) : null;
+        if (root != null) {
+          // create metrics
+          jsonProcessingMetricsReporter.reportJsonReadBytesMetrics(
+              commandName, row.getString(2).length());
+
+          if (projection.doIncludeSimilarityScore()) {
+            float score = row.getFloat(scoreIndex); // similarity_score
+            projection.applyProjection(root, score);
+          } else {
+            projection.applyProjection(root);
+          }
+        }
+        document =
+            ReadDocument.from(
+                getDocumentId(row.getTupleValue(0)), // key
+                row.getUuid(1), // tx_id
+                root);
+      } catch (JsonProcessingException e) {
+        throw parsingExceptionToApiException(e);
+      }
+      documents.add(document);
+    }
+    return new FindResponse(documents, extractPageStateFromResultSet(rSet));
+  }
+
   byte true_byte = (byte) 1;
 
   /**
@@ -378,21 +615,62 @@ public interface ReadOperation extends Operation {
       QueryExecutor queryExecutor,
       SimpleStatement simpleStatement) {
     AtomicLong counter = new AtomicLong();
-    final CompletionStage<AsyncResultSet> async =
-        queryExecutor
-            .executeCount(dataApiRequestInfo, simpleStatement)
-            .whenComplete(
-                (rs, error) -> {
-                  getCount(rs, error, counter);
-                });
+    return Uni.createFrom()
+        .completionStage(() -> queryExecutor.executeCount(dataApiRequestInfo, simpleStatement))
+        .onItem()
+        .transformToUni(rs -> countPages(rs, counter, Long.MAX_VALUE))
+        .onItem()
+        .transform(count -> new CountResponse(count));
+  }
+
+  /**
+   * Counts by key field with one query per token range, at most <code>concurrency</code> of them
+   * running at a time. As soon as more than <code>limit</code> keys are counted the queries still
+   * running are cancelled and no further query is issued.
+   *
+   * @param simpleStatements Queries, each reading the keys of a token range.
+   * @return Count of keys, <code>limit + 1</code> if there are more than <code>limit</code>.
+   */
+  default Uni<CountResponse> countDocumentsByKeyAcrossQueries(
+      DataApiRequestInfo dataApiRequestInfo,
+      QueryExecutor queryExecutor,
+      List<SimpleStatement> simpleStatements,
+      int limit,
+      int concurrency) {
+    AtomicLong counter = new AtomicLong();
+    return Multi.createFrom()
+        .iterable(simpleStatements)
+        .onItem()
+        .transformToUni(
+            simpleStatement ->
+                Uni.createFrom()
+                    .completionStage(
+                        () -> queryExecutor.executeCount(dataApiRequestInfo, simpleStatement))
+                    .onItem()
+                    .transformToUni(rs -> countPages(rs, counter, limit)))
+        .merge(concurrency)
+        .select()
+        .where(total -> total > limit)
+        .toUni()
+        .onItem()
+        .transform(exceeded -> new CountResponse(Math.min(counter.get(), limit + 1L)));
+  }
 
+  /**
+   * Adds the keys of the result set to the counter, fetching the next pages until the result set
+   * is exhausted or the counter exceeds <code>limit</code>.
+   *
+   * @return Counter value once done with the result set.
+   */
+  private Uni<Long> countPages(AsyncResultSet rs, AtomicLong counter, long limit) {
+    long total = counter.addAndGet(rs.remaining());
+    if (total > limit || !rs.hasMorePages()) {
+      return Uni.createFrom().item(total);
+    }
     return Uni.createFrom()
-        .completionStage(async)
+        .completionStage(rs::fetchNextPage)
         .onItem()
-        .transform(
-            rs -> {
-              return new CountResponse(counter.get());
-            });
+        .transformToUni(nextRs -> countPages(nextRs, counter, limit));
   }
 
   /**
@@ -418,17 +696,6 @@ public interface ReadOperation extends Operation {
             });
   }
 
-  private void getCount(AsyncResultSet rs, Throwable error, AtomicLong counter) {
-    if (error != null) {
-      throw new JsonApiException(ErrorCode.COUNT_READ_FAILED);
-    } else {
-      counter.addAndGet(rs.remaining());
-      if (rs.hasMorePages()) {
-        rs.fetchNextPage().whenComplete((nextRs, e) -> getCount(nextRs, e, counter));
-      }
-    }
-  }
-
   /**
    * Run estimated count query and parse the result set
    *
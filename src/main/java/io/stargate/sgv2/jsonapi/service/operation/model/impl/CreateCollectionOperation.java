@@ -13,6 +13,7 @@ import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandResult;
 import io.stargate.sgv2.jsonapi.api.request.DataApiRequestInfo;
 import io.stargate.sgv2.jsonapi.config.DatabaseLimitsConfig;
+import io.stargate.sgv2.jsonapi.config.constants.DocumentConstants;
 import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.exception.JsonApiException;
 import io.stargate.sgv2.jsonapi.service.cqldriver.CQLSessionCache;
@@ -20,7 +21,6 @@ import io.stargate.sgv2.jsonapi.service.cqldriver.executor.CollectionSettings;
 import io.stargate.sgv2.jsonapi.service.cqldriver.executor.QueryExecutor;
 import io.stargate.sgv2.jsonapi.service.operation.model.Operation;
 import io.stargate.sgv2.jsonapi.service.schema.model.JsonapiTableMatcher;
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -39,6 +39,8 @@ public record CreateCollectionOperation(
     boolean vectorSearch,
     int vectorSize,
     String vectorFunction,
+    // null if the vector index is not told the model of the vectors
+    String vectorSourceModel,
     String comment,
     int ddlDelayMillis,
     boolean tooManyIndexesRollbackEnabled,
@@ -58,6 +60,7 @@ public record CreateCollectionOperation(
       String name,
       int vectorSize,
       String vectorFunction,
+      String vectorSourceModel,
       String comment,
       int ddlDelayMillis,
       boolean tooManyIndexesRollbackEnabled,
@@ -71,6 +74,7 @@ public record CreateCollectionOperation(
         true,
         vectorSize,
         vectorFunction,
+        vectorSourceModel,
         comment,
         ddlDelayMillis,
         tooManyIndexesRollbackEnabled,
@@ -96,6 +100,7 @@ public record CreateCollectionOperation(
         false,
         0,
         null,
+        null,
         comment,
         ddlDelayMillis,
         tooManyIndexesRollbackEnabled,
@@ -167,11 +172,9 @@ public record CreateCollectionOperation(
     final Uni<AsyncResultSet> execute =
         queryExecutor.executeCreateSchemaChange(
             dataApiRequestInfo, getCreateTable(commandContext.namespace(), name));
+    // no cool off period needed: create schema changes complete once the schema is agreed on
     final Uni<Boolean> indexResult =
         execute
-            .onItem()
-            .delayIt()
-            .by(Duration.ofMillis(ddlDelayMillis > 0 ? ddlDelayMillis : 100))
             .onItem()
             .transformToUni(
                 res -> {
@@ -190,7 +193,7 @@ public record CreateCollectionOperation(
                           createIndexParallel(queryExecutor, dataApiRequestInfo, indexStatements);
                     } else {
                       indexResultMulti =
-                          createIndexOrdered(queryExecutor, dataApiRequestInfo, indexStatements);
+                          createIndexBounded(queryExecutor, dataApiRequestInfo, indexStatements);
                     }
 
                     return indexResultMulti
@@ -262,14 +265,16 @@ public record CreateCollectionOperation(
   }
 
   /**
-   * Create indexes for collections in ordered. This is to avoid schema change conflicts.
+   * Create indexes for collections, at most {@link QueryExecutor#getDdlIndexConcurrency()} at a
+   * time. Each index creation completes only once the schema is agreed on, so this keeps the
+   * number of concurrent schema changes low enough to avoid schema change conflicts.
    *
    * @param queryExecutor
    * @param dataApiRequestInfo
    * @param indexStatements
    * @return
    */
-  private Multi<AsyncResultSet> createIndexOrdered(
+  private Multi<AsyncResultSet> createIndexBounded(
       QueryExecutor queryExecutor,
       DataApiRequestInfo dataApiRequestInfo,
       List<SimpleStatement> indexStatements) {
@@ -279,7 +284,7 @@ public record CreateCollectionOperation(
         .transformToUni(
             indexStatement ->
                 queryExecutor.executeCreateSchemaChange(dataApiRequestInfo, indexStatement))
-        .concatenate();
+        .merge(Math.max(1, queryExecutor.getDdlIndexConcurrency()));
   }
 
   /**
@@ -474,11 +479,20 @@ public record CreateCollectionOperation(
     }
 
     if (vectorSearch) {
+      // with the source model, the index searches quantized vectors and re-ranks with full ones
+      String sourceModelOption =
+          vectorSourceModel() == null
+              ? ""
+              : ", '%s': '%s'"
+                  .formatted(
+                      DocumentConstants.Fields.VECTOR_INDEX_SOURCE_MODEL_NAME, vectorSourceModel());
       String vectorSearch =
           appender
               + " \"%s_query_vector_value\" ON \"%s\".\"%s\" (query_vector_value) USING 'StorageAttachedIndex' WITH OPTIONS = { 'similarity_function': '"
               + vectorFunction()
-              + "'}";
+              + "'"
+              + sourceModelOption
+              + "}";
       statements.add(
           SimpleStatement.newInstance(String.format(vectorSearch, table, keyspace, table)));
     }
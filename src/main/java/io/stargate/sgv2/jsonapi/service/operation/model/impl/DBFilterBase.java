@@ -334,6 +334,13 @@ public abstract class DBFilterBase implements Supplier<BuiltCondition> {
       return null;
     }
 
+    /**
+     * @return Id of the single document matched by an {@code $eq} filter, otherwise {@code null}.
+     */
+    public DocumentId getSingleDocumentId() {
+      return operator == Operator.EQ ? values.get(0) : null;
+    }
+
     public List<BuiltCondition> getAll() {
       switch (operator) {
         case EQ:
@@ -5,6 +5,7 @@ import io.smallrye.mutiny.Uni;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandResult;
 import io.stargate.sgv2.jsonapi.api.request.DataApiRequestInfo;
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.EstimatedCountCache;
 import io.stargate.sgv2.jsonapi.service.cqldriver.executor.QueryExecutor;
 import io.stargate.sgv2.jsonapi.service.operation.model.Operation;
 import java.util.function.Supplier;
@@ -16,10 +17,18 @@ import org.slf4j.LoggerFactory;
  *
  * @param context Command context, carries namespace of the collection.
  * @param name Collection name.
+ * @param estimatedCountCache Cache of the estimated document count, dropped for the collection;
+ *     <code>null</code> when no estimate can be cached, as for a collection failing creation.
  */
-public record DeleteCollectionOperation(CommandContext context, String name) implements Operation {
+public record DeleteCollectionOperation(
+    CommandContext context, String name, EstimatedCountCache estimatedCountCache)
+    implements Operation {
   private static final Logger logger = LoggerFactory.getLogger(DeleteCollectionOperation.class);
 
+  public DeleteCollectionOperation(CommandContext context, String name) {
+    this(context, name, null);
+  }
+
   private static final String DROP_TABLE_CQL = "DROP TABLE IF EXISTS \"%s\".\"%s\";";
 
   @Override
@@ -31,6 +40,13 @@ public record DeleteCollectionOperation(CommandContext context, String name) imp
     // execute
     return queryExecutor
         .executeDropSchemaChange(dataApiRequestInfo, query)
+        .invoke(
+            any -> {
+              if (estimatedCountCache != null) {
+                estimatedCountCache.invalidate(
+                    dataApiRequestInfo.getTenantId(), context.namespace(), name);
+              }
+            })
 
         // if we have a result always respond positively
         .map(any -> new SchemaChangeResult(any.wasApplied()));
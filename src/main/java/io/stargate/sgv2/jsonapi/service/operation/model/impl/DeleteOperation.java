@@ -8,7 +8,6 @@ import io.smallrye.mutiny.tuples.Tuple3;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandResult;
 import io.stargate.sgv2.jsonapi.api.request.DataApiRequestInfo;
-import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.exception.JsonApiException;
 import io.stargate.sgv2.jsonapi.service.cqldriver.executor.QueryExecutor;
 import io.stargate.sgv2.jsonapi.service.cqldriver.serializer.CQLBindValues;
@@ -23,7 +22,7 @@ import java.util.function.Supplier;
 
 /**
  * Executes readOperation to get the documents ids based on filter condition. All the ids are
- * deleted as LWT based on the id and tx_id.
+ * deleted as LWT based on the id and tx_id, or only by id for a bulk delete.
  */
 public record DeleteOperation(
     CommandContext commandContext,
@@ -36,7 +35,12 @@ public record DeleteOperation(
     int retryLimit,
     /** return deleted document in response if `true`. */
     boolean returnDocumentInResponse,
-    DocumentProjector resultProjection)
+    DocumentProjector resultProjection,
+    /**
+     * delete documents as LWT on their tx_id if `true`, only by id otherwise: only valid if the
+     * documents match the filter as long as they exist.
+     */
+    boolean conditional)
     implements ModifyOperation {
 
   public static DeleteOperation deleteOneAndReturn(
@@ -45,12 +49,24 @@ public record DeleteOperation(
       int retryLimit,
       DocumentProjector resultProjection) {
     return new DeleteOperation(
-        commandContext, findOperation, 1, retryLimit, true, resultProjection);
+        commandContext, findOperation, 1, retryLimit, true, resultProjection, true);
   }
 
   public static DeleteOperation delete(
       CommandContext commandContext, FindOperation findOperation, int deleteLimit, int retryLimit) {
-    return new DeleteOperation(commandContext, findOperation, deleteLimit, retryLimit, false, null);
+    return new DeleteOperation(
+        commandContext, findOperation, deleteLimit, retryLimit, false, null, true);
+  }
+
+  /**
+   * Deletes the documents without LWT, so without retries.
+   *
+   * @param findOperation Operation reading the documents to delete, with a filter only on their
+   *     <code>_id</code>, see {@link FindOperation#filtersOnlyById()}.
+   */
+  public static DeleteOperation bulkDelete(
+      CommandContext commandContext, FindOperation findOperation, int deleteLimit) {
+    return new DeleteOperation(commandContext, findOperation, deleteLimit, 0, false, null, false);
   }
 
   @Override
@@ -59,7 +75,6 @@ public record DeleteOperation(
     final AtomicBoolean moreData = new AtomicBoolean(false);
     final String delete = buildDeleteQuery();
     AtomicInteger totalCount = new AtomicInteger(0);
-    final int retryAttempt = retryLimit - 2;
     // Read the required records to be deleted
     return Multi.createBy()
         .repeating()
@@ -98,35 +113,20 @@ public record DeleteOperation(
 
         // Run delete for selected documents and retry in case of
         .onItem()
-        .transformToUniAndMerge(
+        .transformToUni(
             document -> {
-              return deleteDocument(dataApiRequestInfo, queryExecutor, delete, document)
-                  // Retry `retryLimit` times in case of LWT failure
-                  .onFailure(LWTException.class)
-                  .recoverWithUni(
-                      () -> {
-                        return Uni.createFrom()
-                            .item(document)
-                            .flatMap(
-                                prevDoc -> {
-                                  return readDocumentAgain(
-                                          dataApiRequestInfo, queryExecutor, prevDoc)
-                                      .onItem()
-                                      // Try deleting the document
-                                      .transformToUni(
-                                          reReadDocument ->
-                                              deleteDocument(
-                                                  dataApiRequestInfo,
-                                                  queryExecutor,
-                                                  delete,
-                                                  reReadDocument));
-                                })
-                            .onFailure(LWTException.class)
-                            .retry()
-                            // because it's already run twice before this
-                            // check.
-                            .atMost(retryLimit - 1);
-                      })
+              // Retry `retryLimit` times in case of LWT failure, bulk deletes have no LWT
+              Uni<Tuple2<Boolean, ReadDocument>> deleted =
+                  conditional
+                      ? LWTRetries.withRetries(
+                          commandContext(),
+                          queryExecutor,
+                          retryLimit,
+                          conflict ->
+                              deleteAttempt(
+                                  dataApiRequestInfo, queryExecutor, delete, document, conflict))
+                      : deleteDocument(dataApiRequestInfo, queryExecutor, delete, document);
+              return deleted
                   .onItemOrFailure()
                   .transform(
                       (deleted, error) ->
@@ -140,6 +140,8 @@ public record DeleteOperation(
                                   ? applyProjection(deleted.getItem2())
                                   : document));
             })
+        // documents are deleted independently, bound how many at a time
+        .merge(Math.max(1, queryExecutor.getMaxDocumentModifyConcurrency()))
         .collect()
         .asList()
         .onItem()
@@ -160,10 +162,52 @@ public record DeleteOperation(
   }
 
   private String buildDeleteQuery() {
-    String delete = "DELETE FROM \"%s\".\"%s\" WHERE key = ? IF tx_id = ?";
+    String delete =
+        conditional
+            ? "DELETE FROM \"%s\".\"%s\" WHERE key = ? IF tx_id = ?"
+            : "DELETE FROM \"%s\".\"%s\" WHERE key = ?";
     return String.format(delete, commandContext.namespace(), commandContext.collection());
   }
 
+  /**
+   * Attempts deleting the document after the conflict that failed the previous attempt, if any. A
+   * failed delete returns the current <code>tx_id</code> of the document, so it does not need to be
+   * read again if it was deleted in the meantime, or if the filter is only its <code>_id</code>,
+   * that it still matches, and it is not returned in the response.
+   *
+   * @param conflict Failure of the previous attempt, {@code null} for the first attempt.
+   */
+  private Uni<Tuple2<Boolean, ReadDocument>> deleteAttempt(
+      DataApiRequestInfo dataApiRequestInfo,
+      QueryExecutor queryExecutor,
+      String query,
+      ReadDocument document,
+      LWTException conflict) {
+    if (conflict == null) {
+      return deleteDocument(dataApiRequestInfo, queryExecutor, query, document);
+    }
+    if (conflict.documentMissing()) {
+      return Uni.createFrom().item(Tuple2.of(false, null));
+    }
+    if (conflict.currentTxId() != null
+        && !returnDocumentInResponse
+        && findOperation().singleDocumentId() != null) {
+      ReadDocument current =
+          new ReadDocument(
+              document.id(),
+              conflict.currentTxId(),
+              document.document(),
+              document.sortColumns(),
+              document.docJsonValue());
+      return deleteDocument(dataApiRequestInfo, queryExecutor, query, current);
+    }
+    return readDocumentAgain(dataApiRequestInfo, queryExecutor, document)
+        .onItem()
+        .transformToUni(
+            reReadDocument ->
+                deleteDocument(dataApiRequestInfo, queryExecutor, query, reReadDocument));
+  }
+
   /**
    * When delete is run with LWT, applied field is always the first field and in case the
    * transaction id mismatch the latest transaction id is returned as second field Eg:
@@ -207,13 +251,12 @@ public record DeleteOperation(
                     .transform(
                         result -> {
                           // LWT returns `true` for successful transaction, false on failure.
-                          if (result.wasApplied()) {
+                          if (!conditional || result.wasApplied()) {
                             // In case of successful document delete
                             return Tuple2.of(true, document);
                           } else {
-                            // In case of successful document delete
-
-                            throw new LWTException(ErrorCode.CONCURRENCY_FAILURE);
+                            // In case of concurrent modification of the document
+                            throw LWTException.concurrencyFailure(result);
                           }
                         });
               }
@@ -243,7 +286,10 @@ public record DeleteOperation(
             });
   }
 
-  private static SimpleStatement bindDeleteQuery(String query, ReadDocument doc) {
+  private SimpleStatement bindDeleteQuery(String query, ReadDocument doc) {
+    if (!conditional) {
+      return SimpleStatement.newInstance(query, CQLBindValues.getDocumentIdValue(doc.id()));
+    }
     SimpleStatement deleteStatement =
         SimpleStatement.newInstance(query, CQLBindValues.getDocumentIdValue(doc.id()), doc.txnId());
     return deleteStatement;
@@ -1,11 +1,19 @@
 package io.stargate.sgv2.jsonapi.service.operation.model.impl;
 
+import com.bpodgursky.jbool_expressions.And;
 import com.bpodgursky.jbool_expressions.Expression;
+import com.bpodgursky.jbool_expressions.Variable;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.data.TupleValue;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.Lists;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandResult;
@@ -17,14 +25,19 @@ import io.stargate.sgv2.jsonapi.config.constants.DocumentConstants;
 import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.exception.JsonApiException;
 import io.stargate.sgv2.jsonapi.service.cql.builder.BuiltCondition;
+import io.stargate.sgv2.jsonapi.service.cql.builder.Predicate;
 import io.stargate.sgv2.jsonapi.service.cql.builder.Query;
 import io.stargate.sgv2.jsonapi.service.cql.builder.QueryBuilder;
 import io.stargate.sgv2.jsonapi.service.cqldriver.executor.QueryExecutor;
+import io.stargate.sgv2.jsonapi.service.cqldriver.serializer.FloatVector;
+import io.stargate.sgv2.jsonapi.service.cqldriver.serializer.FloatVectorCodec;
 import io.stargate.sgv2.jsonapi.service.operation.model.ChainedComparator;
 import io.stargate.sgv2.jsonapi.service.operation.model.ReadOperation;
 import io.stargate.sgv2.jsonapi.service.operation.model.ReadType;
 import io.stargate.sgv2.jsonapi.service.projection.DocumentProjector;
 import io.stargate.sgv2.jsonapi.service.shredding.model.DocumentId;
+import io.stargate.sgv2.jsonapi.util.VectorSimilarity;
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -51,9 +64,23 @@ public record FindOperation(
     float[] vector,
 
     /** Whether to include the sort vector in the response. This is used for vector search. */
-    boolean includeSortVector)
+    boolean includeSortVector,
+
+    /**
+     * Minimum similarity of the documents returned by a vector search, null for no minimum. Rows
+     * come in similarity order, so reading stops at the first one below it.
+     */
+    Float minSimilarity)
     implements ReadOperation {
 
+  /** Partition key column, restricted by <code>_id</code> equality and <code>$in</code>. */
+  private static final BuiltCondition.LHS KEY_COLUMN = BuiltCondition.LHS.column("key");
+
+  /** Columns read for the candidates of an oversampled vector search. */
+  private static final String[] VECTOR_CANDIDATE_COLUMNS = {
+    "key", DocumentConstants.Fields.VECTOR_SEARCH_INDEX_COLUMN_NAME
+  };
+
   /**
    * Constructs find operation for unsorted single document find.
    *
@@ -87,7 +114,8 @@ public record FindOperation(
         0,
         true,
         null,
-        includeSortVector);
+        includeSortVector,
+        null);
   }
 
   /**
@@ -128,7 +156,8 @@ public record FindOperation(
         0,
         false,
         null,
-        includeSortVector);
+        includeSortVector,
+        null);
   }
 
   /**
@@ -151,6 +180,33 @@ public record FindOperation(
       ObjectMapper objectMapper,
       float[] vector,
       boolean includeSortVector) {
+    return vsearchSingle(
+        commandContext,
+        logicalExpression,
+        projection,
+        readType,
+        objectMapper,
+        vector,
+        includeSortVector,
+        null);
+  }
+
+  /**
+   * Constructs find operation for single document vector search, returning only a document at
+   * least as similar as <code>minSimilarity</code>.
+   *
+   * @param minSimilarity minimum similarity of the document, null for no minimum
+   * @return FindOperation for a single document vector search
+   */
+  public static FindOperation vsearchSingle(
+      CommandContext commandContext,
+      LogicalExpression logicalExpression,
+      DocumentProjector projection,
+      ReadType readType,
+      ObjectMapper objectMapper,
+      float[] vector,
+      boolean includeSortVector,
+      Float minSimilarity) {
     return new FindOperation(
         commandContext,
         logicalExpression,
@@ -165,7 +221,8 @@ public record FindOperation(
         0,
         true,
         vector,
-        includeSortVector);
+        includeSortVector,
+        minSimilarity);
   }
 
   /**
@@ -193,6 +250,39 @@ public record FindOperation(
       ObjectMapper objectMapper,
       float[] vector,
       boolean includeSortVector) {
+    return vsearch(
+        commandContext,
+        logicalExpression,
+        projection,
+        pageState,
+        limit,
+        pageSize,
+        readType,
+        objectMapper,
+        vector,
+        includeSortVector,
+        null);
+  }
+
+  /**
+   * Constructs find operation for multi document vector search, returning only documents at least
+   * as similar as <code>minSimilarity</code>.
+   *
+   * @param minSimilarity minimum similarity of the documents, null for no minimum
+   * @return FindOperation for a multi document vector search
+   */
+  public static FindOperation vsearch(
+      CommandContext commandContext,
+      LogicalExpression logicalExpression,
+      DocumentProjector projection,
+      String pageState,
+      int limit,
+      int pageSize,
+      ReadType readType,
+      ObjectMapper objectMapper,
+      float[] vector,
+      boolean includeSortVector,
+      Float minSimilarity) {
     return new FindOperation(
         commandContext,
         logicalExpression,
@@ -207,7 +297,8 @@ public record FindOperation(
         0,
         false,
         vector,
-        includeSortVector);
+        includeSortVector,
+        minSimilarity);
   }
 
   /**
@@ -250,7 +341,8 @@ public record FindOperation(
         maxSortReadLimit,
         true,
         null,
-        includeSortVector);
+        includeSortVector,
+        null);
   }
 
   /**
@@ -297,7 +389,8 @@ public record FindOperation(
         maxSortReadLimit,
         false,
         null,
-        includeSortVector);
+        includeSortVector,
+        null);
   }
 
   @Override
@@ -364,7 +457,20 @@ public record FindOperation(
             commandContext.jsonProcessingMetricsReporter());
       }
       case DOCUMENT, KEY -> {
-        List<SimpleStatement> queries = buildSelectQueries(additionalIdFilter);
+        int candidateLimit = vectorCandidateLimit(queryExecutor);
+        if (vector() != null
+            && pageState == null
+            && ReadType.DOCUMENT == readType
+            && candidateLimit > limit()) {
+          List<SimpleStatement> candidateQueries =
+              buildVectorCandidateQueries(additionalIdFilter, candidateLimit);
+          if (candidateQueries.size() == 1) {
+            return findVectorReranked(
+                dataApiRequestInfo, queryExecutor, candidateQueries.get(0), candidateLimit);
+          }
+        }
+        List<SimpleStatement> queries =
+            buildSelectQueries(additionalIdFilter, queryExecutor.isTokenAwareKeyLookups());
         return findDocument(
             dataApiRequestInfo,
             queryExecutor,
@@ -426,6 +532,38 @@ public record FindOperation(
     return ReadDocument.from(documentId, null, rootNode);
   }
 
+  /**
+   * @return Id of the document matched by the filter if it is only an <code>_id</code> equality,
+   *     otherwise {@code null}.
+   */
+  public DocumentId singleDocumentId() {
+    DBFilterBase.IDFilter idFilter = onlyIdFilter();
+    return idFilter == null ? null : idFilter.getSingleDocumentId();
+  }
+
+  /**
+   * @return If the filter is only on <code>_id</code>, so that a document keeps matching it
+   *     whatever its content.
+   */
+  public boolean filtersOnlyById() {
+    return onlyIdFilter() != null;
+  }
+
+  private DBFilterBase.IDFilter onlyIdFilter() {
+    if (logicalExpression.getLogicalRelation() != LogicalExpression.LogicalOperator.AND
+        || !logicalExpression.logicalExpressions.isEmpty()
+        || logicalExpression.comparisonExpressions.size() != 1) {
+      return null;
+    }
+    List<DBFilterBase> dbFilters = logicalExpression.comparisonExpressions.get(0).getDbFilters();
+    if (dbFilters != null
+        && dbFilters.size() == 1
+        && dbFilters.get(0) instanceof DBFilterBase.IDFilter idFilter) {
+      return idFilter;
+    }
+    return null;
+  }
+
   /**
    * Builds select query based on filters and additionalIdFilter overrides.
    *
@@ -433,7 +571,8 @@ public record FindOperation(
    * @return Returns a list of queries, where a query is built using element returned by the
    *     buildConditions method.
    */
-  private List<SimpleStatement> buildSelectQueries(DBFilterBase.IDFilter additionalIdFilter) {
+  private List<SimpleStatement> buildSelectQueries(
+      DBFilterBase.IDFilter additionalIdFilter, boolean routeByKey) {
     final List<Expression<BuiltCondition>> expressions =
         ExpressionBuilder.buildExpressions(logicalExpression, additionalIdFilter);
     if (expressions == null) { // find nothing
@@ -455,18 +594,189 @@ public record FindOperation(
           } else {
             query = getVectorSearchQueryByExpression(expression);
           }
-          queries.add(query.queryToStatement());
+          SimpleStatement statement = query.queryToStatement();
+          ByteBuffer routingKey = routeByKey ? documentRoutingKey(expression) : null;
+          if (routingKey != null) {
+            statement =
+                statement.setRoutingKeyspace(commandContext.namespace()).setRoutingKey(routingKey);
+          }
+          queries.add(statement);
         });
 
     return queries;
   }
 
+  /**
+   * Simple statements carry no routing information, so without it the driver sends every per-id
+   * query of an <code>_id</code> <code>$in</code> to a random coordinator, costing an extra hop.
+   *
+   * @param expression Where clause of a query, may be <code>null</code>.
+   * @return Serialized partition key if the expression restricts the query to a single document,
+   *     otherwise <code>null</code>.
+   */
+  private static ByteBuffer documentRoutingKey(Expression<BuiltCondition> expression) {
+    if (expression == null) {
+      return null;
+    }
+    List<Expression<BuiltCondition>> conditions =
+        expression instanceof And<BuiltCondition> and ? and.getChildren() : List.of(expression);
+    for (Expression<BuiltCondition> condition : conditions) {
+      if (condition instanceof Variable<BuiltCondition> variable
+          && variable.getValue().predicate == Predicate.EQ
+          && KEY_COLUMN.equals(variable.getValue().lhs)
+          && variable.getValue().jsonTerm.getValue() instanceof TupleValue key) {
+        return CodecRegistry.DEFAULT
+            .<TupleValue>codecFor(key.getType())
+            .encode(key, ProtocolVersion.DEFAULT);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return Number of candidates to read for an oversampled vector search, not more than {@link
+   *     #limit()} if the search is not oversampled.
+   */
+  private int vectorCandidateLimit(QueryExecutor queryExecutor) {
+    int factor = queryExecutor.getVectorOversamplingFactor();
+    if (factor <= 1) {
+      return limit();
+    }
+    return (int) Math.min((long) limit() * factor, queryExecutor.getMaxVectorSearchLimit());
+  }
+
+  /**
+   * Builds the vector search queries reading the candidates of an oversampled search: only the key
+   * and vector of the <code>candidateLimit</code> nearest documents.
+   */
+  private List<SimpleStatement> buildVectorCandidateQueries(
+      DBFilterBase.IDFilter additionalIdFilter, int candidateLimit) {
+    final List<Expression<BuiltCondition>> expressions =
+        ExpressionBuilder.buildExpressions(logicalExpression, additionalIdFilter);
+    if (expressions == null) { // find nothing
+      return List.of();
+    }
+    return expressions.stream()
+        .map(
+            expression ->
+                new QueryBuilder()
+                    .select()
+                    .column(VECTOR_CANDIDATE_COLUMNS)
+                    .from(commandContext.namespace(), commandContext.collection())
+                    .where(expression)
+                    .limit(candidateLimit)
+                    .vsearch(DocumentConstants.Fields.VECTOR_SEARCH_INDEX_COLUMN_NAME, vector())
+                    .build()
+                    .queryToStatement())
+        .toList();
+  }
+
+  /**
+   * Oversampled vector search: the ANN index returns <code>candidateLimit</code> candidates with
+   * their vector only, they are re-ranked by their exact similarity to the search vector, and the
+   * documents are read for the best {@link #limit()} candidates only.
+   */
+  private Uni<FindResponse> findVectorReranked(
+      DataApiRequestInfo dataApiRequestInfo,
+      QueryExecutor queryExecutor,
+      SimpleStatement candidateQuery,
+      int candidateLimit) {
+    return queryExecutor
+        .executeVectorSearch(dataApiRequestInfo, candidateQuery, Optional.empty(), candidateLimit)
+        .onItem()
+        .transformToUni(
+            rSet -> {
+              List<ScoredKey> candidates = new ArrayList<>(rSet.remaining());
+              for (Row row : rSet.currentPage()) {
+                FloatVector candidateVector = row.get(1, FloatVectorCodec.INSTANCE);
+                candidates.add(
+                    new ScoredKey(
+                        row.getTupleValue(0),
+                        VectorSimilarity.score(
+                            commandContext().similarityFunction(),
+                            vector(),
+                            candidateVector.values())));
+              }
+              if (minSimilarity() != null) {
+                candidates.removeIf(candidate -> candidate.score() < minSimilarity());
+              }
+              candidates.sort(Comparator.comparingDouble(ScoredKey::score).reversed());
+              List<ScoredKey> best = candidates.subList(0, Math.min(limit(), candidates.size()));
+              return Multi.createFrom()
+                  .range(0, best.size())
+                  .onItem()
+                  .transformToUni(
+                      index ->
+                          queryExecutor
+                              .executeRead(
+                                  dataApiRequestInfo,
+                                  buildDocumentByKeyQuery(best.get(index).key()),
+                                  Optional.empty(),
+                                  1)
+                              .onItem()
+                              .transform(
+                                  docSet -> {
+                                    Row row = docSet.one();
+                                    // deleted since the candidates were read
+                                    return row == null
+                                        ? new RankedDocument(index, null)
+                                        : new RankedDocument(
+                                            index, toDocument(row, best.get(index).score()));
+                                  }))
+                  .merge(Math.max(1, queryExecutor.getMaxMultiQueryConcurrency()))
+                  .collect()
+                  .asList()
+                  .onItem()
+                  .transform(
+                      ranked ->
+                          new FindResponse(
+                              ranked.stream()
+                                  .filter(document -> document.document() != null)
+                                  .sorted(Comparator.comparingInt(RankedDocument::rank))
+                                  .map(RankedDocument::document)
+                                  .toList(),
+                              null));
+            });
+  }
+
+  private SimpleStatement buildDocumentByKeyQuery(TupleValue key) {
+    return new QueryBuilder()
+        .select()
+        .column(documentColumns)
+        .from(commandContext.namespace(), commandContext.collection())
+        .where(Variable.of(BuiltCondition.of(KEY_COLUMN, Predicate.EQ, new JsonTerm(key))))
+        .build()
+        .queryToStatement();
+  }
+
+  private ReadDocument toDocument(Row row, float score) {
+    try {
+      JsonNode root = objectMapper().readTree(row.getString(2));
+      commandContext
+          .jsonProcessingMetricsReporter()
+          .reportJsonReadBytesMetrics(commandContext.commandName(), row.getString(2).length());
+      if (projection().doIncludeSimilarityScore()) {
+        projection().applyProjection(root, score);
+      } else {
+        projection().applyProjection(root);
+      }
+      return ReadDocument.from(getDocumentId(row.getTupleValue(0)), row.getUuid(1), root);
+    } catch (JsonProcessingException e) {
+      throw ReadOperation.parsingExceptionToApiException(e);
+    }
+  }
+
+  /** Key of a vector search candidate, with its exact similarity to the search vector. */
+  private record ScoredKey(TupleValue key, float score) {}
+
+  private record RankedDocument(int rank, ReadDocument document) {}
+
   /**
    * A separate method to build vector search query by using expression, expression can contain
    * logic operations like 'or','and'..
    */
   private Query getVectorSearchQueryByExpression(Expression<BuiltCondition> expression) {
-    if (projection().doIncludeSimilarityScore()) {
+    if (projection().doIncludeSimilarityScore() || minSimilarity() != null) {
       return new QueryBuilder()
           .select()
           .column(ReadType.DOCUMENT == readType ? documentColumns : documentKeyColumns)
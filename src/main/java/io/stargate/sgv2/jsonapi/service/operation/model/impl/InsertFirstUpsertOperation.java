@@ -0,0 +1,81 @@
+package io.stargate.sgv2.jsonapi.service.operation.model.impl;
+
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.smallrye.mutiny.Uni;
+import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
+import io.stargate.sgv2.jsonapi.api.model.command.CommandResult;
+import io.stargate.sgv2.jsonapi.api.request.DataApiRequestInfo;
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.QueryExecutor;
+import io.stargate.sgv2.jsonapi.service.operation.model.ModifyOperation;
+import io.stargate.sgv2.jsonapi.service.shredding.model.WritableShreddedDocument;
+import io.stargate.sgv2.jsonapi.service.updater.DocumentUpdater;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * "Insert-first" strategy of updateOne and findOneAndUpdate with <code>upsert</code> for a filter
+ * on a single <code>_id</code>, for upserts of documents that usually do not exist yet: instead of
+ * reading the document and inserting it if not found, the upserted document is inserted right away
+ * with <code>IF NOT EXISTS</code>. Only if the document already exists is it read and updated as
+ * usual, by the fallback operation: a successful upsert takes one round trip instead of two.
+ *
+ * <p>Inserting first costs an extra round trip when the document does exist, so it is only used
+ * if enabled with <code>upsert-insert-first-enabled</code>.
+ *
+ * @param fallback Operation making the same upsert by reading the document first.
+ */
+public record InsertFirstUpsertOperation(
+    CommandContext commandContext, ReadAndUpdateOperation fallback) implements ModifyOperation {
+
+  @Override
+  public Uni<Supplier<CommandResult>> execute(
+      DataApiRequestInfo dataApiRequestInfo, QueryExecutor queryExecutor) {
+    // same document as upserted by the fallback operation if it finds none
+    ReadDocument newDocument = fallback().findOperation().getNewDocument();
+    DocumentUpdater.DocumentUpdaterResponse documentUpdaterResponse =
+        fallback().documentUpdater().applyToCopy(newDocument.document(), true);
+    final WritableShreddedDocument document =
+        fallback().shredder().shred(commandContext(), documentUpdaterResponse.document(), null);
+
+    final boolean vectorEnabled = commandContext().isVectorEnabled();
+    final SimpleStatement insertQuery =
+        InsertOperation.bindInsertValues(
+            InsertOperation.buildInsertQuery(commandContext(), vectorEnabled, false),
+            document,
+            vectorEnabled,
+            false);
+    return queryExecutor
+        .executeWrite(dataApiRequestInfo, insertQuery)
+        .onItem()
+        .transformToUni(
+            result -> {
+              if (!result.wasApplied()) {
+                // the document exists: update it instead
+                return fallback().execute(dataApiRequestInfo, queryExecutor);
+              }
+              commandContext()
+                  .jsonProcessingMetricsReporter()
+                  .reportJsonReadDocsMetrics(commandContext().commandName(), 0);
+              commandContext()
+                  .jsonProcessingMetricsReporter()
+                  .reportJsonWrittenDocsMetrics(commandContext().commandName(), 0);
+              // the document before the upsert being none
+              JsonNode documentToReturn = null;
+              if (fallback().returnDocumentInResponse() && fallback().returnUpdatedDocument()) {
+                documentToReturn = document.docJsonNode();
+                fallback().resultProjection().applyProjection(documentToReturn);
+              }
+              return Uni.createFrom()
+                  .item(
+                      new UpdateOperationPage(
+                          0,
+                          0,
+                          List.of(
+                              new ReadAndUpdateOperation.UpdatedDocument(
+                                  document.id(), true, documentToReturn, null)),
+                          fallback().returnDocumentInResponse(),
+                          null));
+            });
+  }
+}
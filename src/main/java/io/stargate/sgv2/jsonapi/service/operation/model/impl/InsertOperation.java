@@ -154,7 +154,7 @@ public record InsertOperation(
       List<InsertAttempt> insertions) {
 
     // build query once
-    final String query = buildInsertQuery(vectorEnabled);
+    final String query = buildInsertQuery(commandContext, vectorEnabled, offlineMode);
 
     return Multi.createFrom()
         .iterable(insertions)
@@ -210,7 +210,7 @@ public record InsertOperation(
       boolean vectorEnabled,
       List<InsertAttempt> insertions) {
     // build query once
-    String query = buildInsertQuery(vectorEnabled);
+    String query = buildInsertQuery(commandContext, vectorEnabled, offlineMode);
     return Multi.createFrom()
         .iterable(insertions)
 
@@ -276,7 +276,8 @@ public record InsertOperation(
   }
 
   // utility for building the insert query
-  public String buildInsertQuery(boolean vectorEnabled) {
+  public static String buildInsertQuery(
+      CommandContext commandContext, boolean vectorEnabled, boolean offlineMode) {
     if (vectorEnabled) {
       String insertWithVector =
           "INSERT INTO \"%s\".\"%s\""
@@ -302,7 +303,7 @@ public record InsertOperation(
   }
 
   // utility for query binding
-  private static SimpleStatement bindInsertValues(
+  static SimpleStatement bindInsertValues(
       String query, WritableShreddedDocument doc, boolean vectorEnabled, boolean offlineMode) {
     // respect the order in the DocsApiConstants.ALL_COLUMNS_NAMES
     if (vectorEnabled) {
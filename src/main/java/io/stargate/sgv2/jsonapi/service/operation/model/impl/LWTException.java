@@ -1,11 +1,67 @@
 package io.stargate.sgv2.jsonapi.service.operation.model.impl;
 
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
 import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.exception.JsonApiException;
+import java.util.Iterator;
+import java.util.UUID;
 
 /** Inherited Exception class to handle retry */
 public class LWTException extends JsonApiException {
+
+  /** Current <code>tx_id</code> of the document, {@code null} if unknown. */
+  private final UUID currentTxId;
+
+  /** If the document no longer exists. */
+  private final boolean documentMissing;
+
   public LWTException(ErrorCode errorCode) {
+    this(errorCode, null, false);
+  }
+
+  private LWTException(ErrorCode errorCode, UUID currentTxId, boolean documentMissing) {
     super(errorCode);
+    this.currentTxId = currentTxId;
+    this.documentMissing = documentMissing;
+  }
+
+  /**
+   * A conditional write that was not applied returns the current values of the columns of its
+   * condition if the document still exists, so its current <code>tx_id</code>:
+   *
+   * <pre>
+   *  [applied] | tx_id
+   * -----------+--------------------------------------
+   *      False | 13659a90-9361-11ed-92df-515ba7f99654
+   * </pre>
+   *
+   * or only the <code>[applied]</code> column if it was deleted.
+   *
+   * @param result Result of the conditional write that was not applied.
+   * @return Exception with the state of the document the result has.
+   */
+  public static LWTException concurrencyFailure(AsyncResultSet result) {
+    Iterator<Row> rows = result.currentPage().iterator();
+    if (result.getColumnDefinitions().contains("tx_id") && rows.hasNext()) {
+      UUID currentTxId = rows.next().getUuid("tx_id");
+      return new LWTException(ErrorCode.CONCURRENCY_FAILURE, currentTxId, currentTxId == null);
+    }
+    return new LWTException(ErrorCode.CONCURRENCY_FAILURE, null, true);
+  }
+
+  /**
+   * @return Current <code>tx_id</code> of the document, {@code null} if unknown or the document no
+   *     longer exists.
+   */
+  public UUID currentTxId() {
+    return currentTxId;
+  }
+
+  /**
+   * @return If the document was deleted concurrently.
+   */
+  public boolean documentMissing() {
+    return documentMissing;
   }
 }
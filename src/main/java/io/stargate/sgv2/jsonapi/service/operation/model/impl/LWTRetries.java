@@ -0,0 +1,70 @@
+package io.stargate.sgv2.jsonapi.service.operation.model.impl;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.groups.UniRetry;
+import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
+import io.stargate.sgv2.jsonapi.api.v1.metrics.JsonProcessingMetricsReporter;
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.QueryExecutor;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Retries of the conditional writes of a document that failed with a {@link LWTException} because
+ * the document was modified concurrently.
+ *
+ * <p>Retries are delayed by an exponential backoff with jitter, so that the requests that
+ * conflicted on the same document do not conflict again by retrying at the same time, and counted
+ * in the lwt conflicts and retries metrics of the command.
+ */
+final class LWTRetries {
+
+  private LWTRetries() {}
+
+  /**
+   * @param retryLimit Maximum number of retries after the first attempt.
+   * @param attempt Function making an attempt, given the conflict that failed the previous attempt,
+   *     {@code null} for the first attempt. Called again for each retry.
+   * @return Result of the first successful attempt, or the failure of the last one.
+   */
+  static <T> Uni<T> withRetries(
+      CommandContext commandContext,
+      QueryExecutor queryExecutor,
+      int retryLimit,
+      Function<LWTException, Uni<T>> attempt) {
+    final AtomicReference<LWTException> lastConflict = new AtomicReference<>();
+    final JsonProcessingMetricsReporter metricsReporter =
+        commandContext.jsonProcessingMetricsReporter();
+    UniRetry<T> retry =
+        Uni.createFrom()
+            .deferred(
+                () -> {
+                  LWTException conflict = lastConflict.get();
+                  if (conflict != null && metricsReporter != null) {
+                    metricsReporter.reportLwtRetryMetrics(commandContext.commandName());
+                  }
+                  return attempt.apply(conflict);
+                })
+            .onFailure(LWTException.class)
+            .invoke(
+                failure -> {
+                  lastConflict.set((LWTException) failure);
+                  if (metricsReporter != null) {
+                    metricsReporter.reportLwtConflictMetrics(commandContext.commandName());
+                  }
+                })
+            .onFailure(LWTException.class)
+            .retry();
+    int initialBackoffMillis = queryExecutor.getLwtBackoffInitialMillis();
+    if (initialBackoffMillis > 0) {
+      retry =
+          retry
+              .withBackOff(
+                  Duration.ofMillis(initialBackoffMillis),
+                  Duration.ofMillis(
+                      Math.max(initialBackoffMillis, queryExecutor.getLwtBackoffMaxMillis())))
+              .withJitter(queryExecutor.getLwtBackoffJitter());
+    }
+    return retry.atMost(retryLimit);
+  }
+}
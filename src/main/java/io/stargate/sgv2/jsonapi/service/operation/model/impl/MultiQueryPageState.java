@@ -0,0 +1,136 @@
+package io.stargate.sgv2.jsonapi.service.operation.model.impl;
+
+import io.stargate.sgv2.jsonapi.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Page state of a read that is split into multiple queries, like the one query per id of an {@code
+ * _id} {@code $in} filter. Records, for every sub-query, whether it has not been started yet, is
+ * part way through (with the driver paging state to continue from) or is exhausted, as well as how
+ * many documents the command limit still allows to be returned.
+ *
+ * <p>Sub-queries are always consumed in their order, so the state is opaque to the client but
+ * stable between requests as long as the filter (and so the list of queries) does not change.
+ */
+public final class MultiQueryPageState {
+
+  /** Prefix of the encoded state, used to reject page states of single query reads. */
+  private static final String VERSION_PREFIX = "mq1:";
+
+  private static final String NOT_STARTED = "";
+
+  private static final String EXHAUSTED = "-";
+
+  private final int remaining;
+
+  /** Per sub-query: {@link #NOT_STARTED}, {@link #EXHAUSTED} or the Base64 driver paging state. */
+  private final List<String> subQueryStates;
+
+  private MultiQueryPageState(int remaining, List<String> subQueryStates) {
+    this.remaining = remaining;
+    this.subQueryStates = Collections.unmodifiableList(subQueryStates);
+  }
+
+  /**
+   * @param pageState Page state sent by the client, <code>null</code> for the first page.
+   * @param queryCount Number of sub-queries of the read.
+   * @param limit Maximum number of documents the command can return.
+   * @return State to continue the read from.
+   */
+  public static MultiQueryPageState from(String pageState, int queryCount, int limit) {
+    if (pageState == null) {
+      List<String> states = new ArrayList<>(queryCount);
+      for (int i = 0; i < queryCount; i++) {
+        states.add(NOT_STARTED);
+      }
+      return new MultiQueryPageState(limit, states);
+    }
+    final String decoded;
+    try {
+      decoded = new String(Base64.getDecoder().decode(pageState), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw ErrorCode.INVALID_PAGE_STATE.toApiException("not a multi-query page state");
+    }
+    if (!decoded.startsWith(VERSION_PREFIX)) {
+      throw ErrorCode.INVALID_PAGE_STATE.toApiException("not a multi-query page state");
+    }
+    // -1 keeps trailing empty (not started) entries
+    String[] parts = decoded.substring(VERSION_PREFIX.length()).split(",", -1);
+    if (parts.length != queryCount + 1) {
+      throw ErrorCode.INVALID_PAGE_STATE.toApiException(
+          "page state is for %d queries, filter resolves to %d", parts.length - 1, queryCount);
+    }
+    final int remaining;
+    try {
+      remaining = Integer.parseInt(parts[0]);
+    } catch (NumberFormatException e) {
+      throw ErrorCode.INVALID_PAGE_STATE.toApiException("not a multi-query page state");
+    }
+    if (remaining < 0) {
+      throw ErrorCode.INVALID_PAGE_STATE.toApiException("negative remaining count %d", remaining);
+    }
+    // the state comes from the client: never read past the limit of the command
+    return new MultiQueryPageState(
+        Math.min(limit, remaining), new ArrayList<>(Arrays.asList(parts).subList(1, parts.length)));
+  }
+
+  /**
+   * @return Number of documents that can still be returned under the command limit.
+   */
+  public int remaining() {
+    return remaining;
+  }
+
+  /**
+   * @return Driver paging state to continue the sub-query from, <code>null</code> if not started.
+   */
+  public String pagingState(int queryIndex) {
+    String state = subQueryStates.get(queryIndex);
+    return NOT_STARTED.equals(state) || EXHAUSTED.equals(state) ? null : state;
+  }
+
+  /**
+   * @param max Maximum number of sub-queries to return.
+   * @return Indexes, in order, of the next sub-queries that still have documents to read.
+   */
+  public List<Integer> nextQueries(int max) {
+    List<Integer> next = new ArrayList<>(max);
+    for (int i = 0; i < subQueryStates.size() && next.size() < max; i++) {
+      if (!EXHAUSTED.equals(subQueryStates.get(i))) {
+        next.add(i);
+      }
+    }
+    return next;
+  }
+
+  /**
+   * Records that a page of the sub-query has been consumed.
+   *
+   * @param queryIndex Index of the sub-query.
+   * @param documentCount Number of documents the page returned.
+   * @param nextPagingState Driver paging state after the page, <code>null</code> if the sub-query
+   *     is exhausted.
+   * @return New state.
+   */
+  public MultiQueryPageState consumed(int queryIndex, int documentCount, String nextPagingState) {
+    List<String> states = new ArrayList<>(subQueryStates);
+    states.set(queryIndex, nextPagingState == null ? EXHAUSTED : nextPagingState);
+    return new MultiQueryPageState(Math.max(0, remaining - documentCount), states);
+  }
+
+  /**
+   * @return Encoded state to return to the client, <code>null</code> if the read is complete.
+   */
+  public String encode() {
+    if (remaining <= 0 || nextQueries(1).isEmpty()) {
+      return null;
+    }
+    String state = VERSION_PREFIX + remaining + "," + String.join(",", subQueryStates);
+    return Base64.getEncoder().encodeToString(state.getBytes(StandardCharsets.UTF_8));
+  }
+}
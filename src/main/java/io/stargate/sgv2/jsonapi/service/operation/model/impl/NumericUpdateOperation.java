@@ -0,0 +1,220 @@
+package io.stargate.sgv2.jsonapi.service.operation.model.impl;
+
+import com.bpodgursky.jbool_expressions.Variable;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.data.TupleValue;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.smallrye.mutiny.Uni;
+import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
+import io.stargate.sgv2.jsonapi.api.model.command.CommandResult;
+import io.stargate.sgv2.jsonapi.api.request.DataApiRequestInfo;
+import io.stargate.sgv2.jsonapi.config.constants.DocumentConstants;
+import io.stargate.sgv2.jsonapi.service.cql.builder.BuiltCondition;
+import io.stargate.sgv2.jsonapi.service.cql.builder.Predicate;
+import io.stargate.sgv2.jsonapi.service.cql.builder.QueryBuilder;
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.QueryExecutor;
+import io.stargate.sgv2.jsonapi.service.cqldriver.serializer.CQLBindValues;
+import io.stargate.sgv2.jsonapi.service.operation.model.ModifyOperation;
+import io.stargate.sgv2.jsonapi.service.operation.model.ReadOperation;
+import io.stargate.sgv2.jsonapi.service.shredding.Shredder;
+import io.stargate.sgv2.jsonapi.service.shredding.UpdatedPaths;
+import io.stargate.sgv2.jsonapi.service.shredding.model.DocumentId;
+import io.stargate.sgv2.jsonapi.service.shredding.model.ShreddedDocumentChanges;
+import io.stargate.sgv2.jsonapi.service.updater.DocumentJsonPatcher;
+import io.stargate.sgv2.jsonapi.service.updater.DocumentUpdater;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Fast path of updateOne for an update by <code>_id</code> that only has numeric operators ({@code
+ * $inc}, {@code $mul}, {@code $min} and {@code $max}) on top-level properties, like counters.
+ * Instead of reading, parsing, updating, shredding and serializing the whole document like {@link
+ * ReadAndUpdateOperation}, it:
+ *
+ * <ul>
+ *   <li>reads only the <code>tx_id</code> and <code>doc_json</code> of the document, by its key
+ *   <li>parses only the updated properties, and applies the update to a document with just those
+ *   <li>writes the changed index entries of those properties, with the stored document patched in
+ *       place
+ * </ul>
+ *
+ * <p>The document is still written conditionally on its <code>tx_id</code>, concurrent updates
+ * being retried up to <code>retryLimit</code> times as by {@link LWTRetries}: the cheaper read and
+ * patch shorten the window in which the document can be modified concurrently.
+ *
+ * <p>Adding a property could break the limits validated on the whole document, so if the document
+ * does not have all the updated properties it is updated by <code>fallback</code> instead, as are
+ * all updates if incremental updates are disabled.
+ *
+ * @param updatedProperties Names of the top-level properties the update modifies, see {@link
+ *     DocumentUpdater#numericTopLevelPaths()}.
+ * @param fallback Operation making the same update through the full document.
+ */
+public record NumericUpdateOperation(
+    CommandContext commandContext,
+    DocumentId documentId,
+    DocumentUpdater documentUpdater,
+    Set<String> updatedProperties,
+    Shredder shredder,
+    ObjectMapper objectMapper,
+    ReadAndUpdateOperation fallback,
+    int retryLimit)
+    implements ModifyOperation {
+
+  @Override
+  public Uni<Supplier<CommandResult>> execute(
+      DataApiRequestInfo dataApiRequestInfo, QueryExecutor queryExecutor) {
+    if (!queryExecutor.isIncrementalUpdatesEnabled()) {
+      return fallback().execute(dataApiRequestInfo, queryExecutor);
+    }
+    // each retry reads the document again
+    return LWTRetries.withRetries(
+            commandContext(),
+            queryExecutor,
+            retryLimit(),
+            conflict ->
+                conflict != null && conflict.documentMissing()
+                    ? Uni.createFrom().item(Outcome.NOT_FOUND)
+                    : updateDocument(dataApiRequestInfo, queryExecutor))
+        .onFailure(LWTException.class)
+        .recoverWithItem(
+            error ->
+                new Outcome(
+                    1,
+                    0,
+                    new ReadAndUpdateOperation.UpdatedDocument(documentId(), false, null, error)))
+        .onItem()
+        .transformToUni(
+            outcome -> {
+              if (outcome == null) {
+                return fallback().execute(dataApiRequestInfo, queryExecutor);
+              }
+              commandContext()
+                  .jsonProcessingMetricsReporter()
+                  .reportJsonReadDocsMetrics(commandContext().commandName(), outcome.matched());
+              commandContext()
+                  .jsonProcessingMetricsReporter()
+                  .reportJsonWrittenDocsMetrics(commandContext().commandName(), outcome.modified());
+              return Uni.createFrom()
+                  .item(
+                      new UpdateOperationPage(
+                          outcome.matched(),
+                          outcome.modified(),
+                          outcome.update() == null ? List.of() : List.of(outcome.update()),
+                          false,
+                          null));
+            });
+  }
+
+  private Uni<Outcome> updateDocument(
+      DataApiRequestInfo dataApiRequestInfo, QueryExecutor queryExecutor) {
+    return queryExecutor
+        .executeRead(dataApiRequestInfo, buildSelectQuery(), Optional.empty(), 1)
+        .onItem()
+        .transformToUni(
+            resultSet -> {
+              Iterator<Row> rows = resultSet.currentPage().iterator();
+              if (!rows.hasNext()) {
+                return Uni.createFrom().item(Outcome.NOT_FOUND);
+              }
+              return updateDocument(dataApiRequestInfo, queryExecutor, rows.next());
+            });
+  }
+
+  private Uni<Outcome> updateDocument(
+      DataApiRequestInfo dataApiRequestInfo, QueryExecutor queryExecutor, Row row) {
+    final UUID txId = row.getUuid(0);
+    final String docJson = row.getString(1);
+    commandContext()
+        .jsonProcessingMetricsReporter()
+        .reportJsonReadBytesMetrics(commandContext().commandName(), docJson.length());
+
+    final ShreddedDocumentChanges changes;
+    try {
+      ObjectNode before =
+          DocumentJsonPatcher.extractProperties(objectMapper(), docJson, updatedProperties());
+      for (String property : updatedProperties()) {
+        if (!before.has(property)) {
+          // no outcome: to be updated by the fallback operation
+          return Uni.createFrom().nullItem();
+        }
+      }
+      ObjectNode after = before.deepCopy();
+      if (!documentUpdater().apply(after, false).modified()) {
+        return Uni.createFrom().item(Outcome.NOT_MODIFIED);
+      }
+      ObjectNode updatedValues = after.deepCopy();
+      updatedValues.remove(DocumentConstants.Fields.DOC_ID);
+      String afterJson =
+          DocumentJsonPatcher.replaceProperties(objectMapper(), docJson, updatedValues);
+      changes =
+          shredder()
+              .shredChanges(
+                  commandContext(),
+                  before,
+                  after,
+                  afterJson,
+                  txId,
+                  UpdatedPaths.of(updatedProperties()));
+    } catch (JsonProcessingException e) {
+      throw ReadOperation.parsingExceptionToApiException(e);
+    }
+
+    // numeric updates of top-level properties other than $vector cannot change the vector
+    SimpleStatement updateQuery =
+        ReadAndUpdateOperation.bindIncrementalUpdateValues(
+            ReadAndUpdateOperation.buildIncrementalUpdateQuery(commandContext(), false),
+            changes,
+            false);
+    return queryExecutor
+        .executeWrite(dataApiRequestInfo, updateQuery)
+        .onItem()
+        .transform(
+            result -> {
+              if (!result.wasApplied()) {
+                throw LWTException.concurrencyFailure(result);
+              }
+              return new Outcome(
+                  1,
+                  1,
+                  new ReadAndUpdateOperation.UpdatedDocument(documentId(), false, null, null));
+            });
+  }
+
+  private SimpleStatement buildSelectQuery() {
+    TupleValue key = CQLBindValues.getDocumentIdValue(documentId());
+    return new QueryBuilder()
+        .select()
+        .column("tx_id", "doc_json")
+        .from(commandContext().namespace(), commandContext().collection())
+        .where(
+            Variable.of(
+                BuiltCondition.of(
+                    BuiltCondition.LHS.column("key"), Predicate.EQ, new JsonTerm(key))))
+        .build()
+        .queryToStatement()
+        .setRoutingKeyspace(commandContext().namespace())
+        .setRoutingKey(
+            CodecRegistry.DEFAULT
+                .<TupleValue>codecFor(key.getType())
+                .encode(key, ProtocolVersion.DEFAULT));
+  }
+
+  /**
+   * @param update Result of the update of the document, {@code null} if it was not modified.
+   */
+  private record Outcome(
+      int matched, int modified, ReadAndUpdateOperation.UpdatedDocument update) {
+    static final Outcome NOT_FOUND = new Outcome(0, 0, null);
+    static final Outcome NOT_MODIFIED = new Outcome(1, 0, null);
+  }
+}
@@ -7,16 +7,19 @@ import io.smallrye.mutiny.Uni;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandResult;
 import io.stargate.sgv2.jsonapi.api.request.DataApiRequestInfo;
-import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.service.cqldriver.executor.QueryExecutor;
 import io.stargate.sgv2.jsonapi.service.cqldriver.serializer.CQLBindValues;
 import io.stargate.sgv2.jsonapi.service.operation.model.ModifyOperation;
 import io.stargate.sgv2.jsonapi.service.operation.model.ReadOperation;
 import io.stargate.sgv2.jsonapi.service.projection.DocumentProjector;
 import io.stargate.sgv2.jsonapi.service.shredding.Shredder;
+import io.stargate.sgv2.jsonapi.service.shredding.UpdatedPaths;
 import io.stargate.sgv2.jsonapi.service.shredding.model.DocumentId;
+import io.stargate.sgv2.jsonapi.service.shredding.model.ShreddedDocumentChanges;
+import io.stargate.sgv2.jsonapi.service.shredding.model.ShreddedReplacement;
 import io.stargate.sgv2.jsonapi.service.shredding.model.WritableShreddedDocument;
 import io.stargate.sgv2.jsonapi.service.updater.DocumentUpdater;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -35,6 +38,8 @@ import java.util.function.Supplier;
  * @param shredder
  * @param updateLimit - Number of documents to be updated
  * @param retryLimit - Number of times retry to happen in case of lwt failure
+ * @param shreddedReplacement - Replacement document of findOneAndReplace, shredded once for all the
+ *     attempts to replace the document; {@code null} for updates
  */
 public record ReadAndUpdateOperation(
     CommandContext commandContext,
@@ -50,9 +55,35 @@ public record ReadAndUpdateOperation(
      */
     DocumentProjector resultProjection,
     int updateLimit,
-    int retryLimit)
+    int retryLimit,
+    ShreddedReplacement shreddedReplacement)
     implements ModifyOperation {
 
+  public ReadAndUpdateOperation(
+      CommandContext commandContext,
+      FindOperation findOperation,
+      DocumentUpdater documentUpdater,
+      boolean returnDocumentInResponse,
+      boolean returnUpdatedDocument,
+      boolean upsert,
+      Shredder shredder,
+      DocumentProjector resultProjection,
+      int updateLimit,
+      int retryLimit) {
+    this(
+        commandContext,
+        findOperation,
+        documentUpdater,
+        returnDocumentInResponse,
+        returnUpdatedDocument,
+        upsert,
+        shredder,
+        resultProjection,
+        updateLimit,
+        retryLimit,
+        null);
+  }
+
   @Override
   public Uni<Supplier<CommandResult>> execute(
       DataApiRequestInfo dataApiRequestInfo, QueryExecutor queryExecutor) {
@@ -76,42 +107,14 @@ public record ReadAndUpdateOperation(
               }
             })
         .onItem()
-        .transformToUniAndConcatenate(
+        .transformToUni(
             readDocument ->
-                processUpdate(dataApiRequestInfo, readDocument, queryExecutor, modifiedCount)
-                    .onFailure(LWTException.class)
-                    .recoverWithUni(
-                        () -> {
-                          // Retry `retryLimit` times in case of LWT failure
-                          return Uni.createFrom()
-                              .item(readDocument)
-                              .flatMap(
-                                  prevDoc -> {
-                                    // read the document again
-                                    return readDocumentAgain(
-                                            dataApiRequestInfo, queryExecutor, prevDoc)
-                                        .onItem()
-                                        // Try updating the document
-                                        .transformToUni(
-                                            reReadDocument ->
-                                                processUpdate(
-                                                    dataApiRequestInfo,
-                                                    reReadDocument,
-                                                    queryExecutor,
-                                                    modifiedCount));
-                                  })
-                              .onFailure(LWTException.class)
-                              .retry()
-                              // because it's already run twice before this
-                              // check.
-                              .atMost(retryLimit - 1)
-                              .onFailure()
-                              .recoverWithItem(
-                                  error -> {
-                                    return new UpdatedDocument(
-                                        readDocument.id(), false, null, error);
-                                  });
-                        }))
+                processUpdateWithRetry(
+                    dataApiRequestInfo, readDocument, queryExecutor, modifiedCount))
+        // updateMany updates independent documents concurrently, the order of the updates not
+        // being observable; findOneAndUpdate and updateOne update a single document
+        .merge(
+            updateLimit() > 1 ? Math.max(1, queryExecutor.getMaxDocumentModifyConcurrency()) : 1)
         .collect()
         .asList()
         .onItem()
@@ -134,6 +137,44 @@ public record ReadAndUpdateOperation(
             });
   }
 
+  /**
+   * Updates the document, re-reading and updating it again up to <code>retryLimit</code> times if
+   * it was concurrently modified. The re-read is skipped if the failed update showed that the
+   * document was deleted.
+   */
+  private Uni<UpdatedDocument> processUpdateWithRetry(
+      DataApiRequestInfo dataApiRequestInfo,
+      ReadDocument readDocument,
+      QueryExecutor queryExecutor,
+      AtomicInteger modifiedCount) {
+    return LWTRetries.withRetries(
+            commandContext(),
+            queryExecutor,
+            retryLimit,
+            conflict -> {
+              if (conflict == null) {
+                return processUpdate(
+                    dataApiRequestInfo, readDocument, queryExecutor, modifiedCount);
+              }
+              if (conflict.documentMissing()) {
+                // nothing left to update
+                return Uni.createFrom().nullItem();
+              }
+              // read the document again and try updating it
+              return readDocumentAgain(dataApiRequestInfo, queryExecutor, readDocument)
+                  .onItem()
+                  .transformToUni(
+                      reReadDocument ->
+                          processUpdate(
+                              dataApiRequestInfo, reReadDocument, queryExecutor, modifiedCount))
+                  .onFailure(error -> !(error instanceof LWTException))
+                  .recoverWithItem(
+                      error -> new UpdatedDocument(readDocument.id(), false, null, error));
+            })
+        .onFailure(LWTException.class)
+        .recoverWithItem(error -> new UpdatedDocument(readDocument.id(), false, null, error));
+  }
+
   private Uni<UpdatedDocument> processUpdate(
       DataApiRequestInfo dataApiRequestInfo,
       ReadDocument document,
@@ -154,10 +195,10 @@ public record ReadAndUpdateOperation(
               boolean upsert = readDocument.txnId() == null;
               JsonNode originalDocument = upsert ? null : readDocument.document();
 
-              // apply document updates
+              // apply document updates, to a copy sharing the unmodified nodes with the original
               // if no changes return null item
               DocumentUpdater.DocumentUpdaterResponse documentUpdaterResponse =
-                  documentUpdater().apply(readDocument.document().deepCopy(), upsert);
+                  documentUpdater().applyToCopy(readDocument.document(), upsert);
 
               // In case no change to document and not an upsert document, short circuit and return
               if (!documentUpdaterResponse.modified() && !upsert) {
@@ -171,17 +212,55 @@ public record ReadAndUpdateOperation(
                 }
               }
 
-              final WritableShreddedDocument writableShreddedDocument =
-                  shredder()
-                      .shred(
-                          commandContext(),
-                          documentUpdaterResponse.document(),
-                          readDocument.txnId());
+              final boolean vectorEnabled = commandContext().isVectorEnabled();
+              final WritableShreddedDocument writableShreddedDocument;
+              final SimpleStatement updateQuery;
+              // only write the index entries changed by the updates, if they are known
+              UpdatedPaths updatedPaths =
+                  upsert || !queryExecutor.isIncrementalUpdatesEnabled()
+                      ? null
+                      : documentUpdater().updatedPaths(false);
+              if (updatedPaths != null) {
+                ShreddedDocumentChanges changes =
+                    shredder()
+                        .shredChanges(
+                            commandContext(),
+                            originalDocument,
+                            documentUpdaterResponse.document(),
+                            readDocument.txnId(),
+                            updatedPaths);
+                writableShreddedDocument = changes.document();
+                boolean updateVector = vectorEnabled && changes.queryVectorValueChanged();
+                updateQuery =
+                    bindIncrementalUpdateValues(
+                        buildIncrementalUpdateQuery(commandContext(), updateVector),
+                        changes,
+                        updateVector);
+              } else {
+                // for a replacement, only the _id is left to shred
+                writableShreddedDocument =
+                    shreddedReplacement() != null
+                        ? shredder()
+                            .shredReplaced(
+                                commandContext(),
+                                shreddedReplacement(),
+                                documentUpdaterResponse.document(),
+                                readDocument.txnId())
+                        : shredder()
+                            .shred(
+                                commandContext(),
+                                documentUpdaterResponse.document(),
+                                readDocument.txnId());
+                updateQuery =
+                    bindUpdateValues(
+                        buildUpdateQuery(vectorEnabled), writableShreddedDocument, vectorEnabled);
+              }
 
               // Have to do this because shredder adds _id field to the document if it doesn't exist
               JsonNode updatedDocument = writableShreddedDocument.docJsonNode();
               // update the document
-              return updatedDocument(dataApiRequestInfo, queryExecutor, writableShreddedDocument)
+              return updatedDocument(
+                      dataApiRequestInfo, queryExecutor, updateQuery, writableShreddedDocument.id())
 
                   // send result back depending on the input
                   .onItem()
@@ -211,21 +290,17 @@ public record ReadAndUpdateOperation(
   private Uni<DocumentId> updatedDocument(
       DataApiRequestInfo dataApiRequestInfo,
       QueryExecutor queryExecutor,
-      WritableShreddedDocument writableShreddedDocument) {
-    final SimpleStatement updateQuery =
-        bindUpdateValues(
-            buildUpdateQuery(commandContext().isVectorEnabled()),
-            writableShreddedDocument,
-            commandContext().isVectorEnabled());
+      SimpleStatement updateQuery,
+      DocumentId documentId) {
     return queryExecutor
         .executeWrite(dataApiRequestInfo, updateQuery)
         .onItem()
         .transformToUni(
             result -> {
               if (result.wasApplied()) {
-                return Uni.createFrom().item(writableShreddedDocument.id());
+                return Uni.createFrom().item(documentId);
               } else {
-                throw new LWTException(ErrorCode.CONCURRENCY_FAILURE);
+                throw LWTException.concurrencyFailure(result);
               }
             });
   }
@@ -308,6 +383,70 @@ public record ReadAndUpdateOperation(
     }
   }
 
+  /**
+   * Update adding and removing the changed entries of the index columns, instead of replacing the
+   * columns: unchanged entries are neither written nor re-indexed. Adding and removing elements of
+   * the same collection column in a statement is allowed, the keys of both being distinct.
+   */
+  static String buildIncrementalUpdateQuery(CommandContext commandContext, boolean updateVector) {
+    String update =
+        "UPDATE \"%s\".\"%s\" "
+            + "        SET"
+            + "            tx_id = now(),"
+            + "            exist_keys = exist_keys + ?,"
+            + "            exist_keys = exist_keys - ?,"
+            + "            array_size = array_size + ?,"
+            + "            array_size = array_size - ?,"
+            + "            array_contains = array_contains + ?,"
+            + "            array_contains = array_contains - ?,"
+            + "            query_bool_values = query_bool_values + ?,"
+            + "            query_bool_values = query_bool_values - ?,"
+            + "            query_dbl_values = query_dbl_values + ?,"
+            + "            query_dbl_values = query_dbl_values - ?,"
+            + "            query_text_values = query_text_values + ?,"
+            + "            query_text_values = query_text_values - ?,"
+            + "            query_null_values = query_null_values + ?,"
+            + "            query_null_values = query_null_values - ?,"
+            + "            query_timestamp_values = query_timestamp_values + ?,"
+            + "            query_timestamp_values = query_timestamp_values - ?,"
+            + (updateVector ? "            query_vector_value = ?," : "")
+            + "            doc_json  = ?"
+            + "        WHERE "
+            + "            key = ?"
+            + "        IF "
+            + "            tx_id = ?";
+    return String.format(update, commandContext.namespace(), commandContext.collection());
+  }
+
+  protected static SimpleStatement bindIncrementalUpdateValues(
+      String builtQuery, ShreddedDocumentChanges changes, boolean updateVector) {
+    WritableShreddedDocument doc = changes.document();
+    List<Object> values = new ArrayList<>(20);
+    values.add(CQLBindValues.getSetValue(changes.existKeys().added()));
+    values.add(CQLBindValues.getSetValue(changes.existKeys().removed()));
+    values.add(CQLBindValues.getIntegerMapValues(changes.arraySize().put()));
+    values.add(CQLBindValues.getSetValue(changes.arraySize().removed()));
+    values.add(CQLBindValues.getStringSetValue(changes.arrayContains().added()));
+    values.add(CQLBindValues.getStringSetValue(changes.arrayContains().removed()));
+    values.add(CQLBindValues.getBooleanMapValues(changes.queryBoolValues().put()));
+    values.add(CQLBindValues.getSetValue(changes.queryBoolValues().removed()));
+    values.add(CQLBindValues.getDoubleMapValues(changes.queryNumberValues().put()));
+    values.add(CQLBindValues.getSetValue(changes.queryNumberValues().removed()));
+    values.add(CQLBindValues.getStringMapValues(changes.queryTextValues().put()));
+    values.add(CQLBindValues.getSetValue(changes.queryTextValues().removed()));
+    values.add(CQLBindValues.getSetValue(changes.queryNullValues().added()));
+    values.add(CQLBindValues.getSetValue(changes.queryNullValues().removed()));
+    values.add(CQLBindValues.getTimestampMapValues(changes.queryTimestampValues().put()));
+    values.add(CQLBindValues.getSetValue(changes.queryTimestampValues().removed()));
+    if (updateVector) {
+      values.add(CQLBindValues.getVectorValue(doc.queryVectorValues()));
+    }
+    values.add(doc.docJson());
+    values.add(CQLBindValues.getDocumentIdValue(doc.id()));
+    values.add(doc.txID());
+    return SimpleStatement.newInstance(builtQuery, values.toArray());
+  }
+
   /**
    * Utility method to read the document again, in case of lwt error
    *
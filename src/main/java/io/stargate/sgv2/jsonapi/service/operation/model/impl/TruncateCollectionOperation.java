@@ -5,6 +5,7 @@ import io.smallrye.mutiny.Uni;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandResult;
 import io.stargate.sgv2.jsonapi.api.request.DataApiRequestInfo;
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.EstimatedCountCache;
 import io.stargate.sgv2.jsonapi.service.cqldriver.executor.QueryExecutor;
 import io.stargate.sgv2.jsonapi.service.operation.model.Operation;
 import java.util.function.Supplier;
@@ -15,8 +16,10 @@ import org.slf4j.LoggerFactory;
  * Implementation of the truncate collection.
  *
  * @param context Command context, carries namespace and the name of the collection.
+ * @param estimatedCountCache Cache of the estimated document count, dropped for the collection.
  */
-public record TruncateCollectionOperation(CommandContext context) implements Operation {
+public record TruncateCollectionOperation(
+    CommandContext context, EstimatedCountCache estimatedCountCache) implements Operation {
   private static final Logger logger = LoggerFactory.getLogger(TruncateCollectionOperation.class);
   private static final String TRUNCATE_TABLE_CQL = "TRUNCATE TABLE \"%s\".\"%s\";";
 
@@ -29,6 +32,10 @@ public record TruncateCollectionOperation(CommandContext context) implements Ope
     // execute
     return queryExecutor
         .executeTruncateSchemaChange(dataApiRequestInfo, query)
+        .invoke(
+            any ->
+                estimatedCountCache.invalidate(
+                    dataApiRequestInfo.getTenantId(), context.namespace(), context.collection()))
 
         // if we have a result always respond positively
         .map(any -> new DeleteOperationPage(null, false, false));
@@ -0,0 +1,301 @@
+package io.stargate.sgv2.jsonapi.service.processor;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.stargate.sgv2.jsonapi.api.model.command.Command;
+import io.stargate.sgv2.jsonapi.api.model.command.CommandResult;
+import io.stargate.sgv2.jsonapi.api.model.command.Sortable;
+import io.stargate.sgv2.jsonapi.api.model.command.clause.sort.SortClause;
+import io.stargate.sgv2.jsonapi.api.model.command.impl.InsertManyCommand;
+import io.stargate.sgv2.jsonapi.config.OperationsConfig;
+import io.stargate.sgv2.jsonapi.exception.ErrorCode;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Admits the commands to processing by a per-tenant weighted fair queue, if enabled.
+ *
+ * <p>Each command has an estimated cost, and the total cost of the commands processed concurrently
+ * is limited to <code>max-concurrent-cost</code>. Commands that do not fit wait in the queue of
+ * their tenant, and the queues are served by weighted fair queueing: each command is tagged with
+ * the virtual time at which its tenant would have finished it, and the waiting command with the
+ * smallest tag is admitted first. A tenant sending many expensive commands therefore only delays
+ * its own commands. A command of a tenant with <code>max-queued-per-tenant</code> commands already
+ * waiting fails right away with {@link ErrorCode#TENANT_COMMAND_QUEUE_FULL}, instead of waiting
+ * until it times out.
+ */
+@ApplicationScoped
+public class CommandAdmission {
+
+  /** Cost of a command sorting by vector, being an ANN search with a limited page size. */
+  static final int VECTOR_SORT_COST = 2;
+
+  /** Cost of a command sorting in memory, reading up to the max sort read limit documents. */
+  static final int IN_MEMORY_SORT_COST = 10;
+
+  /** Number of documents of insertMany costing as much as a simple command. */
+  static final int INSERT_MANY_DOCUMENTS_PER_COST = 10;
+
+  private final OperationsConfig.AdmissionConfig config;
+
+  /** Tenants with commands waiting, or with a finish tag ahead of the virtual time. */
+  private final Map<String, TenantQueue> tenants = new HashMap<>();
+
+  /** Start tag of the last admitted command. */
+  private long virtualTime;
+
+  /** Total cost of the commands being processed. */
+  private int costInUse;
+
+  @Inject
+  public CommandAdmission(OperationsConfig operationsConfig) {
+    this.config = operationsConfig.admission();
+  }
+
+  /**
+   * Processes the command once admitted. A command admitted when another one releases its permit
+   * is processed on the Vert.x context of its caller, not on the thread of the releasing request,
+   * so that it keeps its request scope and MDC.
+   *
+   * @param tenantId Tenant of the command.
+   * @param command Command to process.
+   * @param processing Supplier of the Uni processing the command.
+   * @return Uni emitting the result of the command processing, or the error result if the queue
+   *     of the tenant is full.
+   */
+  public Uni<CommandResult> admit(
+      String tenantId, Command command, Supplier<Uni<CommandResult>> processing) {
+    if (!config.enabled()) {
+      return processing.get();
+    }
+    Context context = Vertx.currentContext();
+    return acquire(tenantId, estimateCost(command))
+        .onItem()
+        .transformToUni(
+            permit ->
+                Uni.createFrom()
+                    .deferred(processing)
+                    .runSubscriptionOn(task -> resume(context, task))
+                    .onTermination()
+                    .invoke(permit::release))
+        .onFailure(Rejection.class)
+        .recoverWithItem(
+            () ->
+                ErrorCode.TENANT_COMMAND_QUEUE_FULL
+                    .toApiException("limit of %d commands", config.maxQueuedPerTenant())
+                    .get());
+  }
+
+  /**
+   * Runs the task on the context, right away if already on it or if there is none.
+   *
+   * @param context Context of the caller, {@code null} if not called on a Vert.x context.
+   * @param task Task to run.
+   */
+  static void resume(Context context, Runnable task) {
+    if (context == null || context == Vertx.currentContext()) {
+      task.run();
+    } else {
+      context.runOnContext(ignored -> task.run());
+    }
+  }
+
+  /**
+   * Estimates the cost of processing the command, relative to a simple command costing one, and
+   * capped to the max concurrent cost so that any command can be admitted.
+   *
+   * @param command Command to process.
+   * @return Cost of the command.
+   */
+  int estimateCost(Command command) {
+    int cost = 1;
+    if (command instanceof Sortable sortable && sortable.sortClause() != null) {
+      SortClause sortClause = sortable.sortClause();
+      if (sortClause.hasVsearchClause() || sortClause.hasVectorizeSearchClause()) {
+        cost = VECTOR_SORT_COST;
+      } else if (sortClause.sortExpressions() != null
+          && !sortClause.sortExpressions().isEmpty()) {
+        cost = IN_MEMORY_SORT_COST;
+      }
+    } else if (command instanceof InsertManyCommand insertMany
+        && insertMany.documents() != null) {
+      cost = Math.max(1, insertMany.documents().size() / INSERT_MANY_DOCUMENTS_PER_COST);
+    }
+    return Math.min(cost, config.maxConcurrentCost());
+  }
+
+  /**
+   * Acquires a permit to process a command of the tenant, waiting in the queue of the tenant if
+   * the capacity is used up.
+   *
+   * @param tenantId Tenant of the command.
+   * @param cost Cost of the command, not more than the max concurrent cost.
+   * @return Uni emitting the permit once admitted, or failing with a {@link Rejection} if the queue
+   *     of the tenant is full.
+   */
+  Uni<Permit> acquire(String tenantId, int cost) {
+    return Uni.createFrom()
+        .deferred(
+            () -> {
+              Pending pending = new Pending(cost);
+              return Uni.createFrom()
+                  .<Permit>emitter(emitter -> enqueue(tenantId, pending, emitter))
+                  .onCancellation()
+                  .invoke(() -> cancel(pending));
+            });
+  }
+
+  private void enqueue(String tenantId, Pending pending, UniEmitter<? super Permit> emitter) {
+    List<Pending> admitted;
+    synchronized (this) {
+      TenantQueue tenant = tenants.computeIfAbsent(tenantId, id -> new TenantQueue());
+      if (tenant.waiting.size() >= config.maxQueuedPerTenant()) {
+        // queue only fills up when the capacity is used up, nothing to admit
+        admitted = null;
+      } else {
+        pending.tenant = tenant;
+        pending.emitter = emitter;
+        pending.start = Math.max(virtualTime, tenant.lastFinish);
+        pending.finish = pending.start + pending.cost;
+        tenant.lastFinish = pending.finish;
+        tenant.waiting.add(pending);
+        admitted = dispatch();
+      }
+    }
+    if (admitted == null) {
+      emitter.fail(new Rejection());
+    } else {
+      complete(admitted);
+    }
+  }
+
+  private void cancel(Pending pending) {
+    List<Pending> admitted;
+    synchronized (this) {
+      if (pending.permit == null) {
+        if (pending.tenant != null) {
+          pending.tenant.waiting.remove(pending);
+        }
+        // may have been the head of its queue, blocking other commands
+        admitted = dispatch();
+      } else {
+        admitted = List.of();
+      }
+    }
+    complete(admitted);
+    if (pending.permit != null) {
+      // admitted but not processed
+      pending.permit.release();
+    }
+  }
+
+  private void release(int cost) {
+    List<Pending> admitted;
+    synchronized (this) {
+      costInUse -= cost;
+      admitted = dispatch();
+    }
+    complete(admitted);
+  }
+
+  /**
+   * Admits the waiting commands with the smallest finish tags, as long as they fit in the capacity.
+   * Must be called while holding the lock.
+   *
+   * @return Commands admitted, to be completed once the lock is released.
+   */
+  private List<Pending> dispatch() {
+    List<Pending> admitted = new ArrayList<>();
+    while (true) {
+      Pending next = null;
+      for (TenantQueue tenant : tenants.values()) {
+        Pending head = tenant.waiting.peek();
+        if (head != null && (next == null || head.finish < next.finish)) {
+          next = head;
+        }
+      }
+      if (next == null || costInUse + next.cost > config.maxConcurrentCost()) {
+        break;
+      }
+      next.tenant.waiting.poll();
+      next.permit = new Permit(next.cost);
+      costInUse += next.cost;
+      virtualTime = Math.max(virtualTime, next.start);
+      admitted.add(next);
+    }
+    // tenants that are idle and not ahead of the virtual time start over from it
+    tenants.values().removeIf(t -> t.waiting.isEmpty() && t.lastFinish <= virtualTime);
+    return admitted;
+  }
+
+  private static void complete(List<Pending> admitted) {
+    for (Pending pending : admitted) {
+      pending.emitter.complete(pending.permit);
+    }
+  }
+
+  /** Number of commands of the tenant waiting to be admitted. */
+  synchronized int waiting(String tenantId) {
+    TenantQueue tenant = tenants.get(tenantId);
+    return tenant == null ? 0 : tenant.waiting.size();
+  }
+
+  /** Permit to process a command, to be released once the command is processed. */
+  class Permit {
+    private final int cost;
+
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private Permit(int cost) {
+      this.cost = cost;
+    }
+
+    void release() {
+      if (released.compareAndSet(false, true)) {
+        CommandAdmission.this.release(cost);
+      }
+    }
+  }
+
+  private static class TenantQueue {
+    private final ArrayDeque<Pending> waiting = new ArrayDeque<>();
+
+    /** Finish tag of the last command of the tenant. */
+    private long lastFinish;
+  }
+
+  private static class Pending {
+    private final int cost;
+
+    private TenantQueue tenant;
+
+    private UniEmitter<? super Permit> emitter;
+
+    private long start;
+
+    private long finish;
+
+    /** Set once admitted. */
+    private Permit permit;
+
+    private Pending(int cost) {
+      this.cost = cost;
+    }
+  }
+
+  /** Failure of a command rejected because the queue of its tenant is full. */
+  static class Rejection extends RuntimeException {
+    Rejection() {
+      super(null, null, false, false);
+    }
+  }
+}
@@ -41,6 +41,8 @@ public class MeteredCommandProcessor {
 
   private final CommandProcessor commandProcessor;
 
+  private final CommandAdmission commandAdmission;
+
   private final MeterRegistry meterRegistry;
 
   private final DataApiRequestInfo dataApiRequestInfo;
@@ -66,12 +68,14 @@ public class MeteredCommandProcessor {
   @Inject
   public MeteredCommandProcessor(
       CommandProcessor commandProcessor,
+      CommandAdmission commandAdmission,
       MeterRegistry meterRegistry,
       DataApiRequestInfo dataApiRequestInfo,
       JsonApiMetricsConfig jsonApiMetricsConfig,
       MetricsConfig metricsConfig,
       CommandLevelLoggingConfig commandLevelLoggingConfig) {
     this.commandProcessor = commandProcessor;
+    this.commandAdmission = commandAdmission;
     this.meterRegistry = meterRegistry;
     this.jsonApiMetricsConfig = jsonApiMetricsConfig;
     tenantConfig = metricsConfig.tenantRequestCounter();
@@ -105,9 +109,12 @@ public class MeteredCommandProcessor {
       MDC.put("collection", commandContext.collection());
     }
     MDC.put("tenantId", dataApiRequestInfo.getTenantId().orElse(UNKNOWN_VALUE));
-    // start by resolving the command, get resolver
-    return commandProcessor
-        .processCommand(dataApiRequestInfo, commandContext, command)
+    // start by resolving the command, get resolver, once admitted in the queue of the tenant
+    return commandAdmission
+        .admit(
+            dataApiRequestInfo.getTenantId().orElse(""),
+            command,
+            () -> commandProcessor.processCommand(dataApiRequestInfo, commandContext, command))
         .onItem()
         .invoke(
             result -> {
@@ -115,6 +115,7 @@ public class CreateCollectionCommandResolver implements CommandResolver<CreateCo
           command.name(),
           vector.dimension(),
           vector.metric(),
+          vector.sourceModel(),
           comment,
           operationsConfig.databaseConfig().ddlDelayMillis(),
           operationsConfig.tooManyIndexesRollbackEnabled(),
@@ -212,7 +213,7 @@ public class CreateCollectionCommandResolver implements CommandResolver<CreateCo
       vectorDimension = validateService(service, vectorDimension);
       vector =
           new CreateCollectionCommand.Options.VectorSearchConfig(
-              vectorDimension, vector.metric(), vector.vectorizeConfig());
+              vectorDimension, vector.metric(), vector.sourceModel(), vector.vectorizeConfig());
     } else {
       // Ensure vector dimension is provided when service configuration is absent.
       if (vectorDimension == null) {
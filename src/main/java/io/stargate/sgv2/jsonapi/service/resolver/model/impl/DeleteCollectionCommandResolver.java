@@ -2,14 +2,24 @@ package io.stargate.sgv2.jsonapi.service.resolver.model.impl;
 
 import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
 import io.stargate.sgv2.jsonapi.api.model.command.impl.DeleteCollectionCommand;
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.EstimatedCountCache;
 import io.stargate.sgv2.jsonapi.service.operation.model.Operation;
 import io.stargate.sgv2.jsonapi.service.operation.model.impl.DeleteCollectionOperation;
 import io.stargate.sgv2.jsonapi.service.resolver.model.CommandResolver;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 
 /** Resolver for the {@link DeleteCollectionCommand}. */
 @ApplicationScoped
 public class DeleteCollectionCommandResolver implements CommandResolver<DeleteCollectionCommand> {
+
+  private final EstimatedCountCache estimatedCountCache;
+
+  @Inject
+  public DeleteCollectionCommandResolver(EstimatedCountCache estimatedCountCache) {
+    this.estimatedCountCache = estimatedCountCache;
+  }
+
   @Override
   public Class<DeleteCollectionCommand> getCommandClass() {
     return DeleteCollectionCommand.class;
@@ -17,6 +27,6 @@ public class DeleteCollectionCommandResolver implements CommandResolver<DeleteCo
 
   @Override
   public Operation resolveCommand(CommandContext ctx, DeleteCollectionCommand command) {
-    return new DeleteCollectionOperation(ctx, command.name());
+    return new DeleteCollectionOperation(ctx, command.name(), estimatedCountCache);
   }
 }
@@ -8,6 +8,7 @@ import io.stargate.sgv2.jsonapi.api.model.command.impl.DeleteManyCommand;
 import io.stargate.sgv2.jsonapi.api.request.DataApiRequestInfo;
 import io.stargate.sgv2.jsonapi.api.v1.metrics.JsonApiMetricsConfig;
 import io.stargate.sgv2.jsonapi.config.OperationsConfig;
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.EstimatedCountCache;
 import io.stargate.sgv2.jsonapi.service.operation.model.Operation;
 import io.stargate.sgv2.jsonapi.service.operation.model.ReadType;
 import io.stargate.sgv2.jsonapi.service.operation.model.impl.DeleteOperation;
@@ -33,6 +34,7 @@ public class DeleteManyCommandResolver extends FilterableResolver<DeleteManyComm
   private final MeterRegistry meterRegistry;
   private final DataApiRequestInfo dataApiRequestInfo;
   private final JsonApiMetricsConfig jsonApiMetricsConfig;
+  private final EstimatedCountCache estimatedCountCache;
 
   @Inject
   public DeleteManyCommandResolver(
@@ -40,22 +42,44 @@ public class DeleteManyCommandResolver extends FilterableResolver<DeleteManyComm
       ObjectMapper objectMapper,
       MeterRegistry meterRegistry,
       DataApiRequestInfo dataApiRequestInfo,
-      JsonApiMetricsConfig jsonApiMetricsConfig) {
+      JsonApiMetricsConfig jsonApiMetricsConfig,
+      EstimatedCountCache estimatedCountCache) {
     super();
     this.operationsConfig = operationsConfig;
     this.objectMapper = objectMapper;
     this.meterRegistry = meterRegistry;
     this.dataApiRequestInfo = dataApiRequestInfo;
     this.jsonApiMetricsConfig = jsonApiMetricsConfig;
+    this.estimatedCountCache = estimatedCountCache;
   }
 
   @Override
   public Operation resolveCommand(CommandContext commandContext, DeleteManyCommand command) {
     // If there is no filter or filter is empty, use Truncate operation instead of Delete
     if (command.filterClause() == null || command.filterClause().logicalExpression().isEmpty()) {
-      return new TruncateCollectionOperation(commandContext);
+      return new TruncateCollectionOperation(commandContext, estimatedCountCache);
+    }
+    LogicalExpression logicalExpression = resolve(commandContext, command);
+    addToMetrics(
+        meterRegistry, dataApiRequestInfo, jsonApiMetricsConfig, command, logicalExpression, false);
+    final FindOperation findOperation =
+        getFindOperation(
+            commandContext,
+            logicalExpression,
+            operationsConfig.maxDocumentDeleteCount(),
+            operationsConfig.defaultPageSize());
+    // documents matched only by _id keep matching until deleted, no need for LWT
+    OperationsConfig.BulkDeleteConfig bulkDelete = operationsConfig.bulkDelete();
+    if (bulkDelete.enabled() && findOperation.filtersOnlyById()) {
+      return DeleteOperation.bulkDelete(
+          commandContext,
+          getFindOperation(
+              commandContext,
+              logicalExpression,
+              bulkDelete.maxDocumentCount(),
+              bulkDelete.pageSize()),
+          bulkDelete.maxDocumentCount());
     }
-    final FindOperation findOperation = getFindOperation(commandContext, command);
     return DeleteOperation.delete(
         commandContext,
         findOperation,
@@ -68,18 +92,19 @@ public class DeleteManyCommandResolver extends FilterableResolver<DeleteManyComm
     return DeleteManyCommand.class;
   }
 
-  private FindOperation getFindOperation(CommandContext commandContext, DeleteManyCommand command) {
-    LogicalExpression logicalExpression = resolve(commandContext, command);
+  private FindOperation getFindOperation(
+      CommandContext commandContext,
+      LogicalExpression logicalExpression,
+      int deleteLimit,
+      int pageSize) {
     // Read One extra document than delete limit so return moreData flag
-    addToMetrics(
-        meterRegistry, dataApiRequestInfo, jsonApiMetricsConfig, command, logicalExpression, false);
     return FindOperation.unsorted(
         commandContext,
         logicalExpression,
         DocumentProjector.includeAllProjector(),
         null,
-        operationsConfig.maxDocumentDeleteCount() + 1,
-        operationsConfig.defaultPageSize(),
+        deleteLimit + 1,
+        pageSize,
         ReadType.KEY,
         objectMapper,
         false);
@@ -4,6 +4,7 @@ import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
 import io.stargate.sgv2.jsonapi.api.model.command.impl.CountDocumentsCommand;
 import io.stargate.sgv2.jsonapi.api.model.command.impl.EstimatedDocumentCountCommand;
 import io.stargate.sgv2.jsonapi.config.OperationsConfig;
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.EstimatedCountCache;
 import io.stargate.sgv2.jsonapi.service.operation.model.EstimatedDocumentCountOperation;
 import io.stargate.sgv2.jsonapi.service.operation.model.Operation;
 import io.stargate.sgv2.jsonapi.service.resolver.model.CommandResolver;
@@ -17,10 +18,14 @@ public class EstimatedDocumentCountCommandResolver
 
   private final OperationsConfig operationsConfig;
 
+  private final EstimatedCountCache estimatedCountCache;
+
   @Inject
-  public EstimatedDocumentCountCommandResolver(OperationsConfig operationsConfig) {
+  public EstimatedDocumentCountCommandResolver(
+      OperationsConfig operationsConfig, EstimatedCountCache estimatedCountCache) {
     super();
     this.operationsConfig = operationsConfig;
+    this.estimatedCountCache = estimatedCountCache;
   }
 
   @Override
@@ -30,6 +35,6 @@ public class EstimatedDocumentCountCommandResolver
 
   @Override
   public Operation resolveCommand(CommandContext ctx, EstimatedDocumentCountCommand command) {
-    return new EstimatedDocumentCountOperation(ctx);
+    return new EstimatedDocumentCountOperation(ctx, estimatedCountCache);
   }
 }
@@ -61,6 +61,7 @@ public class FindCommandResolver extends FilterableResolver<FindCommand>
     String pageState = null;
     boolean includeSimilarity = false;
     boolean includeSortVector = false;
+    Float minSimilarity = null;
 
     // update if options provided
     FindCommand.Options options = command.options();
@@ -74,6 +75,7 @@ public class FindCommandResolver extends FilterableResolver<FindCommand>
       pageState = options.pageState();
       includeSimilarity = options.includeSimilarity();
       includeSortVector = options.includeSortVector();
+      minSimilarity = options.minSimilarity();
     }
 
     // resolve sort clause
@@ -84,6 +86,8 @@ public class FindCommandResolver extends FilterableResolver<FindCommand>
       sortClause.validate(commandContext);
     }
 
+    SortClauseUtil.validateMinSimilarity(sortClause, minSimilarity);
+
     // if vector search
     float[] vector = SortClauseUtil.resolveVsearch(sortClause);
 
@@ -109,7 +113,8 @@ public class FindCommandResolver extends FilterableResolver<FindCommand>
           ReadType.DOCUMENT,
           objectMapper,
           vector,
-          includeSortVector);
+          includeSortVector,
+          minSimilarity);
     }
 
     List<FindOperation.OrderBy> orderBy = SortClauseUtil.resolveOrderBy(sortClause);
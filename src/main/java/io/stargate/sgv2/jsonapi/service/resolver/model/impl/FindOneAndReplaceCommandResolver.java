@@ -17,6 +17,7 @@ import io.stargate.sgv2.jsonapi.service.projection.DocumentProjector;
 import io.stargate.sgv2.jsonapi.service.resolver.model.CommandResolver;
 import io.stargate.sgv2.jsonapi.service.resolver.model.impl.matcher.FilterableResolver;
 import io.stargate.sgv2.jsonapi.service.shredding.Shredder;
+import io.stargate.sgv2.jsonapi.service.shredding.model.ShreddedReplacement;
 import io.stargate.sgv2.jsonapi.service.updater.DocumentUpdater;
 import io.stargate.sgv2.jsonapi.util.SortClauseUtil;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -63,6 +64,9 @@ public class FindOneAndReplaceCommandResolver extends FilterableResolver<FindOne
 
     final DocumentProjector documentProjector = command.buildProjector();
     DocumentUpdater documentUpdater = DocumentUpdater.construct(command.replacementDocument());
+    // shred the replacement once, rather than for each attempt to replace the document
+    ShreddedReplacement shreddedReplacement =
+        shredder.shredReplacement(commandContext, documentUpdater.replaceDocument());
 
     // resolve options
     FindOneAndReplaceCommand.Options options = command.options();
@@ -80,7 +84,8 @@ public class FindOneAndReplaceCommandResolver extends FilterableResolver<FindOne
         shredder,
         documentProjector,
         1,
-        operationsConfig.lwt().retries());
+        operationsConfig.lwt().retries(),
+        shreddedReplacement);
   }
 
   private FindOperation getFindOperation(
@@ -12,6 +12,7 @@ import io.stargate.sgv2.jsonapi.config.OperationsConfig;
 import io.stargate.sgv2.jsonapi.service.operation.model.Operation;
 import io.stargate.sgv2.jsonapi.service.operation.model.ReadType;
 import io.stargate.sgv2.jsonapi.service.operation.model.impl.FindOperation;
+import io.stargate.sgv2.jsonapi.service.operation.model.impl.InsertFirstUpsertOperation;
 import io.stargate.sgv2.jsonapi.service.operation.model.impl.ReadAndUpdateOperation;
 import io.stargate.sgv2.jsonapi.service.projection.DocumentProjector;
 import io.stargate.sgv2.jsonapi.service.resolver.model.CommandResolver;
@@ -71,18 +72,27 @@ public class FindOneAndUpdateCommandResolver extends FilterableResolver<FindOneA
         options != null && "after".equals(command.options().returnDocument());
     boolean upsert = command.options() != null && command.options().upsert();
 
-    // return
-    return new ReadAndUpdateOperation(
-        commandContext,
-        findOperation,
-        documentUpdater,
-        true,
-        returnUpdatedDocument,
-        upsert,
-        shredder,
-        documentProjector,
-        1,
-        operationsConfig.lwt().retries());
+    ReadAndUpdateOperation readAndUpdateOperation =
+        new ReadAndUpdateOperation(
+            commandContext,
+            findOperation,
+            documentUpdater,
+            true,
+            returnUpdatedDocument,
+            upsert,
+            shredder,
+            documentProjector,
+            1,
+            operationsConfig.lwt().retries());
+
+    // upserts by _id can insert the document before reading it
+    if (upsert
+        && operationsConfig.upsertInsertFirstEnabled()
+        && command.sortClause() == null
+        && findOperation.singleDocumentId() != null) {
+      return new InsertFirstUpsertOperation(commandContext, readAndUpdateOperation);
+    }
+    return readAndUpdateOperation;
   }
 
   private FindOperation getFindOperation(
@@ -64,10 +64,13 @@ public class FindOneCommandResolver extends FilterableResolver<FindOneCommand>
     FindOneCommand.Options options = command.options();
     boolean includeSimilarity = false;
     boolean includeSortVector = false;
+    Float minSimilarity = null;
     if (options != null) {
       includeSimilarity = options.includeSimilarity();
       includeSortVector = options.includeSortVector();
+      minSimilarity = options.minSimilarity();
     }
+    SortClauseUtil.validateMinSimilarity(sortClause, minSimilarity);
     addToMetrics(
         meterRegistry,
         dataApiRequestInfo,
@@ -83,7 +86,8 @@ public class FindOneCommandResolver extends FilterableResolver<FindOneCommand>
           ReadType.DOCUMENT,
           objectMapper,
           vector,
-          includeSortVector);
+          includeSortVector,
+          minSimilarity);
     }
 
     List<FindOperation.OrderBy> orderBy = SortClauseUtil.resolveOrderBy(sortClause);
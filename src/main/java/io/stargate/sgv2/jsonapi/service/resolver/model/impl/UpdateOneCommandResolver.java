@@ -12,16 +12,20 @@ import io.stargate.sgv2.jsonapi.config.OperationsConfig;
 import io.stargate.sgv2.jsonapi.service.operation.model.Operation;
 import io.stargate.sgv2.jsonapi.service.operation.model.ReadType;
 import io.stargate.sgv2.jsonapi.service.operation.model.impl.FindOperation;
+import io.stargate.sgv2.jsonapi.service.operation.model.impl.InsertFirstUpsertOperation;
+import io.stargate.sgv2.jsonapi.service.operation.model.impl.NumericUpdateOperation;
 import io.stargate.sgv2.jsonapi.service.operation.model.impl.ReadAndUpdateOperation;
 import io.stargate.sgv2.jsonapi.service.projection.DocumentProjector;
 import io.stargate.sgv2.jsonapi.service.resolver.model.CommandResolver;
 import io.stargate.sgv2.jsonapi.service.resolver.model.impl.matcher.FilterableResolver;
 import io.stargate.sgv2.jsonapi.service.shredding.Shredder;
+import io.stargate.sgv2.jsonapi.service.shredding.model.DocumentId;
 import io.stargate.sgv2.jsonapi.service.updater.DocumentUpdater;
 import io.stargate.sgv2.jsonapi.util.SortClauseUtil;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import java.util.List;
+import java.util.Set;
 
 /** Resolves the {@link UpdateOneCommand } */
 @ApplicationScoped
@@ -68,17 +72,43 @@ public class UpdateOneCommandResolver extends FilterableResolver<UpdateOneComman
     boolean upsert = options != null && options.upsert();
 
     // return op
-    return new ReadAndUpdateOperation(
-        commandContext,
-        findOperation,
-        documentUpdater,
-        false,
-        false,
-        upsert,
-        shredder,
-        DocumentProjector.includeAllProjector(),
-        1,
-        operationsConfig.lwt().retries());
+    ReadAndUpdateOperation readAndUpdateOperation =
+        new ReadAndUpdateOperation(
+            commandContext,
+            findOperation,
+            documentUpdater,
+            false,
+            false,
+            upsert,
+            shredder,
+            DocumentProjector.includeAllProjector(),
+            1,
+            operationsConfig.lwt().retries());
+
+    // counters updated by _id do not need the whole document
+    Set<String> numericPaths = documentUpdater.numericTopLevelPaths();
+    if (!upsert && command.sortClause() == null && numericPaths != null) {
+      DocumentId documentId = findOperation.singleDocumentId();
+      if (documentId != null) {
+        return new NumericUpdateOperation(
+            commandContext,
+            documentId,
+            documentUpdater,
+            numericPaths,
+            shredder,
+            objectMapper,
+            readAndUpdateOperation,
+            operationsConfig.lwt().retries());
+      }
+    }
+    // upserts by _id can insert the document before reading it
+    if (upsert
+        && operationsConfig.upsertInsertFirstEnabled()
+        && command.sortClause() == null
+        && findOperation.singleDocumentId() != null) {
+      return new InsertFirstUpsertOperation(commandContext, readAndUpdateOperation);
+    }
+    return readAndUpdateOperation;
   }
 
   private FindOperation getFindOperation(CommandContext commandContext, UpdateOneCommand command) {
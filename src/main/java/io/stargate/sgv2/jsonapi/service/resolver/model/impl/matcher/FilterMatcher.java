@@ -1,13 +1,18 @@
 package io.stargate.sgv2.jsonapi.service.resolver.model.impl.matcher;
 
+import com.google.common.annotations.VisibleForTesting;
 import io.stargate.sgv2.jsonapi.api.model.command.Command;
 import io.stargate.sgv2.jsonapi.api.model.command.Filterable;
 import io.stargate.sgv2.jsonapi.api.model.command.clause.filter.*;
 import io.stargate.sgv2.jsonapi.service.operation.model.impl.DBFilterBase;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -19,8 +24,18 @@ import java.util.function.Function;
  */
 public class FilterMatcher<T extends Command & Filterable> {
 
+  private static final String ANY_PATH = "*";
+
+  private static final int[] NO_CAPTURES = new int[0];
+
   private List<Capture> captures = new ArrayList<>();
 
+  /**
+   * Captures compiled into a lookup table, rebuilt every time a capture is configured (which only
+   * happens while the resolvers are being constructed), see {@link DispatchTable}.
+   */
+  private volatile DispatchTable dispatchTable = new DispatchTable(List.of());
+
   public enum MatchStrategy {
     EMPTY,
     STRICT, // every capture must match once and only once, every expression must match
@@ -49,6 +64,30 @@ public class FilterMatcher<T extends Command & Filterable> {
     if (filter == null) {
       return Optional.empty();
     }
+    final DispatchTable table = dispatchTable;
+    final MatchStrategyCounter matchStrategyCounter =
+        new MatchStrategyCounter(
+            table.size(), filter.logicalExpression().getTotalComparisonExpressionCount());
+    final boolean[] matchedCaptures = new boolean[table.size()];
+    if (!dispatchRecursive(
+        table, filter.logicalExpression(), matchedCaptures, matchStrategyCounter)) {
+      // an expression no capture can match: neither STRICT nor GREEDY can succeed
+      return Optional.empty();
+    }
+    return matchStrategyCounter.applyStrategy(strategy, filter);
+  }
+
+  /**
+   * Same as {@link #apply(Command)} but tries every capture against every expression instead of
+   * using the compiled {@link DispatchTable}; kept to verify (and benchmark) the compiled form
+   * against.
+   */
+  @VisibleForTesting
+  public Optional<LogicalExpression> applyByScanning(T command) {
+    FilterClause filter = command.filterClause();
+    if (strategy == MatchStrategy.EMPTY || filter == null) {
+      return apply(command);
+    }
     List<Capture> unmatchedCaptures = new ArrayList<>(captures);
     final MatchStrategyCounter matchStrategyCounter =
         new MatchStrategyCounter(
@@ -58,6 +97,49 @@ public class FilterMatcher<T extends Command & Filterable> {
     return matchStrategyCounter.applyStrategy(strategy, filter);
   }
 
+  /**
+   * Resolves every comparison expression through the dispatch table, the first capture (in the
+   * order they were added) that matches one of the expression's operations wins, as with {@link
+   * #captureRecursive(LogicalExpression, List, MatchStrategyCounter)}.
+   *
+   * @return false as soon as an expression is found that no capture matches.
+   */
+  private boolean dispatchRecursive(
+      DispatchTable table,
+      LogicalExpression expression,
+      boolean[] matchedCaptures,
+      MatchStrategyCounter matchStrategyCounter) {
+    for (LogicalExpression logicalExpression : expression.logicalExpressions) {
+      if (!dispatchRecursive(table, logicalExpression, matchedCaptures, matchStrategyCounter)) {
+        return false;
+      }
+    }
+    for (ComparisonExpression comparisonExpression : expression.comparisonExpressions) {
+      // STRICT captures can only match once, GREEDY ones are never marked as matched
+      final int captureIndex = table.find(comparisonExpression, matchedCaptures);
+      if (captureIndex < 0) {
+        return false;
+      }
+      final Capture capture = table.capture(captureIndex);
+      comparisonExpression.setDBFilters(
+          resolveFunction.apply(
+              new CaptureExpression(
+                  capture.marker,
+                  capture.match(comparisonExpression),
+                  comparisonExpression.getPath())));
+      switch (strategy) {
+        case STRICT:
+          matchedCaptures[captureIndex] = true;
+          matchStrategyCounter.strictMatch();
+          break;
+        case GREEDY:
+          matchStrategyCounter.greedyMatch();
+          break;
+      }
+    }
+    return true;
+  }
+
   public void captureRecursive(
       LogicalExpression expression,
       List<Capture> unmatchedCaptures,
@@ -143,10 +225,106 @@ public class FilterMatcher<T extends Command & Filterable> {
       this.matchPath = path;
       this.operators = operators;
       this.type = type;
+      dispatchTable = new DispatchTable(captures);
       return FilterMatcher.this;
     }
   }
 
+  /**
+   * The captures of this matcher indexed by what they can match: the operator, the {@link
+   * JsonType} of the operand and the path, either a specific one or the "*" wildcard.
+   *
+   * <p>Each (operator, type) slot holds the indexes of the candidate captures in the order they
+   * were added, so finding the capture for an expression is a few map lookups per filter operation
+   * regardless of how many captures and rules are registered.
+   */
+  private final class DispatchTable {
+
+    private final List<Capture> orderedCaptures;
+
+    private final Map<FilterOperator, EnumMap<JsonType, int[]>> anyPathCaptures = new HashMap<>();
+
+    private final Map<String, Map<FilterOperator, EnumMap<JsonType, int[]>>> pathCaptures =
+        new HashMap<>();
+
+    DispatchTable(List<Capture> captures) {
+      orderedCaptures = List.copyOf(captures);
+      for (int i = 0; i < orderedCaptures.size(); i++) {
+        Capture capture = orderedCaptures.get(i);
+        // not configured yet, can never match anything
+        if (capture.matchPath == null) {
+          continue;
+        }
+        Map<FilterOperator, EnumMap<JsonType, int[]>> byOperator =
+            ANY_PATH.equals(capture.matchPath)
+                ? anyPathCaptures
+                : pathCaptures.computeIfAbsent(capture.matchPath, k -> new HashMap<>());
+        for (Object operator : capture.operators) {
+          EnumMap<JsonType, int[]> byType =
+              byOperator.computeIfAbsent(
+                  (FilterOperator) operator, k -> new EnumMap<>(JsonType.class));
+          int[] current = byType.getOrDefault(capture.type, NO_CAPTURES);
+          int[] updated = Arrays.copyOf(current, current.length + 1);
+          updated[current.length] = i;
+          byType.put(capture.type, updated);
+        }
+      }
+    }
+
+    int size() {
+      return orderedCaptures.size();
+    }
+
+    Capture capture(int index) {
+      return orderedCaptures.get(index);
+    }
+
+    /**
+     * @return index of the first capture not yet matched that matches any of the operations of the
+     *     expression, or -1 if there is none.
+     */
+    int find(ComparisonExpression expression, boolean[] matchedCaptures) {
+      final Map<FilterOperator, EnumMap<JsonType, int[]>> byPath =
+          pathCaptures.get(expression.getPath());
+      int found = Integer.MAX_VALUE;
+      for (FilterOperation<?> filterOperation : expression.getFilterOperations()) {
+        final FilterOperator operator = filterOperation.operator();
+        final JsonType type = filterOperation.operand().type();
+        found = firstUnmatched(anyPathCaptures, operator, type, matchedCaptures, found);
+        if (byPath != null) {
+          found = firstUnmatched(byPath, operator, type, matchedCaptures, found);
+        }
+      }
+      return found == Integer.MAX_VALUE ? -1 : found;
+    }
+
+    private int firstUnmatched(
+        Map<FilterOperator, EnumMap<JsonType, int[]>> byOperator,
+        FilterOperator operator,
+        JsonType type,
+        boolean[] matchedCaptures,
+        int found) {
+      final EnumMap<JsonType, int[]> byType = byOperator.get(operator);
+      if (byType == null || type == null) {
+        return found;
+      }
+      final int[] candidates = byType.get(type);
+      if (candidates == null) {
+        return found;
+      }
+      // candidates are ordered, so the first one not yet matched is the only one to consider
+      for (int candidate : candidates) {
+        if (candidate >= found) {
+          break;
+        }
+        if (!matchedCaptures[candidate]) {
+          return candidate;
+        }
+      }
+      return found;
+    }
+  }
+
   public static final class MatchStrategyCounter {
 
     private int unmatchedCaptureCount;
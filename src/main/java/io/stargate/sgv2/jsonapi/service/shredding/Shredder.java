@@ -17,6 +17,8 @@ import io.stargate.sgv2.jsonapi.service.cqldriver.executor.CollectionSettings;
 import io.stargate.sgv2.jsonapi.service.projection.IndexingProjector;
 import io.stargate.sgv2.jsonapi.service.shredding.model.DocumentId;
 import io.stargate.sgv2.jsonapi.service.shredding.model.JsonExtensionType;
+import io.stargate.sgv2.jsonapi.service.shredding.model.ShreddedDocumentChanges;
+import io.stargate.sgv2.jsonapi.service.shredding.model.ShreddedReplacement;
 import io.stargate.sgv2.jsonapi.service.shredding.model.WritableShreddedDocument;
 import io.stargate.sgv2.jsonapi.util.JsonUtil;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -114,6 +116,185 @@ public class Shredder {
       String commandName,
       CollectionSettings collectionSettings,
       AtomicReference<DocumentId> docIdToReturn) {
+    return shred(
+        doc, txId, indexProjector, commandName, collectionSettings, docIdToReturn, null, null);
+  }
+
+  /**
+   * Shreds a document changed by an update into the changes to make to its index columns: both
+   * versions of the document are only shredded under the paths the update may have modified, the
+   * rest of the document and its index entries being the same before and after the update. The
+   * updated document is fully validated, the original document having been validated when written.
+   *
+   * @param ctx Command context for processing, used for accessing Collection settings and indexing
+   *     projector
+   * @param before Document as read from the database
+   * @param after Document with the updates applied
+   * @param txId Transaction id of the document read from the database
+   * @param updatedPaths Paths under which the update may have modified the document
+   * @return Changes to the index columns, along with the shred of the updated document
+   */
+  public ShreddedDocumentChanges shredChanges(
+      CommandContext ctx, JsonNode before, JsonNode after, UUID txId, UpdatedPaths updatedPaths) {
+    return shredChanges(ctx, before, after, null, txId, updatedPaths);
+  }
+
+  /**
+   * Same as {@link #shredChanges(CommandContext, JsonNode, JsonNode, UUID, UpdatedPaths)}, for an
+   * updated document that is already serialized: the documents to shred then only need the
+   * <code>_id</code> and the properties under the updated paths.
+   *
+   * @param afterJson (optional, nullable) Serialized updated document, written and validated
+   *     instead of the serialization of {@code after}
+   */
+  public ShreddedDocumentChanges shredChanges(
+      CommandContext ctx,
+      JsonNode before,
+      JsonNode after,
+      String afterJson,
+      UUID txId,
+      UpdatedPaths updatedPaths) {
+    final WritableShreddedDocument afterShred =
+        shred(
+            after,
+            txId,
+            ctx.indexingProjector(),
+            ctx.commandName(),
+            ctx.collectionSettings(),
+            null,
+            updatedPaths,
+            afterJson);
+
+    // Same as for the updated document, but without copying what is not projected out
+    ObjectNode indexableBefore = (ObjectNode) before;
+    IndexingProjector indexProjector = ctx.indexingProjector();
+    if (indexProjector != null && !indexProjector.isIdentityProjection()) {
+      indexableBefore = indexableBefore.deepCopy();
+      indexProjector.applyProjection(indexableBefore);
+    }
+    // Only the index entries are needed: the original document is not written again
+    final WritableShreddedDocument.Builder b =
+        WritableShreddedDocument.builder(afterShred.id(), txId, "", before);
+    traverse(indexableBefore, b, JsonPath.rootBuilder(), updatedPaths);
+    return ShreddedDocumentChanges.of(b.build(), afterShred);
+  }
+
+  /**
+   * Shreds the replacement document of a findOneAndReplace, independently of the documents it
+   * replaces: everything but the <code>_id</code> is validated, serialized and shredded once, see
+   * {@link #shredReplaced}.
+   *
+   * @param ctx Command context for processing, used for accessing Collection settings and indexing
+   *     projector
+   * @param replacement Replacement document, without <code>_id</code>
+   * @return Shredded replacement, to shred each replaced document with
+   */
+  public ShreddedReplacement shredReplacement(CommandContext ctx, ObjectNode replacement) {
+    new FullDocValidator(documentLimits).validate(replacement);
+    final String docJson;
+    try {
+      docJson = objectMapper.writeValueAsString(replacement);
+    } catch (IOException e) { // never happens but signature exposes it
+      throw new RuntimeException(e);
+    }
+
+    // Same as for a document to shred, but without copying what is not projected out
+    ObjectNode indexableDocument = replacement;
+    IndexingProjector indexProjector = ctx.indexingProjector();
+    if (indexProjector != null && !indexProjector.isIdentityProjection()) {
+      indexableDocument = indexableDocument.deepCopy();
+      indexProjector.applyProjection(indexableDocument);
+    }
+    final boolean idIndexed =
+        indexProjector == null || indexProjector.isPathIncluded(DocumentConstants.Fields.DOC_ID);
+    // validated with a placeholder for the _id, whose value is validated with each replaced
+    // document
+    ObjectNode validatedDocument = indexableDocument;
+    if (idIndexed) {
+      validatedDocument = objectMapper.createObjectNode();
+      validatedDocument.putNull(DocumentConstants.Fields.DOC_ID);
+      validatedDocument.setAll(indexableDocument);
+    }
+    IndexableValueValidator validator = new IndexableValueValidator(documentLimits);
+    validator.validate(validatedDocument);
+
+    final WritableShreddedDocument.Builder b =
+        WritableShreddedDocument.builder(null, null, docJson, replacement);
+    traverse(indexableDocument, b, JsonPath.rootBuilder(), null);
+    return new ShreddedReplacement(
+        replacement, docJson, b.build(), validator.totalProperties.get(), idIndexed);
+  }
+
+  /**
+   * Shreds a document replaced by the replacement document of {@link #shredReplacement}: only its
+   * <code>_id</code> is shredded, the rest of the shred being that of the replacement document.
+   * Equivalent to {@link #shred(CommandContext, JsonNode, UUID)} of the replaced document.
+   *
+   * @param ctx Command context for processing, used for accessing Collection settings
+   * @param replacement Shredded replacement document
+   * @param doc Document replaced with the replacement document, of which only the <code>_id</code>
+   *     is used: generated if missing
+   * @param txId (optional, nullable) transaction id used for avoiding race conditions
+   * @return Shredded replaced document
+   */
+  public WritableShreddedDocument shredReplaced(
+      CommandContext ctx, ShreddedReplacement replacement, JsonNode doc, UUID txId) {
+    JsonNode idNode = doc.get(DocumentConstants.Fields.DOC_ID);
+    if (idNode == null) {
+      idNode = generateDocumentId(ctx.collectionSettings());
+    }
+    final DocumentId docId = DocumentId.fromJson(idNode);
+    final ObjectNode docWithId = objectMapper.createObjectNode();
+    docWithId.set(DocumentConstants.Fields.DOC_ID, idNode);
+    docWithId.setAll(replacement.replacement());
+
+    // Only the _id needs serializing, prepended to the serialized replacement
+    final String idJson;
+    try {
+      idJson = objectMapper.writeValueAsString(idNode);
+    } catch (IOException e) { // never happens but signature exposes it
+      throw new RuntimeException(e);
+    }
+    final String replacementJson = replacement.docJson();
+    final StringBuilder sb =
+        new StringBuilder(replacementJson.length() + idJson.length() + 8)
+            .append("{\"")
+            .append(DocumentConstants.Fields.DOC_ID)
+            .append("\":")
+            .append(idJson);
+    if (replacement.replacement().isEmpty()) {
+      sb.append('}');
+    } else {
+      sb.append(',').append(replacementJson, 1, replacementJson.length());
+    }
+    final String docJson = sb.toString();
+    validateDocumentSize(documentLimits, docJson);
+    if (jsonProcessingMetricsReporter != null) {
+      jsonProcessingMetricsReporter.reportJsonWriteBytesMetrics(
+          ctx.commandName(), docJson.length());
+    }
+
+    final WritableShreddedDocument.Builder b =
+        WritableShreddedDocument.builder(docId, txId, docJson, docWithId);
+    if (replacement.idIndexed()) {
+      new IndexableValueValidator(documentLimits)
+          .validateDocumentId(idNode, replacement.indexedProperties());
+      final ObjectNode idOnly = objectMapper.createObjectNode();
+      idOnly.set(DocumentConstants.Fields.DOC_ID, idNode);
+      traverse(idOnly, b, JsonPath.rootBuilder(), null);
+    }
+    return b.addEntries(replacement.shred()).build();
+  }
+
+  private WritableShreddedDocument shred(
+      JsonNode doc,
+      UUID txId,
+      IndexingProjector indexProjector,
+      String commandName,
+      CollectionSettings collectionSettings,
+      AtomicReference<DocumentId> docIdToReturn,
+      UpdatedPaths updatedPaths,
+      String serializedDoc) {
     // Although we could otherwise allow non-Object documents, requirement
     // to have the _id (or at least place for it) means we cannot allow that.
     if (!doc.isObject()) {
@@ -134,14 +315,19 @@ public class Shredder {
     // (note: value validation has to wait until no-indexing projection is applied)
     new FullDocValidator(documentLimits).validate(docWithId);
 
-    // Need to re-serialize document now that _id is normalized.
-    // Also unifies escaping and gets rid of pretty-printing (if any) to save storage space.
-    try {
-      // Important! Must use configured ObjectMapper for serialization, NOT JsonNode.toString()
-      // (to use configuration we specify wrt serialization)
-      docJson = objectMapper.writeValueAsString(docWithId);
-    } catch (IOException e) { // never happens but signature exposes it
-      throw new RuntimeException(e);
+    if (serializedDoc != null) {
+      // Already serialized by the caller, with the _id it was read with
+      docJson = serializedDoc;
+    } else {
+      // Need to re-serialize document now that _id is normalized.
+      // Also unifies escaping and gets rid of pretty-printing (if any) to save storage space.
+      try {
+        // Important! Must use configured ObjectMapper for serialization, NOT JsonNode.toString()
+        // (to use configuration we specify wrt serialization)
+        docJson = objectMapper.writeValueAsString(docWithId);
+      } catch (IOException e) { // never happens but signature exposes it
+        throw new RuntimeException(e);
+      }
     }
 
     // And then we can validate the document size
@@ -172,7 +358,7 @@ public class Shredder {
     new IndexableValueValidator(documentLimits).validate(indexableDocument);
 
     // And finally let's traverse the document to actually "shred" (build index properties)
-    traverse(indexableDocument, b, JsonPath.rootBuilder());
+    traverse(indexableDocument, b, JsonPath.rootBuilder(), updatedPaths);
     return b.build();
   }
 
@@ -231,43 +417,71 @@ public class Shredder {
   /**
    * Main traversal method we need to produce callbacks to passed-in listener; used to separate
    * shredding logic from that of recursive-descent traversal.
+   *
+   * @param updatedPaths If not {@code null}, only the values under or leading to these paths are
+   *     traversed
    */
-  private void traverse(JsonNode doc, ShredListener callback, JsonPath.Builder pathBuilder) {
+  private void traverse(
+      JsonNode doc,
+      ShredListener callback,
+      JsonPath.Builder pathBuilder,
+      UpdatedPaths updatedPaths) {
     // NOTE: main level is handled a bit differently; no callbacks for Objects or Arrays,
     // only for the (rare) case of atomic values. Just traversal.
 
     if (doc.isObject()) {
-      traverseObject((ObjectNode) doc, callback, pathBuilder);
+      traverseObject((ObjectNode) doc, callback, pathBuilder, updatedPaths);
     } else if (doc.isArray()) {
-      traverseArray((ArrayNode) doc, callback, pathBuilder);
+      traverseArray((ArrayNode) doc, callback, pathBuilder, updatedPaths);
     } else {
-      traverseValue(doc, callback, pathBuilder);
+      traverseValue(doc, callback, pathBuilder, updatedPaths);
     }
   }
 
   private void traverseObject(
-      ObjectNode obj, ShredListener callback, JsonPath.Builder pathBuilder) {
+      ObjectNode obj,
+      ShredListener callback,
+      JsonPath.Builder pathBuilder,
+      UpdatedPaths updatedPaths) {
 
     Iterator<Map.Entry<String, JsonNode>> it = obj.fields();
     while (it.hasNext()) {
       Map.Entry<String, JsonNode> entry = it.next();
       pathBuilder.property(entry.getKey());
-      traverseValue(entry.getValue(), callback, pathBuilder);
+      traverseValue(entry.getValue(), callback, pathBuilder, updatedPaths);
     }
   }
 
-  private void traverseArray(ArrayNode arr, ShredListener callback, JsonPath.Builder pathBuilder) {
+  private void traverseArray(
+      ArrayNode arr,
+      ShredListener callback,
+      JsonPath.Builder pathBuilder,
+      UpdatedPaths updatedPaths) {
     int ix = 0;
     for (JsonNode value : arr) {
       pathBuilder.index(ix++);
-      traverseValue(value, callback, pathBuilder);
+      traverseValue(value, callback, pathBuilder, updatedPaths);
     }
   }
 
-  private void traverseValue(JsonNode value, ShredListener callback, JsonPath.Builder pathBuilder) {
+  private void traverseValue(
+      JsonNode value,
+      ShredListener callback,
+      JsonPath.Builder pathBuilder,
+      UpdatedPaths updatedPaths) {
     final JsonPath path = pathBuilder.build();
     final String pathAsString = path.toString();
 
+    if (updatedPaths != null) {
+      if (updatedPaths.contains(pathAsString)) {
+        // whole value is updated: no need to check the paths of its contents
+        updatedPaths = null;
+      } else if (!updatedPaths.leadsTo(pathAsString)) {
+        // not changed by the update, and neither are its index entries
+        return;
+      }
+    }
+
     if (pathAsString.equals(DocumentConstants.Fields.VECTOR_EMBEDDING_FIELD)) {
       traverseVector(path, value, callback);
     } else if (pathAsString.equals(DocumentConstants.Fields.VECTOR_EMBEDDING_TEXT_FIELD)) {
@@ -276,12 +490,12 @@ public class Shredder {
       if (value.isObject()) {
         ObjectNode ob = (ObjectNode) value;
         if (callback.shredObject(path, ob)) {
-          traverseObject(ob, callback, pathBuilder.nestedObjectBuilder());
+          traverseObject(ob, callback, pathBuilder.nestedObjectBuilder(), updatedPaths);
         }
       } else if (value.isArray()) {
         ArrayNode arr = (ArrayNode) value;
         callback.shredArray(path, arr);
-        traverseArray(arr, callback, pathBuilder.nestedArrayBuilder());
+        traverseArray(arr, callback, pathBuilder.nestedArrayBuilder(), updatedPaths);
       } else if (value.isTextual()) {
         callback.shredText(path, value.textValue());
       } else if (value.isNumber()) {
@@ -453,6 +667,23 @@ public class Shredder {
 
     public void validate(ObjectNode doc) {
       validateObjectValue(null, doc);
+      validateTotalProperties();
+    }
+
+    /**
+     * Validates the <code>_id</code> of a document whose other properties have already been
+     * validated.
+     *
+     * @param idNode Value of the <code>_id</code>
+     * @param otherProperties Number of indexed properties of the rest of the document
+     */
+    public void validateDocumentId(JsonNode idNode, int otherProperties) {
+      totalProperties.set(otherProperties);
+      validateValue(DocumentConstants.Fields.DOC_ID, idNode);
+      validateTotalProperties();
+    }
+
+    private void validateTotalProperties() {
       if (totalProperties.get() > limits.maxDocumentProperties()) {
         throw ErrorCode.SHRED_DOC_LIMIT_VIOLATION.toApiException(
             "total number of indexed properties (%d) in document exceeds maximum allowed (%d)",
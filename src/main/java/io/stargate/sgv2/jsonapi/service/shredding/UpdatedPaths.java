@@ -0,0 +1,64 @@
+package io.stargate.sgv2.jsonapi.service.shredding;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Paths (in dotted notation, like {@link JsonPath}) under which an update may have modified a
+ * document. Used to shred only the part of a document an update can have changed, that is:
+ *
+ * <ul>
+ *   <li>Values at or below one of the paths
+ *   <li>Objects and Arrays containing one of the paths, whose hashes, sizes and element values
+ *       include the updated values
+ * </ul>
+ *
+ * <p>Everything else is the same before and after the update, and so are its index entries.
+ */
+public final class UpdatedPaths {
+  private final List<String> paths;
+
+  private UpdatedPaths(List<String> paths) {
+    this.paths = paths;
+  }
+
+  public static UpdatedPaths of(Collection<String> paths) {
+    return new UpdatedPaths(List.copyOf(paths));
+  }
+
+  public List<String> paths() {
+    return paths;
+  }
+
+  /**
+   * @return Whether the path is one of the updated paths or below one of them.
+   */
+  public boolean contains(String path) {
+    for (String updated : paths) {
+      if (path.startsWith(updated)
+          && (path.length() == updated.length() || path.charAt(updated.length()) == '.')) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return Whether the path is that of a container of one of the updated paths.
+   */
+  public boolean leadsTo(String path) {
+    for (String updated : paths) {
+      if (updated.length() > path.length()
+          && updated.startsWith(path)
+          && updated.charAt(path.length()) == '.') {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return paths.toString();
+  }
+}
@@ -0,0 +1,116 @@
+package io.stargate.sgv2.jsonapi.service.shredding.model;
+
+import io.stargate.sgv2.jsonapi.service.shredding.JsonPath;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Changes an update makes to the index columns of a document, computed from shreds of the document
+ * before and after the update that only cover the updated paths (see {@link
+ * io.stargate.sgv2.jsonapi.service.shredding.UpdatedPaths}), so that they can be written as
+ * collection element updates instead of rewriting every column.
+ *
+ * <p>Entries are compared by their column key, the String value of their path: an Array element
+ * and an Object property can have the same path, and the column has a single entry for both.
+ *
+ * @param document Shred of the updated document, with the full document to write but only the
+ *     index entries of the updated paths.
+ * @param queryVectorValueChanged Whether the vector of the document was changed, in which case it
+ *     is the one of {@link #document()}.
+ */
+public record ShreddedDocumentChanges(
+    WritableShreddedDocument document,
+    SetChanges<JsonPath> existKeys,
+    MapChanges<Integer> arraySize,
+    SetChanges<String> arrayContains,
+    MapChanges<Boolean> queryBoolValues,
+    MapChanges<BigDecimal> queryNumberValues,
+    MapChanges<String> queryTextValues,
+    MapChanges<Date> queryTimestampValues,
+    SetChanges<JsonPath> queryNullValues,
+    boolean queryVectorValueChanged) {
+
+  /**
+   * @param added Elements to add to the set column.
+   * @param removed Elements to remove from the set column.
+   */
+  public record SetChanges<T>(Set<T> added, Set<T> removed) {}
+
+  /**
+   * @param put Entries to add to the map column or to replace the value of.
+   * @param removed Keys of the entries to remove from the map column.
+   */
+  public record MapChanges<V>(Map<JsonPath, V> put, Set<JsonPath> removed) {}
+
+  /**
+   * @param before Shred of the document before the update, covering the same paths as {@code
+   *     after}.
+   * @param after Shred of the updated document.
+   */
+  public static ShreddedDocumentChanges of(
+      WritableShreddedDocument before, WritableShreddedDocument after) {
+    return new ShreddedDocumentChanges(
+        after,
+        diff(before.existKeys(), after.existKeys()),
+        diff(before.arraySize(), after.arraySize()),
+        diff(before.arrayContains(), after.arrayContains()),
+        diff(before.queryBoolValues(), after.queryBoolValues()),
+        diff(before.queryNumberValues(), after.queryNumberValues()),
+        diff(before.queryTextValues(), after.queryTextValues()),
+        diff(before.queryTimestampValues(), after.queryTimestampValues()),
+        diff(before.queryNullValues(), after.queryNullValues()),
+        !Arrays.equals(before.queryVectorValues(), after.queryVectorValues()));
+  }
+
+  private static <T> SetChanges<T> diff(Set<T> before, Set<T> after) {
+    Set<String> beforeKeys = new HashSet<>(before.size());
+    for (T element : before) {
+      beforeKeys.add(element.toString());
+    }
+    Set<String> afterKeys = new HashSet<>(after.size());
+    Set<T> added = new HashSet<>();
+    for (T element : after) {
+      String key = element.toString();
+      afterKeys.add(key);
+      if (!beforeKeys.contains(key)) {
+        added.add(element);
+      }
+    }
+    Set<T> removed = new HashSet<>();
+    for (T element : before) {
+      if (!afterKeys.contains(element.toString())) {
+        removed.add(element);
+      }
+    }
+    return new SetChanges<>(added, removed);
+  }
+
+  private static <V> MapChanges<V> diff(Map<JsonPath, V> before, Map<JsonPath, V> after) {
+    Map<String, V> beforeValues = new HashMap<>(before.size());
+    for (Map.Entry<JsonPath, V> entry : before.entrySet()) {
+      beforeValues.put(entry.getKey().toString(), entry.getValue());
+    }
+    Set<String> afterKeys = new HashSet<>(after.size());
+    Map<JsonPath, V> put = new HashMap<>();
+    for (Map.Entry<JsonPath, V> entry : after.entrySet()) {
+      String key = entry.getKey().toString();
+      afterKeys.add(key);
+      if (!Objects.equals(beforeValues.get(key), entry.getValue())) {
+        put.put(entry.getKey(), entry.getValue());
+      }
+    }
+    Set<JsonPath> removed = new HashSet<>();
+    for (JsonPath path : before.keySet()) {
+      if (!afterKeys.contains(path.toString())) {
+        removed.add(path);
+      }
+    }
+    return new MapChanges<>(put, removed);
+  }
+}
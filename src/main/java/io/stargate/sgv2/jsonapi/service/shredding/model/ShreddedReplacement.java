@@ -0,0 +1,22 @@
+package io.stargate.sgv2.jsonapi.service.shredding.model;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Replacement document of a findOneAndReplace shredded once, without its <code>_id</code>: the
+ * document it replaces only determines the <code>_id</code>, which is all that is left to shred
+ * for each replaced document.
+ *
+ * @param replacement Replacement document, without <code>_id</code>
+ * @param docJson Serialization of the replacement document
+ * @param shred Index entries of the replacement document; {@code id} and {@code txID} not set
+ * @param indexedProperties Number of indexed properties of the replacement document, counting the
+ *     <code>_id</code> property but not its value
+ * @param idIndexed Whether the <code>_id</code> is indexed
+ */
+public record ShreddedReplacement(
+    ObjectNode replacement,
+    String docJson,
+    WritableShreddedDocument shred,
+    int indexedProperties,
+    boolean idIndexed) {}
@@ -152,6 +152,63 @@ public record WritableShreddedDocument(
           Uuids.timeBased());
     }
 
+    /**
+     * Adds the index entries of a document shredded separately, for properties not shredded by
+     * this builder.
+     *
+     * @param shredded Shred of the other properties
+     * @return This builder
+     */
+    public Builder addEntries(WritableShreddedDocument shredded) {
+      existKeys.addAll(shredded.existKeys());
+      if (!shredded.arraySize().isEmpty()) {
+        if (arraySize == null) {
+          arraySize = new HashMap<>();
+        }
+        arraySize.putAll(shredded.arraySize());
+      }
+      if (!shredded.arrayContains().isEmpty()) {
+        if (arrayContains == null) {
+          arrayContains = new HashSet<>();
+        }
+        arrayContains.addAll(shredded.arrayContains());
+      }
+      if (!shredded.queryBoolValues().isEmpty()) {
+        if (queryBoolValues == null) {
+          queryBoolValues = new HashMap<>();
+        }
+        queryBoolValues.putAll(shredded.queryBoolValues());
+      }
+      if (!shredded.queryNumberValues().isEmpty()) {
+        if (queryNumberValues == null) {
+          queryNumberValues = new HashMap<>();
+        }
+        queryNumberValues.putAll(shredded.queryNumberValues());
+      }
+      if (!shredded.queryTextValues().isEmpty()) {
+        if (queryTextValues == null) {
+          queryTextValues = new HashMap<>();
+        }
+        queryTextValues.putAll(shredded.queryTextValues());
+      }
+      if (!shredded.queryTimestampValues().isEmpty()) {
+        if (queryTimestampValues == null) {
+          queryTimestampValues = new HashMap<>();
+        }
+        queryTimestampValues.putAll(shredded.queryTimestampValues());
+      }
+      if (!shredded.queryNullValues().isEmpty()) {
+        if (queryNullValues == null) {
+          queryNullValues = new HashSet<>();
+        }
+        queryNullValues.addAll(shredded.queryNullValues());
+      }
+      if (shredded.queryVectorValues() != null) {
+        queryVectorValues = shredded.queryVectorValues();
+      }
+      return this;
+    }
+
     private <T> Map<JsonPath, T> _nonNull(Map<JsonPath, T> map) {
       return (map == null) ? Collections.emptyMap() : map;
     }
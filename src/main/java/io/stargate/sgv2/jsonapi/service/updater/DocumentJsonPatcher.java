@@ -0,0 +1,123 @@
+package io.stargate.sgv2.jsonapi.service.updater;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.stargate.sgv2.jsonapi.config.constants.DocumentConstants;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Reads and replaces top-level properties of a serialized document by streaming through its JSON,
+ * without building the tree of the whole document: an update of a few top-level properties only
+ * needs the trees of those, everything else being copied token by token.
+ *
+ * <p>Copied numbers keep their textual representation, so that patching a document does not
+ * change the precision of the values it does not update.
+ */
+public final class DocumentJsonPatcher {
+
+  private DocumentJsonPatcher() {}
+
+  /**
+   * @param docJson Serialized document, a JSON Object.
+   * @param names Names of the top-level properties to read.
+   * @return Object with the <code>_id</code> of the document and those of the named properties the
+   *     document has, in document order.
+   */
+  public static ObjectNode extractProperties(
+      ObjectMapper objectMapper, String docJson, Set<String> names) throws JsonProcessingException {
+    ObjectNode extracted = objectMapper.createObjectNode();
+    try (JsonParser parser = objectMapper.createParser(docJson)) {
+      expectObject(parser);
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String name = parser.currentName();
+        parser.nextToken();
+        if (DocumentConstants.Fields.DOC_ID.equals(name) || names.contains(name)) {
+          extracted.set(name, objectMapper.readTree(parser));
+        } else {
+          parser.skipChildren();
+        }
+      }
+    } catch (JsonProcessingException e) {
+      throw e;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return extracted;
+  }
+
+  /**
+   * @param docJson Serialized document, a JSON Object.
+   * @param values Top-level properties to set: replaced in place if the document has them,
+   *     appended after the other properties otherwise.
+   * @return Serialized document with the properties set.
+   */
+  public static String replaceProperties(
+      ObjectMapper objectMapper, String docJson, ObjectNode values) throws JsonProcessingException {
+    Set<String> pending = new LinkedHashSet<>();
+    values.fieldNames().forEachRemaining(pending::add);
+    StringWriter out = new StringWriter(docJson.length() + 32);
+    try (JsonParser parser = objectMapper.createParser(docJson);
+        JsonGenerator generator = objectMapper.createGenerator(out)) {
+      expectObject(parser);
+      generator.writeStartObject();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String name = parser.currentName();
+        parser.nextToken();
+        generator.writeFieldName(name);
+        JsonNode value = values.get(name);
+        if (value != null) {
+          pending.remove(name);
+          objectMapper.writeTree(generator, value);
+          parser.skipChildren();
+        } else {
+          copyValue(parser, generator);
+        }
+      }
+      for (String name : pending) {
+        generator.writeFieldName(name);
+        objectMapper.writeTree(generator, values.get(name));
+      }
+      generator.writeEndObject();
+    } catch (JsonProcessingException e) {
+      throw e;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out.toString();
+  }
+
+  /** Copies the value the parser is at, the whole structure if it is an Array or an Object. */
+  private static void copyValue(JsonParser parser, JsonGenerator generator) throws IOException {
+    int depth = 0;
+    do {
+      JsonToken token = parser.currentToken();
+      if (token.isNumeric()) {
+        // as read, neither rounded to a double nor normalized as a BigDecimal
+        generator.writeNumber(parser.getText());
+      } else {
+        generator.copyCurrentEventExact(parser);
+      }
+      if (token.isStructStart()) {
+        depth++;
+      } else if (token.isStructEnd()) {
+        depth--;
+      }
+    } while (depth > 0 && parser.nextToken() != null);
+  }
+
+  private static void expectObject(JsonParser parser) throws IOException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      throw new JsonParseException(parser, "Document is not a JSON Object");
+    }
+  }
+}
@@ -2,20 +2,41 @@ package io.stargate.sgv2.jsonapi.service.updater;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.stargate.sgv2.jsonapi.api.model.command.clause.update.IncOperation;
+import io.stargate.sgv2.jsonapi.api.model.command.clause.update.MinMaxOperation;
+import io.stargate.sgv2.jsonapi.api.model.command.clause.update.MulOperation;
 import io.stargate.sgv2.jsonapi.api.model.command.clause.update.UpdateClause;
 import io.stargate.sgv2.jsonapi.api.model.command.clause.update.UpdateOperation;
 import io.stargate.sgv2.jsonapi.config.constants.DocumentConstants;
 import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.exception.JsonApiException;
+import io.stargate.sgv2.jsonapi.service.shredding.UpdatedPaths;
 import io.stargate.sgv2.jsonapi.util.JsonUtil;
+import io.stargate.sgv2.jsonapi.util.PathMatchLocator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
-/** Updates the document read from the database with the updates came as part of the request. */
+/**
+ * Updates the document read from the database with the updates came as part of the request.
+ *
+ * <p>Built once per command, with the paths of the updates resolved into {@link PathMatchLocator}s
+ * (split into segments, each classified as a possible array index or a property name), so that
+ * applying the updates to each document, including again on retries, does not need to parse them.
+ *
+ * @param updatedLocators Locators of all the paths the update operations may modify, see {@link
+ *     UpdateOperation#updatedPaths()}; empty for a replacement.
+ */
 public record DocumentUpdater(
     List<UpdateOperation> updateOperations,
     ObjectNode replaceDocument,
     JsonNode replaceDocumentId,
-    UpdateType updateType) {
+    UpdateType updateType,
+    List<PathMatchLocator> updatedLocators) {
+
   /**
    * Construct to create updater using update clause
    *
@@ -23,7 +44,17 @@ public record DocumentUpdater(
    * @return
    */
   public static DocumentUpdater construct(UpdateClause updateDef) {
-    return new DocumentUpdater(updateDef.buildOperations(), null, null, UpdateType.UPDATE);
+    List<UpdateOperation> updateOperations = updateDef.buildOperations();
+    Set<String> updatedPaths = new LinkedHashSet<>();
+    for (UpdateOperation<?> updateOperation : updateOperations) {
+      updatedPaths.addAll(updateOperation.updatedPaths());
+    }
+    return new DocumentUpdater(
+        updateOperations,
+        null,
+        null,
+        UpdateType.UPDATE,
+        updatedPaths.stream().map(PathMatchLocator::forPath).toList());
   }
 
   /**
@@ -34,7 +65,8 @@ public record DocumentUpdater(
    */
   public static DocumentUpdater construct(ObjectNode replaceDocument) {
     JsonNode replaceDocumentId = replaceDocument.remove(DocumentConstants.Fields.DOC_ID);
-    return new DocumentUpdater(null, replaceDocument, replaceDocumentId, UpdateType.REPLACE);
+    return new DocumentUpdater(
+        null, replaceDocument, replaceDocumentId, UpdateType.REPLACE, List.of());
   }
 
   /**
@@ -53,6 +85,75 @@ public record DocumentUpdater(
     }
   }
 
+  /**
+   * Applies the updates to a copy of the document, leaving the document itself unmodified. Instead
+   * of a deep copy of the whole document, only the containers on the paths the updates may modify
+   * are copied, from the root down to the node at each path: everything else is shared by both
+   * documents, which must therefore not be modified afterwards.
+   *
+   * @param readDocument Document to update, not modified
+   * @param docInserted True if document was just created (inserted); false if updating existing
+   *     document
+   */
+  public DocumentUpdaterResponse applyToCopy(JsonNode readDocument, boolean docInserted) {
+    ObjectNode docToUpdate = ((ObjectNode) readDocument).objectNode();
+    docToUpdate.setAll((ObjectNode) readDocument);
+    // a replacement only modifies the root
+    if (UpdateType.UPDATE == updateType) {
+      Set<JsonNode> copies = Collections.newSetFromMap(new IdentityHashMap<>());
+      copies.add(docToUpdate);
+      for (PathMatchLocator locator : updatedLocators) {
+        locator.copyContainers(docToUpdate, copies);
+      }
+    }
+    return apply(docToUpdate, docInserted);
+  }
+
+  /**
+   * @param docInserted True if document was just created (inserted); false if updating existing
+   *     document
+   * @return Paths under which {@link #apply} may modify the document, see {@link
+   *     UpdateOperation#updatedPaths()}; {@code null} for a replacement, which can modify any path.
+   */
+  public UpdatedPaths updatedPaths(boolean docInserted) {
+    if (UpdateType.UPDATE != updateType) {
+      return null;
+    }
+    List<String> paths = new ArrayList<>();
+    for (UpdateOperation<?> updateOperation : updateOperations) {
+      if (updateOperation.shouldApplyIf(docInserted)) {
+        paths.addAll(updateOperation.updatedPaths());
+      }
+    }
+    return UpdatedPaths.of(paths);
+  }
+
+  /**
+   * @return Names of the top-level properties the update modifies if it only has numeric operations
+   *     ({@code $inc}, {@code $mul}, {@code $min} and {@code $max}) on top-level properties, which
+   *     can be applied to a document with only those properties; otherwise {@code null}.
+   */
+  public Set<String> numericTopLevelPaths() {
+    if (UpdateType.UPDATE != updateType) {
+      return null;
+    }
+    Set<String> paths = new LinkedHashSet<>();
+    for (UpdateOperation<?> updateOperation : updateOperations) {
+      if (!(updateOperation instanceof IncOperation
+          || updateOperation instanceof MulOperation
+          || updateOperation instanceof MinMaxOperation)) {
+        return null;
+      }
+      for (String path : updateOperation.updatedPaths()) {
+        if (path.indexOf('.') >= 0 || path.startsWith("$")) {
+          return null;
+        }
+        paths.add(path);
+      }
+    }
+    return paths;
+  }
+
   /**
    * Will be used for update commands
    *
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.exception.JsonApiException;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 /**
@@ -31,9 +32,19 @@ public class PathMatchLocator implements Comparable<PathMatchLocator> {
 
   private final String[] segments;
 
+  /**
+   * Array index of each segment, or {@code -1} for segments that can only be property names:
+   * resolved once so that evaluating the path in documents does not need to parse the segments.
+   */
+  private final int[] segmentIndexes;
+
   private PathMatchLocator(String dotPath, String[] segments) {
     this.dotPath = dotPath;
     this.segments = segments;
+    segmentIndexes = new int[segments.length];
+    for (int i = 0; i < segments.length; ++i) {
+      segmentIndexes[i] = findIndexFromSegment(segments[i]);
+    }
   }
 
   public String path() {
@@ -95,7 +106,7 @@ public class PathMatchLocator implements Comparable<PathMatchLocator> {
       if (context.isObject()) {
         context = context.get(segment);
       } else if (context.isArray()) {
-        int index = findIndexFromSegment(segment);
+        int index = segmentIndexes[i];
         // Arrays MUST be accessed via index but here mismatch will not result
         // in exception (as having path is optional).
         context = (index < 0) ? null : context.get(index);
@@ -113,7 +124,7 @@ public class PathMatchLocator implements Comparable<PathMatchLocator> {
     if (context.isObject()) {
       return PathMatch.pathViaObject(dotPath, context, context.get(segment), segment);
     } else if (context.isArray()) {
-      int index = findIndexFromSegment(segment);
+      int index = segmentIndexes[lastSegmentIndex];
       if (index < 0) {
         return PathMatch.missingPath(dotPath);
       }
@@ -133,7 +144,6 @@ public class PathMatchLocator implements Comparable<PathMatchLocator> {
    * @param document Document that is to contain target path
    */
   public PathMatch findOrCreate(JsonNode document) {
-    String[] segments = splitAndVerify(dotPath);
     JsonNode context = document;
     final int lastSegmentIndex = segments.length - 1;
 
@@ -149,7 +159,7 @@ public class PathMatchLocator implements Comparable<PathMatchLocator> {
           nextContext = ((ObjectNode) context).putObject(segment);
         }
       } else if (context.isArray()) {
-        int index = findIndexFromSegment(segment);
+        int index = segmentIndexes[i];
         // Arrays MUST be accessed via index but here mismatch will not result
         // in exception (as having path is optional).
         if (index < 0) {
@@ -180,7 +190,7 @@ public class PathMatchLocator implements Comparable<PathMatchLocator> {
       return PathMatch.pathViaObject(dotPath, context, context.get(segment), segment);
     }
     if (context.isArray()) {
-      int index = findIndexFromSegment(segment);
+      int index = segmentIndexes[lastSegmentIndex];
       // Cannot create properties on Arrays
       if (index < 0) {
         throw cantCreatePropertyPath(dotPath, segment, context);
@@ -209,7 +219,7 @@ public class PathMatchLocator implements Comparable<PathMatchLocator> {
     for (int i = 0; i < end; ++i) {
       final String segment = segments[i];
       int index;
-      if (context.isArray() && (index = findIndexFromSegment(segment)) >= 0) {
+      if (context.isArray() && (index = segmentIndexes[i]) >= 0) {
         context = context.path(index);
       } else {
         context = context.path(segment);
@@ -237,8 +247,54 @@ public class PathMatchLocator implements Comparable<PathMatchLocator> {
     return result;
   }
 
-  private int findIndexFromSegment(String segment) {
-    if (INDEX_SEGMENT.matcher(segment).matches()) {
+  /**
+   * Method that will replace the containers on the path within given document, from its root down
+   * to the node at the path, with shallow copies of them: so that modifications at the path, like
+   * those of {@link #findOrCreate} and {@link #findIfExists} matches, only modify the copies and
+   * not the nodes the document shares with another one. Traversal stops where the path does not
+   * exist.
+   *
+   * @param document Document in which to copy the containers, itself already a copy
+   * @param copies Containers already copied, to be modified as is; copies made are added
+   */
+  public void copyContainers(ObjectNode document, Set<JsonNode> copies) {
+    JsonNode context = document;
+    for (int i = 0; i < segments.length; ++i) {
+      JsonNode child;
+      if (context.isObject()) {
+        child = context.get(segments[i]);
+        if (child != null && child.isContainerNode() && !copies.contains(child)) {
+          child = shallowCopy(child);
+          ((ObjectNode) context).set(segments[i], child);
+          copies.add(child);
+        }
+      } else if (context.isArray() && segmentIndexes[i] >= 0) {
+        child = context.get(segmentIndexes[i]);
+        if (child != null && child.isContainerNode() && !copies.contains(child)) {
+          child = shallowCopy(child);
+          ((ArrayNode) context).set(segmentIndexes[i], child);
+          copies.add(child);
+        }
+      } else {
+        return;
+      }
+      if (child == null || !child.isContainerNode()) {
+        return;
+      }
+      context = child;
+    }
+  }
+
+  private static JsonNode shallowCopy(JsonNode container) {
+    if (container.isObject()) {
+      return ((ObjectNode) container).objectNode().setAll((ObjectNode) container);
+    }
+    return ((ArrayNode) container).arrayNode().addAll((ArrayNode) container);
+  }
+
+  private static int findIndexFromSegment(String segment) {
+    // longer segments are beyond the range of array indexes
+    if (segment.length() < 10 && INDEX_SEGMENT.matcher(segment).matches()) {
       return Integer.parseInt(segment);
     }
     return -1;
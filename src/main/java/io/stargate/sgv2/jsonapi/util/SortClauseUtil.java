@@ -1,6 +1,7 @@
 package io.stargate.sgv2.jsonapi.util;
 
 import io.stargate.sgv2.jsonapi.api.model.command.clause.sort.SortClause;
+import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.service.operation.model.impl.FindOperation;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -23,4 +24,16 @@ public class SortClauseUtil {
     }
     return null;
   }
+
+  /**
+   * Checks that the <code>minSimilarity</code> option of <code>find</code> and <code>findOne</code>
+   * is only used with a vector sort, by <code>$vector</code> or by <code>$vectorize</code>.
+   */
+  public static void validateMinSimilarity(SortClause sortClause, Float minSimilarity) {
+    if (minSimilarity != null
+        && (sortClause == null
+            || !(sortClause.hasVsearchClause() || sortClause.hasVectorizeSearchClause()))) {
+      throw ErrorCode.VECTOR_SEARCH_MIN_SIMILARITY_USAGE_ERROR.toApiException();
+    }
+  }
 }
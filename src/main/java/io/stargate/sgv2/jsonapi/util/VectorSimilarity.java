@@ -0,0 +1,98 @@
+package io.stargate.sgv2.jsonapi.util;
+
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.CollectionSettings;
+
+/**
+ * Exact similarity of vectors, normalized like the Cassandra <code>SIMILARITY_*</code> functions so
+ * that scores computed here and by the database can be compared and returned alike. Loops work on
+ * primitive arrays with independent accumulators, which the JIT compiles to SIMD instructions.
+ */
+public final class VectorSimilarity {
+
+  private VectorSimilarity() {}
+
+  /**
+   * @param function Similarity function of the collection, {@link
+   *     CollectionSettings.SimilarityFunction#UNDEFINED} being cosine as in the database.
+   * @return Similarity of the vectors, higher is more similar.
+   */
+  public static float score(
+      CollectionSettings.SimilarityFunction function, float[] first, float[] second) {
+    return switch (function) {
+      case COSINE, UNDEFINED -> cosine(first, second);
+      case DOT_PRODUCT -> (1 + dotProduct(first, second)) / 2;
+      case EUCLIDEAN -> 1 / (1 + squareDistance(first, second));
+    };
+  }
+
+  /**
+   * @return <code>(1 + cos) / 2</code>, <code>0</code> if either vector is all zeros.
+   */
+  static float cosine(float[] first, float[] second) {
+    checkLengths(first, second);
+    float dot0 = 0, dot1 = 0, firstNorm0 = 0, firstNorm1 = 0, secondNorm0 = 0, secondNorm1 = 0;
+    int i = 0;
+    for (; i + 1 < first.length; i += 2) {
+      dot0 += first[i] * second[i];
+      dot1 += first[i + 1] * second[i + 1];
+      firstNorm0 += first[i] * first[i];
+      firstNorm1 += first[i + 1] * first[i + 1];
+      secondNorm0 += second[i] * second[i];
+      secondNorm1 += second[i + 1] * second[i + 1];
+    }
+    for (; i < first.length; i++) {
+      dot0 += first[i] * second[i];
+      firstNorm0 += first[i] * first[i];
+      secondNorm0 += second[i] * second[i];
+    }
+    double norms = Math.sqrt((double) (firstNorm0 + firstNorm1) * (secondNorm0 + secondNorm1));
+    if (norms == 0) {
+      return 0;
+    }
+    return (float) ((1 + (dot0 + dot1) / norms) / 2);
+  }
+
+  static float dotProduct(float[] first, float[] second) {
+    checkLengths(first, second);
+    float sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+    int i = 0;
+    for (; i + 3 < first.length; i += 4) {
+      sum0 += first[i] * second[i];
+      sum1 += first[i + 1] * second[i + 1];
+      sum2 += first[i + 2] * second[i + 2];
+      sum3 += first[i + 3] * second[i + 3];
+    }
+    for (; i < first.length; i++) {
+      sum0 += first[i] * second[i];
+    }
+    return sum0 + sum1 + sum2 + sum3;
+  }
+
+  static float squareDistance(float[] first, float[] second) {
+    checkLengths(first, second);
+    float sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+    int i = 0;
+    for (; i + 3 < first.length; i += 4) {
+      float diff0 = first[i] - second[i];
+      float diff1 = first[i + 1] - second[i + 1];
+      float diff2 = first[i + 2] - second[i + 2];
+      float diff3 = first[i + 3] - second[i + 3];
+      sum0 += diff0 * diff0;
+      sum1 += diff1 * diff1;
+      sum2 += diff2 * diff2;
+      sum3 += diff3 * diff3;
+    }
+    for (; i < first.length; i++) {
+      float diff = first[i] - second[i];
+      sum0 += diff * diff;
+    }
+    return sum0 + sum1 + sum2 + sum3;
+  }
+
+  private static void checkLengths(float[] first, float[] second) {
+    if (first.length != second.length) {
+      throw new IllegalArgumentException(
+          "Vectors of different lengths: " + first.length + " and " + second.length);
+    }
+  }
+}
@@ -164,6 +164,7 @@ public class BeginOfflineSessionCommand implements CollectionCommand {
                     ? this.createCollection.options().vector().dimension()
                     : 0,
                 this.createCollection.options().vector().metric(),
+                this.createCollection.options().vector().sourceModel(),
                 comment,
                 0,
                 false,
@@ -188,14 +189,9 @@ public class BeginOfflineSessionCommand implements CollectionCommand {
             .stream()
             .map(SimpleStatement::getQuery)
             .toList();
-    InsertOperation insertOperation =
-        InsertOperation.create(
-            new CommandContext(this.namespace, this.createCollection.name()),
-            List.of(),
-            true,
-            true,
-            false);
-    String insertStatementCQL = insertOperation.buildInsertQuery(hasVector);
+    String insertStatementCQL =
+        InsertOperation.buildInsertQuery(
+            new CommandContext(this.namespace, this.createCollection.name()), hasVector, true);
     return new FileWriterParams(
         this.namespace,
         this.createCollection.name(),
@@ -7,7 +7,6 @@ import com.datastax.oss.driver.api.core.context.DriverContext;
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
-import com.datastax.oss.driver.api.core.data.CqlVector;
 import com.datastax.oss.driver.api.core.detach.AttachmentPoint;
 import com.datastax.oss.driver.api.core.metadata.Metadata;
 import com.datastax.oss.driver.api.core.metrics.Metrics;
@@ -25,6 +24,8 @@ import edu.umd.cs.findbugs.annotations.Nullable;
 import io.smallrye.faulttolerance.core.util.CompletionStages;
 import io.stargate.sgv2.jsonapi.api.request.FileWriterParams;
 import io.stargate.sgv2.jsonapi.service.cqldriver.CQLSessionCache;
+import io.stargate.sgv2.jsonapi.service.cqldriver.serializer.FloatVector;
+import io.stargate.sgv2.jsonapi.service.cqldriver.serializer.FloatVectorCodec;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -239,15 +240,14 @@ public class FileWriterSession implements CqlSession {
             .newValue(tupleValue.get(0, TypeCodecs.TINYINT), tupleValue.get(1, TypeCodecs.TEXT));
     boundValues.set(0, cxTupleValue);
     if (this.fileWriterParams.vectorEnabled()) {
-      // Change $vector from com.datastax.oss.driver.api.core.data.CqlVector to java.nio.ByteBuffer
+      // Change $vector from FloatVector to java.nio.ByteBuffer
       int vectorColumnIndex =
           boundValues.size()
               - 1; // TODO-SL: Need to find a better way to identify the vector column index
-      CqlVector<Float> cqlVector = (CqlVector<Float>) boundValues.get(vectorColumnIndex);
-      if (cqlVector != null) {
+      FloatVector vector = (FloatVector) boundValues.get(vectorColumnIndex);
+      if (vector != null) {
         ByteBuffer encodedVectorData =
-            TypeCodecs.vectorOf(cqlVector.size(), TypeCodecs.FLOAT)
-                .encode(cqlVector, ProtocolVersion.DEFAULT);
+            FloatVectorCodec.INSTANCE.encode(vector, ProtocolVersion.DEFAULT);
         boundValues.set(vectorColumnIndex, encodedVectorData);
       }
     }
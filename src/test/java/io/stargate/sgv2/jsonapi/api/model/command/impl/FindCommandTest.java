@@ -70,6 +70,47 @@ public class FindCommandTest {
       assertThat(result).isEmpty();
     }
 
+    @Test
+    public void minSimilarityOptionsVectorSearch() throws Exception {
+      String json =
+          """
+        {
+        "find": {
+            "sort" : {"$vector" : [0.11, 0.22, 0.33, 0.44]},
+            "options" : {
+              "minSimilarity" : 0.8
+            }
+          }
+        }
+        """;
+
+      FindCommand command = objectMapper.readValue(json, FindCommand.class);
+      assertThat(command.options().minSimilarity()).isEqualTo(0.8f);
+      Set<ConstraintViolation<FindCommand>> result = validator.validate(command);
+
+      assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void minSimilarityOptionsVectorizeSearch() throws Exception {
+      String json =
+          """
+        {
+        "find": {
+            "sort" : {"$vectorize" : "test data"},
+            "options" : {
+              "minSimilarity" : 0.8
+            }
+          }
+        }
+        """;
+
+      FindCommand command = objectMapper.readValue(json, FindCommand.class);
+      Set<ConstraintViolation<FindCommand>> result = validator.validate(command);
+
+      assertThat(result).isEmpty();
+    }
+
     @Test
     public void invalidOptionsNegativeLimit() throws Exception {
       String json =
@@ -5,10 +5,10 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import com.bpodgursky.jbool_expressions.Expression;
 import com.bpodgursky.jbool_expressions.Variable;
-import com.datastax.oss.driver.api.core.data.CqlVector;
 import io.stargate.sgv2.jsonapi.service.cql.ExpressionUtils;
 import io.stargate.sgv2.jsonapi.service.cqldriver.executor.CollectionSettings;
 import io.stargate.sgv2.jsonapi.service.cqldriver.serializer.CQLBindValues;
+import io.stargate.sgv2.jsonapi.service.cqldriver.serializer.FloatVector;
 import io.stargate.sgv2.jsonapi.service.operation.model.impl.JsonTerm;
 import java.util.ArrayList;
 import java.util.List;
@@ -24,7 +24,7 @@ public class QueryBuilderTest {
   public static final String VECTOR_COLUMN = "query_vector_value";
   public static final float[] TEST_VECTOR = new float[] {0.1f, 0.2f, 0.3f};
 
-  public static final CqlVector<Float> TEST_CQL_VECTOR = CQLBindValues.getVectorValue(TEST_VECTOR);
+  public static final FloatVector TEST_CQL_VECTOR = CQLBindValues.getVectorValue(TEST_VECTOR);
 
   public static final List<Object> EMPTY_VALUES = new ArrayList<>();
 
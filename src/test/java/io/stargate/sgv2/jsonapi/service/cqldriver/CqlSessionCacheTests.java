@@ -8,6 +8,8 @@ import static org.mockito.Mockito.when;
 
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.internal.core.context.DefaultDriverContext;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -15,6 +17,7 @@ import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.quarkus.security.UnauthorizedException;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.TestProfile;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
 import io.stargate.sgv2.jsonapi.api.request.DataApiRequestInfo;
 import io.stargate.sgv2.jsonapi.config.OperationsConfig;
 import jakarta.inject.Inject;
@@ -22,6 +25,8 @@ import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -109,6 +114,112 @@ public class CqlSessionCacheTests {
     assertThat(cachePutMetric.count()).isEqualTo(1);
   }
 
+  @Test
+  public void testOSSCxCQLSessionCacheAsyncSingleFlight() {
+    DataApiRequestInfo dataApiRequestInfo = mock(DataApiRequestInfo.class);
+    when(dataApiRequestInfo.getTenantId()).thenReturn(Optional.of(TENANT_ID_FOR_TEST));
+    when(dataApiRequestInfo.getCassandraToken())
+        .thenReturn(operationsConfig.databaseConfig().fixedToken());
+    CQLSessionCache cqlSessionCacheForTest = new CQLSessionCache(operationsConfig, meterRegistry);
+    // both requests subscribe while the session is being built
+    UniAssertSubscriber<CqlSession> first =
+        cqlSessionCacheForTest
+            .getSessionAsync(dataApiRequestInfo)
+            .subscribe()
+            .withSubscriber(UniAssertSubscriber.create());
+    UniAssertSubscriber<CqlSession> second =
+        cqlSessionCacheForTest
+            .getSessionAsync(dataApiRequestInfo)
+            .subscribe()
+            .withSubscriber(UniAssertSubscriber.create());
+    CqlSession cqlSession = first.awaitItem().getItem();
+    sessionsCreatedInTests.add(cqlSession);
+    assertThat(second.awaitItem().getItem()).isSameAs(cqlSession);
+    // metrics test
+    FunctionCounter cacheLoadMetric =
+        meterRegistry
+            .find("cache.load")
+            .tag("cache", "cql_sessions_cache")
+            .tag("result", "success")
+            .functionCounter();
+    assertThat(cacheLoadMetric).isNotNull();
+    assertThat(cacheLoadMetric.count()).isEqualTo(1);
+  }
+
+  @Test
+  public void testOSSCxCQLSessionCacheDrainsBeforeClose() throws Exception {
+    DataApiRequestInfo dataApiRequestInfo = mock(DataApiRequestInfo.class);
+    when(dataApiRequestInfo.getTenantId()).thenReturn(Optional.of(TENANT_ID_FOR_TEST));
+    when(dataApiRequestInfo.getCassandraToken())
+        .thenReturn(operationsConfig.databaseConfig().fixedToken());
+    CQLSessionCache cqlSessionCacheForTest = new CQLSessionCache(operationsConfig, meterRegistry);
+    CqlSession cqlSession = cqlSessionCacheForTest.getSession(dataApiRequestInfo);
+    sessionsCreatedInTests.add(cqlSession);
+    CompletableFuture<String> request = new CompletableFuture<>();
+    UniAssertSubscriber<String> running =
+        cqlSessionCacheForTest
+            .withSession(dataApiRequestInfo, session -> request)
+            .subscribe()
+            .withSubscriber(UniAssertSubscriber.create());
+    // remove the session while the request is running
+    Field sessionCacheField = cqlSessionCacheForTest.getClass().getDeclaredField("sessionCache");
+    sessionCacheField.setAccessible(true);
+    ((AsyncLoadingCache<?, ?>) sessionCacheField.get(cqlSessionCacheForTest))
+        .synchronous()
+        .invalidateAll();
+    assertThat(cqlSessionCacheForTest.cacheSize()).isEqualTo(0);
+    assertThat(cqlSession.isClosed()).isFalse();
+    // closed in the background once the request is done
+    request.complete("done");
+    running.awaitItem().assertItem("done");
+    cqlSession.closeFuture().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    // metrics test
+    Counter removalMetric =
+        meterRegistry.find("cql_sessions_cache.removals").tag("cause", "explicit").counter();
+    assertThat(removalMetric).isNotNull();
+    assertThat(removalMetric.count()).isEqualTo(1);
+  }
+
+  @Test
+  public void testOSSCxCQLSessionCachePutAgain() throws Exception {
+    DataApiRequestInfo dataApiRequestInfo = mock(DataApiRequestInfo.class);
+    when(dataApiRequestInfo.getTenantId()).thenReturn(Optional.of(TENANT_ID_FOR_TEST));
+    when(dataApiRequestInfo.getCassandraToken())
+        .thenReturn(operationsConfig.databaseConfig().fixedToken());
+    CQLSessionCache cqlSessionCacheForTest = new CQLSessionCache(operationsConfig, meterRegistry);
+    CqlSession cqlSession = cqlSessionCacheForTest.getSession(dataApiRequestInfo);
+    sessionsCreatedInTests.add(cqlSession);
+    // put the same session again, replacing the cached one
+    Field sessionCacheField = cqlSessionCacheForTest.getClass().getDeclaredField("sessionCache");
+    sessionCacheField.setAccessible(true);
+    CQLSessionCache.SessionCacheKey sessionCacheKey =
+        ((AsyncLoadingCache<CQLSessionCache.SessionCacheKey, ?>)
+                sessionCacheField.get(cqlSessionCacheForTest))
+            .synchronous()
+            .asMap()
+            .keySet()
+            .iterator()
+            .next();
+    cqlSessionCacheForTest.putSession(sessionCacheKey, cqlSession);
+    // wait for the removal listener
+    Counter removalMetric =
+        meterRegistry.counter("cql_sessions_cache.removals", "cause", "replaced");
+    long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+    while (removalMetric.count() < 1 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(removalMetric.count()).isEqualTo(1);
+    // still cached and usable
+    cqlSessionCacheForTest
+        .withSession(dataApiRequestInfo, session -> CompletableFuture.completedFuture(session))
+        .subscribe()
+        .withSubscriber(UniAssertSubscriber.create())
+        .awaitItem()
+        .assertItem(cqlSession);
+    assertThat(cqlSession.isClosed()).isFalse();
+    assertThat(cqlSessionCacheForTest.cacheSize()).isEqualTo(1);
+  }
+
   @Test
   public void testOSSCxCQLSessionCacheWithInvalidFixedToken()
       throws NoSuchFieldException, IllegalAccessException {
@@ -6,6 +6,7 @@ import com.datastax.oss.driver.api.core.config.DriverConfigLoader;
 import com.datastax.oss.driver.api.core.context.DriverContext;
 import com.datastax.oss.driver.api.core.session.ProgrammaticArguments;
 import com.datastax.oss.driver.internal.core.config.typesafe.DefaultDriverConfigLoader;
+import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
 import io.quarkus.test.junit.QuarkusTest;
 import org.junit.jupiter.api.Test;
 
@@ -31,6 +32,33 @@ public class TenantAwareCqlSessionBuilderTest {
         .isEqualTo(TEST_TENANT_ID);
   }
 
+  @Test
+  public void testTenantAwareCqlSessionBuilderSharedNettyOptions() {
+    SharedNettyOptions sharedNettyOptions = new SharedNettyOptions(1, 1, 100);
+    DriverConfigLoader driverConfigLoader = new DefaultDriverConfigLoader();
+    ProgrammaticArguments programmaticArguments = ProgrammaticArguments.builder().build();
+    InternalDriverContext context1 =
+        (InternalDriverContext)
+            new TenantAwareCqlSessionBuilder("tenant1", sharedNettyOptions)
+                .buildContext(driverConfigLoader, programmaticArguments);
+    InternalDriverContext context2 =
+        (InternalDriverContext)
+            new TenantAwareCqlSessionBuilder("tenant2", sharedNettyOptions)
+                .buildContext(driverConfigLoader, programmaticArguments);
+    try {
+      assertThat(context1.getNettyOptions().ioEventLoopGroup())
+          .isSameAs(context2.getNettyOptions().ioEventLoopGroup());
+      assertThat(context1.getNettyOptions().getTimer())
+          .isSameAs(context2.getNettyOptions().getTimer());
+      // closing a session keeps the resources for the other ones
+      assertThat(context1.getNettyOptions().onClose().isSuccess()).isTrue();
+      assertThat(context2.getNettyOptions().ioEventLoopGroup().isShuttingDown()).isFalse();
+    } finally {
+      sharedNettyOptions.close();
+    }
+    assertThat(context2.getNettyOptions().ioEventLoopGroup().isShuttingDown()).isTrue();
+  }
+
   @Test
   public void testTenantAwareCqlSessionBuilderNullTenant() {
     Throwable t = catchThrowable(() -> new TenantAwareCqlSessionBuilder(null));
@@ -0,0 +1,120 @@
+package io.stargate.sgv2.jsonapi.service.cqldriver.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+public class EstimatedCountCacheTest {
+
+  private static final Optional<String> TENANT = Optional.of("tenant");
+
+  private static final int MAX_SIZE = 100;
+
+  private Long getEstimatedCount(EstimatedCountCache cache, Supplier<Uni<Long>> loader) {
+    return cache
+        .getEstimatedCount(TENANT, "ks", "collection", loader)
+        .subscribe()
+        .withSubscriber(UniAssertSubscriber.create())
+        .awaitItem()
+        .getItem();
+  }
+
+  @Test
+  public void cachedBetweenRefreshes() {
+    EstimatedCountCache cache = new EstimatedCountCache(Duration.ofMinutes(1), MAX_SIZE);
+    AtomicInteger loads = new AtomicInteger();
+    Supplier<Uni<Long>> loader = () -> Uni.createFrom().item(() -> (long) loads.incrementAndGet());
+
+    assertThat(getEstimatedCount(cache, loader)).isEqualTo(1L);
+    assertThat(getEstimatedCount(cache, loader)).isEqualTo(1L);
+    assertThat(loads.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void pendingLoadShared() {
+    EstimatedCountCache cache = new EstimatedCountCache(Duration.ofMinutes(1), MAX_SIZE);
+    AtomicInteger loads = new AtomicInteger();
+    CompletableFuture<Long> load = new CompletableFuture<>();
+    Supplier<Uni<Long>> loader =
+        () -> {
+          loads.incrementAndGet();
+          return Uni.createFrom().completionStage(load);
+        };
+
+    UniAssertSubscriber<Long> first =
+        cache
+            .getEstimatedCount(TENANT, "ks", "collection", loader)
+            .subscribe()
+            .withSubscriber(UniAssertSubscriber.create());
+    UniAssertSubscriber<Long> second =
+        cache
+            .getEstimatedCount(TENANT, "ks", "collection", loader)
+            .subscribe()
+            .withSubscriber(UniAssertSubscriber.create());
+    load.complete(3L);
+    first.awaitItem().assertItem(3L);
+    second.awaitItem().assertItem(3L);
+    assertThat(loads.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void invalidatedEstimateReloaded() {
+    EstimatedCountCache cache = new EstimatedCountCache(Duration.ofMinutes(1), MAX_SIZE);
+    AtomicInteger loads = new AtomicInteger();
+    Supplier<Uni<Long>> loader = () -> Uni.createFrom().item(() -> (long) loads.incrementAndGet());
+
+    assertThat(getEstimatedCount(cache, loader)).isEqualTo(1L);
+    cache.invalidate(TENANT, "ks", "collection");
+    assertThat(getEstimatedCount(cache, loader)).isEqualTo(2L);
+    // other collections are kept
+    cache.invalidate(TENANT, "ks", "other");
+    assertThat(getEstimatedCount(cache, loader)).isEqualTo(2L);
+  }
+
+  @Test
+  public void staleEstimateRefreshedInBackground() throws InterruptedException {
+    EstimatedCountCache cache = new EstimatedCountCache(Duration.ofMillis(50), MAX_SIZE);
+    AtomicInteger loads = new AtomicInteger();
+    Supplier<Uni<Long>> loader = () -> Uni.createFrom().item(() -> (long) loads.incrementAndGet());
+
+    assertThat(getEstimatedCount(cache, loader)).isEqualTo(1L);
+    Thread.sleep(100);
+    // the stale estimate is returned while it is refreshed
+    assertThat(getEstimatedCount(cache, loader)).isEqualTo(1L);
+    assertThat(getEstimatedCount(cache, loader)).isEqualTo(2L);
+    assertThat(loads.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void failedLoadNotCached() {
+    EstimatedCountCache cache = new EstimatedCountCache(Duration.ofMinutes(1), MAX_SIZE);
+    RuntimeException failure = new RuntimeException("Test failure message.");
+    Throwable result =
+        cache
+            .getEstimatedCount(TENANT, "ks", "collection", () -> Uni.createFrom().failure(failure))
+            .subscribe()
+            .withSubscriber(UniAssertSubscriber.create())
+            .awaitFailure()
+            .getFailure();
+    assertThat(result).isEqualTo(failure);
+
+    assertThat(getEstimatedCount(cache, () -> Uni.createFrom().item(5L))).isEqualTo(5L);
+  }
+
+  @Test
+  public void notCachedWithoutRefreshInterval() {
+    EstimatedCountCache cache = new EstimatedCountCache(Duration.ZERO, MAX_SIZE);
+    AtomicInteger loads = new AtomicInteger();
+    Supplier<Uni<Long>> loader = () -> Uni.createFrom().item(() -> (long) loads.incrementAndGet());
+
+    assertThat(getEstimatedCount(cache, loader)).isEqualTo(1L);
+    assertThat(getEstimatedCount(cache, loader)).isEqualTo(2L);
+  }
+}
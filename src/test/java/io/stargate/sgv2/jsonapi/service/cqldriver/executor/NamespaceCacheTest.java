@@ -3,10 +3,14 @@ package io.stargate.sgv2.jsonapi.service.cqldriver.executor;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.type.DataType;
 import com.datastax.oss.driver.api.core.type.DataTypes;
 import com.datastax.oss.driver.internal.core.metadata.schema.DefaultColumnMetadata;
 import com.datastax.oss.driver.internal.core.metadata.schema.DefaultTableMetadata;
@@ -23,10 +27,12 @@ import io.stargate.sgv2.jsonapi.exception.JsonApiException;
 import io.stargate.sgv2.jsonapi.testresource.NoGlobalResourcesTestProfile;
 import jakarta.inject.Inject;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -152,7 +158,8 @@ public class NamespaceCacheTest {
                                 new HashMap<>(),
                                 new HashMap<>())));
               });
-      NamespaceCache namespaceCache = new NamespaceCache("ks", queryExecutor, objectMapper);
+      NamespaceCache namespaceCache =
+          new NamespaceCache("ks", queryExecutor, objectMapper, 300, 1000);
       CollectionSettings collectionSettings =
           namespaceCache
               .getCollectionProperties(dataApiRequestInfo, "table")
@@ -282,7 +289,8 @@ public class NamespaceCacheTest {
                                     "{\"indexing\":{\"deny\":[\"comment\"]}}"),
                                 new HashMap<>())));
               });
-      NamespaceCache namespaceCache = new NamespaceCache("ks", queryExecutor, objectMapper);
+      NamespaceCache namespaceCache =
+          new NamespaceCache("ks", queryExecutor, objectMapper, 300, 1000);
       CollectionSettings collectionSettings =
           namespaceCache
               .getCollectionProperties(dataApiRequestInfo, "table")
@@ -346,7 +354,8 @@ public class NamespaceCacheTest {
                                 new HashMap<>(),
                                 new HashMap<>())));
               });
-      NamespaceCache namespaceCache = new NamespaceCache("ks", queryExecutor, objectMapper);
+      NamespaceCache namespaceCache =
+          new NamespaceCache("ks", queryExecutor, objectMapper, 300, 1000);
       Throwable error =
           namespaceCache
               .getCollectionProperties(dataApiRequestInfo, "table")
@@ -364,5 +373,107 @@ public class NamespaceCacheTest {
                     .isEqualTo(ErrorCode.INVALID_JSONAPI_COLLECTION_SCHEMA.getMessage() + "table");
               });
     }
+
+    @Test
+    public void loadIsSingleFlight() {
+      QueryExecutor queryExecutor = mock(QueryExecutor.class);
+      CompletableFuture<Optional<TableMetadata>> schema = new CompletableFuture<>();
+      when(queryExecutor.getSchema(any(), any(), any()))
+          .thenReturn(Uni.createFrom().completionStage(schema));
+      NamespaceCache namespaceCache =
+          new NamespaceCache("ks", queryExecutor, objectMapper, 300, 1000);
+
+      UniAssertSubscriber<CollectionSettings> first =
+          namespaceCache
+              .getCollectionProperties(dataApiRequestInfo, "table")
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create());
+      UniAssertSubscriber<CollectionSettings> second =
+          namespaceCache
+              .getCollectionProperties(dataApiRequestInfo, "table")
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create());
+      schema.complete(Optional.of(jsonApiTable(new HashMap<>())));
+
+      assertThat(first.awaitItem().getItem().collectionName()).isEqualTo("table");
+      assertThat(second.awaitItem().getItem().collectionName()).isEqualTo("table");
+      verify(queryExecutor, times(1)).getSchema(any(), any(), any());
+    }
+
+    @Test
+    public void refreshFromTableMetadata() {
+      QueryExecutor queryExecutor = mock(QueryExecutor.class);
+      when(queryExecutor.getSchema(any(), any(), any()))
+          .thenReturn(Uni.createFrom().item(Optional.of(jsonApiTable(new HashMap<>()))));
+      NamespaceCache namespaceCache =
+          new NamespaceCache("ks", queryExecutor, objectMapper, 300, 1000);
+      namespaceCache
+          .getCollectionProperties(dataApiRequestInfo, "table")
+          .subscribe()
+          .withSubscriber(UniAssertSubscriber.create())
+          .awaitItem();
+
+      // as on a table updated event
+      namespaceCache.refreshCollectionSettingCacheEntry(
+          jsonApiTable(
+              Map.of(
+                  CqlIdentifier.fromInternal("comment"),
+                  "{\"indexing\":{\"deny\":[\"comment\"]}}")));
+      CollectionSettings collectionSettings =
+          namespaceCache
+              .getCollectionProperties(dataApiRequestInfo, "table")
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create())
+              .awaitItem()
+              .getItem();
+
+      assertThat(collectionSettings.indexingConfig().denied()).containsExactly("comment");
+      verify(queryExecutor, times(1)).getSchema(any(), any(), any());
+    }
+  }
+
+  private static TableMetadata jsonApiTable(Map<CqlIdentifier, Object> options) {
+    Map<String, DataType> columnTypes = new LinkedHashMap<>();
+    columnTypes.put("tx_id", DataTypes.TIMEUUID);
+    columnTypes.put("doc_json", DataTypes.TEXT);
+    columnTypes.put("exist_keys", DataTypes.setOf(DataTypes.TEXT));
+    columnTypes.put("array_size", DataTypes.mapOf(DataTypes.TEXT, DataTypes.INT));
+    columnTypes.put("array_contains", DataTypes.setOf(DataTypes.TEXT));
+    columnTypes.put("query_bool_values", DataTypes.mapOf(DataTypes.TEXT, DataTypes.TINYINT));
+    columnTypes.put("query_dbl_values", DataTypes.mapOf(DataTypes.TEXT, DataTypes.DECIMAL));
+    columnTypes.put("query_text_values", DataTypes.mapOf(DataTypes.TEXT, DataTypes.TEXT));
+    columnTypes.put(
+        "query_timestamp_values", DataTypes.mapOf(DataTypes.TEXT, DataTypes.TIMESTAMP));
+    columnTypes.put("query_null_values", DataTypes.setOf(DataTypes.TEXT));
+    Map<CqlIdentifier, ColumnMetadata> columns = new HashMap<>();
+    columnTypes.forEach(
+        (name, type) ->
+            columns.put(
+                CqlIdentifier.fromInternal(name),
+                new DefaultColumnMetadata(
+                    CqlIdentifier.fromInternal("ks"),
+                    CqlIdentifier.fromInternal("table"),
+                    CqlIdentifier.fromInternal(name),
+                    type,
+                    false)));
+    List<ColumnMetadata> partitionColumn =
+        Lists.newArrayList(
+            new DefaultColumnMetadata(
+                CqlIdentifier.fromInternal("ks"),
+                CqlIdentifier.fromInternal("table"),
+                CqlIdentifier.fromInternal("key"),
+                DataTypes.tupleOf(DataTypes.TINYINT, DataTypes.TEXT),
+                false));
+    return new DefaultTableMetadata(
+        CqlIdentifier.fromInternal("ks"),
+        CqlIdentifier.fromInternal("table"),
+        UUID.randomUUID(),
+        false,
+        false,
+        partitionColumn,
+        new HashMap<>(),
+        columns,
+        options,
+        new HashMap<>());
   }
 }
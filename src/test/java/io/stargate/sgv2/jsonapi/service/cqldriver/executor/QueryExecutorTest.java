@@ -0,0 +1,118 @@
+package io.stargate.sgv2.jsonapi.service.cqldriver.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.stargate.sgv2.jsonapi.api.request.DataApiRequestInfo;
+import io.stargate.sgv2.jsonapi.config.OperationsConfig;
+import io.stargate.sgv2.jsonapi.service.cqldriver.CQLSessionCache;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class QueryExecutorTest {
+
+  private final DataApiRequestInfo dataApiRequestInfo = mock(DataApiRequestInfo.class);
+
+  private final CqlSession session = mock(CqlSession.class);
+
+  private final SimpleStatement statement =
+      SimpleStatement.newInstance("CREATE TABLE ks.collection (key text PRIMARY KEY)");
+
+  @Nested
+  class CreateSchemaChange {
+
+    @Test
+    public void agreedByDriver() {
+      AsyncResultSet result = schemaChangeResult(true);
+      QueryExecutor queryExecutor = queryExecutor(10000);
+
+      assertThat(executeCreateSchemaChange(queryExecutor)).isSameAs(result);
+      verify(session, never()).checkSchemaAgreementAsync();
+    }
+
+    @Test
+    public void agreedAfterPolls() {
+      AsyncResultSet result = schemaChangeResult(false);
+      when(session.checkSchemaAgreementAsync())
+          .thenReturn(
+              CompletableFuture.completedFuture(false),
+              CompletableFuture.completedFuture(false),
+              CompletableFuture.completedFuture(true));
+      QueryExecutor queryExecutor = queryExecutor(10000);
+
+      long start = System.nanoTime();
+      assertThat(executeCreateSchemaChange(queryExecutor)).isSameAs(result);
+
+      verify(session, times(3)).checkSchemaAgreementAsync();
+      // waited 50 ms then 100 ms between the polls
+      assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThan(Duration.ofMillis(140));
+    }
+
+    @Test
+    public void timeoutWithoutAgreement() {
+      AsyncResultSet result = schemaChangeResult(false);
+      when(session.checkSchemaAgreementAsync())
+          .thenReturn(CompletableFuture.completedFuture(false));
+      QueryExecutor queryExecutor = queryExecutor(200);
+
+      // proceeds with the result once timed out, as if agreed
+      assertThat(executeCreateSchemaChange(queryExecutor)).isSameAs(result);
+
+      // polled after 0, 50, 150 and 350 ms
+      verify(session, atLeast(3)).checkSchemaAgreementAsync();
+      verify(session, atMost(4)).checkSchemaAgreementAsync();
+    }
+  }
+
+  private AsyncResultSet schemaChangeResult(boolean schemaInAgreement) {
+    ExecutionInfo executionInfo = mock(ExecutionInfo.class);
+    when(executionInfo.isSchemaInAgreement()).thenReturn(schemaInAgreement);
+    AsyncResultSet result = mock(AsyncResultSet.class);
+    when(result.getExecutionInfo()).thenReturn(executionInfo);
+    when(session.executeAsync(any(SimpleStatement.class)))
+        .thenReturn(CompletableFuture.completedFuture(result));
+    return result;
+  }
+
+  @SuppressWarnings("unchecked")
+  private QueryExecutor queryExecutor(int schemaAgreementTimeoutMillis) {
+    OperationsConfig operationsConfig = mock(OperationsConfig.class, RETURNS_DEEP_STUBS);
+    when(operationsConfig.databaseConfig().schemaAgreementTimeoutMillis())
+        .thenReturn(schemaAgreementTimeoutMillis);
+    CQLSessionCache cqlSessionCache = mock(CQLSessionCache.class);
+    when(cqlSessionCache.withSession(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              Function<CqlSession, CompletionStage<?>> request = invocation.getArgument(1);
+              return Uni.createFrom().completionStage(() -> request.apply(session));
+            });
+    return new QueryExecutor(cqlSessionCache, operationsConfig);
+  }
+
+  private AsyncResultSet executeCreateSchemaChange(QueryExecutor queryExecutor) {
+    return queryExecutor
+        .executeCreateSchemaChange(dataApiRequestInfo, statement)
+        .subscribe()
+        .withSubscriber(UniAssertSubscriber.create())
+        .awaitItem()
+        .getItem();
+  }
+}
@@ -0,0 +1,82 @@
+package io.stargate.sgv2.jsonapi.service.cqldriver.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.data.CqlVector;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.api.core.type.codec.registry.MutableCodecRegistry;
+import com.datastax.oss.driver.internal.core.type.codec.registry.DefaultCodecRegistry;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+public class FloatVectorCodecTest {
+
+  private static final float[] VALUES = {0.25f, -1.5f, 3.0f, 0f, Float.MIN_VALUE};
+
+  @Test
+  public void encodesLikeDriverCodec() {
+    ByteBuffer expected =
+        TypeCodecs.vectorOf(VALUES.length, TypeCodecs.FLOAT)
+            .encode(
+                CqlVector.newInstance(0.25f, -1.5f, 3.0f, 0f, Float.MIN_VALUE),
+                ProtocolVersion.DEFAULT);
+
+    ByteBuffer actual =
+        FloatVectorCodec.INSTANCE.encode(FloatVector.of(VALUES), ProtocolVersion.DEFAULT);
+
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  public void roundTrip() {
+    ByteBuffer bytes =
+        FloatVectorCodec.INSTANCE.encode(FloatVector.of(VALUES), ProtocolVersion.DEFAULT);
+
+    FloatVector decoded = FloatVectorCodec.INSTANCE.decode(bytes, ProtocolVersion.DEFAULT);
+
+    assertThat(decoded.values()).containsExactly(VALUES);
+    // decoding does not consume the buffer
+    assertThat(bytes.remaining()).isEqualTo(VALUES.length * Float.BYTES);
+  }
+
+  @Test
+  public void nullValues() {
+    assertThat(FloatVectorCodec.INSTANCE.encode(null, ProtocolVersion.DEFAULT)).isNull();
+    assertThat(FloatVectorCodec.INSTANCE.decode(null, ProtocolVersion.DEFAULT)).isNull();
+  }
+
+  @Test
+  public void acceptsFloatVectorsOfAnyDimension() {
+    assertThat(FloatVectorCodec.INSTANCE.accepts(DataTypes.vectorOf(DataTypes.FLOAT, 3))).isTrue();
+    assertThat(FloatVectorCodec.INSTANCE.accepts(DataTypes.vectorOf(DataTypes.FLOAT, 3072)))
+        .isTrue();
+    assertThat(FloatVectorCodec.INSTANCE.accepts(DataTypes.vectorOf(DataTypes.INT, 3))).isFalse();
+    assertThat(FloatVectorCodec.INSTANCE.accepts(DataTypes.FLOAT)).isFalse();
+  }
+
+  @Test
+  public void usedForBoundValues() {
+    MutableCodecRegistry registry = new DefaultCodecRegistry("test");
+    registry.register(FloatVectorCodec.INSTANCE);
+
+    assertThat(registry.codecFor(FloatVector.of(VALUES))).isSameAs(FloatVectorCodec.INSTANCE);
+  }
+
+  @Test
+  public void equalByContent() {
+    assertThat(FloatVector.of(new float[] {1f, 2f}))
+        .isEqualTo(FloatVector.of(new float[] {1f, 2f}));
+    assertThat(FloatVector.of(new float[] {1f, 2f})).isNotEqualTo(FloatVector.of(new float[] {2f}));
+  }
+
+  @Test
+  public void formatAndParse() {
+    FloatVector vector = FloatVector.of(new float[] {1.5f, -2f});
+    String formatted = FloatVectorCodec.INSTANCE.format(vector);
+
+    assertThat(formatted).isEqualTo("[1.5, -2.0]");
+    assertThat(FloatVectorCodec.INSTANCE.parse(formatted)).isEqualTo(vector);
+  }
+}
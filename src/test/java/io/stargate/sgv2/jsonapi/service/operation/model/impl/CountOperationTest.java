@@ -1,8 +1,11 @@
 package io.stargate.sgv2.jsonapi.service.operation.model.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
@@ -11,6 +14,7 @@ import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.TestProfile;
+import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandResult;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandStatus;
@@ -19,6 +23,7 @@ import io.stargate.sgv2.jsonapi.api.model.command.clause.filter.LogicalExpressio
 import io.stargate.sgv2.jsonapi.service.cqldriver.executor.QueryExecutor;
 import io.stargate.sgv2.jsonapi.service.operation.model.CountOperation;
 import io.stargate.sgv2.jsonapi.service.shredding.model.DocValueHasher;
+import io.stargate.sgv2.jsonapi.service.shredding.model.DocumentId;
 import io.stargate.sgv2.jsonapi.service.testutil.MockAsyncResultSet;
 import io.stargate.sgv2.jsonapi.service.testutil.MockRow;
 import io.stargate.sgv2.jsonapi.testresource.NoGlobalResourcesTestProfile;
@@ -400,4 +405,163 @@ public class CountOperationTest extends OperationTestBase {
       assertThat(result).isEqualTo(failure);
     }
   }
+
+  @Nested
+  class ExecuteByKeyAcrossTokenRanges {
+    private final ColumnDefinitions COUNT_RESULT_COLUMNS =
+        buildColumnDefs(TestColumn.ofLong("count"));
+
+    private final String FIRST_RANGE_CQL =
+        "SELECT key FROM \"%s\".\"%s\" WHERE (TOKEN(key) > ? AND TOKEN(key) <= ?) LIMIT %d";
+
+    private final String LAST_RANGE_CQL =
+        "SELECT key FROM \"%s\".\"%s\" WHERE TOKEN(key) > ? LIMIT %d";
+
+    private QueryExecutor tokenRangeQueryExecutor() {
+      QueryExecutor queryExecutor = mock(QueryExecutor.class);
+      when(queryExecutor.getCountConcurrency()).thenReturn(2);
+      when(queryExecutor.getCountTokenRanges(dataApiRequestInfo))
+          .thenReturn(
+              Uni.createFrom()
+                  .item(
+                      List.of(
+                          new QueryExecutor.TokenValueRange(Long.MIN_VALUE, 0L),
+                          new QueryExecutor.TokenValueRange(0L, Long.MIN_VALUE))));
+      return queryExecutor;
+    }
+
+    @Test
+    public void countSumsRanges() {
+      SimpleStatement firstStmt =
+          SimpleStatement.newInstance(
+              FIRST_RANGE_CQL.formatted(KEYSPACE_NAME, COLLECTION_NAME, 11), Long.MIN_VALUE, 0L);
+      SimpleStatement lastStmt =
+          SimpleStatement.newInstance(
+              LAST_RANGE_CQL.formatted(KEYSPACE_NAME, COLLECTION_NAME, 11), 0L);
+      AsyncResultSet firstResults =
+          new MockAsyncResultSet(
+              COUNT_RESULT_COLUMNS,
+              Arrays.asList(resultRow(0, "key1"), resultRow(1, "key2"), resultRow(2, "key3")),
+              null);
+      AsyncResultSet lastResults =
+          new MockAsyncResultSet(
+              COUNT_RESULT_COLUMNS,
+              Arrays.asList(resultRow(0, "key4"), resultRow(1, "key5")),
+              null);
+      final AtomicInteger callCount = new AtomicInteger();
+      QueryExecutor queryExecutor = tokenRangeQueryExecutor();
+      when(queryExecutor.executeCount(eq(dataApiRequestInfo), eq(firstStmt)))
+          .then(
+              invocation -> {
+                callCount.incrementAndGet();
+                return CompletableFuture.supplyAsync(() -> firstResults).minimalCompletionStage();
+              });
+      when(queryExecutor.executeCount(eq(dataApiRequestInfo), eq(lastStmt)))
+          .then(
+              invocation -> {
+                callCount.incrementAndGet();
+                return CompletableFuture.supplyAsync(() -> lastResults).minimalCompletionStage();
+              });
+
+      CountOperation countOperation = new CountOperation(CONTEXT, LogicalExpression.and(), 100, 10);
+      Supplier<CommandResult> execute =
+          countOperation
+              .execute(dataApiRequestInfo, queryExecutor)
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create())
+              .awaitItem()
+              .getItem();
+
+      // assert query execution
+      assertThat(callCount.get()).isEqualTo(2);
+
+      // then result
+      CommandResult result = execute.get();
+      assertThat(result.status().get(CommandStatus.COUNTED_DOCUMENT)).isEqualTo(5L);
+      assertThat(result.status().get(CommandStatus.MORE_DATA)).isNull();
+    }
+
+    @Test
+    public void countStopsAboveLimit() {
+      SimpleStatement firstStmt =
+          SimpleStatement.newInstance(
+              FIRST_RANGE_CQL.formatted(KEYSPACE_NAME, COLLECTION_NAME, 3), Long.MIN_VALUE, 0L);
+      SimpleStatement lastStmt =
+          SimpleStatement.newInstance(
+              LAST_RANGE_CQL.formatted(KEYSPACE_NAME, COLLECTION_NAME, 3), 0L);
+      AsyncResultSet firstResults =
+          new MockAsyncResultSet(
+              COUNT_RESULT_COLUMNS,
+              Arrays.asList(resultRow(0, "key1"), resultRow(1, "key2"), resultRow(2, "key3")),
+              null);
+      QueryExecutor queryExecutor = tokenRangeQueryExecutor();
+      when(queryExecutor.executeCount(eq(dataApiRequestInfo), eq(firstStmt)))
+          .then(
+              invocation ->
+                  CompletableFuture.supplyAsync(() -> firstResults).minimalCompletionStage());
+      // never completes, cancelled once the limit is exceeded
+      when(queryExecutor.executeCount(eq(dataApiRequestInfo), eq(lastStmt)))
+          .then(invocation -> new CompletableFuture<AsyncResultSet>());
+
+      CountOperation countOperation = new CountOperation(CONTEXT, LogicalExpression.and(), 100, 2);
+      Supplier<CommandResult> execute =
+          countOperation
+              .execute(dataApiRequestInfo, queryExecutor)
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create())
+              .awaitItem()
+              .getItem();
+
+      // then result
+      CommandResult result = execute.get();
+      assertThat(result.status().get(CommandStatus.COUNTED_DOCUMENT)).isEqualTo(2L);
+      assertThat(result.status().get(CommandStatus.MORE_DATA)).isEqualTo(true);
+    }
+
+    @Test
+    public void countByIdNotSplit() {
+      String collectionReadCql =
+          "SELECT key FROM \"%s\".\"%s\" WHERE key = ? LIMIT 11"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME);
+      SimpleStatement stmt =
+          SimpleStatement.newInstance(collectionReadCql, boundKeyForStatement("doc1"));
+      AsyncResultSet mockResults =
+          new MockAsyncResultSet(COUNT_RESULT_COLUMNS, Arrays.asList(resultRow(0, "doc1")), null);
+      final AtomicInteger callCount = new AtomicInteger();
+      QueryExecutor queryExecutor = tokenRangeQueryExecutor();
+      when(queryExecutor.executeCount(eq(dataApiRequestInfo), eq(stmt)))
+          .then(
+              invocation -> {
+                callCount.incrementAndGet();
+                return CompletableFuture.supplyAsync(() -> mockResults).minimalCompletionStage();
+              });
+
+      LogicalExpression implicitAnd = LogicalExpression.and();
+      implicitAnd.comparisonExpressions.add(new ComparisonExpression(null, null, null));
+      implicitAnd
+          .comparisonExpressions
+          .get(0)
+          .setDBFilters(
+              List.of(
+                  new DBFilterBase.IDFilter(
+                      DBFilterBase.IDFilter.Operator.EQ, DocumentId.fromString("doc1"))));
+      CountOperation countOperation = new CountOperation(CONTEXT, implicitAnd, 100, 10);
+      Supplier<CommandResult> execute =
+          countOperation
+              .execute(dataApiRequestInfo, queryExecutor)
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create())
+              .awaitItem()
+              .getItem();
+
+      // a single partition read, not restricted to token ranges
+      assertThat(callCount.get()).isEqualTo(1);
+      verify(queryExecutor, never()).getCountTokenRanges(any());
+
+      // then result
+      CommandResult result = execute.get();
+      assertThat(result.status().get(CommandStatus.COUNTED_DOCUMENT)).isEqualTo(1L);
+      assertThat(result.status().get(CommandStatus.MORE_DATA)).isNull();
+    }
+  }
 }
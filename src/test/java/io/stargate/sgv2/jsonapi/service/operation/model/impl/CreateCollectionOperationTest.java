@@ -30,13 +30,16 @@ import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandResult;
+import io.stargate.sgv2.jsonapi.api.model.command.CommandStatus;
 import io.stargate.sgv2.jsonapi.config.DatabaseLimitsConfig;
+import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.service.cqldriver.CQLSessionCache;
 import io.stargate.sgv2.jsonapi.service.cqldriver.executor.QueryExecutor;
 import io.stargate.sgv2.jsonapi.service.testutil.MockAsyncResultSet;
 import io.stargate.sgv2.jsonapi.service.testutil.MockRow;
 import io.stargate.sgv2.jsonapi.testresource.NoGlobalResourcesTestProfile;
 import jakarta.inject.Inject;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -166,6 +169,7 @@ public class CreateCollectionOperationTest extends OperationTestBase {
               COLLECTION_NAME,
               5,
               "cosine",
+              null,
               "",
               10,
               false,
@@ -284,6 +288,7 @@ public class CreateCollectionOperationTest extends OperationTestBase {
               COLLECTION_NAME,
               5,
               "cosine",
+              null,
               "",
               10,
               false,
@@ -385,6 +390,184 @@ public class CreateCollectionOperationTest extends OperationTestBase {
       assertThat(dropCounter.get()).isEqualTo(1);
     }
 
+    @Test
+    public void indexesCreatedWithBoundedConcurrency() {
+      List<Row> resultRows =
+          Arrays.asList(new MockRow(RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(true))));
+
+      AsyncResultSet results = new MockAsyncResultSet(RESULT_COLUMNS, resultRows, null);
+      final AtomicInteger indexCounter = new AtomicInteger();
+      final AtomicInteger inFlight = new AtomicInteger();
+      final AtomicInteger maxInFlight = new AtomicInteger();
+      QueryExecutor queryExecutor = mock(QueryExecutor.class);
+      when(queryExecutor.getDdlIndexConcurrency()).thenReturn(2);
+      when(queryExecutor.executeCreateSchemaChange(
+              eq(dataApiRequestInfo),
+              argThat(
+                  simpleStatement ->
+                      simpleStatement.getQuery().startsWith("CREATE TABLE IF NOT EXISTS"))))
+          .thenReturn(Uni.createFrom().item(results));
+      when(queryExecutor.executeCreateSchemaChange(
+              eq(dataApiRequestInfo),
+              argThat(
+                  simpleStatement -> simpleStatement.getQuery().startsWith("CREATE CUSTOM INDEX"))))
+          .then(
+              invocation ->
+                  Uni.createFrom()
+                      .item(results)
+                      .onSubscription()
+                      .invoke(
+                          () -> {
+                            indexCounter.incrementAndGet();
+                            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                          })
+                      .onItem()
+                      .delayIt()
+                      .by(Duration.ofMillis(20))
+                      .onTermination()
+                      .invoke(inFlight::decrementAndGet));
+
+      CreateCollectionOperation operation =
+          CreateCollectionOperation.withoutVectorSearch(
+              COMMAND_CONTEXT,
+              databaseLimitsConfig,
+              objectMapper,
+              emptyKeyspaceSessionCache(),
+              COLLECTION_NAME,
+              "",
+              10,
+              false,
+              false);
+
+      Supplier<CommandResult> execute =
+          operation
+              .execute(dataApiRequestInfo, queryExecutor)
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create())
+              .awaitItem()
+              .getItem();
+      assertThat(execute.get().status()).containsEntry(CommandStatus.OK, 1);
+      // 8 super shredder indexes, at most 2 at a time
+      assertThat(indexCounter.get()).isEqualTo(8);
+      assertThat(maxInFlight.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void indexNotApplied() {
+      List<Row> resultRows =
+          Arrays.asList(new MockRow(RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(true))));
+      AsyncResultSet results = new MockAsyncResultSet(RESULT_COLUMNS, resultRows, null);
+      List<Row> notAppliedRows =
+          Arrays.asList(new MockRow(RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(false))));
+      AsyncResultSet notApplied = new MockAsyncResultSet(RESULT_COLUMNS, notAppliedRows, null);
+      QueryExecutor queryExecutor = mock(QueryExecutor.class);
+      when(queryExecutor.getDdlIndexConcurrency()).thenReturn(2);
+      when(queryExecutor.executeCreateSchemaChange(
+              eq(dataApiRequestInfo),
+              argThat(
+                  simpleStatement ->
+                      simpleStatement.getQuery().startsWith("CREATE TABLE IF NOT EXISTS"))))
+          .thenReturn(Uni.createFrom().item(results));
+      when(queryExecutor.executeCreateSchemaChange(
+              eq(dataApiRequestInfo),
+              argThat(
+                  simpleStatement -> simpleStatement.getQuery().startsWith("CREATE CUSTOM INDEX"))))
+          .thenReturn(Uni.createFrom().item(results), Uni.createFrom().item(notApplied))
+          .thenReturn(Uni.createFrom().item(results));
+
+      CreateCollectionOperation operation =
+          CreateCollectionOperation.withoutVectorSearch(
+              COMMAND_CONTEXT,
+              databaseLimitsConfig,
+              objectMapper,
+              emptyKeyspaceSessionCache(),
+              COLLECTION_NAME,
+              "",
+              10,
+              false,
+              false);
+
+      Supplier<CommandResult> execute =
+          operation
+              .execute(dataApiRequestInfo, queryExecutor)
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create())
+              .awaitItem()
+              .getItem();
+      assertThat(execute.get().errors())
+          .singleElement()
+          .satisfies(
+              error ->
+                  assertThat(error.fields())
+                      .containsEntry("errorCode", ErrorCode.COLLECTION_CREATION_ERROR.name()));
+    }
+
+    @Test
+    public void indexFailure() {
+      List<Row> resultRows =
+          Arrays.asList(new MockRow(RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(true))));
+      AsyncResultSet results = new MockAsyncResultSet(RESULT_COLUMNS, resultRows, null);
+      RuntimeException failure = new RuntimeException("Index creation failed");
+      QueryExecutor queryExecutor = mock(QueryExecutor.class);
+      when(queryExecutor.getDdlIndexConcurrency()).thenReturn(2);
+      when(queryExecutor.executeCreateSchemaChange(
+              eq(dataApiRequestInfo),
+              argThat(
+                  simpleStatement ->
+                      simpleStatement.getQuery().startsWith("CREATE TABLE IF NOT EXISTS"))))
+          .thenReturn(Uni.createFrom().item(results));
+      when(queryExecutor.executeCreateSchemaChange(
+              eq(dataApiRequestInfo),
+              argThat(
+                  simpleStatement -> simpleStatement.getQuery().startsWith("CREATE CUSTOM INDEX"))))
+          .thenReturn(Uni.createFrom().item(results), Uni.createFrom().failure(failure))
+          .thenReturn(Uni.createFrom().item(results));
+
+      CreateCollectionOperation operation =
+          CreateCollectionOperation.withoutVectorSearch(
+              COMMAND_CONTEXT,
+              databaseLimitsConfig,
+              objectMapper,
+              emptyKeyspaceSessionCache(),
+              COLLECTION_NAME,
+              "",
+              10,
+              false,
+              false);
+
+      Throwable result =
+          operation
+              .execute(dataApiRequestInfo, queryExecutor)
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create())
+              .awaitFailure()
+              .getFailure();
+      assertThat(result).isSameAs(failure);
+    }
+
+    private CQLSessionCache emptyKeyspaceSessionCache() {
+      CQLSessionCache sessionCache = mock(CQLSessionCache.class);
+      CqlSession session = mock(CqlSession.class);
+      when(sessionCache.getSession(dataApiRequestInfo)).thenReturn(session);
+      Metadata metadata = mock(Metadata.class);
+      when(session.getMetadata()).thenReturn(metadata);
+      Map<CqlIdentifier, KeyspaceMetadata> allKeyspaces = new HashMap<>();
+      DefaultKeyspaceMetadata keyspaceMetadata =
+          new DefaultKeyspaceMetadata(
+              CqlIdentifier.fromInternal(KEYSPACE_NAME),
+              false,
+              false,
+              new HashMap<>(),
+              new HashMap<>(),
+              new HashMap<>(),
+              new HashMap<>(),
+              new HashMap<>(),
+              new HashMap<>());
+      allKeyspaces.put(CqlIdentifier.fromInternal(KEYSPACE_NAME), keyspaceMetadata);
+      when(metadata.getKeyspaces()).thenReturn(allKeyspaces);
+      return sessionCache;
+    }
+
     private List<ColumnMetadata> createCorrectPartitionColumn() {
       List<DataType> tuple =
           Arrays.asList(
@@ -66,6 +66,9 @@ public class DeleteOperationTest extends OperationTestBase {
     private final ColumnDefinitions DELETE_RESULT_COLUMNS =
         buildColumnDefs(TestColumn.ofBoolean("[applied]"));
 
+    private final ColumnDefinitions DELETE_FAILURE_RESULT_COLUMNS =
+        buildColumnDefs(TestColumn.ofBoolean("[applied]"), TestColumn.ofUuid("tx_id"));
+
     private final ColumnDefinitions SELECT_RESULT_COLUMNS =
         buildColumnDefs(TestColumn.keyColumn(), TestColumn.ofUuid("tx_id"));
 
@@ -73,6 +76,34 @@ public class DeleteOperationTest extends OperationTestBase {
         buildColumnDefs(
             TestColumn.keyColumn(), TestColumn.ofUuid("tx_id"), TestColumn.ofVarchar("doc_json"));
 
+    private FindOperation findByIdOperation(String id) {
+      LogicalExpression implicitAnd = LogicalExpression.and();
+      implicitAnd.comparisonExpressions.add(new ComparisonExpression(null, null, null));
+      List<DBFilterBase> filters =
+          List.of(
+              new DBFilterBase.IDFilter(
+                  DBFilterBase.IDFilter.Operator.EQ, DocumentId.fromString(id)));
+      implicitAnd.comparisonExpressions.get(0).setDBFilters(filters);
+      return FindOperation.unsortedSingle(
+          COMMAND_CONTEXT,
+          implicitAnd,
+          DocumentProjector.defaultProjector(),
+          ReadType.KEY,
+          objectMapper,
+          false);
+    }
+
+    /**
+     * Result of a conditional delete not applied because the document was modified: the current
+     * <code>tx_id</code> is returned along with <code>[applied]</code>.
+     */
+    private MockRow modifiedDocumentDeleteRow() {
+      return new MockRow(
+          DELETE_FAILURE_RESULT_COLUMNS,
+          0,
+          Arrays.asList(byteBufferFrom(false), byteBufferFrom(UUID.randomUUID())));
+    }
+
     @Test
     public void deleteWithId() {
       UUID tx_id = UUID.randomUUID();
@@ -747,12 +778,10 @@ public class DeleteOperationTest extends OperationTestBase {
 
       SimpleStatement deleteStmt =
           SimpleStatement.newInstance(collectionDeleteCql, keyValue, tx_id1);
-      List<Row> deleteRows =
-          Arrays.asList(
-              new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(false))));
+      List<Row> deleteRows = Arrays.asList(modifiedDocumentDeleteRow());
 
       AsyncResultSet deleteResults =
-          new MockAsyncResultSet(DELETE_RESULT_COLUMNS, deleteRows, null);
+          new MockAsyncResultSet(DELETE_FAILURE_RESULT_COLUMNS, deleteRows, null);
       final AtomicInteger deleteCallCount = new AtomicInteger();
       when(queryExecutor.executeWrite(eq(dataApiRequestInfo), eq(deleteStmt)))
           .then(
@@ -869,12 +898,10 @@ public class DeleteOperationTest extends OperationTestBase {
 
       SimpleStatement deleteStmt =
           SimpleStatement.newInstance(collectionDeleteCql, keyValue, tx_id1);
-      List<Row> deleteRows =
-          Arrays.asList(
-              new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(false))));
+      List<Row> deleteRows = Arrays.asList(modifiedDocumentDeleteRow());
 
       AsyncResultSet deleteResults =
-          new MockAsyncResultSet(DELETE_RESULT_COLUMNS, deleteRows, null);
+          new MockAsyncResultSet(DELETE_FAILURE_RESULT_COLUMNS, deleteRows, null);
       final AtomicInteger deleteCallCount = new AtomicInteger();
       when(queryExecutor.executeWrite(eq(dataApiRequestInfo), eq(deleteStmt)))
           .then(
@@ -884,12 +911,10 @@ public class DeleteOperationTest extends OperationTestBase {
               });
 
       deleteStmt = SimpleStatement.newInstance(collectionDeleteCql, keyValue, tx_id2);
-      deleteRows =
-          Arrays.asList(
-              new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(false))));
+      deleteRows = Arrays.asList(modifiedDocumentDeleteRow());
 
       AsyncResultSet deleteResults2 =
-          new MockAsyncResultSet(DELETE_RESULT_COLUMNS, deleteRows, null);
+          new MockAsyncResultSet(DELETE_FAILURE_RESULT_COLUMNS, deleteRows, null);
       when(queryExecutor.executeWrite(eq(dataApiRequestInfo), eq(deleteStmt)))
           .then(
               invocation -> {
@@ -986,12 +1011,10 @@ public class DeleteOperationTest extends OperationTestBase {
 
       SimpleStatement deleteStmt =
           SimpleStatement.newInstance(collectionDeleteCql, keyValue, tx_id1);
-      List<Row> deleteRows =
-          Arrays.asList(
-              new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(false))));
+      List<Row> deleteRows = Arrays.asList(modifiedDocumentDeleteRow());
 
       AsyncResultSet deleteResults =
-          new MockAsyncResultSet(DELETE_RESULT_COLUMNS, deleteRows, null);
+          new MockAsyncResultSet(DELETE_FAILURE_RESULT_COLUMNS, deleteRows, null);
       final AtomicInteger deleteCallCount = new AtomicInteger();
       when(queryExecutor.executeWrite(eq(dataApiRequestInfo), eq(deleteStmt)))
           .then(
@@ -1035,6 +1058,217 @@ public class DeleteOperationTest extends OperationTestBase {
       assertThat(result.status()).hasSize(1).containsEntry(CommandStatus.DELETED_COUNT, 0);
     }
 
+    @Test
+    public void deleteWithIdRetryCurrentTxId() {
+      UUID tx_id1 = UUID.randomUUID();
+      UUID tx_id2 = UUID.randomUUID();
+
+      String collectionReadCql =
+          "SELECT key, tx_id FROM \"%s\".\"%s\" WHERE key = ? LIMIT 1"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME);
+      final TupleValue keyValue = CQLBindValues.getDocumentIdValue(DocumentId.fromString("doc1"));
+      SimpleStatement stmt = SimpleStatement.newInstance(collectionReadCql, keyValue);
+
+      List<Row> rows =
+          Arrays.asList(
+              new MockRow(
+                  SELECT_RESULT_COLUMNS,
+                  0,
+                  Arrays.asList(byteBufferFrom(keyValue), byteBufferFrom(tx_id1))));
+
+      AsyncResultSet mockResults = new MockAsyncResultSet(SELECT_RESULT_COLUMNS, rows, null);
+      final AtomicInteger selectCallCount = new AtomicInteger();
+      QueryExecutor queryExecutor = mock(QueryExecutor.class);
+      when(queryExecutor.executeRead(eq(dataApiRequestInfo), eq(stmt), any(), anyInt()))
+          .then(
+              invocation -> {
+                selectCallCount.incrementAndGet();
+                return Uni.createFrom().item(mockResults);
+              });
+
+      String collectionDeleteCql =
+          "DELETE FROM \"%s\".\"%s\" WHERE key = ? IF tx_id = ?"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME);
+
+      // failed delete returns the current tx_id of the document
+      SimpleStatement deleteStmt =
+          SimpleStatement.newInstance(collectionDeleteCql, keyValue, tx_id1);
+      List<Row> deleteRows =
+          Arrays.asList(
+              new MockRow(
+                  DELETE_FAILURE_RESULT_COLUMNS,
+                  0,
+                  Arrays.asList(byteBufferFrom(false), byteBufferFrom(tx_id2))));
+      AsyncResultSet deleteResults =
+          new MockAsyncResultSet(DELETE_FAILURE_RESULT_COLUMNS, deleteRows, null);
+      final AtomicInteger deleteCallCount = new AtomicInteger();
+      when(queryExecutor.executeWrite(eq(dataApiRequestInfo), eq(deleteStmt)))
+          .then(
+              invocation -> {
+                deleteCallCount.incrementAndGet();
+                return Uni.createFrom().item(deleteResults);
+              });
+
+      // which is deleted without reading the document again
+      SimpleStatement deleteStmt2 =
+          SimpleStatement.newInstance(collectionDeleteCql, keyValue, tx_id2);
+      List<Row> deleteRows2 =
+          Arrays.asList(new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(true))));
+      AsyncResultSet deleteResults2 =
+          new MockAsyncResultSet(DELETE_RESULT_COLUMNS, deleteRows2, null);
+      final AtomicInteger deleteCallCount2 = new AtomicInteger();
+      when(queryExecutor.executeWrite(eq(dataApiRequestInfo), eq(deleteStmt2)))
+          .then(
+              invocation -> {
+                deleteCallCount2.incrementAndGet();
+                return Uni.createFrom().item(deleteResults2);
+              });
+
+      DeleteOperation operation =
+          DeleteOperation.delete(COMMAND_CONTEXT, findByIdOperation("doc1"), 1, 3);
+      Supplier<CommandResult> execute =
+          operation
+              .execute(dataApiRequestInfo, queryExecutor)
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create())
+              .awaitItem()
+              .getItem();
+
+      // assert query execution
+      assertThat(selectCallCount.get()).isEqualTo(1);
+      assertThat(deleteCallCount.get()).isEqualTo(1);
+      assertThat(deleteCallCount2.get()).isEqualTo(1);
+
+      // then result
+      CommandResult result = execute.get();
+      assertThat(result.status()).hasSize(1).containsEntry(CommandStatus.DELETED_COUNT, 1);
+    }
+
+    @Test
+    public void deleteWithIdRetryDocumentDeleted() {
+      UUID tx_id = UUID.randomUUID();
+
+      String collectionReadCql =
+          "SELECT key, tx_id FROM \"%s\".\"%s\" WHERE key = ? LIMIT 1"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME);
+      final TupleValue keyValue = CQLBindValues.getDocumentIdValue(DocumentId.fromString("doc1"));
+      SimpleStatement stmt = SimpleStatement.newInstance(collectionReadCql, keyValue);
+
+      List<Row> rows =
+          Arrays.asList(
+              new MockRow(
+                  SELECT_RESULT_COLUMNS,
+                  0,
+                  Arrays.asList(byteBufferFrom(keyValue), byteBufferFrom(tx_id))));
+
+      AsyncResultSet mockResults = new MockAsyncResultSet(SELECT_RESULT_COLUMNS, rows, null);
+      final AtomicInteger selectCallCount = new AtomicInteger();
+      QueryExecutor queryExecutor = mock(QueryExecutor.class);
+      when(queryExecutor.executeRead(eq(dataApiRequestInfo), eq(stmt), any(), anyInt()))
+          .then(
+              invocation -> {
+                selectCallCount.incrementAndGet();
+                return Uni.createFrom().item(mockResults);
+              });
+
+      String collectionDeleteCql =
+          "DELETE FROM \"%s\".\"%s\" WHERE key = ? IF tx_id = ?"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME);
+
+      // only [applied] is returned: the document was deleted concurrently
+      SimpleStatement deleteStmt =
+          SimpleStatement.newInstance(collectionDeleteCql, keyValue, tx_id);
+      List<Row> deleteRows =
+          Arrays.asList(
+              new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(false))));
+      AsyncResultSet deleteResults =
+          new MockAsyncResultSet(DELETE_RESULT_COLUMNS, deleteRows, null);
+      final AtomicInteger deleteCallCount = new AtomicInteger();
+      when(queryExecutor.executeWrite(eq(dataApiRequestInfo), eq(deleteStmt)))
+          .then(
+              invocation -> {
+                deleteCallCount.incrementAndGet();
+                return Uni.createFrom().item(deleteResults);
+              });
+
+      DeleteOperation operation =
+          DeleteOperation.delete(COMMAND_CONTEXT, findByIdOperation("doc1"), 1, 3);
+      Supplier<CommandResult> execute =
+          operation
+              .execute(dataApiRequestInfo, queryExecutor)
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create())
+              .awaitItem()
+              .getItem();
+
+      // assert query execution
+      assertThat(selectCallCount.get()).isEqualTo(1);
+      assertThat(deleteCallCount.get()).isEqualTo(1);
+
+      // then result
+      CommandResult result = execute.get();
+      assertThat(result.status()).hasSize(1).containsEntry(CommandStatus.DELETED_COUNT, 0);
+    }
+
+    @Test
+    public void bulkDeleteWithId() {
+      UUID tx_id = UUID.randomUUID();
+
+      String collectionReadCql =
+          "SELECT key, tx_id FROM \"%s\".\"%s\" WHERE key = ? LIMIT 1"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME);
+      final TupleValue keyValue = CQLBindValues.getDocumentIdValue(DocumentId.fromString("doc1"));
+      SimpleStatement stmt = SimpleStatement.newInstance(collectionReadCql, keyValue);
+
+      List<Row> rows =
+          Arrays.asList(
+              new MockRow(
+                  SELECT_RESULT_COLUMNS,
+                  0,
+                  Arrays.asList(byteBufferFrom(keyValue), byteBufferFrom(tx_id))));
+
+      AsyncResultSet mockResults = new MockAsyncResultSet(SELECT_RESULT_COLUMNS, rows, null);
+      final AtomicInteger selectCallCount = new AtomicInteger();
+      QueryExecutor queryExecutor = mock(QueryExecutor.class);
+      when(queryExecutor.executeRead(eq(dataApiRequestInfo), eq(stmt), any(), anyInt()))
+          .then(
+              invocation -> {
+                selectCallCount.incrementAndGet();
+                return Uni.createFrom().item(mockResults);
+              });
+
+      // deleted only by key, not conditionally on the tx_id
+      String collectionDeleteCql =
+          "DELETE FROM \"%s\".\"%s\" WHERE key = ?".formatted(KEYSPACE_NAME, COLLECTION_NAME);
+      SimpleStatement deleteStmt = SimpleStatement.newInstance(collectionDeleteCql, keyValue);
+      AsyncResultSet deleteResults = new MockAsyncResultSet(DELETE_RESULT_COLUMNS, List.of(), null);
+      final AtomicInteger deleteCallCount = new AtomicInteger();
+      when(queryExecutor.executeWrite(eq(dataApiRequestInfo), eq(deleteStmt)))
+          .then(
+              invocation -> {
+                deleteCallCount.incrementAndGet();
+                return Uni.createFrom().item(deleteResults);
+              });
+
+      DeleteOperation operation =
+          DeleteOperation.bulkDelete(COMMAND_CONTEXT, findByIdOperation("doc1"), 1000);
+      Supplier<CommandResult> execute =
+          operation
+              .execute(dataApiRequestInfo, queryExecutor)
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create())
+              .awaitItem()
+              .getItem();
+
+      // assert query execution
+      assertThat(selectCallCount.get()).isEqualTo(1);
+      assertThat(deleteCallCount.get()).isEqualTo(1);
+
+      // then result
+      CommandResult result = execute.get();
+      assertThat(result.status()).hasSize(1).containsEntry(CommandStatus.DELETED_COUNT, 1);
+    }
+
     @Test
     public void deleteManyWithDynamic() {
       UUID tx_id1 = UUID.randomUUID();
@@ -1259,12 +1493,10 @@ public class DeleteOperationTest extends OperationTestBase {
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
       SimpleStatement deleteStmt =
           SimpleStatement.newInstance(collectionDeleteCql, keyValue1, tx_id1);
-      List<Row> deleteRows =
-          Arrays.asList(
-              new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(false))));
+      List<Row> deleteRows = Arrays.asList(modifiedDocumentDeleteRow());
 
       AsyncResultSet deleteResults =
-          new MockAsyncResultSet(DELETE_RESULT_COLUMNS, deleteRows, null);
+          new MockAsyncResultSet(DELETE_FAILURE_RESULT_COLUMNS, deleteRows, null);
       final AtomicInteger deleteCallCount = new AtomicInteger();
       when(queryExecutor.executeWrite(eq(dataApiRequestInfo), eq(deleteStmt)))
           .then(
@@ -1287,12 +1519,10 @@ public class DeleteOperationTest extends OperationTestBase {
               });
 
       deleteStmt = SimpleStatement.newInstance(collectionDeleteCql, keyValue1, tx_id3);
-      deleteRows =
-          Arrays.asList(
-              new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(false))));
+      deleteRows = Arrays.asList(modifiedDocumentDeleteRow());
 
       AsyncResultSet deleteResults2 =
-          new MockAsyncResultSet(DELETE_RESULT_COLUMNS, deleteRows, null);
+          new MockAsyncResultSet(DELETE_FAILURE_RESULT_COLUMNS, deleteRows, null);
       when(queryExecutor.executeWrite(eq(dataApiRequestInfo), eq(deleteStmt)))
           .then(
               invocation -> {
@@ -1439,12 +1669,10 @@ public class DeleteOperationTest extends OperationTestBase {
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
       SimpleStatement deleteStmt =
           SimpleStatement.newInstance(collectionDeleteCql, keyValue1, tx_id1);
-      List<Row> deleteRows =
-          Arrays.asList(
-              new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(false))));
+      List<Row> deleteRows = Arrays.asList(modifiedDocumentDeleteRow());
 
       AsyncResultSet deleteResults =
-          new MockAsyncResultSet(DELETE_RESULT_COLUMNS, deleteRows, null);
+          new MockAsyncResultSet(DELETE_FAILURE_RESULT_COLUMNS, deleteRows, null);
       final AtomicInteger deleteCallCount = new AtomicInteger();
       when(queryExecutor.executeWrite(eq(dataApiRequestInfo), eq(deleteStmt)))
           .then(
@@ -1454,12 +1682,10 @@ public class DeleteOperationTest extends OperationTestBase {
               });
 
       deleteStmt = SimpleStatement.newInstance(collectionDeleteCql, keyValue2, tx_id2);
-      deleteRows =
-          Arrays.asList(
-              new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(false))));
+      deleteRows = Arrays.asList(modifiedDocumentDeleteRow());
 
       AsyncResultSet deleteResults2 =
-          new MockAsyncResultSet(DELETE_RESULT_COLUMNS, deleteRows, null);
+          new MockAsyncResultSet(DELETE_FAILURE_RESULT_COLUMNS, deleteRows, null);
       when(queryExecutor.executeWrite(eq(dataApiRequestInfo), eq(deleteStmt)))
           .then(
               invocation -> {
@@ -1468,12 +1694,10 @@ public class DeleteOperationTest extends OperationTestBase {
               });
 
       deleteStmt = SimpleStatement.newInstance(collectionDeleteCql, keyValue1, tx_id3);
-      deleteRows =
-          Arrays.asList(
-              new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(false))));
+      deleteRows = Arrays.asList(modifiedDocumentDeleteRow());
 
       AsyncResultSet deleteResults3 =
-          new MockAsyncResultSet(DELETE_RESULT_COLUMNS, deleteRows, null);
+          new MockAsyncResultSet(DELETE_FAILURE_RESULT_COLUMNS, deleteRows, null);
       when(queryExecutor.executeWrite(eq(dataApiRequestInfo), eq(deleteStmt)))
           .then(
               invocation -> {
@@ -1482,12 +1706,10 @@ public class DeleteOperationTest extends OperationTestBase {
               });
 
       deleteStmt = SimpleStatement.newInstance(collectionDeleteCql, keyValue2, tx_id4);
-      deleteRows =
-          Arrays.asList(
-              new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(false))));
+      deleteRows = Arrays.asList(modifiedDocumentDeleteRow());
 
       AsyncResultSet deleteResults4 =
-          new MockAsyncResultSet(DELETE_RESULT_COLUMNS, deleteRows, null);
+          new MockAsyncResultSet(DELETE_FAILURE_RESULT_COLUMNS, deleteRows, null);
 
       when(queryExecutor.executeWrite(eq(dataApiRequestInfo), eq(deleteStmt)))
           .then(
@@ -6,17 +6,23 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.bpodgursky.jbool_expressions.Expression;
 import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
-import com.datastax.oss.driver.api.core.data.CqlVector;
+import com.datastax.oss.driver.api.core.data.TupleValue;
 import com.datastax.oss.driver.api.core.metadata.Node;
 import com.datastax.oss.driver.api.core.servererrors.ReadFailureException;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.TestProfile;
@@ -31,6 +37,8 @@ import io.stargate.sgv2.jsonapi.exception.mappers.ThrowableToErrorMapper;
 import io.stargate.sgv2.jsonapi.service.cql.builder.BuiltCondition;
 import io.stargate.sgv2.jsonapi.service.cqldriver.executor.CollectionSettings;
 import io.stargate.sgv2.jsonapi.service.cqldriver.executor.QueryExecutor;
+import io.stargate.sgv2.jsonapi.service.cqldriver.serializer.FloatVector;
+import io.stargate.sgv2.jsonapi.service.cqldriver.serializer.FloatVectorCodec;
 import io.stargate.sgv2.jsonapi.service.operation.model.ReadType;
 import io.stargate.sgv2.jsonapi.service.projection.DocumentProjector;
 import io.stargate.sgv2.jsonapi.service.shredding.model.DocValueHasher;
@@ -66,6 +74,11 @@ public class FindOperationTest extends OperationTestBase {
       buildColumnDefs(
           TestColumn.keyColumn(), TestColumn.ofUuid("tx_id"), TestColumn.ofVarchar("doc_json"));
 
+  private final ColumnDefinitions VECTOR_CANDIDATE_COLUMNS =
+      buildColumnDefs(
+          TestColumn.keyColumn(),
+          TestColumn.of("query_vector_value", ProtocolConstants.DataType.BLOB));
+
   @Inject ObjectMapper objectMapper;
 
   @PostConstruct
@@ -308,6 +321,98 @@ public class FindOperationTest extends OperationTestBase {
       assertThat(result.status()).isNull();
     }
 
+    @Test
+    public void byIdWithInOperatorTokenAware() throws Exception {
+      String collectionReadCql =
+          "SELECT key, tx_id, doc_json FROM \"%s\".\"%s\" WHERE key = ? LIMIT 2"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME);
+      String doc1 =
+          """
+              {
+                "_id": "doc1",
+                "username": "user1"
+              }
+              """;
+      String doc2 =
+          """
+              {
+                "_id": "doc2",
+                "username": "user2"
+              }
+              """;
+
+      TupleValue key1 = boundKeyForStatement("doc1");
+      SimpleStatement stmt1 =
+          SimpleStatement.newInstance(collectionReadCql, key1)
+              .setRoutingKeyspace(KEYSPACE_NAME)
+              .setRoutingKey(TypeCodecs.tupleOf(key1.getType()).encode(key1, ProtocolVersion.V4));
+      List<Row> rows1 = Arrays.asList(resultRow(0, "doc1", UUID.randomUUID(), doc1));
+      TupleValue key2 = boundKeyForStatement("doc2");
+      SimpleStatement stmt2 =
+          SimpleStatement.newInstance(collectionReadCql, key2)
+              .setRoutingKeyspace(KEYSPACE_NAME)
+              .setRoutingKey(TypeCodecs.tupleOf(key2.getType()).encode(key2, ProtocolVersion.V4));
+      List<Row> rows2 = Arrays.asList(resultRow(0, "doc2", UUID.randomUUID(), doc2));
+      AsyncResultSet results1 = new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, rows1, null);
+      AsyncResultSet results2 = new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, rows2, null);
+      final AtomicInteger callCount1 = new AtomicInteger();
+      final AtomicInteger callCount2 = new AtomicInteger();
+      QueryExecutor queryExecutor = mock(QueryExecutor.class);
+      when(queryExecutor.isTokenAwareKeyLookups()).thenReturn(true);
+      when(queryExecutor.executeRead(eq(dataApiRequestInfo), eq(stmt1), any(), anyInt()))
+          .then(
+              invocation -> {
+                callCount1.incrementAndGet();
+                return Uni.createFrom().item(results1);
+              });
+      when(queryExecutor.executeRead(eq(dataApiRequestInfo), eq(stmt2), any(), anyInt()))
+          .then(
+              invocation -> {
+                callCount2.incrementAndGet();
+                return Uni.createFrom().item(results2);
+              });
+
+      LogicalExpression implicitAnd = LogicalExpression.and();
+      implicitAnd.comparisonExpressions.add(new ComparisonExpression(null, null, null));
+      List<DBFilterBase> filters =
+          List.of(
+              new DBFilterBase.IDFilter(
+                  DBFilterBase.IDFilter.Operator.IN,
+                  List.of(DocumentId.fromString("doc1"), DocumentId.fromString("doc2"))));
+      implicitAnd.comparisonExpressions.get(0).setDBFilters(filters);
+
+      FindOperation operation =
+          FindOperation.unsorted(
+              COMMAND_CONTEXT,
+              implicitAnd,
+              DocumentProjector.defaultProjector(),
+              null,
+              2,
+              2,
+              ReadType.DOCUMENT,
+              objectMapper,
+              false);
+
+      Supplier<CommandResult> execute =
+          operation
+              .execute(dataApiRequestInfo, queryExecutor)
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create())
+              .awaitItem()
+              .getItem();
+
+      // assert query execution, each id routed by its own key
+      assertThat(callCount1.get()).isEqualTo(1);
+      assertThat(callCount2.get()).isEqualTo(1);
+
+      // then result
+      CommandResult result = execute.get();
+      assertThat(result.data().getResponseDocuments())
+          .hasSize(2)
+          .contains(objectMapper.readTree(doc1), objectMapper.readTree(doc2));
+      assertThat(result.errors()).isNullOrEmpty();
+    }
+
     @Test
     public void findnonVsearchWithSortVectorFlag() throws Exception {
       String collectionReadCql =
@@ -600,14 +705,91 @@ public class FindOperationTest extends OperationTestBase {
               .awaitItem()
               .getItem();
 
-      // assert query execution
+      // assert query execution, first match wins so doc2 is never read
+      assertThat(callCount1.get()).isEqualTo(1);
+      assertThat(callCount2.get()).isEqualTo(0);
+      // then result
+      CommandResult result = execute.get();
+      assertThat(result.data().getResponseDocuments())
+          .hasSize(1)
+          .containsExactly(objectMapper.readTree(doc1));
+      assertThat(result.status()).isNullOrEmpty();
+      assertThat(result.errors()).isNullOrEmpty();
+    }
+
+    @Test
+    public void findOneByIdWithInOperatorFirstMissing() throws Exception {
+      String collectionReadCql =
+          "SELECT key, tx_id, doc_json FROM \"%s\".\"%s\" WHERE key = ? LIMIT 1"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME);
+      String doc2 =
+          """
+                  {
+                    "_id": "doc2",
+                    "username": "user2"
+                  }
+                  """;
+      SimpleStatement stmt1 =
+          SimpleStatement.newInstance(collectionReadCql, boundKeyForStatement("doc1"));
+      List<Row> rows1 = List.of();
+      SimpleStatement stmt2 =
+          SimpleStatement.newInstance(collectionReadCql, boundKeyForStatement("doc2"));
+      List<Row> rows2 = Arrays.asList(resultRow(0, "doc2", UUID.randomUUID(), doc2));
+      AsyncResultSet results1 = new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, rows1, null);
+      AsyncResultSet results2 = new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, rows2, null);
+      final AtomicInteger callCount1 = new AtomicInteger();
+      final AtomicInteger callCount2 = new AtomicInteger();
+      QueryExecutor queryExecutor = mock(QueryExecutor.class);
+      when(queryExecutor.executeRead(eq(dataApiRequestInfo), eq(stmt1), any(), anyInt()))
+          .then(
+              invocation -> {
+                callCount1.incrementAndGet();
+                return Uni.createFrom().item(results1);
+              });
+      when(queryExecutor.executeRead(eq(dataApiRequestInfo), eq(stmt2), any(), anyInt()))
+          .then(
+              invocation -> {
+                callCount2.incrementAndGet();
+                return Uni.createFrom().item(results2);
+              });
+
+      LogicalExpression implicitAnd = LogicalExpression.and();
+      implicitAnd.comparisonExpressions.add(new ComparisonExpression(null, null, null));
+      List<DBFilterBase> filters =
+          List.of(
+              new DBFilterBase.IDFilter(
+                  DBFilterBase.IDFilter.Operator.IN,
+                  List.of(DocumentId.fromString("doc1"), DocumentId.fromString("doc2"))));
+      implicitAnd.comparisonExpressions.get(0).setDBFilters(filters);
+
+      FindOperation operation =
+          FindOperation.unsorted(
+              COMMAND_CONTEXT,
+              implicitAnd,
+              DocumentProjector.defaultProjector(),
+              null,
+              1,
+              2,
+              ReadType.DOCUMENT,
+              objectMapper,
+              false);
+
+      Supplier<CommandResult> execute =
+          operation
+              .execute(dataApiRequestInfo, queryExecutor)
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create())
+              .awaitItem()
+              .getItem();
+
+      // assert query execution, doc1 does not exist so doc2 is read as well
       assertThat(callCount1.get()).isEqualTo(1);
       assertThat(callCount2.get()).isEqualTo(1);
       // then result
       CommandResult result = execute.get();
       assertThat(result.data().getResponseDocuments())
           .hasSize(1)
-          .containsAnyOf(objectMapper.readTree(doc1), objectMapper.readTree(doc2));
+          .containsExactly(objectMapper.readTree(doc2));
       assertThat(result.status()).isNullOrEmpty();
       assertThat(result.errors()).isNullOrEmpty();
     }
@@ -2742,7 +2924,7 @@ public class FindOperationTest extends OperationTestBase {
             }
             """;
 
-      CqlVector<Float> vectorValue = vectorForStatement(0.25f, 0.25f, 0.25f, 0.25f);
+      FloatVector vectorValue = vectorForStatement(0.25f, 0.25f, 0.25f, 0.25f);
       SimpleStatement stmt = SimpleStatement.newInstance(collectionReadCql, vectorValue);
       List<Row> rows =
           Arrays.asList(
@@ -2793,6 +2975,92 @@ public class FindOperationTest extends OperationTestBase {
       assertThat(result.status()).isNull();
     }
 
+    @Test
+    public void vectorSearchMinSimilarity() throws Exception {
+      String collectionReadCql =
+          "SELECT key, tx_id, doc_json, SIMILARITY_COSINE(query_vector_value, ?) FROM \"%s\".\"%s\" ORDER BY query_vector_value ANN OF ? LIMIT 3"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME);
+      String doc1 =
+          """
+            {
+              "_id": "doc1",
+              "username": "user1",
+              "$vector": [0.25, 0.25, 0.25, 0.25]
+            }
+            """;
+      String doc2 =
+          """
+            {
+              "_id": "doc2",
+              "username": "user1",
+              "$vector": [0.35, 0.35, 0.35, 0.35]
+            }
+            """;
+
+      FloatVector vectorValue = vectorForStatement(0.25f, 0.25f, 0.25f, 0.25f);
+      SimpleStatement stmt =
+          SimpleStatement.newInstance(collectionReadCql, vectorValue, vectorValue);
+      ColumnDefinitions columns =
+          buildColumnDefs(
+              TestColumn.keyColumn(),
+              TestColumn.ofUuid("tx_id"),
+              TestColumn.ofVarchar("doc_json"),
+              TestColumn.of("similarity_score", ProtocolConstants.DataType.FLOAT));
+      List<Row> rows =
+          Arrays.asList(
+              resultRow(
+                  columns,
+                  0,
+                  byteBufferForKey("doc1"),
+                  UUID.randomUUID(),
+                  doc1,
+                  TypeCodecs.FLOAT.encode(0.95f, ProtocolVersion.DEFAULT)),
+              // below the minimum: neither returned nor parsed, and so are the rows after it
+              resultRow(
+                  columns,
+                  1,
+                  byteBufferForKey("doc2"),
+                  UUID.randomUUID(),
+                  "not json",
+                  TypeCodecs.FLOAT.encode(0.5f, ProtocolVersion.DEFAULT)));
+      // the query has more pages
+      ExecutionInfo executionInfo = mock(ExecutionInfo.class);
+      when(executionInfo.getPagingState()).thenReturn(ByteBuffer.wrap(new byte[] {1}));
+      AsyncResultSet results = new MockAsyncResultSet(columns, rows, null, executionInfo);
+      QueryExecutor queryExecutor = mock(QueryExecutor.class);
+      when(queryExecutor.executeVectorSearch(eq(dataApiRequestInfo), eq(stmt), any(), anyInt()))
+          .thenReturn(Uni.createFrom().item(results));
+
+      FindOperation operation =
+          FindOperation.vsearch(
+              VECTOR_COMMAND_CONTEXT,
+              LogicalExpression.and(),
+              DocumentProjector.includeAllProjector(),
+              null,
+              3,
+              3,
+              ReadType.DOCUMENT,
+              objectMapper,
+              new float[] {0.25f, 0.25f, 0.25f, 0.25f},
+              false,
+              0.9f);
+
+      Supplier<CommandResult> execute =
+          operation
+              .execute(dataApiRequestInfo, queryExecutor)
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create())
+              .awaitItem()
+              .getItem();
+
+      CommandResult result = execute.get();
+      assertThat(result.data().getResponseDocuments())
+          .containsExactly(objectMapper.readTree(doc1));
+      // no further page once below the minimum
+      assertThat(((CommandResult.MultiResponseData) result.data()).nextPageState()).isNull();
+      assertThat(result.errors()).isNullOrEmpty();
+    }
+
     @Test
     public void vectorSearchReturnSortVector() throws Exception {
       String collectionReadCql =
@@ -2815,7 +3083,7 @@ public class FindOperationTest extends OperationTestBase {
                     }
                     """;
 
-      CqlVector<Float> vectorValue = vectorForStatement(0.25f, 0.25f, 0.25f, 0.25f);
+      FloatVector vectorValue = vectorForStatement(0.25f, 0.25f, 0.25f, 0.25f);
       SimpleStatement stmt = SimpleStatement.newInstance(collectionReadCql, vectorValue);
       List<Row> rows =
           Arrays.asList(
@@ -2881,7 +3149,7 @@ public class FindOperationTest extends OperationTestBase {
                 }
                 """;
       final String textFilterValue = "username " + new DocValueHasher().getHash("user1").hash();
-      CqlVector<Float> vectorValue = vectorForStatement(0.25f, 0.25f, 0.25f, 0.25f);
+      FloatVector vectorValue = vectorForStatement(0.25f, 0.25f, 0.25f, 0.25f);
       SimpleStatement stmt =
           SimpleStatement.newInstance(collectionReadCql, textFilterValue, vectorValue);
       List<Row> rows = Arrays.asList(resultRow(0, "doc1", UUID.randomUUID(), doc1));
@@ -2932,6 +3200,175 @@ public class FindOperationTest extends OperationTestBase {
       assertThat(result.status()).isNullOrEmpty();
       assertThat(result.errors()).isNullOrEmpty();
     }
+
+    @Test
+    public void vectorSearchOversampled() throws Exception {
+      String candidateReadCql =
+          "SELECT key, query_vector_value FROM \"%s\".\"%s\" WHERE array_contains CONTAINS ? ORDER BY query_vector_value ANN OF ? LIMIT 6"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME);
+      String documentReadCql =
+          "SELECT key, tx_id, doc_json FROM \"%s\".\"%s\" WHERE key = ?"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME);
+      String doc1 =
+          """
+            {
+              "_id": "doc1",
+              "username": "user1",
+              "$vector": [0.25, 0.25, 0.25, 0.25]
+            }
+            """;
+      String doc3 =
+          """
+            {
+              "_id": "doc3",
+              "username": "user1",
+              "$vector": [0.25, 0.25, 0.25, -0.25]
+            }
+            """;
+      final String textFilterValue = "username " + new DocValueHasher().getHash("user1").hash();
+      FloatVector vectorValue = vectorForStatement(0.25f, 0.25f, 0.25f, 0.25f);
+      SimpleStatement candidateStmt =
+          SimpleStatement.newInstance(candidateReadCql, textFilterValue, vectorValue);
+      // in the approximate order of the index, not the exact one
+      List<Row> candidateRows =
+          Arrays.asList(
+              candidateRow(0, "doc2", -0.25f, -0.25f, -0.25f, -0.25f),
+              candidateRow(1, "doc3", 0.25f, 0.25f, 0.25f, -0.25f),
+              candidateRow(2, "doc1", 0.25f, 0.25f, 0.25f, 0.25f));
+      AsyncResultSet candidates =
+          new MockAsyncResultSet(VECTOR_CANDIDATE_COLUMNS, candidateRows, null);
+      SimpleStatement doc1Stmt =
+          SimpleStatement.newInstance(documentReadCql, boundKeyForStatement("doc1"));
+      AsyncResultSet doc1Results =
+          new MockAsyncResultSet(
+              KEY_TXID_JSON_COLUMNS, List.of(resultRow(0, "doc1", UUID.randomUUID(), doc1)), null);
+      SimpleStatement doc3Stmt =
+          SimpleStatement.newInstance(documentReadCql, boundKeyForStatement("doc3"));
+      AsyncResultSet doc3Results =
+          new MockAsyncResultSet(
+              KEY_TXID_JSON_COLUMNS, List.of(resultRow(0, "doc3", UUID.randomUUID(), doc3)), null);
+      QueryExecutor queryExecutor = mock(QueryExecutor.class);
+      when(queryExecutor.getVectorOversamplingFactor()).thenReturn(3);
+      when(queryExecutor.getMaxVectorSearchLimit()).thenReturn(1000);
+      when(queryExecutor.getMaxMultiQueryConcurrency()).thenReturn(2);
+      when(queryExecutor.executeVectorSearch(
+              eq(dataApiRequestInfo), eq(candidateStmt), any(), anyInt()))
+          .thenReturn(Uni.createFrom().item(candidates));
+      when(queryExecutor.executeRead(eq(dataApiRequestInfo), eq(doc1Stmt), any(), anyInt()))
+          .thenReturn(Uni.createFrom().item(doc1Results));
+      when(queryExecutor.executeRead(eq(dataApiRequestInfo), eq(doc3Stmt), any(), anyInt()))
+          .thenReturn(Uni.createFrom().item(doc3Results));
+
+      LogicalExpression implicitAnd = LogicalExpression.and();
+      implicitAnd.comparisonExpressions.add(new ComparisonExpression(null, null, null));
+      List<DBFilterBase> filters =
+          List.of(
+              new DBFilterBase.TextFilter(
+                  "username", DBFilterBase.MapFilterBase.Operator.EQ, "user1"));
+      implicitAnd.comparisonExpressions.get(0).setDBFilters(filters);
+
+      FindOperation operation =
+          FindOperation.vsearch(
+              VECTOR_COMMAND_CONTEXT,
+              implicitAnd,
+              DocumentProjector.includeAllProjector(),
+              null,
+              2,
+              2,
+              ReadType.DOCUMENT,
+              objectMapper,
+              new float[] {0.25f, 0.25f, 0.25f, 0.25f},
+              false);
+
+      Supplier<CommandResult> execute =
+          operation
+              .execute(dataApiRequestInfo, queryExecutor)
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create())
+              .awaitItem()
+              .getItem();
+
+      // documents read for the best candidates only
+      verify(queryExecutor).executeVectorSearch(eq(dataApiRequestInfo), any(), any(), eq(6));
+      verify(queryExecutor, times(2)).executeRead(eq(dataApiRequestInfo), any(), any(), anyInt());
+
+      // then result, ordered by the exact similarity
+      CommandResult result = execute.get();
+      assertThat(result.data().getResponseDocuments())
+          .containsExactly(objectMapper.readTree(doc1), objectMapper.readTree(doc3));
+      assertThat(result.errors()).isNullOrEmpty();
+    }
+
+    @Test
+    public void vectorSearchOversampledMinSimilarity() throws Exception {
+      String candidateReadCql =
+          "SELECT key, query_vector_value FROM \"%s\".\"%s\" ORDER BY query_vector_value ANN OF ? LIMIT 4"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME);
+      String documentReadCql =
+          "SELECT key, tx_id, doc_json FROM \"%s\".\"%s\" WHERE key = ?"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME);
+      String doc1 =
+          """
+            {
+              "_id": "doc1",
+              "username": "user1",
+              "$vector": [0.25, 0.25, 0.25, 0.25]
+            }
+            """;
+      FloatVector vectorValue = vectorForStatement(0.25f, 0.25f, 0.25f, 0.25f);
+      SimpleStatement candidateStmt = SimpleStatement.newInstance(candidateReadCql, vectorValue);
+      // similarity of doc3 is 0.75, of doc2 is 0
+      List<Row> candidateRows =
+          Arrays.asList(
+              candidateRow(0, "doc3", 0.25f, 0.25f, 0.25f, -0.25f),
+              candidateRow(1, "doc1", 0.25f, 0.25f, 0.25f, 0.25f),
+              candidateRow(2, "doc2", -0.25f, -0.25f, -0.25f, -0.25f));
+      AsyncResultSet candidates =
+          new MockAsyncResultSet(VECTOR_CANDIDATE_COLUMNS, candidateRows, null);
+      SimpleStatement doc1Stmt =
+          SimpleStatement.newInstance(documentReadCql, boundKeyForStatement("doc1"));
+      AsyncResultSet doc1Results =
+          new MockAsyncResultSet(
+              KEY_TXID_JSON_COLUMNS, List.of(resultRow(0, "doc1", UUID.randomUUID(), doc1)), null);
+      QueryExecutor queryExecutor = mock(QueryExecutor.class);
+      when(queryExecutor.getVectorOversamplingFactor()).thenReturn(2);
+      when(queryExecutor.getMaxVectorSearchLimit()).thenReturn(1000);
+      when(queryExecutor.executeVectorSearch(
+              eq(dataApiRequestInfo), eq(candidateStmt), any(), anyInt()))
+          .thenReturn(Uni.createFrom().item(candidates));
+      when(queryExecutor.executeRead(eq(dataApiRequestInfo), eq(doc1Stmt), any(), anyInt()))
+          .thenReturn(Uni.createFrom().item(doc1Results));
+
+      FindOperation operation =
+          FindOperation.vsearch(
+              VECTOR_COMMAND_CONTEXT,
+              LogicalExpression.and(),
+              DocumentProjector.includeAllProjector(),
+              null,
+              2,
+              2,
+              ReadType.DOCUMENT,
+              objectMapper,
+              new float[] {0.25f, 0.25f, 0.25f, 0.25f},
+              false,
+              0.9f);
+
+      Supplier<CommandResult> execute =
+          operation
+              .execute(dataApiRequestInfo, queryExecutor)
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create())
+              .awaitItem()
+              .getItem();
+
+      // candidates below the minimum are not read
+      verify(queryExecutor).executeRead(eq(dataApiRequestInfo), any(), any(), anyInt());
+
+      CommandResult result = execute.get();
+      assertThat(result.data().getResponseDocuments())
+          .containsExactly(objectMapper.readTree(doc1));
+      assertThat(result.errors()).isNullOrEmpty();
+    }
   }
 
   @Nested
@@ -3050,6 +3487,15 @@ public class FindOperationTest extends OperationTestBase {
         Arrays.asList(byteBufferForKey(key), byteBufferFrom(txId), byteBufferFrom(doc)));
   }
 
+  MockRow candidateRow(int index, String key, float... vector) {
+    return new MockRow(
+        VECTOR_CANDIDATE_COLUMNS,
+        index,
+        Arrays.asList(
+            byteBufferForKey(key),
+            FloatVectorCodec.INSTANCE.encode(FloatVector.of(vector), ProtocolVersion.DEFAULT)));
+  }
+
   MockRow resultRow(ColumnDefinitions columnDefs, int index, Object... values) {
     List<ByteBuffer> buffers = Stream.of(values).map(value -> byteBufferFromAny(value)).toList();
     return new MockRow(columnDefs, index, buffers);
@@ -0,0 +1,163 @@
+package io.stargate.sgv2.jsonapi.service.operation.model.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
+import io.stargate.sgv2.jsonapi.api.model.command.CommandResult;
+import io.stargate.sgv2.jsonapi.api.model.command.CommandStatus;
+import io.stargate.sgv2.jsonapi.api.model.command.clause.filter.ComparisonExpression;
+import io.stargate.sgv2.jsonapi.api.model.command.clause.filter.LogicalExpression;
+import io.stargate.sgv2.jsonapi.api.model.command.clause.update.UpdateOperator;
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.QueryExecutor;
+import io.stargate.sgv2.jsonapi.service.operation.model.ReadType;
+import io.stargate.sgv2.jsonapi.service.projection.DocumentProjector;
+import io.stargate.sgv2.jsonapi.service.shredding.Shredder;
+import io.stargate.sgv2.jsonapi.service.shredding.model.DocumentId;
+import io.stargate.sgv2.jsonapi.service.testutil.DocumentUpdaterUtils;
+import io.stargate.sgv2.jsonapi.service.testutil.MockAsyncResultSet;
+import io.stargate.sgv2.jsonapi.service.testutil.MockRow;
+import io.stargate.sgv2.jsonapi.service.updater.DocumentUpdater;
+import io.stargate.sgv2.jsonapi.testresource.NoGlobalResourcesTestProfile;
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+@TestProfile(NoGlobalResourcesTestProfile.Impl.class)
+public class InsertFirstUpsertOperationTest extends OperationTestBase {
+  private CommandContext COMMAND_CONTEXT;
+
+  @Inject Shredder shredder;
+  @Inject ObjectMapper objectMapper;
+
+  private final ColumnDefinitions COLUMNS_APPLIED =
+      buildColumnDefs(TestColumn.ofBoolean("[applied]"));
+
+  @PostConstruct
+  public void init() {
+    COMMAND_CONTEXT =
+        new CommandContext(
+            KEYSPACE_NAME, COLLECTION_NAME, "testCommand", jsonProcessingMetricsReporter);
+  }
+
+  @Test
+  public void insertNewDocument() {
+    QueryExecutor queryExecutor = mock(QueryExecutor.class);
+    when(queryExecutor.executeWrite(eq(dataApiRequestInfo), any()))
+        .thenReturn(Uni.createFrom().item(applied(true)));
+
+    CommandResult result =
+        execute(new InsertFirstUpsertOperation(COMMAND_CONTEXT, fallback(true)), queryExecutor)
+            .get();
+
+    // a single insert of the upserted document, without reading it first
+    String docJson = "{\"_id\":\"doc1\",\"count\":1}";
+    verify(queryExecutor, never()).executeRead(any(), any(), any(), anyInt());
+    verify(queryExecutor)
+        .executeWrite(
+            eq(dataApiRequestInfo),
+            argThat(
+                statement ->
+                    statement.getQuery().startsWith("INSERT INTO")
+                        && statement.getQuery().endsWith("IF NOT EXISTS")
+                        && docJson.equals(statement.getPositionalValues().get(2))));
+    assertThat(result.status())
+        .hasSize(3)
+        .containsEntry(CommandStatus.MATCHED_COUNT, 0)
+        .containsEntry(CommandStatus.MODIFIED_COUNT, 0)
+        .containsEntry(CommandStatus.UPSERTED_ID, DocumentId.fromString("doc1"));
+    assertThat(result.data().getResponseDocuments())
+        .containsExactly(objectMapper.createObjectNode().put("_id", "doc1").put("count", 1));
+    assertThat(result.errors()).isNull();
+  }
+
+  @Test
+  public void existingDocumentUpdatedByFallback() {
+    QueryExecutor queryExecutor = mock(QueryExecutor.class);
+    when(queryExecutor.executeWrite(eq(dataApiRequestInfo), any()))
+        .thenReturn(Uni.createFrom().item(applied(false)));
+    ReadAndUpdateOperation upsert = fallback(false);
+    ReadAndUpdateOperation fallback = mock(ReadAndUpdateOperation.class);
+    when(fallback.findOperation()).thenReturn(upsert.findOperation());
+    when(fallback.documentUpdater()).thenReturn(upsert.documentUpdater());
+    when(fallback.shredder()).thenReturn(shredder);
+    Supplier<CommandResult> fallbackResult = () -> new CommandResult(Map.of());
+    when(fallback.execute(dataApiRequestInfo, queryExecutor))
+        .thenReturn(Uni.createFrom().item(fallbackResult));
+
+    Supplier<CommandResult> result =
+        execute(new InsertFirstUpsertOperation(COMMAND_CONTEXT, fallback), queryExecutor);
+
+    assertThat(result).isSameAs(fallbackResult);
+  }
+
+  private ReadAndUpdateOperation fallback(boolean returnDocument) {
+    LogicalExpression implicitAnd = LogicalExpression.and();
+    implicitAnd.comparisonExpressions.add(new ComparisonExpression(null, null, null));
+    implicitAnd
+        .comparisonExpressions
+        .get(0)
+        .setDBFilters(
+            List.of(
+                new DBFilterBase.IDFilter(
+                    DBFilterBase.IDFilter.Operator.EQ, DocumentId.fromString("doc1"))));
+    FindOperation findOperation =
+        FindOperation.unsortedSingle(
+            COMMAND_CONTEXT,
+            implicitAnd,
+            DocumentProjector.defaultProjector(),
+            ReadType.DOCUMENT,
+            objectMapper,
+            false);
+    ObjectNode args = objectMapper.createObjectNode().put("count", 1);
+    DocumentUpdater documentUpdater =
+        DocumentUpdater.construct(DocumentUpdaterUtils.updateClause(UpdateOperator.INC, args));
+    return new ReadAndUpdateOperation(
+        COMMAND_CONTEXT,
+        findOperation,
+        documentUpdater,
+        returnDocument,
+        returnDocument,
+        true,
+        shredder,
+        DocumentProjector.defaultProjector(),
+        1,
+        3);
+  }
+
+  private AsyncResultSet applied(boolean applied) {
+    return new MockAsyncResultSet(
+        COLUMNS_APPLIED,
+        List.of(new MockRow(COLUMNS_APPLIED, 0, List.of(byteBufferFrom(applied)))),
+        null);
+  }
+
+  private Supplier<CommandResult> execute(
+      InsertFirstUpsertOperation operation, QueryExecutor queryExecutor) {
+    return operation
+        .execute(dataApiRequestInfo, queryExecutor)
+        .subscribe()
+        .withSubscriber(UniAssertSubscriber.create())
+        .awaitItem()
+        .getItem();
+  }
+}
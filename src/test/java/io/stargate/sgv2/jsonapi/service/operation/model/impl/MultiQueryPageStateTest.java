@@ -0,0 +1,84 @@
+package io.stargate.sgv2.jsonapi.service.operation.model.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchException;
+
+import io.stargate.sgv2.jsonapi.exception.ErrorCode;
+import io.stargate.sgv2.jsonapi.exception.JsonApiException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+
+public class MultiQueryPageStateTest {
+
+  @Test
+  public void initialState() {
+    MultiQueryPageState state = MultiQueryPageState.from(null, 3, 10);
+    assertThat(state.remaining()).isEqualTo(10);
+    assertThat(state.nextQueries(2)).containsExactly(0, 1);
+    assertThat(state.nextQueries(5)).containsExactly(0, 1, 2);
+    assertThat(state.pagingState(0)).isNull();
+  }
+
+  @Test
+  public void roundTrip() {
+    String driverState = Base64.getEncoder().encodeToString(new byte[] {1, 2, 3});
+    MultiQueryPageState state =
+        MultiQueryPageState.from(null, 3, 10).consumed(0, 1, null).consumed(1, 2, driverState);
+
+    MultiQueryPageState decoded = MultiQueryPageState.from(state.encode(), 3, 10);
+    assertThat(decoded.remaining()).isEqualTo(7);
+    assertThat(decoded.nextQueries(5)).containsExactly(1, 2);
+    assertThat(decoded.pagingState(1)).isEqualTo(driverState);
+    assertThat(decoded.pagingState(2)).isNull();
+  }
+
+  @Test
+  public void noPageStateWhenExhausted() {
+    MultiQueryPageState state = MultiQueryPageState.from(null, 2, 10);
+    assertThat(state.consumed(0, 1, null).consumed(1, 1, null).encode()).isNull();
+  }
+
+  @Test
+  public void noPageStateWhenLimitReached() {
+    MultiQueryPageState state = MultiQueryPageState.from(null, 3, 2);
+    assertThat(state.consumed(0, 1, null).consumed(1, 1, null).encode()).isNull();
+  }
+
+  @Test
+  public void invalidPageState() {
+    String singleQueryState = Base64.getEncoder().encodeToString(new byte[] {1, 2, 3});
+    Exception e = catchException(() -> MultiQueryPageState.from(singleQueryState, 2, 10));
+    assertThat(e)
+        .isInstanceOf(JsonApiException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_PAGE_STATE);
+  }
+
+  @Test
+  public void pageStateForOtherQueries() {
+    String pageState = MultiQueryPageState.from(null, 3, 10).consumed(0, 1, null).encode();
+    Exception e = catchException(() -> MultiQueryPageState.from(pageState, 4, 10));
+    assertThat(e)
+        .isInstanceOf(JsonApiException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_PAGE_STATE);
+  }
+
+  @Test
+  public void remainingClampedToLimit() {
+    String pageState = encoded("mq1:1000,,");
+    assertThat(MultiQueryPageState.from(pageState, 2, 10).remaining()).isEqualTo(10);
+  }
+
+  @Test
+  public void negativeRemaining() {
+    String pageState = encoded("mq1:-5,,");
+    Exception e = catchException(() -> MultiQueryPageState.from(pageState, 2, 10));
+    assertThat(e)
+        .isInstanceOf(JsonApiException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_PAGE_STATE);
+  }
+
+  private static String encoded(String state) {
+    return Base64.getEncoder().encodeToString(state.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,298 @@
+package io.stargate.sgv2.jsonapi.service.operation.model.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
+import io.stargate.sgv2.jsonapi.api.model.command.CommandResult;
+import io.stargate.sgv2.jsonapi.api.model.command.CommandStatus;
+import io.stargate.sgv2.jsonapi.api.model.command.clause.update.UpdateOperator;
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.QueryExecutor;
+import io.stargate.sgv2.jsonapi.service.shredding.Shredder;
+import io.stargate.sgv2.jsonapi.service.shredding.model.DocValueHasher;
+import io.stargate.sgv2.jsonapi.service.shredding.model.DocumentId;
+import io.stargate.sgv2.jsonapi.service.testutil.DocumentUpdaterUtils;
+import io.stargate.sgv2.jsonapi.service.testutil.MockAsyncResultSet;
+import io.stargate.sgv2.jsonapi.service.testutil.MockRow;
+import io.stargate.sgv2.jsonapi.service.updater.DocumentUpdater;
+import io.stargate.sgv2.jsonapi.testresource.NoGlobalResourcesTestProfile;
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+@TestProfile(NoGlobalResourcesTestProfile.Impl.class)
+public class NumericUpdateOperationTest extends OperationTestBase {
+  private CommandContext COMMAND_CONTEXT;
+
+  @Inject Shredder shredder;
+  @Inject ObjectMapper objectMapper;
+
+  private static final String READ = "SELECT tx_id, doc_json FROM \"%s\".\"%s\" WHERE key = ?";
+
+  private static final String UPDATE_INCREMENTAL =
+      "UPDATE \"%s\".\"%s\" "
+          + "        SET"
+          + "            tx_id = now(),"
+          + "            exist_keys = exist_keys + ?,"
+          + "            exist_keys = exist_keys - ?,"
+          + "            array_size = array_size + ?,"
+          + "            array_size = array_size - ?,"
+          + "            array_contains = array_contains + ?,"
+          + "            array_contains = array_contains - ?,"
+          + "            query_bool_values = query_bool_values + ?,"
+          + "            query_bool_values = query_bool_values - ?,"
+          + "            query_dbl_values = query_dbl_values + ?,"
+          + "            query_dbl_values = query_dbl_values - ?,"
+          + "            query_text_values = query_text_values + ?,"
+          + "            query_text_values = query_text_values - ?,"
+          + "            query_null_values = query_null_values + ?,"
+          + "            query_null_values = query_null_values - ?,"
+          + "            query_timestamp_values = query_timestamp_values + ?,"
+          + "            query_timestamp_values = query_timestamp_values - ?,"
+          + "            doc_json  = ?"
+          + "        WHERE "
+          + "            key = ?"
+          + "        IF "
+          + "            tx_id = ?";
+
+  private final ColumnDefinitions TXID_JSON_COLUMNS =
+      buildColumnDefs(TestColumn.ofUuid("tx_id"), TestColumn.ofVarchar("doc_json"));
+
+  private final ColumnDefinitions COLUMNS_APPLIED =
+      buildColumnDefs(TestColumn.ofBoolean("[applied]"));
+
+  private final ColumnDefinitions COLUMNS_APPLIED_FAILURE =
+      buildColumnDefs(TestColumn.ofBoolean("[applied]"), TestColumn.ofUuid("tx_id"));
+
+  @PostConstruct
+  public void init() {
+    COMMAND_CONTEXT =
+        new CommandContext(
+            KEYSPACE_NAME, COLLECTION_NAME, "testCommand", jsonProcessingMetricsReporter);
+  }
+
+  @Test
+  public void incrementCounter() {
+    QueryExecutor queryExecutor = mock(QueryExecutor.class);
+    when(queryExecutor.isIncrementalUpdatesEnabled()).thenReturn(true);
+    UUID txId = UUID.randomUUID();
+    mockRead(queryExecutor, txId, "{\"_id\":\"doc1\",\"count\":3,\"name\":\"a\"}");
+
+    // only the entries of the counter change, and the rest of the document is kept as is
+    DocValueHasher hasher = new DocValueHasher();
+    SimpleStatement updateStmt =
+        SimpleStatement.newInstance(
+            UPDATE_INCREMENTAL.formatted(KEYSPACE_NAME, COLLECTION_NAME),
+            Set.of(),
+            Set.of(),
+            Map.of(),
+            Set.of(),
+            Set.of("count " + hasher.getHash(new BigDecimal(5)).hash()),
+            Set.of("count " + hasher.getHash(new BigDecimal(3)).hash()),
+            Map.of(),
+            Set.of(),
+            Map.of("count", new BigDecimal(5)),
+            Set.of(),
+            Map.of(),
+            Set.of(),
+            Set.of(),
+            Set.of(),
+            Map.of(),
+            Set.of(),
+            "{\"_id\":\"doc1\",\"count\":5,\"name\":\"a\"}",
+            boundKeyForStatement("doc1"),
+            txId);
+    when(queryExecutor.executeWrite(eq(dataApiRequestInfo), eq(updateStmt)))
+        .thenReturn(Uni.createFrom().item(applied(true)));
+
+    CommandResult result =
+        execute(operation(UpdateOperator.INC, "count", 2, null), queryExecutor).get();
+
+    verify(queryExecutor).executeWrite(eq(dataApiRequestInfo), eq(updateStmt));
+    assertThat(result.status())
+        .hasSize(2)
+        .containsEntry(CommandStatus.MATCHED_COUNT, 1)
+        .containsEntry(CommandStatus.MODIFIED_COUNT, 1);
+    assertThat(result.errors()).isNull();
+  }
+
+  @Test
+  public void notModified() {
+    QueryExecutor queryExecutor = mock(QueryExecutor.class);
+    when(queryExecutor.isIncrementalUpdatesEnabled()).thenReturn(true);
+    mockRead(queryExecutor, UUID.randomUUID(), "{\"_id\":\"doc1\",\"count\":3}");
+
+    CommandResult result =
+        execute(operation(UpdateOperator.MAX, "count", 1, null), queryExecutor).get();
+
+    verify(queryExecutor, never()).executeWrite(any(), any());
+    assertThat(result.status())
+        .containsEntry(CommandStatus.MATCHED_COUNT, 1)
+        .containsEntry(CommandStatus.MODIFIED_COUNT, 0);
+  }
+
+  @Test
+  public void notFound() {
+    QueryExecutor queryExecutor = mock(QueryExecutor.class);
+    when(queryExecutor.isIncrementalUpdatesEnabled()).thenReturn(true);
+    AsyncResultSet noRows = new MockAsyncResultSet(TXID_JSON_COLUMNS, List.of(), null);
+    when(queryExecutor.executeRead(eq(dataApiRequestInfo), any(), any(), anyInt()))
+        .thenReturn(Uni.createFrom().item(noRows));
+
+    CommandResult result =
+        execute(operation(UpdateOperator.INC, "count", 1, null), queryExecutor).get();
+
+    verify(queryExecutor, never()).executeWrite(any(), any());
+    assertThat(result.status())
+        .containsEntry(CommandStatus.MATCHED_COUNT, 0)
+        .containsEntry(CommandStatus.MODIFIED_COUNT, 0);
+  }
+
+  @Test
+  public void retryConcurrentUpdate() {
+    QueryExecutor queryExecutor = mock(QueryExecutor.class);
+    when(queryExecutor.isIncrementalUpdatesEnabled()).thenReturn(true);
+    mockRead(queryExecutor, UUID.randomUUID(), "{\"_id\":\"doc1\",\"count\":3}");
+    when(queryExecutor.executeWrite(eq(dataApiRequestInfo), any()))
+        .thenReturn(Uni.createFrom().item(modified()));
+
+    CommandResult result =
+        execute(operation(UpdateOperator.INC, "count", 1, null), queryExecutor).get();
+
+    // first attempt and 3 retries, each reading the document again
+    verify(queryExecutor, times(4)).executeWrite(eq(dataApiRequestInfo), any());
+    verify(queryExecutor, times(4)).executeRead(eq(dataApiRequestInfo), any(), any(), anyInt());
+    assertThat(result.status())
+        .containsEntry(CommandStatus.MATCHED_COUNT, 1)
+        .containsEntry(CommandStatus.MODIFIED_COUNT, 0);
+    assertThat(result.errors()).hasSize(1);
+  }
+
+  @Test
+  public void concurrentDelete() {
+    QueryExecutor queryExecutor = mock(QueryExecutor.class);
+    when(queryExecutor.isIncrementalUpdatesEnabled()).thenReturn(true);
+    mockRead(queryExecutor, UUID.randomUUID(), "{\"_id\":\"doc1\",\"count\":3}");
+    // only [applied] is returned for a row that no longer exists
+    when(queryExecutor.executeWrite(eq(dataApiRequestInfo), any()))
+        .thenReturn(Uni.createFrom().item(applied(false)));
+
+    CommandResult result =
+        execute(operation(UpdateOperator.INC, "count", 1, null), queryExecutor).get();
+
+    // not read again
+    verify(queryExecutor, times(1)).executeWrite(eq(dataApiRequestInfo), any());
+    verify(queryExecutor, times(1)).executeRead(eq(dataApiRequestInfo), any(), any(), anyInt());
+    assertThat(result.status())
+        .containsEntry(CommandStatus.MATCHED_COUNT, 0)
+        .containsEntry(CommandStatus.MODIFIED_COUNT, 0);
+    assertThat(result.errors()).isNullOrEmpty();
+  }
+
+  @Test
+  public void missingPropertyUpdatedByFallback() {
+    QueryExecutor queryExecutor = mock(QueryExecutor.class);
+    when(queryExecutor.isIncrementalUpdatesEnabled()).thenReturn(true);
+    mockRead(queryExecutor, UUID.randomUUID(), "{\"_id\":\"doc1\",\"name\":\"a\"}");
+    ReadAndUpdateOperation fallback = mock(ReadAndUpdateOperation.class);
+    Supplier<CommandResult> fallbackResult = () -> new CommandResult(Map.of());
+    when(fallback.execute(dataApiRequestInfo, queryExecutor))
+        .thenReturn(Uni.createFrom().item(fallbackResult));
+
+    Supplier<CommandResult> result =
+        execute(operation(UpdateOperator.INC, "count", 1, fallback), queryExecutor);
+
+    assertThat(result).isSameAs(fallbackResult);
+    verify(queryExecutor, never()).executeWrite(any(), any());
+  }
+
+  private NumericUpdateOperation operation(
+      UpdateOperator operator, String property, int value, ReadAndUpdateOperation fallback) {
+    ObjectNode args = objectMapper.createObjectNode().put(property, value);
+    DocumentUpdater documentUpdater =
+        DocumentUpdater.construct(DocumentUpdaterUtils.updateClause(operator, args));
+    return new NumericUpdateOperation(
+        COMMAND_CONTEXT,
+        DocumentId.fromString("doc1"),
+        documentUpdater,
+        documentUpdater.numericTopLevelPaths(),
+        shredder,
+        objectMapper,
+        fallback,
+        3);
+  }
+
+  private void mockRead(QueryExecutor queryExecutor, UUID txId, String docJson) {
+    String readCql = READ.formatted(KEYSPACE_NAME, COLLECTION_NAME);
+    List<Row> rows =
+        List.of(
+            new MockRow(
+                TXID_JSON_COLUMNS,
+                0,
+                Arrays.asList(byteBufferFrom(txId), byteBufferFrom(docJson))));
+    // a new result set for each read, as rows are consumed
+    when(queryExecutor.executeRead(
+            eq(dataApiRequestInfo),
+            argThat(statement -> statement != null && readCql.equals(statement.getQuery())),
+            any(),
+            anyInt()))
+        .then(
+            invocation ->
+                Uni.createFrom().item(new MockAsyncResultSet(TXID_JSON_COLUMNS, rows, null)));
+  }
+
+  /** Result of an update not applied because the document was modified. */
+  private AsyncResultSet modified() {
+    return new MockAsyncResultSet(
+        COLUMNS_APPLIED_FAILURE,
+        List.of(
+            new MockRow(
+                COLUMNS_APPLIED_FAILURE,
+                0,
+                List.of(byteBufferFrom(false), byteBufferFrom(UUID.randomUUID())))),
+        null);
+  }
+
+  private AsyncResultSet applied(boolean applied) {
+    return new MockAsyncResultSet(
+        COLUMNS_APPLIED,
+        List.of(new MockRow(COLUMNS_APPLIED, 0, List.of(byteBufferFrom(applied)))),
+        null);
+  }
+
+  private Supplier<CommandResult> execute(
+      NumericUpdateOperation operation, QueryExecutor queryExecutor) {
+    return operation
+        .execute(dataApiRequestInfo, queryExecutor)
+        .subscribe()
+        .withSubscriber(UniAssertSubscriber.create())
+        .awaitItem()
+        .getItem();
+  }
+}
@@ -3,7 +3,6 @@ package io.stargate.sgv2.jsonapi.service.operation.model.impl;
 import com.datastax.oss.driver.api.core.ProtocolVersion;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
-import com.datastax.oss.driver.api.core.data.CqlVector;
 import com.datastax.oss.driver.api.core.data.TupleValue;
 import com.datastax.oss.driver.api.core.detach.AttachmentPoint;
 import com.datastax.oss.driver.api.core.type.DataTypes;
@@ -20,6 +19,7 @@ import io.stargate.sgv2.jsonapi.api.request.DataApiRequestInfo;
 import io.stargate.sgv2.jsonapi.api.v1.metrics.JsonProcessingMetricsReporter;
 import io.stargate.sgv2.jsonapi.config.constants.DocumentConstants;
 import io.stargate.sgv2.jsonapi.service.cqldriver.serializer.CQLBindValues;
+import io.stargate.sgv2.jsonapi.service.cqldriver.serializer.FloatVector;
 import io.stargate.sgv2.jsonapi.service.shredding.model.DocumentId;
 import jakarta.inject.Inject;
 import java.nio.ByteBuffer;
@@ -128,8 +128,8 @@ public class OperationTestBase {
     return CQLBindValues.getDocumentIdValue(DocumentId.fromString(key));
   }
 
-  protected CqlVector<Float> vectorForStatement(Float... value) {
-    return CqlVector.newInstance(value);
+  protected FloatVector vectorForStatement(float... value) {
+    return FloatVector.of(value);
   }
 
   protected record TestColumn(String name, RawType type) {
@@ -83,6 +83,11 @@ public class ReadAndUpdateOperationRetryTest extends OperationTestBase {
   private final ColumnDefinitions COLUMNS_APPLIED =
       buildColumnDefs(OperationTestBase.TestColumn.ofBoolean("[applied]"));
 
+  private final ColumnDefinitions COLUMNS_APPLIED_FAILURE =
+      buildColumnDefs(
+          OperationTestBase.TestColumn.ofBoolean("[applied]"),
+          OperationTestBase.TestColumn.ofUuid("tx_id"));
+
   private SimpleStatement nonVectorUpdateStatement(
       WritableShreddedDocument shredDocument, UUID tx_id) {
     String updateCql = UPDATE.formatted(KEYSPACE_NAME, COLLECTION_NAME);
@@ -186,8 +191,9 @@ public class ReadAndUpdateOperationRetryTest extends OperationTestBase {
     JsonNode jsonNode = objectMapper.readTree(doc1Updated);
     WritableShreddedDocument shredDocument = shredder.shred(jsonNode);
     SimpleStatement stmt3 = nonVectorUpdateStatement(shredDocument, tx_id1);
-    List<Row> rows3 = Arrays.asList(resultRow(COLUMNS_APPLIED, 0, Boolean.FALSE));
-    AsyncResultSet results3 = new MockAsyncResultSet(COLUMNS_APPLIED, rows3, null);
+    List<Row> rows3 =
+        Arrays.asList(resultRow(COLUMNS_APPLIED_FAILURE, 0, Boolean.FALSE, UUID.randomUUID()));
+    AsyncResultSet results3 = new MockAsyncResultSet(COLUMNS_APPLIED_FAILURE, rows3, null);
     final AtomicInteger failedUpdateQueryAssert = new AtomicInteger();
     when(queryExecutor.executeWrite(eq(dataApiRequestInfo), eq(stmt3)))
         .then(
@@ -330,8 +336,9 @@ public class ReadAndUpdateOperationRetryTest extends OperationTestBase {
     JsonNode jsonNode = objectMapper.readTree(doc1Updated);
     WritableShreddedDocument shredDocument = shredder.shred(jsonNode);
     SimpleStatement stmt3 = nonVectorUpdateStatement(shredDocument, tx_id1);
-    List<Row> rows3 = Arrays.asList(resultRow(COLUMNS_APPLIED, 0, Boolean.FALSE));
-    AsyncResultSet results3 = new MockAsyncResultSet(COLUMNS_APPLIED, rows3, null);
+    List<Row> rows3 =
+        Arrays.asList(resultRow(COLUMNS_APPLIED_FAILURE, 0, Boolean.FALSE, UUID.randomUUID()));
+    AsyncResultSet results3 = new MockAsyncResultSet(COLUMNS_APPLIED_FAILURE, rows3, null);
     final AtomicInteger updateFailedQueryAssert = new AtomicInteger();
     when(queryExecutor.executeWrite(eq(dataApiRequestInfo), eq(stmt3)))
         .then(
@@ -341,8 +348,9 @@ public class ReadAndUpdateOperationRetryTest extends OperationTestBase {
             });
 
     SimpleStatement stmt4 = nonVectorUpdateStatement(shredDocument, tx_id2);
-    List<Row> rows4 = Arrays.asList(resultRow(COLUMNS_APPLIED, 0, Boolean.FALSE));
-    AsyncResultSet results4 = new MockAsyncResultSet(COLUMNS_APPLIED, rows4, null);
+    List<Row> rows4 =
+        Arrays.asList(resultRow(COLUMNS_APPLIED_FAILURE, 0, Boolean.FALSE, UUID.randomUUID()));
+    AsyncResultSet results4 = new MockAsyncResultSet(COLUMNS_APPLIED_FAILURE, rows4, null);
     final AtomicInteger updateRetryFailedQueryAssert = new AtomicInteger();
     when(queryExecutor.executeWrite(eq(dataApiRequestInfo), eq(stmt4)))
         .then(
@@ -482,8 +490,9 @@ public class ReadAndUpdateOperationRetryTest extends OperationTestBase {
     JsonNode jsonNode = objectMapper.readTree(doc1Updated);
     WritableShreddedDocument shredDocument = shredder.shred(jsonNode);
     SimpleStatement stmt3 = nonVectorUpdateStatement(shredDocument, tx_id1);
-    List<Row> rows3 = Arrays.asList(resultRow(COLUMNS_APPLIED, 0, Boolean.FALSE));
-    AsyncResultSet results3 = new MockAsyncResultSet(COLUMNS_APPLIED, rows3, null);
+    List<Row> rows3 =
+        Arrays.asList(resultRow(COLUMNS_APPLIED_FAILURE, 0, Boolean.FALSE, UUID.randomUUID()));
+    AsyncResultSet results3 = new MockAsyncResultSet(COLUMNS_APPLIED_FAILURE, rows3, null);
     final AtomicInteger updateFailedQueryAssert = new AtomicInteger();
     when(queryExecutor.executeWrite(eq(dataApiRequestInfo), eq(stmt3)))
         .then(
@@ -493,8 +502,9 @@ public class ReadAndUpdateOperationRetryTest extends OperationTestBase {
             });
 
     SimpleStatement stmt4 = nonVectorUpdateStatement(shredDocument, tx_id2);
-    List<Row> rows4 = Arrays.asList(resultRow(COLUMNS_APPLIED, 0, Boolean.FALSE));
-    AsyncResultSet results4 = new MockAsyncResultSet(COLUMNS_APPLIED, rows4, null);
+    List<Row> rows4 =
+        Arrays.asList(resultRow(COLUMNS_APPLIED_FAILURE, 0, Boolean.FALSE, UUID.randomUUID()));
+    AsyncResultSet results4 = new MockAsyncResultSet(COLUMNS_APPLIED_FAILURE, rows4, null);
     final AtomicInteger updateRetryFailedQueryAssert = new AtomicInteger();
     when(queryExecutor.executeWrite(eq(dataApiRequestInfo), eq(stmt4)))
         .then(
@@ -652,8 +662,9 @@ public class ReadAndUpdateOperationRetryTest extends OperationTestBase {
     JsonNode jsonNode = objectMapper.readTree(doc1Updated);
     WritableShreddedDocument shredDocument = shredder.shred(jsonNode);
     SimpleStatement stmt3 = nonVectorUpdateStatement(shredDocument, tx_id1);
-    List<Row> rows3 = Arrays.asList(resultRow(COLUMNS_APPLIED, 0, Boolean.FALSE));
-    AsyncResultSet results3 = new MockAsyncResultSet(COLUMNS_APPLIED, rows3, null);
+    List<Row> rows3 =
+        Arrays.asList(resultRow(COLUMNS_APPLIED_FAILURE, 0, Boolean.FALSE, UUID.randomUUID()));
+    AsyncResultSet results3 = new MockAsyncResultSet(COLUMNS_APPLIED_FAILURE, rows3, null);
     final AtomicInteger failedUpdateFirstQueryAssert = new AtomicInteger();
     when(queryExecutor.executeWrite(eq(dataApiRequestInfo), eq(stmt3)))
         .then(
@@ -663,8 +674,9 @@ public class ReadAndUpdateOperationRetryTest extends OperationTestBase {
             });
 
     SimpleStatement stmt4 = nonVectorUpdateStatement(shredDocument, tx_id2);
-    List<Row> rows4 = Arrays.asList(resultRow(COLUMNS_APPLIED, 0, Boolean.FALSE));
-    AsyncResultSet results4 = new MockAsyncResultSet(COLUMNS_APPLIED, rows4, null);
+    List<Row> rows4 =
+        Arrays.asList(resultRow(COLUMNS_APPLIED_FAILURE, 0, Boolean.FALSE, UUID.randomUUID()));
+    AsyncResultSet results4 = new MockAsyncResultSet(COLUMNS_APPLIED_FAILURE, rows4, null);
     final AtomicInteger failedUpdateRetryFirstQueryAssert = new AtomicInteger();
     when(queryExecutor.executeWrite(eq(dataApiRequestInfo), eq(stmt4)))
         .then(
@@ -853,8 +865,9 @@ public class ReadAndUpdateOperationRetryTest extends OperationTestBase {
     JsonNode jsonNode = objectMapper.readTree(doc1Updated);
     WritableShreddedDocument shredDocument = shredder.shred(jsonNode);
     SimpleStatement stmt4 = nonVectorUpdateStatement(shredDocument, tx_id1);
-    List<Row> rows4 = Arrays.asList(resultRow(COLUMNS_APPLIED, 0, Boolean.FALSE));
-    AsyncResultSet results4 = new MockAsyncResultSet(COLUMNS_APPLIED, rows4, null);
+    List<Row> rows4 =
+        Arrays.asList(resultRow(COLUMNS_APPLIED_FAILURE, 0, Boolean.FALSE, UUID.randomUUID()));
+    AsyncResultSet results4 = new MockAsyncResultSet(COLUMNS_APPLIED_FAILURE, rows4, null);
     final AtomicInteger updateQueryDoc1Assert = new AtomicInteger();
     when(queryExecutor.executeWrite(eq(dataApiRequestInfo), eq(stmt4)))
         .then(
@@ -864,8 +877,9 @@ public class ReadAndUpdateOperationRetryTest extends OperationTestBase {
             });
 
     SimpleStatement stmt5 = nonVectorUpdateStatement(shredDocument, tx_id2);
-    List<Row> rows5 = Arrays.asList(resultRow(COLUMNS_APPLIED, 0, Boolean.FALSE));
-    AsyncResultSet results5 = new MockAsyncResultSet(COLUMNS_APPLIED, rows5, null);
+    List<Row> rows5 =
+        Arrays.asList(resultRow(COLUMNS_APPLIED_FAILURE, 0, Boolean.FALSE, UUID.randomUUID()));
+    AsyncResultSet results5 = new MockAsyncResultSet(COLUMNS_APPLIED_FAILURE, rows5, null);
     final AtomicInteger updateRetryQueryDoc1Assert = new AtomicInteger();
     when(queryExecutor.executeWrite(eq(dataApiRequestInfo), eq(stmt5)))
         .then(
@@ -878,8 +892,9 @@ public class ReadAndUpdateOperationRetryTest extends OperationTestBase {
     shredDocument = shredder.shred(jsonNode);
 
     SimpleStatement stmt6 = nonVectorUpdateStatement(shredDocument, tx_id3);
-    List<Row> rows6 = Arrays.asList(resultRow(COLUMNS_APPLIED, 0, Boolean.FALSE));
-    AsyncResultSet results6 = new MockAsyncResultSet(COLUMNS_APPLIED, rows6, null);
+    List<Row> rows6 =
+        Arrays.asList(resultRow(COLUMNS_APPLIED_FAILURE, 0, Boolean.FALSE, UUID.randomUUID()));
+    AsyncResultSet results6 = new MockAsyncResultSet(COLUMNS_APPLIED_FAILURE, rows6, null);
     final AtomicInteger updateQueryDoc2Assert = new AtomicInteger();
     when(queryExecutor.executeWrite(eq(dataApiRequestInfo), eq(stmt6)))
         .then(
@@ -889,8 +904,9 @@ public class ReadAndUpdateOperationRetryTest extends OperationTestBase {
             });
 
     SimpleStatement stmt7 = nonVectorUpdateStatement(shredDocument, tx_id4);
-    List<Row> rows7 = Arrays.asList(resultRow(COLUMNS_APPLIED, 0, Boolean.FALSE));
-    AsyncResultSet results7 = new MockAsyncResultSet(COLUMNS_APPLIED, rows7, null);
+    List<Row> rows7 =
+        Arrays.asList(resultRow(COLUMNS_APPLIED_FAILURE, 0, Boolean.FALSE, UUID.randomUUID()));
+    AsyncResultSet results7 = new MockAsyncResultSet(COLUMNS_APPLIED_FAILURE, rows7, null);
     final AtomicInteger updateRetryQueryDoc2Assert = new AtomicInteger();
     when(queryExecutor.executeWrite(eq(dataApiRequestInfo), eq(stmt7)))
         .then(
@@ -44,7 +44,10 @@ import jakarta.inject.Inject;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -79,6 +82,32 @@ public class ReadAndUpdateOperationTest extends OperationTestBase {
           + "        IF "
           + "            tx_id = ?";
 
+  private static String UPDATE_INCREMENTAL =
+      "UPDATE \"%s\".\"%s\" "
+          + "        SET"
+          + "            tx_id = now(),"
+          + "            exist_keys = exist_keys + ?,"
+          + "            exist_keys = exist_keys - ?,"
+          + "            array_size = array_size + ?,"
+          + "            array_size = array_size - ?,"
+          + "            array_contains = array_contains + ?,"
+          + "            array_contains = array_contains - ?,"
+          + "            query_bool_values = query_bool_values + ?,"
+          + "            query_bool_values = query_bool_values - ?,"
+          + "            query_dbl_values = query_dbl_values + ?,"
+          + "            query_dbl_values = query_dbl_values - ?,"
+          + "            query_text_values = query_text_values + ?,"
+          + "            query_text_values = query_text_values - ?,"
+          + "            query_null_values = query_null_values + ?,"
+          + "            query_null_values = query_null_values - ?,"
+          + "            query_timestamp_values = query_timestamp_values + ?,"
+          + "            query_timestamp_values = query_timestamp_values - ?,"
+          + "            doc_json  = ?"
+          + "        WHERE "
+          + "            key = ?"
+          + "        IF "
+          + "            tx_id = ?";
+
   private static String UPDATE_VECTOR =
       "UPDATE \"%s\".\"%s\" "
           + "        SET"
@@ -1659,6 +1688,236 @@ public class ReadAndUpdateOperationTest extends OperationTestBase {
       assertThat(result.errors()).isNull();
     }
 
+    @Test
+    public void updatesConcurrently() throws Exception {
+      QueryExecutor queryExecutor = mock(QueryExecutor.class);
+      when(queryExecutor.getMaxDocumentModifyConcurrency()).thenReturn(2);
+
+      // read
+      String collectionReadCql =
+          "SELECT key, tx_id, doc_json FROM \"%s\".\"%s\" WHERE array_contains CONTAINS ? LIMIT 21"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME);
+
+      UUID tx_id1 = UUID.randomUUID();
+      UUID tx_id2 = UUID.randomUUID();
+      String doc1 =
+          """
+                      {
+                        "_id": "doc1",
+                        "status" : "active"
+                      }
+                      """;
+      String doc2 =
+          """
+                      {
+                        "_id": "doc2",
+                        "status" : "active"
+                      }
+                      """;
+
+      SimpleStatement readStmt =
+          SimpleStatement.newInstance(
+              collectionReadCql, "status " + new DocValueHasher().getHash("active").hash());
+      List<Row> rows =
+          Arrays.asList(resultRow(0, "doc1", tx_id1, doc1), resultRow(0, "doc2", tx_id2, doc2));
+      AsyncResultSet readResults = new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, rows, null);
+      when(queryExecutor.executeRead(eq(dataApiRequestInfo), eq(readStmt), any(), anyInt()))
+          .thenReturn(Uni.createFrom().item(readResults));
+
+      // updates only complete once both have been started, so this would never complete if the
+      // documents were updated one at a time
+      CompletableFuture<AsyncResultSet> bothStarted = new CompletableFuture<>();
+      AsyncResultSet applied =
+          new MockAsyncResultSet(
+              COLUMNS_APPLIED, List.of(resultRow(COLUMNS_APPLIED, 0, Boolean.TRUE)), null);
+      final AtomicInteger updateCount = new AtomicInteger();
+      when(queryExecutor.executeWrite(eq(dataApiRequestInfo), any()))
+          .then(
+              invocation -> {
+                if (updateCount.incrementAndGet() == 2) {
+                  bothStarted.complete(applied);
+                }
+                return Uni.createFrom().completionStage(bothStarted);
+              });
+
+      LogicalExpression implicitAnd = LogicalExpression.and();
+      implicitAnd.comparisonExpressions.add(new ComparisonExpression(null, null, null));
+      List<DBFilterBase> filters =
+          List.of(
+              new DBFilterBase.TextFilter(
+                  "status", DBFilterBase.MapFilterBase.Operator.EQ, "active"));
+      implicitAnd.comparisonExpressions.get(0).setDBFilters(filters);
+      FindOperation findOperation =
+          FindOperation.unsorted(
+              COMMAND_CONTEXT,
+              implicitAnd,
+              DocumentProjector.defaultProjector(),
+              null,
+              21,
+              20,
+              ReadType.DOCUMENT,
+              objectMapper,
+              false);
+
+      DocumentUpdater documentUpdater =
+          DocumentUpdater.construct(
+              DocumentUpdaterUtils.updateClause(
+                  UpdateOperator.SET, objectMapper.createObjectNode().put("name", "test")));
+      ReadAndUpdateOperation operation =
+          new ReadAndUpdateOperation(
+              COMMAND_CONTEXT,
+              findOperation,
+              documentUpdater,
+              false,
+              false,
+              false,
+              shredder,
+              DocumentProjector.defaultProjector(),
+              20,
+              3);
+
+      Supplier<CommandResult> execute =
+          operation
+              .execute(dataApiRequestInfo, queryExecutor)
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create())
+              .awaitItem()
+              .getItem();
+
+      assertThat(updateCount.get()).isEqualTo(2);
+      CommandResult result = execute.get();
+      assertThat(result.status())
+          .hasSize(2)
+          .containsEntry(CommandStatus.MATCHED_COUNT, 2)
+          .containsEntry(CommandStatus.MODIFIED_COUNT, 2);
+      assertThat(result.errors()).isNull();
+    }
+
+    @Test
+    public void incrementalUpdate() throws Exception {
+      QueryExecutor queryExecutor = mock(QueryExecutor.class);
+      when(queryExecutor.isIncrementalUpdatesEnabled()).thenReturn(true);
+
+      // read
+      String collectionReadCql =
+          "SELECT key, tx_id, doc_json FROM \"%s\".\"%s\" WHERE array_contains CONTAINS ? LIMIT 21"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME);
+
+      UUID tx_id = UUID.randomUUID();
+      String doc1 =
+          """
+                      {
+                        "_id": "doc1",
+                        "username": "user1",
+                        "status" : "active"
+                      }
+                      """;
+      String doc1Updated =
+          """
+                      {
+                        "_id": "doc1",
+                        "username": "user1",
+                        "status" : "active",
+                        "name" : "test"
+                      }
+                      """;
+
+      SimpleStatement readStmt =
+          SimpleStatement.newInstance(
+              collectionReadCql, "status " + new DocValueHasher().getHash("active").hash());
+      List<Row> rows = Arrays.asList(resultRow(0, "doc1", tx_id, doc1));
+      AsyncResultSet readResults = new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, rows, null);
+      when(queryExecutor.executeRead(eq(dataApiRequestInfo), eq(readStmt), any(), anyInt()))
+          .thenReturn(Uni.createFrom().item(readResults));
+
+      // update only adds the entries of the new property
+      String docJson = shredder.shred(objectMapper.readTree(doc1Updated)).docJson();
+      SimpleStatement updateStmt =
+          SimpleStatement.newInstance(
+              UPDATE_INCREMENTAL.formatted(KEYSPACE_NAME, COLLECTION_NAME),
+              Set.of("name"),
+              Set.of(),
+              Map.of(),
+              Set.of(),
+              Set.of("name Stest"),
+              Set.of(),
+              Map.of(),
+              Set.of(),
+              Map.of(),
+              Set.of(),
+              Map.of("name", "test"),
+              Set.of(),
+              Set.of(),
+              Set.of(),
+              Map.of(),
+              Set.of(),
+              docJson,
+              CQLBindValues.getDocumentIdValue(DocumentId.fromString("doc1")),
+              tx_id);
+      AsyncResultSet applied =
+          new MockAsyncResultSet(
+              COLUMNS_APPLIED, List.of(resultRow(COLUMNS_APPLIED, 0, Boolean.TRUE)), null);
+      final AtomicInteger updateCount = new AtomicInteger();
+      when(queryExecutor.executeWrite(eq(dataApiRequestInfo), eq(updateStmt)))
+          .then(
+              invocation -> {
+                updateCount.incrementAndGet();
+                return Uni.createFrom().item(applied);
+              });
+
+      LogicalExpression implicitAnd = LogicalExpression.and();
+      implicitAnd.comparisonExpressions.add(new ComparisonExpression(null, null, null));
+      List<DBFilterBase> filters =
+          List.of(
+              new DBFilterBase.TextFilter(
+                  "status", DBFilterBase.MapFilterBase.Operator.EQ, "active"));
+      implicitAnd.comparisonExpressions.get(0).setDBFilters(filters);
+      FindOperation findOperation =
+          FindOperation.unsorted(
+              COMMAND_CONTEXT,
+              implicitAnd,
+              DocumentProjector.defaultProjector(),
+              null,
+              21,
+              20,
+              ReadType.DOCUMENT,
+              objectMapper,
+              false);
+
+      DocumentUpdater documentUpdater =
+          DocumentUpdater.construct(
+              DocumentUpdaterUtils.updateClause(
+                  UpdateOperator.SET, objectMapper.createObjectNode().put("name", "test")));
+      ReadAndUpdateOperation operation =
+          new ReadAndUpdateOperation(
+              COMMAND_CONTEXT,
+              findOperation,
+              documentUpdater,
+              false,
+              false,
+              false,
+              shredder,
+              DocumentProjector.defaultProjector(),
+              20,
+              3);
+
+      Supplier<CommandResult> execute =
+          operation
+              .execute(dataApiRequestInfo, queryExecutor)
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create())
+              .awaitItem()
+              .getItem();
+
+      assertThat(updateCount.get()).isEqualTo(1);
+      CommandResult result = execute.get();
+      assertThat(result.status())
+          .hasSize(2)
+          .containsEntry(CommandStatus.MATCHED_COUNT, 1)
+          .containsEntry(CommandStatus.MODIFIED_COUNT, 1);
+      assertThat(result.errors()).isNull();
+    }
+
     @Test
     public void withUpsert() throws Exception {
       QueryExecutor queryExecutor = mock(QueryExecutor.class);
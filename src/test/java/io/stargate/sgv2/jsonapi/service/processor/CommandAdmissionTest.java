@@ -0,0 +1,306 @@
+package io.stargate.sgv2.jsonapi.service.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.stargate.sgv2.jsonapi.api.model.command.CommandResult;
+import io.stargate.sgv2.jsonapi.api.model.command.clause.sort.SortClause;
+import io.stargate.sgv2.jsonapi.api.model.command.clause.sort.SortExpression;
+import io.stargate.sgv2.jsonapi.api.model.command.impl.FindOneCommand;
+import io.stargate.sgv2.jsonapi.api.model.command.impl.InsertManyCommand;
+import io.stargate.sgv2.jsonapi.config.OperationsConfig;
+import io.stargate.sgv2.jsonapi.exception.ErrorCode;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class CommandAdmissionTest {
+
+  private static final FindOneCommand SIMPLE_COMMAND = new FindOneCommand(null, null, null, null);
+
+  @Nested
+  class Admit {
+
+    @Test
+    public void disabled() {
+      CommandAdmission admission = admission(false, 1, 1);
+      CommandResult commandResult = new CommandResult(Map.of());
+      hold(admission, "tenant", 1);
+      hold(admission, "tenant", 1);
+
+      CommandResult result =
+          admission
+              .admit("tenant", SIMPLE_COMMAND, () -> Uni.createFrom().item(commandResult))
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create())
+              .awaitItem()
+              .getItem();
+
+      assertThat(result).isSameAs(commandResult);
+    }
+
+    @Test
+    public void releasedWhenProcessed() {
+      CommandAdmission admission = admission(true, 1, 1);
+      CommandResult commandResult = new CommandResult(Map.of());
+
+      for (int i = 0; i < 3; i++) {
+        CommandResult result =
+            admission
+                .admit("tenant", SIMPLE_COMMAND, () -> Uni.createFrom().item(commandResult))
+                .subscribe()
+                .withSubscriber(UniAssertSubscriber.create())
+                .awaitItem()
+                .getItem();
+        assertThat(result).isSameAs(commandResult);
+      }
+      // capacity is free again
+      hold(admission, "tenant", 1).assertCompleted();
+    }
+
+    @Test
+    public void queueFull() {
+      CommandAdmission admission = admission(true, 1, 1);
+      CommandResult commandResult = new CommandResult(Map.of());
+      hold(admission, "tenant", 1).assertCompleted();
+      hold(admission, "tenant", 1).assertNotTerminated();
+
+      CommandResult result =
+          admission
+              .admit("tenant", SIMPLE_COMMAND, () -> Uni.createFrom().item(commandResult))
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create())
+              .awaitItem()
+              .getItem();
+
+      assertThat(result.errors())
+          .singleElement()
+          .satisfies(
+              error -> {
+                assertThat(error.message())
+                    .startsWith(ErrorCode.TENANT_COMMAND_QUEUE_FULL.getMessage())
+                    .endsWith("limit of 1 commands");
+                assertThat(error.fields())
+                    .containsEntry("errorCode", ErrorCode.TENANT_COMMAND_QUEUE_FULL.name());
+              });
+      // queue of other tenants is not full
+      hold(admission, "other", 1).assertNotTerminated();
+    }
+
+    @Test
+    public void admittedOnReleaseResumesOnCallerContext() throws Exception {
+      CommandAdmission admission = admission(true, 1, 10);
+      CommandResult commandResult = new CommandResult(Map.of());
+      UniAssertSubscriber<CommandAdmission.Permit> running = hold(admission, "tenant", 1);
+      Vertx vertx = Vertx.vertx();
+      try {
+        Context context = vertx.getOrCreateContext();
+        CompletableFuture<Context> processedOn = new CompletableFuture<>();
+        CompletableFuture<UniAssertSubscriber<CommandResult>> queued = new CompletableFuture<>();
+        context.runOnContext(
+            ignored ->
+                queued.complete(
+                    admission
+                        .admit(
+                            "tenant",
+                            SIMPLE_COMMAND,
+                            () -> {
+                              processedOn.complete(Vertx.currentContext());
+                              return Uni.createFrom().item(commandResult);
+                            })
+                        .subscribe()
+                        .withSubscriber(UniAssertSubscriber.create())));
+        UniAssertSubscriber<CommandResult> subscriber = queued.get(5, TimeUnit.SECONDS);
+        assertThat(admission.waiting("tenant")).isEqualTo(1);
+
+        // released by another request, on a thread without context
+        running.getItem().release();
+
+        assertThat(processedOn.get(5, TimeUnit.SECONDS)).isSameAs(context);
+        assertThat(subscriber.awaitItem().getItem()).isSameAs(commandResult);
+      } finally {
+        vertx.close();
+      }
+    }
+  }
+
+  @Nested
+  class Acquire {
+
+    @Test
+    public void withinCapacity() {
+      CommandAdmission admission = admission(true, 3, 10);
+
+      hold(admission, "tenant", 1).assertCompleted();
+      hold(admission, "tenant", 2).assertCompleted();
+      hold(admission, "tenant", 1).assertNotTerminated();
+      assertThat(admission.waiting("tenant")).isEqualTo(1);
+    }
+
+    @Test
+    public void admittedOnRelease() {
+      CommandAdmission admission = admission(true, 2, 10);
+      UniAssertSubscriber<CommandAdmission.Permit> first = hold(admission, "tenant", 2);
+      UniAssertSubscriber<CommandAdmission.Permit> second = hold(admission, "tenant", 1);
+      UniAssertSubscriber<CommandAdmission.Permit> third = hold(admission, "tenant", 1);
+      second.assertNotTerminated();
+      third.assertNotTerminated();
+
+      first.getItem().release();
+      // releasing twice has no effect
+      first.getItem().release();
+
+      second.assertCompleted();
+      third.assertCompleted();
+      hold(admission, "tenant", 1).assertNotTerminated();
+    }
+
+    @Test
+    public void fairAcrossTenants() {
+      CommandAdmission admission = admission(true, 1, 10);
+      UniAssertSubscriber<CommandAdmission.Permit> running = hold(admission, "busy", 1);
+      UniAssertSubscriber<CommandAdmission.Permit> busy1 = hold(admission, "busy", 1);
+      UniAssertSubscriber<CommandAdmission.Permit> busy2 = hold(admission, "busy", 1);
+      UniAssertSubscriber<CommandAdmission.Permit> busy3 = hold(admission, "busy", 1);
+      UniAssertSubscriber<CommandAdmission.Permit> quiet = hold(admission, "quiet", 1);
+
+      // the command of the quiet tenant does not wait for the queue of the busy one
+      running.getItem().release();
+      quiet.assertCompleted();
+      busy1.assertNotTerminated();
+
+      quiet.getItem().release();
+      busy1.assertCompleted();
+      busy2.assertNotTerminated();
+
+      busy1.getItem().release();
+      busy2.assertCompleted();
+      busy3.assertNotTerminated();
+    }
+
+    @Test
+    public void weightedByCost() {
+      CommandAdmission admission = admission(true, 4, 10);
+      UniAssertSubscriber<CommandAdmission.Permit> running = hold(admission, "expensive", 4);
+      UniAssertSubscriber<CommandAdmission.Permit> expensive = hold(admission, "expensive", 4);
+      UniAssertSubscriber<CommandAdmission.Permit> cheap1 = hold(admission, "cheap", 1);
+      UniAssertSubscriber<CommandAdmission.Permit> cheap2 = hold(admission, "cheap", 1);
+
+      running.getItem().release();
+      // the cheap commands finish earlier in virtual time, admitted before the expensive one
+      cheap1.assertCompleted();
+      cheap2.assertCompleted();
+      expensive.assertNotTerminated();
+
+      cheap1.getItem().release();
+      cheap2.getItem().release();
+      expensive.assertCompleted();
+    }
+
+    @Test
+    public void queueFull() {
+      CommandAdmission admission = admission(true, 1, 2);
+      hold(admission, "tenant", 1).assertCompleted();
+      hold(admission, "tenant", 1).assertNotTerminated();
+      hold(admission, "tenant", 1).assertNotTerminated();
+
+      hold(admission, "tenant", 1).assertFailedWith(CommandAdmission.Rejection.class);
+      assertThat(admission.waiting("tenant")).isEqualTo(2);
+    }
+
+    @Test
+    public void cancelWaiting() {
+      CommandAdmission admission = admission(true, 1, 10);
+      UniAssertSubscriber<CommandAdmission.Permit> running = hold(admission, "tenant", 1);
+      UniAssertSubscriber<CommandAdmission.Permit> cancelled = hold(admission, "tenant", 1);
+      UniAssertSubscriber<CommandAdmission.Permit> next = hold(admission, "tenant", 1);
+
+      cancelled.cancel();
+      assertThat(admission.waiting("tenant")).isEqualTo(1);
+
+      running.getItem().release();
+      cancelled.assertNotTerminated();
+      next.assertCompleted();
+    }
+  }
+
+  @Nested
+  class EstimateCost {
+
+    @Test
+    public void simpleCommand() {
+      assertThat(admission(true, 64, 10).estimateCost(SIMPLE_COMMAND)).isEqualTo(1);
+    }
+
+    @Test
+    public void sortedCommands() {
+      CommandAdmission admission = admission(true, 64, 10);
+      FindOneCommand inMemorySort =
+          new FindOneCommand(
+              null, null, new SortClause(List.of(SortExpression.sort("name", true))), null);
+      FindOneCommand vectorSort =
+          new FindOneCommand(
+              null, null, new SortClause(List.of(SortExpression.vsearch(new float[] {1f}))), null);
+      FindOneCommand emptySort =
+          new FindOneCommand(null, null, new SortClause(Collections.emptyList()), null);
+
+      assertThat(admission.estimateCost(inMemorySort))
+          .isEqualTo(CommandAdmission.IN_MEMORY_SORT_COST);
+      assertThat(admission.estimateCost(vectorSort)).isEqualTo(CommandAdmission.VECTOR_SORT_COST);
+      assertThat(admission.estimateCost(emptySort)).isEqualTo(1);
+    }
+
+    @Test
+    public void insertMany() {
+      CommandAdmission admission = admission(true, 64, 10);
+      JsonNode document = JsonNodeFactory.instance.objectNode();
+
+      assertThat(admission.estimateCost(new InsertManyCommand(List.of(document), null)))
+          .isEqualTo(1);
+      assertThat(
+              admission.estimateCost(
+                  new InsertManyCommand(Collections.nCopies(25, document), null)))
+          .isEqualTo(2);
+    }
+
+    @Test
+    public void cappedToCapacity() {
+      FindOneCommand inMemorySort =
+          new FindOneCommand(
+              null, null, new SortClause(List.of(SortExpression.sort("name", true))), null);
+
+      assertThat(admission(true, 4, 10).estimateCost(inMemorySort)).isEqualTo(4);
+    }
+  }
+
+  private static CommandAdmission admission(
+      boolean enabled, int maxConcurrentCost, int maxQueuedPerTenant) {
+    OperationsConfig.AdmissionConfig admissionConfig = mock(OperationsConfig.AdmissionConfig.class);
+    when(admissionConfig.enabled()).thenReturn(enabled);
+    when(admissionConfig.maxConcurrentCost()).thenReturn(maxConcurrentCost);
+    when(admissionConfig.maxQueuedPerTenant()).thenReturn(maxQueuedPerTenant);
+    OperationsConfig operationsConfig = mock(OperationsConfig.class);
+    when(operationsConfig.admission()).thenReturn(admissionConfig);
+    return new CommandAdmission(operationsConfig);
+  }
+
+  /** Acquires a permit, kept until released by the test. */
+  private static UniAssertSubscriber<CommandAdmission.Permit> hold(
+      CommandAdmission admission, String tenantId, int cost) {
+    return admission
+        .acquire(tenantId, cost)
+        .subscribe()
+        .withSubscriber(UniAssertSubscriber.create());
+  }
+}
@@ -141,6 +141,44 @@ public class CommandResolverWithVectorizerTest {
               });
     }
 
+    @Test
+    public void findMinSimilarity() throws Exception {
+      String json =
+          """
+          {
+            "find": {
+              "sort" : {"$vectorize" : "test data"},
+              "options" : {"minSimilarity" : 0.75}
+            }
+          }
+          """;
+
+      FindCommand command = objectMapper.readValue(json, FindCommand.class);
+      final FindCommand vectorizedCommand =
+          (FindCommand)
+              dataVectorizerService
+                  .vectorize(
+                      dataApiRequestInfo,
+                      TestEmbeddingProvider.commandContextWithVectorize,
+                      command)
+                  .subscribe()
+                  .withSubscriber(UniAssertSubscriber.create())
+                  .awaitItem()
+                  .getItem();
+      Operation operation =
+          findCommandResolver.resolveCommand(
+              TestEmbeddingProvider.commandContextWithVectorize, vectorizedCommand);
+
+      assertThat(operation)
+          .isInstanceOfSatisfying(
+              FindOperation.class,
+              find -> {
+                assertThat(find.vector()).containsExactly(0.25f, 0.25f, 0.25f);
+                assertThat(find.minSimilarity()).isEqualTo(0.75f);
+                assertThat(find.singleResponse()).isFalse();
+              });
+    }
+
     @Test
     public void findNonVectorize() throws Exception {
       String json =
@@ -653,6 +691,44 @@ public class CommandResolverWithVectorizerTest {
               });
     }
 
+    @Test
+    public void findOneMinSimilarity() throws Exception {
+      String json =
+          """
+          {
+            "findOne": {
+              "sort" : {"$vectorize" : "test data"},
+              "options" : {"minSimilarity" : 0.75}
+            }
+          }
+          """;
+
+      FindOneCommand command = objectMapper.readValue(json, FindOneCommand.class);
+      final FindOneCommand vectorizedCommand =
+          (FindOneCommand)
+              dataVectorizerService
+                  .vectorize(
+                      dataApiRequestInfo,
+                      TestEmbeddingProvider.commandContextWithVectorize,
+                      command)
+                  .subscribe()
+                  .withSubscriber(UniAssertSubscriber.create())
+                  .awaitItem()
+                  .getItem();
+      Operation operation =
+          findOneCommandResolver.resolveCommand(
+              TestEmbeddingProvider.commandContextWithVectorize, vectorizedCommand);
+
+      assertThat(operation)
+          .isInstanceOfSatisfying(
+              FindOperation.class,
+              find -> {
+                assertThat(find.vector()).containsExactly(0.25f, 0.25f, 0.25f);
+                assertThat(find.minSimilarity()).isEqualTo(0.75f);
+                assertThat(find.singleResponse()).isTrue();
+              });
+    }
+
     @Test
     public void insertMany() throws Exception {
       String json =
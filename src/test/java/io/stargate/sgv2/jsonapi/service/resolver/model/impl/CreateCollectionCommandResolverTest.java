@@ -88,6 +88,51 @@ class CreateCollectionCommandResolverTest {
               });
     }
 
+    @Test
+    public void happyPathVectorSearchWithSourceModel() throws Exception {
+      String json =
+          """
+            {
+              "createCollection": {
+                "name" : "my_collection",
+                "options": {
+                  "vector": {
+                    "dimension": 3072,
+                    "metric": "dot_product",
+                    "sourceModel": "openai_v3_large"
+                  }
+                }
+              }
+            }
+            """;
+
+      CreateCollectionCommand command = objectMapper.readValue(json, CreateCollectionCommand.class);
+      Operation result = resolver.resolveCommand(commandContext, command);
+
+      assertThat(result)
+          .isInstanceOfSatisfying(
+              CreateCollectionOperation.class,
+              op -> {
+                assertThat(op.vectorSearch()).isEqualTo(true);
+                assertThat(op.vectorSize()).isEqualTo(3072);
+                assertThat(op.vectorSourceModel()).isEqualTo("openai_v3_large");
+                assertThat(op.comment())
+                    .isEqualTo(
+                        "{\"collection\":{\"name\":\"my_collection\",\"schema_version\":1,\"options\":{\"vector\":{\"dimension\":3072,\"metric\":\"dot_product\",\"sourceModel\":\"openai_v3_large\"},\"defaultId\":{\"type\":\"\"}}}}");
+                assertThat(
+                        op.getIndexStatements("my_namespace", "my_collection", false).stream()
+                            .map(statement -> statement.getQuery())
+                            .filter(query -> query.contains("query_vector_value"))
+                            .findFirst())
+                    .hasValueSatisfying(
+                        query ->
+                            assertThat(query)
+                                .endsWith(
+                                    "WITH OPTIONS = { 'similarity_function': 'dot_product',"
+                                        + " 'source_model': 'openai_v3_large'}"));
+              });
+    }
+
     @Test
     public void happyPathVectorizeSearch() throws Exception {
       String json =
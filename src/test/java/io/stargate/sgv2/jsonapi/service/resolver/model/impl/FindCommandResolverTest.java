@@ -1,6 +1,7 @@
 package io.stargate.sgv2.jsonapi.service.resolver.model.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -12,6 +13,8 @@ import io.stargate.sgv2.jsonapi.api.model.command.clause.filter.LogicalExpressio
 import io.stargate.sgv2.jsonapi.api.model.command.impl.FindCommand;
 import io.stargate.sgv2.jsonapi.api.request.DataApiRequestInfo;
 import io.stargate.sgv2.jsonapi.config.OperationsConfig;
+import io.stargate.sgv2.jsonapi.exception.ErrorCode;
+import io.stargate.sgv2.jsonapi.exception.JsonApiException;
 import io.stargate.sgv2.jsonapi.service.operation.model.Operation;
 import io.stargate.sgv2.jsonapi.service.operation.model.ReadType;
 import io.stargate.sgv2.jsonapi.service.operation.model.impl.DBFilterBase;
@@ -497,6 +500,53 @@ public class FindCommandResolverTest {
               });
     }
 
+    @Test
+    public void vectorSearchWithOptionMinSimilarity() throws Exception {
+      String json =
+          """
+          {
+            "find": {
+              "sort" : {"$vector" : [0.11, 0.22, 0.33, 0.44]},
+              "options": {"minSimilarity": 0.75}
+            }
+          }
+          """;
+
+      FindCommand findCommand = objectMapper.readValue(json, FindCommand.class);
+      Operation operation = resolver.resolveCommand(commandContext, findCommand);
+
+      assertThat(operation)
+          .isInstanceOfSatisfying(
+              FindOperation.class,
+              find -> {
+                assertThat(find.vector()).containsExactly(0.11f, 0.22f, 0.33f, 0.44f);
+                assertThat(find.minSimilarity()).isEqualTo(0.75f);
+                assertThat(find.projection().doIncludeSimilarityScore()).isFalse();
+              });
+    }
+
+    @Test
+    public void minSimilarityWithoutVectorSearch() throws Exception {
+      String json =
+          """
+          {
+            "find": {
+              "filter" : {"username" : "user1"},
+              "options": {"minSimilarity": 0.75}
+            }
+          }
+          """;
+
+      FindCommand findCommand = objectMapper.readValue(json, FindCommand.class);
+      Throwable failure =
+          catchThrowable(() -> resolver.resolveCommand(commandContext, findCommand));
+
+      assertThat(failure)
+          .isInstanceOf(JsonApiException.class)
+          .hasFieldOrPropertyWithValue(
+              "errorCode", ErrorCode.VECTOR_SEARCH_MIN_SIMILARITY_USAGE_ERROR);
+    }
+
     @Test
     public void vectorSearchWithOptionIncludeSortVector() throws Exception {
       String json =
@@ -83,6 +83,7 @@ public class FindOneAndReplaceCommandResolverTest {
                           assertThat(replacer.replaceDocument().toString()).isEqualTo(expected);
                           assertThat(replacer.replaceDocumentId()).isNull();
                         });
+                assertThat(op.shreddedReplacement().docJson()).isEqualTo(expected);
                 assertThat(op.findOperation())
                     .isInstanceOfSatisfying(
                         FindOperation.class,
@@ -1,6 +1,7 @@
 package io.stargate.sgv2.jsonapi.service.resolver.model.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.quarkus.test.InjectMock;
@@ -9,6 +10,8 @@ import io.quarkus.test.junit.TestProfile;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
 import io.stargate.sgv2.jsonapi.api.model.command.impl.FindOneCommand;
 import io.stargate.sgv2.jsonapi.api.request.DataApiRequestInfo;
+import io.stargate.sgv2.jsonapi.exception.ErrorCode;
+import io.stargate.sgv2.jsonapi.exception.JsonApiException;
 import io.stargate.sgv2.jsonapi.service.operation.model.Operation;
 import io.stargate.sgv2.jsonapi.service.operation.model.ReadType;
 import io.stargate.sgv2.jsonapi.service.operation.model.impl.DBFilterBase;
@@ -197,6 +200,27 @@ public class FindOneCommandResolverTest {
               });
     }
 
+    @Test
+    public void minSimilarityWithoutVectorSearch() throws Exception {
+      String json =
+          """
+          {
+            "findOne": {
+              "filter" : {"username" : "user1"},
+              "options": {"minSimilarity": 0.75}
+            }
+          }
+          """;
+
+      FindOneCommand command = objectMapper.readValue(json, FindOneCommand.class);
+      Throwable failure = catchThrowable(() -> resolver.resolveCommand(commandContext, command));
+
+      assertThat(failure)
+          .isInstanceOf(JsonApiException.class)
+          .hasFieldOrPropertyWithValue(
+              "errorCode", ErrorCode.VECTOR_SEARCH_MIN_SIMILARITY_USAGE_ERROR);
+    }
+
     @Test
     public void filterConditionAndVectorSearchWithIncludeSortVector() throws Exception {
       String json =
@@ -16,6 +16,7 @@ import io.stargate.sgv2.jsonapi.service.operation.model.Operation;
 import io.stargate.sgv2.jsonapi.service.operation.model.ReadType;
 import io.stargate.sgv2.jsonapi.service.operation.model.impl.DBFilterBase;
 import io.stargate.sgv2.jsonapi.service.operation.model.impl.FindOperation;
+import io.stargate.sgv2.jsonapi.service.operation.model.impl.NumericUpdateOperation;
 import io.stargate.sgv2.jsonapi.service.operation.model.impl.ReadAndUpdateOperation;
 import io.stargate.sgv2.jsonapi.service.shredding.Shredder;
 import io.stargate.sgv2.jsonapi.service.shredding.model.DocumentId;
@@ -412,5 +413,51 @@ public class UpdateOneCommandResolverTest {
                         });
               });
     }
+
+    @Test
+    public void numericUpdateById() throws Exception {
+      String json =
+          """
+          {
+            "updateOne": {
+              "filter" : {"_id" : "id"},
+              "update" : {"$inc" : {"count" : 1}, "$max" : {"highest" : 10}}
+            }
+          }
+          """;
+
+      UpdateOneCommand command = objectMapper.readValue(json, UpdateOneCommand.class);
+      Operation operation = resolver.resolveCommand(commandContext, command);
+
+      assertThat(operation)
+          .isInstanceOfSatisfying(
+              NumericUpdateOperation.class,
+              op -> {
+                assertThat(op.commandContext()).isEqualTo(commandContext);
+                assertThat(op.documentId()).isEqualTo(DocumentId.fromString("id"));
+                assertThat(op.updatedProperties()).containsExactlyInAnyOrder("count", "highest");
+                assertThat(op.retryLimit()).isEqualTo(operationsConfig.lwt().retries());
+                assertThat(op.fallback().documentUpdater()).isSameAs(op.documentUpdater());
+                assertThat(op.fallback().upsert()).isFalse();
+              });
+    }
+
+    @Test
+    public void numericUpdateNotOnlyById() throws Exception {
+      String json =
+          """
+          {
+            "updateOne": {
+              "filter" : {"_id" : "id", "status" : "active"},
+              "update" : {"$inc" : {"count" : 1}}
+            }
+          }
+          """;
+
+      UpdateOneCommand command = objectMapper.readValue(json, UpdateOneCommand.class);
+      Operation operation = resolver.resolveCommand(commandContext, command);
+
+      assertThat(operation).isInstanceOf(ReadAndUpdateOperation.class);
+    }
   }
 }
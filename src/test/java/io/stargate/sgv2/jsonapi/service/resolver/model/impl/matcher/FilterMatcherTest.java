@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.TestProfile;
+import io.stargate.sgv2.jsonapi.api.model.command.clause.filter.ElementComparisonOperator;
 import io.stargate.sgv2.jsonapi.api.model.command.clause.filter.JsonType;
 import io.stargate.sgv2.jsonapi.api.model.command.clause.filter.LogicalExpression;
 import io.stargate.sgv2.jsonapi.api.model.command.clause.filter.ValueComparisonOperator;
@@ -208,4 +209,115 @@ public class FilterMatcherTest {
       assertThat(response.isPresent()).isTrue();
     }
   }
+
+  @Nested
+  class FilterMatcherDispatch {
+    @Test
+    public void pathCaptureBeforeWildcard() throws Exception {
+      String json =
+          """
+                          {
+                            "findOne": {
+                              "filter" : {"_id" : "doc1", "col" : "val"}
+                            }
+                          }
+                          """;
+
+      FindOneCommand findOneCommand = objectMapper.readValue(json, FindOneCommand.class);
+      FilterMatcher<FindOneCommand> matcher =
+          new FilterMatcher<>(FilterMatcher.MatchStrategy.STRICT, FilterableResolver::findDynamic);
+      matcher
+          .capture("ID")
+          .compareValues("_id", EnumSet.of(ValueComparisonOperator.EQ), JsonType.DOCUMENT_ID);
+      matcher
+          .capture("TEXT")
+          .compareValues("*", EnumSet.of(ValueComparisonOperator.EQ), JsonType.STRING);
+      final Optional<LogicalExpression> response = matcher.apply(findOneCommand);
+      assertThat(response.isPresent()).isTrue();
+    }
+
+    @Test
+    public void strictCaptureMatchesOnlyOnce() throws Exception {
+      String json =
+          """
+                          {
+                            "findOne": {
+                              "filter" : {"col" : "val", "col2" : "val2"}
+                            }
+                          }
+                          """;
+
+      FindOneCommand findOneCommand = objectMapper.readValue(json, FindOneCommand.class);
+      FilterMatcher<FindOneCommand> matcher =
+          new FilterMatcher<>(FilterMatcher.MatchStrategy.STRICT, FilterableResolver::findDynamic);
+      matcher
+          .capture("CAPTURE 1")
+          .compareValues("*", EnumSet.of(ValueComparisonOperator.EQ), JsonType.STRING);
+      assertThat(matcher.apply(findOneCommand)).isEmpty();
+    }
+
+    @Test
+    public void sameResultAsScanningForWideFilter() throws Exception {
+      String json =
+          """
+                          {
+                            "findOne": {
+                              "filter" : {
+                                "$and" : [
+                                  {"$or" : [{"name" : "Joe"}, {"age" : {"$gt" : 10}}]},
+                                  {"$or" : [{"active" : true}, {"tags" : {"$in" : ["a", "b"]}}]}
+                                ],
+                                "city" : {"$ne" : "Paris"},
+                                "size" : {"$lte" : 5},
+                                "code" : {"$exists" : true}
+                              }
+                            }
+                          }
+                          """;
+
+      FindOneCommand dispatched = objectMapper.readValue(json, FindOneCommand.class);
+      FindOneCommand scanned = objectMapper.readValue(json, FindOneCommand.class);
+      FilterMatcher<FindOneCommand> matcher =
+          new FilterMatcher<>(FilterMatcher.MatchStrategy.GREEDY, FilterableResolver::findDynamic);
+      matcher
+          .capture("TEXT")
+          .compareValues(
+              "*",
+              EnumSet.of(ValueComparisonOperator.EQ, ValueComparisonOperator.NE),
+              JsonType.STRING)
+          .capture("NUMBER")
+          .compareValues(
+              "*",
+              EnumSet.of(
+                  ValueComparisonOperator.EQ,
+                  ValueComparisonOperator.GT,
+                  ValueComparisonOperator.LTE),
+              JsonType.NUMBER)
+          .capture("BOOL")
+          .compareValues("*", EnumSet.of(ValueComparisonOperator.EQ), JsonType.BOOLEAN)
+          .capture("IN")
+          .compareValues("*", EnumSet.of(ValueComparisonOperator.IN), JsonType.ARRAY)
+          .capture("EXISTS")
+          .compareValues("*", EnumSet.of(ElementComparisonOperator.EXISTS), JsonType.BOOLEAN);
+
+      final Optional<LogicalExpression> dispatchedResponse = matcher.apply(dispatched);
+      final Optional<LogicalExpression> scannedResponse = matcher.applyByScanning(scanned);
+      assertThat(dispatchedResponse).isPresent();
+      assertThat(scannedResponse).isPresent();
+      assertSameDbFilters(dispatchedResponse.get(), scannedResponse.get());
+    }
+
+    private void assertSameDbFilters(LogicalExpression actual, LogicalExpression expected) {
+      assertThat(actual.logicalExpressions).hasSameSizeAs(expected.logicalExpressions);
+      for (int i = 0; i < actual.logicalExpressions.size(); i++) {
+        assertSameDbFilters(actual.logicalExpressions.get(i), expected.logicalExpressions.get(i));
+      }
+      assertThat(actual.comparisonExpressions).hasSameSizeAs(expected.comparisonExpressions);
+      for (int i = 0; i < actual.comparisonExpressions.size(); i++) {
+        assertThat(actual.comparisonExpressions.get(i).getDbFilters())
+            .isNotEmpty()
+            .isEqualTo(expected.comparisonExpressions.get(i).getDbFilters());
+      }
+    }
+  }
 }
@@ -6,16 +6,20 @@ import static org.assertj.core.api.Assertions.catchThrowable;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.TestProfile;
+import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
 import io.stargate.sgv2.jsonapi.api.request.DataApiRequestInfo;
 import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.service.cqldriver.executor.CollectionSettings;
 import io.stargate.sgv2.jsonapi.service.projection.IndexingProjector;
 import io.stargate.sgv2.jsonapi.service.shredding.model.DocValueHasher;
 import io.stargate.sgv2.jsonapi.service.shredding.model.DocumentId;
+import io.stargate.sgv2.jsonapi.service.shredding.model.ShreddedDocumentChanges;
+import io.stargate.sgv2.jsonapi.service.shredding.model.ShreddedReplacement;
 import io.stargate.sgv2.jsonapi.service.shredding.model.WritableShreddedDocument;
 import io.stargate.sgv2.jsonapi.testresource.NoGlobalResourcesTestProfile;
 import jakarta.inject.Inject;
@@ -691,6 +695,186 @@ public class ShredderTest {
     }
   }
 
+  @Nested
+  class ShredChanges {
+    private final CommandContext context =
+        new CommandContext("namespace", "collection", "testCommand", null);
+
+    @Test
+    public void changedValueAndContainers() {
+      JsonNode before =
+          fromJson(
+              """
+                      { "_id" : "doc1",
+                        "name" : "Bob",
+                        "counts" : { "views" : 1, "likes" : 5 },
+                        "tags" : [ "a", "b" ]
+                      }
+                      """);
+      JsonNode after = before.deepCopy();
+      ((ObjectNode) after.get("counts")).put("views", 2);
+      UUID txId = UUID.randomUUID();
+
+      ShreddedDocumentChanges changes =
+          shredder.shredChanges(
+              context, before, after, txId, UpdatedPaths.of(List.of("counts.views")));
+
+      // full document is written
+      assertThat(fromJson(changes.document().docJson())).isEqualTo(after);
+      assertThat(changes.document().id()).isEqualTo(DocumentId.fromString("doc1"));
+      assertThat(changes.document().txID()).isEqualTo(txId);
+
+      // but only the updated value and its container change
+      assertThat(changes.existKeys().added()).isEmpty();
+      assertThat(changes.existKeys().removed()).isEmpty();
+      assertThat(changes.queryNumberValues().put())
+          .isEqualTo(Map.of(JsonPath.from("counts.views"), BigDecimal.valueOf(2)));
+      assertThat(changes.queryNumberValues().removed()).isEmpty();
+      assertThat(changes.queryTextValues().put()).containsOnlyKeys(JsonPath.from("counts"));
+      assertThat(changes.queryTextValues().removed()).isEmpty();
+      assertThat(changes.arrayContains().added()).containsExactly("counts.views N2");
+      assertThat(changes.arrayContains().removed()).containsExactly("counts.views N1");
+      assertThat(changes.arraySize().put()).isEmpty();
+      assertThat(changes.queryVectorValueChanged()).isFalse();
+    }
+
+    @Test
+    public void removedValues() {
+      JsonNode before =
+          fromJson(
+              """
+                      { "_id" : "doc1",
+                        "flags" : { "active" : true },
+                        "nullable" : null
+                      }
+                      """);
+      JsonNode after = before.deepCopy();
+      ((ObjectNode) after).remove("flags");
+
+      ShreddedDocumentChanges changes =
+          shredder.shredChanges(context, before, after, null, UpdatedPaths.of(List.of("flags")));
+
+      assertThat(changes.existKeys().added()).isEmpty();
+      assertThat(changes.existKeys().removed())
+          .containsExactlyInAnyOrder(JsonPath.from("flags"), JsonPath.from("flags.active"));
+      assertThat(changes.queryBoolValues().put()).isEmpty();
+      assertThat(changes.queryBoolValues().removed())
+          .containsExactly(JsonPath.from("flags.active"));
+      assertThat(changes.queryTextValues().removed()).containsExactly(JsonPath.from("flags"));
+      assertThat(changes.arrayContains().removed()).containsExactly("flags.active B1");
+      // untouched null value is not rewritten
+      assertThat(changes.queryNullValues().added()).isEmpty();
+      assertThat(changes.queryNullValues().removed()).isEmpty();
+    }
+
+    @Test
+    public void arrayElementAdded() {
+      JsonNode before =
+          fromJson(
+              """
+                      { "_id" : "doc1",
+                        "values" : [ 1, 2 ],
+                        "name" : "Bob"
+                      }
+                      """);
+      JsonNode after = before.deepCopy();
+      ((ArrayNode) after.get("values")).add(3);
+
+      ShreddedDocumentChanges changes =
+          shredder.shredChanges(context, before, after, null, UpdatedPaths.of(List.of("values")));
+
+      assertThat(changes.arraySize().put()).isEqualTo(Map.of(JsonPath.from("values"), 3));
+      assertThat(changes.existKeys().added()).containsExactly(JsonPath.from("values.2", true));
+      assertThat(changes.existKeys().removed()).isEmpty();
+      assertThat(changes.queryNumberValues().put())
+          .isEqualTo(Map.of(JsonPath.from("values.2", true), BigDecimal.valueOf(3)));
+      assertThat(changes.queryTextValues().put()).containsOnlyKeys(JsonPath.from("values"));
+      assertThat(changes.arrayContains().added())
+          .containsExactlyInAnyOrder("values N3", "values.2 N3");
+      assertThat(changes.arrayContains().removed()).isEmpty();
+    }
+
+    @Test
+    public void updatedPaths() {
+      UpdatedPaths paths = UpdatedPaths.of(List.of("a.b", "c"));
+
+      assertThat(paths.contains("a.b")).isTrue();
+      assertThat(paths.contains("a.b.0")).isTrue();
+      assertThat(paths.contains("c.d")).isTrue();
+      assertThat(paths.contains("a")).isFalse();
+      assertThat(paths.contains("a.bc")).isFalse();
+      assertThat(paths.contains("cd")).isFalse();
+
+      assertThat(paths.leadsTo("a")).isTrue();
+      assertThat(paths.leadsTo("a.b")).isFalse();
+      assertThat(paths.leadsTo("c")).isFalse();
+      assertThat(paths.leadsTo("ab")).isFalse();
+    }
+  }
+
+  @Nested
+  class ShredReplacement {
+    private final CommandContext context =
+        new CommandContext("namespace", "collection", "testCommand", null);
+
+    @Test
+    public void sameAsFullShred() {
+      ObjectNode replacement =
+          (ObjectNode)
+              fromJson(
+                  """
+                      { "name" : "Bob",
+                        "values" : [ 1, "a", true ],
+                        "metadata" : { "x" : 28, "created" : { "$date" : 1672531200000 } },
+                        "nullable" : null,
+                        "$vector" : [ 0.25, 0.5 ]
+                      }
+                      """);
+      ObjectNode replaced = objectMapper.createObjectNode().put("_id", "doc1");
+      replaced.setAll(replacement);
+      UUID txId = UUID.randomUUID();
+
+      ShreddedReplacement shreddedReplacement =
+          shredder.shredReplacement(context, replacement.deepCopy());
+      WritableShreddedDocument doc =
+          shredder.shredReplaced(context, shreddedReplacement, replaced, txId);
+
+      WritableShreddedDocument expected = shredder.shred(context, replaced, txId);
+      assertThat(doc).isEqualTo(expected);
+      assertThat(doc.existKeys()).containsExactlyElementsOf(expected.existKeys());
+    }
+
+    @Test
+    public void generateMissingId() {
+      ObjectNode replacement = objectMapper.createObjectNode().put("name", "Bob");
+
+      WritableShreddedDocument doc =
+          shredder.shredReplaced(
+              context,
+              shredder.shredReplacement(context, replacement),
+              replacement.deepCopy(),
+              null);
+
+      JsonNode written = fromJson(doc.docJson());
+      assertThat(written.get("_id").isTextual()).isTrue();
+      assertThat(doc.id()).isEqualTo(DocumentId.fromJson(written.get("_id")));
+      assertThat(doc.existKeys()).containsExactly(JsonPath.from("_id"), JsonPath.from("name"));
+    }
+
+    @Test
+    public void emptyReplacement() {
+      WritableShreddedDocument doc =
+          shredder.shredReplaced(
+              context,
+              shredder.shredReplacement(context, objectMapper.createObjectNode()),
+              objectMapper.createObjectNode().put("_id", 5),
+              null);
+
+      assertThat(doc.docJson()).isEqualTo("{\"_id\":5}");
+      assertThat(doc.existKeys()).containsExactly(JsonPath.from("_id"));
+    }
+  }
+
   @Nested
   class JsonMetricsReporter {
     @Test
@@ -0,0 +1,75 @@
+package io.stargate.sgv2.jsonapi.service.updater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.stargate.sgv2.jsonapi.testresource.NoGlobalResourcesTestProfile;
+import jakarta.inject.Inject;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+@TestProfile(NoGlobalResourcesTestProfile.Impl.class)
+public class DocumentJsonPatcherTest {
+  @Inject ObjectMapper objectMapper;
+
+  private static final String DOC_JSON =
+      "{\"_id\":\"doc1\",\"count\":3,\"price\":0.1000000000000000000001,"
+          + "\"tags\":[\"a\",{\"b\":1}],\"nested\":{\"count\":5}}";
+
+  @Test
+  public void extractTopLevelProperties() throws Exception {
+    ObjectNode extracted =
+        DocumentJsonPatcher.extractProperties(objectMapper, DOC_JSON, Set.of("count", "missing"));
+
+    assertThat(extracted).isEqualTo(objectMapper.readTree("{\"_id\":\"doc1\",\"count\":3}"));
+  }
+
+  @Test
+  public void replaceInPlaceKeepingOtherValues() throws Exception {
+    ObjectNode values = objectMapper.createObjectNode().put("count", 4);
+
+    String patched = DocumentJsonPatcher.replaceProperties(objectMapper, DOC_JSON, values);
+
+    assertThat(patched)
+        .isEqualTo(
+            "{\"_id\":\"doc1\",\"count\":4,\"price\":0.1000000000000000000001,"
+                + "\"tags\":[\"a\",{\"b\":1}],\"nested\":{\"count\":5}}");
+  }
+
+  @Test
+  public void replaceKeepingNestedNumbersAsRead() throws Exception {
+    String docJson =
+        "{\"_id\":\"doc1\",\"count\":3,\"big\":1.0E+400,"
+            + "\"nested\":{\"amounts\":[12345678901234567890.123456789012345678,1.50,-0]}}";
+    ObjectNode values = objectMapper.createObjectNode().put("count", 4);
+
+    String patched = DocumentJsonPatcher.replaceProperties(objectMapper, docJson, values);
+
+    assertThat(patched).isEqualTo(docJson.replace("\"count\":3", "\"count\":4"));
+  }
+
+  @Test
+  public void appendMissingProperties() throws Exception {
+    ObjectNode values = objectMapper.createObjectNode().put("total", 1.5);
+
+    String patched =
+        DocumentJsonPatcher.replaceProperties(objectMapper, "{\"_id\":1,\"a\":true}", values);
+
+    assertThat(patched).isEqualTo("{\"_id\":1,\"a\":true,\"total\":1.5}");
+  }
+
+  @Test
+  public void notAnObject() {
+    Throwable failure =
+        catchThrowable(
+            () -> DocumentJsonPatcher.extractProperties(objectMapper, "[1]", Set.of("a")));
+
+    assertThat(failure).isInstanceOf(JsonProcessingException.class);
+  }
+}
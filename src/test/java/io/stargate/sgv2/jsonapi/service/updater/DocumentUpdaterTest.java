@@ -519,4 +519,166 @@ public class DocumentUpdaterTest {
               });
     }
   }
+
+  @Nested
+  class UpdatedPathsCases {
+    @Test
+    public void actionPaths() {
+      DocumentUpdater documentUpdater =
+          DocumentUpdater.construct(
+              DocumentUpdaterUtils.updateClause(
+                  UpdateOperator.INC,
+                  objectMapper.getNodeFactory().objectNode().put("a.b", 1).put("c", 2)));
+
+      assertThat(documentUpdater.updatedPaths(false).paths())
+          .containsExactlyInAnyOrder("a.b", "c");
+    }
+
+    @Test
+    public void renameSourceAndTarget() {
+      DocumentUpdater documentUpdater =
+          DocumentUpdater.construct(
+              DocumentUpdaterUtils.updateClause(
+                  UpdateOperator.RENAME,
+                  objectMapper.getNodeFactory().objectNode().put("location", "city")));
+
+      assertThat(documentUpdater.updatedPaths(false).paths())
+          .containsExactlyInAnyOrder("location", "city");
+    }
+
+    @Test
+    public void vectorAlsoUpdatesVectorize() {
+      ObjectNode vectorSet = objectMapper.getNodeFactory().objectNode();
+      vectorSet.putArray("$vector").add(0.25).add(0.5);
+      DocumentUpdater documentUpdater =
+          DocumentUpdater.construct(
+              DocumentUpdaterUtils.updateClause(UpdateOperator.SET, vectorSet));
+
+      assertThat(documentUpdater.updatedPaths(false).paths())
+          .containsExactlyInAnyOrder("$vector", "$vectorize");
+    }
+
+    @Test
+    public void setOnInsertOnlyWhenInserted() {
+      DocumentUpdater documentUpdater =
+          DocumentUpdater.construct(
+              DocumentUpdaterUtils.updateClause(
+                  UpdateOperator.SET_ON_INSERT,
+                  objectMapper.getNodeFactory().objectNode().put("location", "Paris")));
+
+      assertThat(documentUpdater.updatedPaths(false).paths()).isEmpty();
+      assertThat(documentUpdater.updatedPaths(true).paths()).containsExactly("location");
+    }
+
+    @Test
+    public void replaceUpdatesAnyPath() throws Exception {
+      DocumentUpdater documentUpdater =
+          DocumentUpdater.construct(
+              (ObjectNode) objectMapper.readTree("{\"location\": \"Paris\"}"));
+
+      assertThat(documentUpdater.updatedPaths(false)).isNull();
+    }
+
+    @Test
+    public void numericTopLevelPaths() {
+      DocumentUpdater documentUpdater =
+          DocumentUpdater.construct(
+              DocumentUpdaterUtils.updateClause(
+                  UpdateOperator.INC,
+                  objectMapper.getNodeFactory().objectNode().put("count", 1).put("total", 2)));
+
+      assertThat(documentUpdater.numericTopLevelPaths()).containsExactly("count", "total");
+    }
+
+    @Test
+    public void numericNestedPathsNotTopLevel() {
+      DocumentUpdater documentUpdater =
+          DocumentUpdater.construct(
+              DocumentUpdaterUtils.updateClause(
+                  UpdateOperator.MAX,
+                  objectMapper.getNodeFactory().objectNode().put("stats.max", 1)));
+
+      assertThat(documentUpdater.numericTopLevelPaths()).isNull();
+    }
+
+    @Test
+    public void nonNumericOperationsNotNumeric() {
+      DocumentUpdater documentUpdater =
+          DocumentUpdater.construct(
+              DocumentUpdaterUtils.updateClause(
+                  UpdateOperator.SET, objectMapper.getNodeFactory().objectNode().put("count", 1)));
+
+      assertThat(documentUpdater.numericTopLevelPaths()).isNull();
+    }
+  }
+
+  @Nested
+  class ApplyToCopyCases {
+    private static final String NESTED_DOC_JSON =
+        """
+        {
+            "_id": "1",
+            "a": {"b": {"c": 1}, "d": [1, 2]},
+            "e": {"f": true},
+            "arr": [{"x": 1}, {"x": 2}],
+            "tags": ["a", "b"]
+        }
+        """;
+
+    @Test
+    public void nestedUpdateSharesOtherNodes() throws Exception {
+      JsonNode original = objectMapper.readTree(NESTED_DOC_JSON);
+      DocumentUpdater documentUpdater =
+          DocumentUpdater.construct(
+              DocumentUpdaterUtils.updateClause(
+                  UpdateOperator.SET,
+                  objectMapper.getNodeFactory().objectNode().put("a.b.c", 2).put("arr.1.x", 3)));
+
+      DocumentUpdater.DocumentUpdaterResponse updated =
+          documentUpdater.applyToCopy(original, false);
+
+      assertThat(updated.modified()).isTrue();
+      assertThat(updated.document())
+          .isEqualTo(documentUpdater.apply(original.deepCopy(), false).document());
+      assertThat(original).isEqualTo(objectMapper.readTree(NESTED_DOC_JSON));
+      // only the containers on the updated paths are copied
+      JsonNode document = updated.document();
+      assertThat(document.get("a")).isNotSameAs(original.get("a"));
+      assertThat(document.at("/arr/1")).isNotSameAs(original.at("/arr/1"));
+      assertThat(document.at("/a/d")).isSameAs(original.at("/a/d"));
+      assertThat(document.at("/arr/0")).isSameAs(original.at("/arr/0"));
+      assertThat(document.get("e")).isSameAs(original.get("e"));
+    }
+
+    @Test
+    public void arrayUpdateCopiesArray() throws Exception {
+      JsonNode original = objectMapper.readTree(NESTED_DOC_JSON);
+      DocumentUpdater documentUpdater =
+          DocumentUpdater.construct(
+              DocumentUpdaterUtils.updateClause(
+                  UpdateOperator.PUSH,
+                  objectMapper.getNodeFactory().objectNode().put("tags", "c")));
+
+      DocumentUpdater.DocumentUpdaterResponse updated =
+          documentUpdater.applyToCopy(original, false);
+
+      assertThat(updated.document().get("tags"))
+          .isEqualTo(objectMapper.readTree("[\"a\", \"b\", \"c\"]"));
+      assertThat(original).isEqualTo(objectMapper.readTree(NESTED_DOC_JSON));
+    }
+
+    @Test
+    public void replaceLeavesOriginal() throws Exception {
+      JsonNode original = objectMapper.readTree(NESTED_DOC_JSON);
+      DocumentUpdater documentUpdater =
+          DocumentUpdater.construct((ObjectNode) objectMapper.readTree("{\"e\": 1}"));
+
+      DocumentUpdater.DocumentUpdaterResponse updated =
+          documentUpdater.applyToCopy(original, false);
+
+      assertThat(updated.document())
+          .isEqualTo(objectMapper.readTree("{\"_id\": \"1\", \"e\": 1}"));
+      assertThat(original).isEqualTo(objectMapper.readTree(NESTED_DOC_JSON));
+    }
+  }
 }
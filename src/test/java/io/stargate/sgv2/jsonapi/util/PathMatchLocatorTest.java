@@ -13,6 +13,9 @@ import io.stargate.sgv2.jsonapi.exception.JsonApiException;
 import io.stargate.sgv2.jsonapi.testresource.NoGlobalResourcesTestProfile;
 import jakarta.inject.Inject;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -448,6 +451,59 @@ public class PathMatchLocatorTest {
     }
   }
 
+  @Nested
+  class CopyContainers {
+    @Test
+    public void copyNestedPath() {
+      ObjectNode doc = objectFromJson("{\"a\":{\"b\":[{\"c\":1},{\"c\":2}]},\"x\":{\"y\":1}}");
+      ObjectNode copy = doc.objectNode().setAll(doc);
+      Set<JsonNode> copies = Collections.newSetFromMap(new IdentityHashMap<>());
+      copies.add(copy);
+
+      PathMatchLocator.forPath("a.b.1.c").copyContainers(copy, copies);
+
+      assertThat(copy).isEqualTo(doc);
+      assertThat(copy.get("a")).isNotSameAs(doc.get("a"));
+      assertThat(copy.at("/a/b")).isNotSameAs(doc.at("/a/b"));
+      assertThat(copy.at("/a/b/1")).isNotSameAs(doc.at("/a/b/1"));
+      assertThat(copy.at("/a/b/0")).isSameAs(doc.at("/a/b/0"));
+      assertThat(copy.get("x")).isSameAs(doc.get("x"));
+      assertThat(copies).hasSize(4);
+
+      // Containers already copied are not copied again
+      JsonNode copiedA = copy.get("a");
+      PathMatchLocator.forPath("a.z").copyContainers(copy, copies);
+      assertThat(copy.get("a")).isSameAs(copiedA);
+    }
+
+    @Test
+    public void stopAtMissingPath() {
+      ObjectNode doc = objectFromJson("{\"a\":{\"b\":1},\"arr\":[{\"c\":1}]}");
+      ObjectNode copy = doc.objectNode().setAll(doc);
+      Set<JsonNode> copies = Collections.newSetFromMap(new IdentityHashMap<>());
+
+      PathMatchLocator.forPath("arr.prop.c").copyContainers(copy, copies);
+      PathMatchLocator.forPath("missing.b").copyContainers(copy, copies);
+
+      assertThat(copy).isEqualTo(doc);
+      assertThat(copy.get("a")).isSameAs(doc.get("a"));
+      assertThat(copies).hasSize(1);
+    }
+  }
+
+  @Nested
+  class IndexSegments {
+    @Test
+    public void segmentBeyondIndexRange() {
+      PathMatchLocator locator = PathMatchLocator.forPath("a.12345678901");
+
+      // Not an array index, but still a property name
+      assertThat(locator.findIfExists(objectFromJson("{\"a\":[1]}")).valueNode()).isNull();
+      assertThat(locator.findValueIn(objectFromJson("{\"a\":{\"12345678901\":2}}")))
+          .isEqualTo(objectMapper.getNodeFactory().numberNode(2));
+    }
+  }
+
   protected ObjectNode objectFromJson(String json) {
     return (ObjectNode) fromJson(json);
   }
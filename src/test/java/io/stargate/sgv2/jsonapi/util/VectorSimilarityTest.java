@@ -0,0 +1,92 @@
+package io.stargate.sgv2.jsonapi.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.within;
+
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.CollectionSettings;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class VectorSimilarityTest {
+
+  @Nested
+  class Score {
+    @Test
+    public void cosine() {
+      float[] vector = {0.1f, 0.2f, 0.3f, 0.4f, 0.5f};
+      assertThat(
+              VectorSimilarity.score(CollectionSettings.SimilarityFunction.COSINE, vector, vector))
+          .isCloseTo(1f, within(1e-6f));
+      assertThat(
+              VectorSimilarity.score(
+                  CollectionSettings.SimilarityFunction.COSINE,
+                  new float[] {1f, 0f},
+                  new float[] {0f, 1f}))
+          .isCloseTo(0.5f, within(1e-6f));
+      assertThat(
+              VectorSimilarity.score(
+                  CollectionSettings.SimilarityFunction.UNDEFINED,
+                  new float[] {1f, 0f},
+                  new float[] {-1f, 0f}))
+          .isCloseTo(0f, within(1e-6f));
+    }
+
+    @Test
+    public void cosineOfZeroVector() {
+      assertThat(
+              VectorSimilarity.score(
+                  CollectionSettings.SimilarityFunction.COSINE,
+                  new float[] {0f, 0f, 0f},
+                  new float[] {1f, 2f, 3f}))
+          .isEqualTo(0f);
+    }
+
+    @Test
+    public void dotProduct() {
+      assertThat(
+              VectorSimilarity.score(
+                  CollectionSettings.SimilarityFunction.DOT_PRODUCT,
+                  new float[] {0.6f, 0.8f, 0f, 0f, 0f},
+                  new float[] {0.6f, 0.8f, 0f, 0f, 0f}))
+          .isCloseTo(1f, within(1e-6f));
+    }
+
+    @Test
+    public void euclidean() {
+      assertThat(
+              VectorSimilarity.score(
+                  CollectionSettings.SimilarityFunction.EUCLIDEAN,
+                  new float[] {1f, 2f, 3f, 4f, 5f},
+                  new float[] {1f, 2f, 3f, 4f, 7f}))
+          .isCloseTo(0.2f, within(1e-6f));
+    }
+
+    @Test
+    public void differentLengths() {
+      Throwable throwable =
+          catchThrowable(
+              () ->
+                  VectorSimilarity.score(
+                      CollectionSettings.SimilarityFunction.COSINE,
+                      new float[] {1f, 2f},
+                      new float[] {1f, 2f, 3f}));
+      assertThat(throwable).isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  class Ordering {
+    @Test
+    public void sameOrderForAllFunctionsOnUnitVectors() {
+      float[] query = {0.6f, 0.8f, 0f};
+      float[] near = {0.8f, 0.6f, 0f};
+      float[] far = {0f, 0.6f, 0.8f};
+      for (CollectionSettings.SimilarityFunction function :
+          CollectionSettings.SimilarityFunction.values()) {
+        assertThat(VectorSimilarity.score(function, query, near))
+            .isGreaterThan(VectorSimilarity.score(function, query, far));
+      }
+    }
+  }
+}